@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark;
+
+import com.github.nalukit.nalu.benchmark.support.BenchmarkPlugin;
+import com.github.nalukit.nalu.benchmark.support.BenchmarkRoutes;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a full routing cycle (resolving the hash, stopping the active
+ * controller, creating and starting the new controller) against an
+ * in memory plugin. Each invocation switches between two routes, so
+ * every invocation replaces the controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HandleRoutingBenchmark {
+
+  @Param({ "10",
+           "1000" })
+  private int numberOfRoutes;
+
+  @Param({ "true",
+           "false" })
+  private boolean usingRouteResolutionCache;
+
+  private IsNaluProcessorPlugin.RouteChangeHandler routeChangeHandler;
+
+  private String[] hashes;
+
+  private int index;
+
+  @Setup
+  public void setUp() {
+    BenchmarkPlugin plugin = new BenchmarkPlugin();
+    RouterImpl router = BenchmarkRoutes.createRouter(plugin,
+                                                     this.numberOfRoutes,
+                                                     false);
+    if (!this.usingRouteResolutionCache) {
+      router.getRouteResolutionCache()
+            .setMaxSize(0);
+    }
+    this.routeChangeHandler = plugin.getRouteChangeHandler();
+    this.hashes = new String[] { BenchmarkRoutes.createHash(this.numberOfRoutes - 2,
+                                                            false),
+                                 BenchmarkRoutes.createHash(this.numberOfRoutes - 1,
+                                                            false) };
+  }
+
+  @Benchmark
+  public String handleRouting() {
+    this.index = (this.index + 1) % this.hashes.length;
+    String hash = this.hashes[this.index];
+    this.routeChangeHandler.onRouteChange(hash);
+    return hash;
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark;
+
+import com.github.nalukit.nalu.benchmark.support.BenchmarkPlugin;
+import com.github.nalukit.nalu.benchmark.support.BenchmarkRoutes;
+import com.github.nalukit.nalu.client.internal.route.RouteResult;
+import com.github.nalukit.nalu.client.internal.route.RouterException;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses hashes and generates hashes of routes with parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RouterBenchmark {
+
+  @Param({ "false",
+           "true" })
+  private boolean usingColonForParametersInUrl;
+
+  @Param({ "10",
+           "1000" })
+  private int numberOfRoutes;
+
+  private RouterImpl router;
+
+  private String hash;
+
+  private String route;
+
+  private String parameter;
+
+  @Setup
+  public void setUp() {
+    this.router = BenchmarkRoutes.createRouter(new BenchmarkPlugin(),
+                                               this.numberOfRoutes,
+                                               this.usingColonForParametersInUrl);
+    // last route with two parts after the shell
+    int index = this.numberOfRoutes - 1;
+    while (index % 4 != 2) {
+      index--;
+    }
+    this.hash = BenchmarkRoutes.createHash(index,
+                                           this.usingColonForParametersInUrl);
+    this.route = BenchmarkRoutes.createRoute(index);
+    this.parameter = "42";
+  }
+
+  @Benchmark
+  public RouteResult parse()
+      throws RouterException {
+    return this.router.parse(this.hash);
+  }
+
+  @Benchmark
+  public String generate() {
+    return this.router.generate(this.route,
+                                this.parameter);
+  }
+
+}
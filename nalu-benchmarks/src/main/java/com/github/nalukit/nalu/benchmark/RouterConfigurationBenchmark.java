@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark;
+
+import com.github.nalukit.nalu.benchmark.support.BenchmarkRoutes;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up routes inside synthetic route tables of different sizes.
+ * <p>
+ * The looked up route is the last route of the table, so the
+ * linear scan shows the worst case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RouterConfigurationBenchmark {
+
+  @Param({ "10",
+           "1000",
+           "10000" })
+  private int numberOfRoutes;
+
+  private RouterConfiguration routerConfiguration;
+
+  private String route;
+
+  private String hash;
+
+  @Setup
+  public void setUp() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    this.routerConfiguration = BenchmarkRoutes.createRouterConfiguration(this.numberOfRoutes);
+    this.route = BenchmarkRoutes.createRoute(this.numberOfRoutes - 1);
+    this.hash = BenchmarkRoutes.createHash(this.numberOfRoutes - 1,
+                                           false);
+    // build the index before measuring
+    this.routerConfiguration.match(this.route);
+  }
+
+  @Benchmark
+  public List<RouteConfig> match() {
+    return this.routerConfiguration.match(this.route);
+  }
+
+  @Benchmark
+  public Optional<RouteConfig> findFirst() {
+    return this.routerConfiguration.findFirst(this.hash);
+  }
+
+  @Benchmark
+  public RouteConfig findFirstLinear() {
+    for (RouteConfig routeConfig : this.routerConfiguration.getRouters()) {
+      if (RouterUtils.match(this.hash,
+                            routeConfig.getRoute())) {
+        return routeConfig;
+      }
+    }
+    return null;
+  }
+
+}
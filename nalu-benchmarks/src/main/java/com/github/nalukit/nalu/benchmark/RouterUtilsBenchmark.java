@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark;
+
+import com.github.nalukit.nalu.benchmark.support.BenchmarkRoutes;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.RouterUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a route containing parameter values with a route using '*'.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RouterUtilsBenchmark {
+
+  @Param({ "false",
+           "true" })
+  private boolean usingColonForParametersInUrl;
+
+  private String route;
+
+  private String routeWithMissingParameter;
+
+  private String withRoute;
+
+  private String withRouteWithTrailingParameter;
+
+  private String withRouteNotMatching;
+
+  @Setup
+  public void setUp() {
+    PropertyFactory.get()
+                   .register(true,
+                             this.usingColonForParametersInUrl);
+    this.route = BenchmarkRoutes.createHash(2,
+                                            this.usingColonForParametersInUrl);
+    // '/shell/route1/*' without parameter value
+    this.withRouteWithTrailingParameter = BenchmarkRoutes.createRoute(1);
+    this.routeWithMissingParameter = this.withRouteWithTrailingParameter.substring(0,
+                                                                                   this.withRouteWithTrailingParameter.length() - 2);
+    this.withRoute = BenchmarkRoutes.createRoute(2);
+    this.withRouteNotMatching = BenchmarkRoutes.createRoute(3);
+  }
+
+  @Benchmark
+  public boolean match() {
+    return RouterUtils.match(this.route,
+                             this.withRoute);
+  }
+
+  @Benchmark
+  public boolean matchMissingParameter() {
+    return RouterUtils.match(this.routeWithMissingParameter,
+                             this.withRouteWithTrailingParameter);
+  }
+
+  @Benchmark
+  public boolean noMatch() {
+    return RouterUtils.match(this.route,
+                             this.withRouteNotMatching);
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark;
+
+import com.github.nalukit.nalu.benchmark.support.BenchmarkEvent;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires an event to a different number of handlers. Firing from a
+ * source calls the handlers of the source and the global handlers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimpleEventBusBenchmark {
+
+  @Param({ "1",
+           "10",
+           "100",
+           "1000" })
+  private int numberOfHandlers;
+
+  private SimpleEventBus eventBus;
+
+  private BenchmarkEvent event;
+
+  private Object source;
+
+  private long sum;
+
+  @Setup
+  public void setUp() {
+    this.eventBus = new SimpleEventBus();
+    for (int i = 0; i < this.numberOfHandlers; i++) {
+      this.eventBus.addHandler(BenchmarkEvent.TYPE,
+                               e -> this.sum += e.getValue());
+    }
+    this.source = new Object();
+    for (int i = 0; i < this.numberOfHandlers; i++) {
+      this.eventBus.addHandlerToSource(BenchmarkEvent.TYPE,
+                                       this.source,
+                                       e -> this.sum += e.getValue());
+    }
+    this.event = new BenchmarkEvent(1);
+  }
+
+  @Benchmark
+  public long fireEvent() {
+    this.eventBus.fireEvent(this.event);
+    return this.sum;
+  }
+
+  @Benchmark
+  public long fireEventFromSource() {
+    this.eventBus.fireEventFromSource(this.event,
+                                      this.source);
+    return this.sum;
+  }
+
+}
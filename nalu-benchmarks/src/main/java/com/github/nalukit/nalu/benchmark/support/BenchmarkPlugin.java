@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark.support;
+
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In memory plugin: every element can be attached, every confirmation
+ * is accepted and routes are only recorded.
+ * <p>
+ * The registered route change handler is used to trigger the routing
+ * directly.
+ */
+public class BenchmarkPlugin
+    implements IsNaluProcessorPlugin {
+
+  private RouteChangeHandler routeChangeHandler;
+
+  private String lastRoute;
+
+  @Override
+  public void alert(String message) {
+    throw new IllegalStateException("unexpected alert: >>" + message + "<<");
+  }
+
+  @Override
+  public boolean attach(String selector,
+                        Object asElement) {
+    return true;
+  }
+
+  @Override
+  public boolean confirm(String message) {
+    return true;
+  }
+
+  @Override
+  public String getStartRoute(boolean usingHash) {
+    return "/";
+  }
+
+  @Override
+  public Map<String, String> getQueryParameters() {
+    return new HashMap<>();
+  }
+
+  @Override
+  public void register(RouteChangeHandler handler,
+                       boolean usingHash) {
+    this.routeChangeHandler = handler;
+  }
+
+  @Override
+  public void remove(String selector) {
+  }
+
+  @Override
+  public void route(String newRoute,
+                    boolean replace,
+                    boolean usingHash) {
+    this.lastRoute = newRoute;
+  }
+
+  @Override
+  public void initialize(boolean usingHash,
+                         ShellConfiguration shellConfiguration) {
+  }
+
+  @Override
+  public void scheduleDeferred(ScheduledCommand command) {
+    command.execute();
+  }
+
+  @Override
+  public void scheduleIdle(ScheduledCommand command) {
+    command.execute();
+  }
+
+  public RouteChangeHandler getRouteChangeHandler() {
+    return routeChangeHandler;
+  }
+
+  public String getLastRoute() {
+    return lastRoute;
+  }
+
+}
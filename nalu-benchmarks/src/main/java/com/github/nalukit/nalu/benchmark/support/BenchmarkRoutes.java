@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark.support;
+
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
+import com.github.nalukit.nalu.client.internal.route.RouterImpl;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates synthetic route tables and a router using them.
+ * <p>
+ * The table contains routes of four different kinds:
+ * <ul>
+ * <li>/shell/route{i}</li>
+ * <li>/shell/route{i}/*</li>
+ * <li>/shell/route{i}/*&#47;detail</li>
+ * <li>/shell/route{i}/edit/*</li>
+ * </ul>
+ */
+public final class BenchmarkRoutes {
+
+  public static final String SHELL = "/shell";
+
+  public static final String SELECTOR = "content";
+
+  private BenchmarkRoutes() {
+  }
+
+  public static ShellConfiguration createShellConfiguration() {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig(BenchmarkRoutes.SHELL,
+                                           BenchmarkShell.class.getCanonicalName()));
+    return shellConfiguration;
+  }
+
+  public static RouterConfiguration createRouterConfiguration(int numberOfRoutes) {
+    RouterConfiguration routerConfiguration = new RouterConfiguration();
+    for (int i = 0; i < numberOfRoutes; i++) {
+      routerConfiguration.getRouters()
+                         .add(new RouteConfig(BenchmarkRoutes.createRoute(i),
+                                              BenchmarkRoutes.createParameters(i),
+                                              BenchmarkRoutes.SELECTOR,
+                                              BenchmarkController.class.getCanonicalName()));
+    }
+    return routerConfiguration;
+  }
+
+  /**
+   * Returns the route (without parameter values) of the route with the index.
+   *
+   * @param index index of the route
+   * @return the route
+   */
+  public static String createRoute(int index) {
+    switch (index % 4) {
+      case 0:
+        return BenchmarkRoutes.SHELL + "/route" + index;
+      case 1:
+        return BenchmarkRoutes.SHELL + "/route" + index + "/*";
+      case 2:
+        return BenchmarkRoutes.SHELL + "/route" + index + "/*/detail";
+      default:
+        return BenchmarkRoutes.SHELL + "/route" + index + "/edit/*";
+    }
+  }
+
+  /**
+   * Returns a hash matching the route with the index.
+   *
+   * @param index                        index of the route
+   * @param usingColonForParametersInUrl true: parameter values start with a colon
+   * @return the hash
+   */
+  public static String createHash(int index,
+                                  boolean usingColonForParametersInUrl) {
+    String value = usingColonForParametersInUrl ? ":42" : "42";
+    return BenchmarkRoutes.createRoute(index)
+                          .replace("*",
+                                   value);
+  }
+
+  /**
+   * Creates a router using the routes and registers the shell and the controller.
+   *
+   * @param plugin                       the plugin
+   * @param numberOfRoutes               number of routes
+   * @param usingColonForParametersInUrl true: parameter values start with a colon
+   * @return the router
+   */
+  public static RouterImpl createRouter(BenchmarkPlugin plugin,
+                                        int numberOfRoutes,
+                                        boolean usingColonForParametersInUrl) {
+    PropertyFactory.get()
+                   .register(true,
+                             usingColonForParametersInUrl);
+    SimpleEventBus eventBus = new SimpleEventBus();
+    BenchmarkContext context = new BenchmarkContext();
+    RouterImpl router = new RouterImpl(plugin,
+                                       BenchmarkRoutes.createShellConfiguration(),
+                                       BenchmarkRoutes.createRouterConfiguration(numberOfRoutes),
+                                       new ArrayList<>(),
+                                       true,
+                                       usingColonForParametersInUrl);
+    ShellFactory.get()
+                .registerShell(BenchmarkShell.class.getCanonicalName(),
+                               () -> {
+                                 BenchmarkShell shell = new BenchmarkShell();
+                                 shell.setContext(context);
+                                 shell.setEventBus(eventBus);
+                                 shell.setRouter(router);
+                                 ShellInstance shellInstance = new ShellInstance();
+                                 shellInstance.setShellClassName(BenchmarkShell.class.getCanonicalName());
+                                 shellInstance.setShell(shell);
+                                 return shellInstance;
+                               });
+    ControllerFactory.get()
+                     .registerController(BenchmarkController.class.getCanonicalName(),
+                                         parms -> {
+                                           BenchmarkController controller = new BenchmarkController();
+                                           controller.setContext(context);
+                                           controller.setEventBus(eventBus);
+                                           controller.setRouter(router);
+                                           BenchmarkComponent component = new BenchmarkComponent();
+                                           component.setController(controller);
+                                           controller.setComponent(component);
+                                           component.render();
+                                           component.bind();
+                                           ControllerInstance controllerInstance = new ControllerInstance();
+                                           controllerInstance.setControllerClassName(BenchmarkController.class.getCanonicalName());
+                                           controllerInstance.setController(controller);
+                                           controllerInstance.setChached(false);
+                                           return controllerInstance;
+                                         });
+    return router;
+  }
+
+  private static List<String> createParameters(int index) {
+    return index % 4 == 0 ? Collections.emptyList() : Arrays.asList("id");
+  }
+
+}
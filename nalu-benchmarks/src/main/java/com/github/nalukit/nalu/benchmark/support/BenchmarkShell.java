@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.benchmark.support;
+
+import com.github.nalukit.nalu.client.component.AbstractShell;
+
+public class BenchmarkShell
+    extends AbstractShell<BenchmarkContext> {
+
+  @Override
+  public void attachShell() {
+  }
+
+  @Override
+  public void detachShell() {
+  }
+
+  @Override
+  public void onAttachedComponent() {
+  }
+
+}
@@ -17,20 +17,26 @@
 package com.github.nalukit.nalu.plugin.core.web.client;
 
 import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.RouteChangeHandler;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin.ScheduledCommand;
 import com.github.nalukit.nalu.plugin.core.web.client.model.NaluStartModel;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.HashChangeEvent;
 import elemental2.dom.Location;
 import elemental2.dom.PopStateEvent;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
 import jsinterop.base.Js;
 
 import java.util.*;
 
 public class NaluPluginCoreWeb {
 
+  /* delay (in milliseconds) of an idle command, in case the browser does not support requestIdleCallback */
+  private static final int IDLE_DELAY = 50;
+
   public static boolean isSuperDevMode() {
     return "on".equals(System.getProperty("superdevmode",
                                           "off"));
@@ -67,12 +73,7 @@ public class NaluPluginCoreWeb {
                                       pathName.lastIndexOf("/"));
         StringBuilder context = new StringBuilder();
         for (String partOfContext : pathName.split("/")) {
-          Optional<String> optional = shellConfiguration.getShells()
-                                                        .stream()
-                                                        .map(ShellConfig::getRoute)
-                                                        .filter(f -> f.equals("/" + partOfContext))
-                                                        .findAny();
-          if (optional.isPresent()) {
+          if (shellConfiguration.contains("/" + partOfContext)) {
             break;
           } else {
             if (context.length() > 0) {
@@ -178,6 +179,36 @@ public class NaluPluginCoreWeb {
     }
   }
 
+  /**
+   * Executes the command once the current event loop task is done.
+   *
+   * @param command command to execute
+   */
+  public static void scheduleDeferred(ScheduledCommand command) {
+    DomGlobal.setTimeout(p -> command.execute(),
+                         0);
+  }
+
+  /**
+   * Executes the command once the browser is idle. In case the browser
+   * does not support requestIdleCallback, the command is executed after
+   * a short delay.
+   *
+   * @param command command to execute
+   */
+  public static void scheduleIdle(ScheduledCommand command) {
+    if (Js.asPropertyMap(DomGlobal.window)
+          .has("requestIdleCallback")) {
+      NaluPluginCoreWeb.requestIdleCallback(deadline -> command.execute());
+    } else {
+      DomGlobal.setTimeout(p -> command.execute(),
+                           NaluPluginCoreWeb.IDLE_DELAY);
+    }
+  }
+
+  @JsMethod(namespace = JsPackage.GLOBAL)
+  private static native double requestIdleCallback(IdleCallback callback);
+
   /**
    * checks weather the current browser is IE or not.
    * <p>
@@ -257,4 +288,11 @@ public class NaluPluginCoreWeb {
     handler.onRouteChange(newUrl);
   }
 
+  @JsFunction
+  interface IdleCallback {
+
+    void onIdle(Object deadline);
+
+  }
+
 }
@@ -114,4 +114,14 @@ public class NaluPluginElemental2
                                                               usingHash);
   }
 
+  @Override
+  public void scheduleDeferred(ScheduledCommand command) {
+    NaluPluginCoreWeb.scheduleDeferred(command);
+  }
+
+  @Override
+  public void scheduleIdle(ScheduledCommand command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+
 }
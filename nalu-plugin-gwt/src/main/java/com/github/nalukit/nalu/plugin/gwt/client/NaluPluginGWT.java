@@ -113,4 +113,14 @@ public class NaluPluginGWT
                                                               usingHash);
   }
 
+  @Override
+  public void scheduleDeferred(ScheduledCommand command) {
+    NaluPluginCoreWeb.scheduleDeferred(command);
+  }
+
+  @Override
+  public void scheduleIdle(ScheduledCommand command) {
+    NaluPluginCoreWeb.scheduleIdle(command);
+  }
+
 }
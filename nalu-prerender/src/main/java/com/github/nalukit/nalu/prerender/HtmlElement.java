@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Minimal element used by the components and shells of a prerendered
+ * application. An element is either a tag with attributes and children
+ * or a text node. The element tree serializes to HTML.
+ */
+public class HtmlElement {
+
+  /* elements without content and without closing tag */
+  private static final Set<String> VOID_ELEMENTS = new HashSet<>(Arrays.asList("area",
+                                                                               "base",
+                                                                               "br",
+                                                                               "col",
+                                                                               "embed",
+                                                                               "hr",
+                                                                               "img",
+                                                                               "input",
+                                                                               "link",
+                                                                               "meta",
+                                                                               "source",
+                                                                               "track",
+                                                                               "wbr"));
+
+  /* name of the tag, null for text nodes */
+  private String tagName;
+
+  /* text of a text node */
+  private String text;
+
+  private Map<String, String> attributes;
+
+  private List<HtmlElement> children;
+
+  private HtmlElement parent;
+
+  public HtmlElement(String tagName) {
+    this.tagName = Objects.requireNonNull(tagName)
+                          .toLowerCase();
+    this.attributes = new LinkedHashMap<>();
+    this.children = new ArrayList<>();
+  }
+
+  private HtmlElement() {
+    this.attributes = Collections.emptyMap();
+    this.children = Collections.emptyList();
+  }
+
+  /**
+   * Creates a text node.
+   *
+   * @param text the text of the node
+   * @return the text node
+   */
+  public static HtmlElement text(String text) {
+    HtmlElement element = new HtmlElement();
+    element.text = Objects.isNull(text) ? "" : text;
+    return element;
+  }
+
+  public String getTagName() {
+    return tagName;
+  }
+
+  public boolean isText() {
+    return Objects.isNull(this.tagName);
+  }
+
+  public String getId() {
+    return this.getAttribute("id");
+  }
+
+  public void setId(String id) {
+    this.setAttribute("id",
+                      id);
+  }
+
+  public String getAttribute(String name) {
+    return this.attributes.get(name);
+  }
+
+  public void setAttribute(String name,
+                           String value) {
+    if (this.isText()) {
+      throw new IllegalStateException("a text node has no attributes");
+    }
+    this.attributes.put(name,
+                        value);
+  }
+
+  public void removeAttribute(String name) {
+    this.attributes.remove(name);
+  }
+
+  /**
+   * Appends the child. In case the child is attached to another
+   * element, it is removed from this element first.
+   *
+   * @param child the child to append
+   */
+  public void appendChild(HtmlElement child) {
+    if (this.isText()) {
+      throw new IllegalStateException("a text node has no children");
+    }
+    if (!Objects.isNull(child.parent)) {
+      child.parent.removeChild(child);
+    }
+    child.parent = this;
+    this.children.add(child);
+  }
+
+  public void removeChild(HtmlElement child) {
+    if (this.children.remove(child)) {
+      child.parent = null;
+    }
+  }
+
+  public void removeChildren() {
+    for (HtmlElement child : this.children) {
+      child.parent = null;
+    }
+    this.children.clear();
+  }
+
+  public List<HtmlElement> getChildren() {
+    return Collections.unmodifiableList(this.children);
+  }
+
+  public HtmlElement getParent() {
+    return parent;
+  }
+
+  /**
+   * Returns the text of the element and all its descendants.
+   *
+   * @return the text content
+   */
+  public String getTextContent() {
+    if (this.isText()) {
+      return this.text;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (HtmlElement child : this.children) {
+      sb.append(child.getTextContent());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Replaces the children of the element with a text node.
+   *
+   * @param text the new text
+   */
+  public void setTextContent(String text) {
+    this.removeChildren();
+    this.appendChild(HtmlElement.text(text));
+  }
+
+  /**
+   * Looks up the element with the id inside the tree of this element
+   * (this element included).
+   *
+   * @param id the id to look for
+   * @return the element or null, if there is no element with the id
+   */
+  public HtmlElement getElementById(String id) {
+    if (id.equals(this.getId())) {
+      return this;
+    }
+    for (HtmlElement child : this.children) {
+      HtmlElement element = child.getElementById(id);
+      if (!Objects.isNull(element)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Serializes the element and its descendants to HTML.
+   *
+   * @return the HTML of the element
+   */
+  public String toHtml() {
+    StringBuilder sb = new StringBuilder();
+    this.appendHtml(sb);
+    return sb.toString();
+  }
+
+  private void appendHtml(StringBuilder sb) {
+    if (this.isText()) {
+      HtmlElement.escape(sb,
+                         this.text,
+                         false);
+      return;
+    }
+    sb.append("<")
+      .append(this.tagName);
+    for (Map.Entry<String, String> attribute : this.attributes.entrySet()) {
+      sb.append(" ")
+        .append(attribute.getKey());
+      if (!Objects.isNull(attribute.getValue())) {
+        sb.append("=\"");
+        HtmlElement.escape(sb,
+                           attribute.getValue(),
+                           true);
+        sb.append("\"");
+      }
+    }
+    sb.append(">");
+    if (HtmlElement.VOID_ELEMENTS.contains(this.tagName)) {
+      return;
+    }
+    for (HtmlElement child : this.children) {
+      child.appendHtml(sb);
+    }
+    sb.append("</")
+      .append(this.tagName)
+      .append(">");
+  }
+
+  private static void escape(StringBuilder sb,
+                             String value,
+                             boolean attribute) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '&':
+          sb.append("&amp;");
+          break;
+        case '<':
+          sb.append("&lt;");
+          break;
+        case '>':
+          sb.append("&gt;");
+          break;
+        case '"':
+          sb.append(attribute ? "&quot;" : "\"");
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.toHtml();
+  }
+
+}
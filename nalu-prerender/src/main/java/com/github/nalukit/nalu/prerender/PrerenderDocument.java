@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import java.util.Objects;
+
+/**
+ * The document a route is rendered into.
+ * <p>
+ * While a route is rendered, the document of the rendering is the
+ * current document of the rendering thread. Shells use it to add
+ * their elements to the body:
+ * <pre>
+ * public void attachShell() {
+ *   PrerenderDocument.get()
+ *                    .getBody()
+ *                    .appendChild(this.render());
+ * }
+ * </pre>
+ */
+public final class PrerenderDocument {
+
+  /* document of the rendering running on the thread */
+  private static final ThreadLocal<PrerenderDocument> CURRENT = new ThreadLocal<>();
+
+  private HtmlElement body;
+
+  public PrerenderDocument() {
+    this.body = new HtmlElement("body");
+  }
+
+  /**
+   * Returns the document of the rendering running on the current thread.
+   *
+   * @return the current document
+   */
+  public static PrerenderDocument get() {
+    PrerenderDocument document = PrerenderDocument.CURRENT.get();
+    if (Objects.isNull(document)) {
+      throw new IllegalStateException("no rendering running on thread >>" +
+                                      Thread.currentThread()
+                                            .getName() +
+                                      "<<");
+    }
+    return document;
+  }
+
+  static void enter(PrerenderDocument document) {
+    PrerenderDocument.CURRENT.set(document);
+  }
+
+  static void leave() {
+    PrerenderDocument.CURRENT.remove();
+  }
+
+  public HtmlElement getBody() {
+    return body;
+  }
+
+  public HtmlElement getElementById(String id) {
+    return this.body.getElementById(id);
+  }
+
+  /**
+   * Serializes the body to HTML.
+   *
+   * @return the HTML of the body
+   */
+  public String toHtml() {
+    return this.body.toHtml();
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import com.github.nalukit.nalu.client.application.IsApplication;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Renders the routes of a Nalu application to HTML.
+ * <p>
+ * Every route is rendered by a new instance of the application, created
+ * by the application factory (usually the constructor of the generated
+ * application, f.e. <code>MyApplicationImpl::new</code>). The instance
+ * runs with a {@link PrerenderPlugin} and renders into its own
+ * {@link PrerenderDocument}. The shells and components of the
+ * application have to use {@link HtmlElement} as element type.
+ * <p>
+ * Routes are rendered concurrently on the executor of the engine. A
+ * rendering runs on one thread from start to end, so every thread of
+ * the executor can be used - on Java 21 f.e.
+ * <code>Executors.newVirtualThreadPerTaskExecutor()</code>.
+ * <p>
+ * Concurrent renderings must not share the registries of Nalu. Call
+ * {@link #installScope()} once before the first rendering. It stores
+ * the current {@link NaluRuntime} per thread. This changes the scope
+ * for the whole JVM, so do not run browser applications in the same JVM:
+ * <pre>
+ * PrerenderEngine.installScope();
+ * PrerenderEngine engine = new PrerenderEngine(MyApplicationImpl::new);
+ * </pre>
+ */
+public class PrerenderEngine {
+
+  /* shared by all engines, the scope of the runtime is global */
+  private static final RuntimeThreadScope SCOPE = new RuntimeThreadScope();
+
+  /* true: the scope is set for the runtime */
+  private static volatile boolean scopeInstalled;
+
+  private ApplicationFactory applicationFactory;
+
+  private ExecutorService executor;
+
+  /* true: the executor is created by the engine and shut down by it */
+  private boolean ownExecutor;
+
+  /**
+   * Creates an engine using a fixed thread pool with one thread per processor.
+   *
+   * @param applicationFactory creates the application instances
+   */
+  public PrerenderEngine(ApplicationFactory applicationFactory) {
+    this(applicationFactory,
+         Executors.newFixedThreadPool(Runtime.getRuntime()
+                                             .availableProcessors()));
+    this.ownExecutor = true;
+  }
+
+  /**
+   * Creates an engine using the executor. The executor is not shut down
+   * by the engine.
+   *
+   * @param applicationFactory creates the application instances
+   * @param executor           executes the renderings
+   */
+  public PrerenderEngine(ApplicationFactory applicationFactory,
+                         ExecutorService executor) {
+    this.applicationFactory = applicationFactory;
+    this.executor = executor;
+  }
+
+  /**
+   * Sets the per-thread scope for the current {@link NaluRuntime}.
+   * Call it once, before the first rendering. Further calls do nothing.
+   * <p>
+   * The scope of the runtime is global, this affects every Nalu
+   * application of the JVM.
+   */
+  public static synchronized void installScope() {
+    if (!PrerenderEngine.scopeInstalled) {
+      NaluRuntime.setScope(PrerenderEngine.SCOPE);
+      PrerenderEngine.scopeInstalled = true;
+    }
+  }
+
+  /**
+   * Renders the route on the calling thread.
+   *
+   * @param route the route to render
+   * @return the result of the rendering
+   * @throws IllegalStateException in case the scope is not installed
+   */
+  public RenderResult render(String route) {
+    if (!PrerenderEngine.scopeInstalled) {
+      throw new IllegalStateException("scope not installed: call PrerenderEngine.installScope() before rendering");
+    }
+    long start = System.nanoTime();
+    PrerenderDocument document = new PrerenderDocument();
+    PrerenderPlugin plugin = new PrerenderPlugin(route,
+                                                 document);
+    PrerenderDocument.enter(document);
+    try {
+      IsApplication application = this.applicationFactory.create();
+      application.run(plugin);
+      plugin.executeDeferredCommands();
+      // Nalu does not route to a route it can not parse
+      if (Objects.isNull(plugin.getCurrentRoute())) {
+        plugin.alert("route >>" + route + "<< not found");
+      }
+      return new RenderResult(route,
+                              document.toHtml(),
+                              plugin.getAlerts(),
+                              null,
+                              System.nanoTime() - start);
+    } catch (RuntimeException e) {
+      return new RenderResult(route,
+                              null,
+                              plugin.getAlerts(),
+                              e,
+                              System.nanoTime() - start);
+    } finally {
+      // threads are reused by the executor
+      PrerenderDocument.leave();
+      PrerenderEngine.SCOPE.clear();
+    }
+  }
+
+  /**
+   * Renders the routes concurrently and waits until all routes are rendered.
+   *
+   * @param routes the routes to render
+   * @return the results and timings
+   * @throws InterruptedException in case the thread is interrupted while waiting
+   */
+  public PrerenderReport renderAll(Collection<String> routes)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    List<Future<RenderResult>> futures = new ArrayList<>();
+    for (String route : routes) {
+      futures.add(this.executor.submit(() -> this.render(route)));
+    }
+    List<RenderResult> results = new ArrayList<>();
+    for (Future<RenderResult> future : futures) {
+      try {
+        results.add(future.get());
+      } catch (ExecutionException e) {
+        // render catches runtime exceptions, so only errors end here
+        throw new IllegalStateException("rendering failed",
+                                        e.getCause());
+      }
+    }
+    return new PrerenderReport(results,
+                               System.nanoTime() - start);
+  }
+
+  /**
+   * Shuts down the executor, in case it is created by the engine.
+   */
+  public void shutdown() {
+    if (this.ownExecutor) {
+      this.executor.shutdown();
+    }
+  }
+
+  @FunctionalInterface
+  public interface ApplicationFactory {
+
+    IsApplication create();
+
+  }
+
+}
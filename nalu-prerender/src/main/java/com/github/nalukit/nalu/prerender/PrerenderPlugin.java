@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In memory plugin used to render a route.
+ * <p>
+ * Elements are attached to the {@link PrerenderDocument} of the
+ * rendering. Confirmations are accepted, alerts are recorded. Deferred
+ * commands are queued and executed by {@link #executeDeferredCommands()}
+ * once the current command is done - like the browser does after the
+ * current task. Idle commands are dropped: there is no next route to
+ * prefetch for during a rendering.
+ */
+public class PrerenderPlugin
+    implements IsNaluProcessorPlugin {
+
+  private String route;
+
+  private PrerenderDocument document;
+
+  private Deque<ScheduledCommand> deferredCommands;
+
+  private List<String> alerts;
+
+  private RouteChangeHandler routeChangeHandler;
+
+  private String currentRoute;
+
+  public PrerenderPlugin(String route,
+                         PrerenderDocument document) {
+    this.route = route;
+    this.document = document;
+    this.deferredCommands = new ArrayDeque<>();
+    this.alerts = new ArrayList<>();
+  }
+
+  @Override
+  public void alert(String message) {
+    this.alerts.add(message);
+  }
+
+  @Override
+  public boolean attach(String selector,
+                        Object asElement) {
+    HtmlElement element = this.document.getElementById(selector);
+    if (Objects.isNull(element)) {
+      return false;
+    }
+    if (!(asElement instanceof HtmlElement)) {
+      this.alerts.add("element of selector >>" + selector + "<< is not a HtmlElement");
+      return false;
+    }
+    element.appendChild((HtmlElement) asElement);
+    return true;
+  }
+
+  @Override
+  public boolean confirm(String message) {
+    return true;
+  }
+
+  @Override
+  public String getStartRoute(boolean usingHash) {
+    return this.route;
+  }
+
+  @Override
+  public Map<String, String> getQueryParameters() {
+    return new HashMap<>();
+  }
+
+  @Override
+  public void register(RouteChangeHandler handler,
+                       boolean usingHash) {
+    this.routeChangeHandler = handler;
+  }
+
+  @Override
+  public void remove(String selector) {
+    HtmlElement element = this.document.getElementById(selector);
+    if (!Objects.isNull(element)) {
+      element.removeChildren();
+    }
+  }
+
+  @Override
+  public void route(String newRoute,
+                    boolean replace,
+                    boolean usingHash) {
+    this.currentRoute = newRoute;
+  }
+
+  @Override
+  public void initialize(boolean usingHash,
+                         ShellConfiguration shellConfiguration) {
+  }
+
+  @Override
+  public void scheduleDeferred(ScheduledCommand command) {
+    this.deferredCommands.add(command);
+  }
+
+  @Override
+  public void scheduleIdle(ScheduledCommand command) {
+    // nothing to prefetch
+  }
+
+  /**
+   * Executes the deferred commands, including the commands scheduled
+   * by them.
+   */
+  public void executeDeferredCommands() {
+    ScheduledCommand command;
+    while ((command = this.deferredCommands.poll()) != null) {
+      command.execute();
+    }
+  }
+
+  /**
+   * Routes to the new route, like a change of the browser url does.
+   *
+   * @param newRoute the new route
+   */
+  public void changeRoute(String newRoute) {
+    if (!Objects.isNull(this.routeChangeHandler)) {
+      this.routeChangeHandler.onRouteChange(newRoute);
+      this.executeDeferredCommands();
+    }
+  }
+
+  public List<String> getAlerts() {
+    return alerts;
+  }
+
+  /**
+   * Returns the route Nalu finally routed to. Differs from the
+   * rendered route in case of a redirect.
+   *
+   * @return the current route
+   */
+  public String getCurrentRoute() {
+    return currentRoute;
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of rendering a set of routes together with the timings.
+ */
+public class PrerenderReport {
+
+  private List<RenderResult> results;
+
+  private long elapsedTime;
+
+  PrerenderReport(List<RenderResult> results,
+                  long elapsedTime) {
+    this.results = Collections.unmodifiableList(results);
+    this.elapsedTime = elapsedTime;
+  }
+
+  /**
+   * The results in the order of the requested routes.
+   *
+   * @return list of results
+   */
+  public List<RenderResult> getResults() {
+    return results;
+  }
+
+  /**
+   * Wall clock time used to render all routes in nanoseconds.
+   *
+   * @return elapsed time in nanoseconds
+   */
+  public long getElapsedTime() {
+    return elapsedTime;
+  }
+
+  public long getElapsedTime(TimeUnit unit) {
+    return unit.convert(this.elapsedTime,
+                        TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Number of rendered routes per second.
+   *
+   * @return throughput in routes per second
+   */
+  public double getThroughput() {
+    if (this.elapsedTime == 0) {
+      return 0;
+    }
+    return this.results.size() * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedTime;
+  }
+
+  /**
+   * Average render time of a route in nanoseconds.
+   *
+   * @return average render time in nanoseconds
+   */
+  public long getAverageRenderTime() {
+    if (this.results.isEmpty()) {
+      return 0;
+    }
+    long sum = 0;
+    for (RenderResult result : this.results) {
+      sum += result.getRenderTime();
+    }
+    return sum / this.results.size();
+  }
+
+  /**
+   * Longest render time of a route in nanoseconds.
+   *
+   * @return max render time in nanoseconds
+   */
+  public long getMaxRenderTime() {
+    long max = 0;
+    for (RenderResult result : this.results) {
+      max = Math.max(max,
+                     result.getRenderTime());
+    }
+    return max;
+  }
+
+  public int getNumberOfFailures() {
+    int failures = 0;
+    for (RenderResult result : this.results) {
+      if (!result.isSuccessful()) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of the rendering of one route.
+ */
+public class RenderResult {
+
+  private String route;
+
+  private String html;
+
+  private List<String> alerts;
+
+  private Throwable error;
+
+  private long renderTime;
+
+  RenderResult(String route,
+               String html,
+               List<String> alerts,
+               Throwable error,
+               long renderTime) {
+    this.route = route;
+    this.html = html;
+    this.alerts = alerts;
+    this.error = error;
+    this.renderTime = renderTime;
+  }
+
+  public String getRoute() {
+    return route;
+  }
+
+  /**
+   * The HTML of the body, null in case the rendering failed.
+   *
+   * @return the rendered HTML
+   */
+  public String getHtml() {
+    return html;
+  }
+
+  /**
+   * The messages Nalu alerted during the rendering (f.e. an invalid route).
+   *
+   * @return list of alerts
+   */
+  public List<String> getAlerts() {
+    return alerts;
+  }
+
+  public Throwable getError() {
+    return error;
+  }
+
+  public boolean isSuccessful() {
+    return Objects.isNull(this.error) && this.alerts.isEmpty();
+  }
+
+  /**
+   * Time used to render the route in nanoseconds.
+   *
+   * @return render time in nanoseconds
+   */
+  public long getRenderTime() {
+    return renderTime;
+  }
+
+  public long getRenderTime(TimeUnit unit) {
+    return unit.convert(this.renderTime,
+                        TimeUnit.NANOSECONDS);
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
+
+/* stores the current runtime per thread, so that concurrent renderings do not share state */
+class RuntimeThreadScope
+    implements NaluRuntime.Scope {
+
+  private final ThreadLocal<NaluRuntime> runtimes = new ThreadLocal<>();
+
+  @Override
+  public NaluRuntime get() {
+    return this.runtimes.get();
+  }
+
+  @Override
+  public void set(NaluRuntime runtime) {
+    this.runtimes.set(runtime);
+  }
+
+  void clear() {
+    this.runtimes.remove();
+  }
+
+}
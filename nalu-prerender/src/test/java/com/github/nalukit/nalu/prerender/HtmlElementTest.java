@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HtmlElementTest {
+
+  @Test
+  public void testToHtml() {
+    HtmlElement div = new HtmlElement("DIV");
+    div.setId("content");
+    div.setAttribute("hidden",
+                     null);
+    HtmlElement input = new HtmlElement("input");
+    input.setAttribute("value",
+                       "\"a\" & <b>");
+    div.appendChild(input);
+    div.appendChild(HtmlElement.text("1 < 2"));
+    Assert.assertEquals("<div id=\"content\" hidden><input value=\"&quot;a&quot; &amp; &lt;b&gt;\">1 &lt; 2</div>",
+                        div.toHtml());
+  }
+
+  @Test
+  public void testAppendChildMovesElement() {
+    HtmlElement first = new HtmlElement("div");
+    HtmlElement second = new HtmlElement("div");
+    HtmlElement child = new HtmlElement("span");
+    first.appendChild(child);
+    second.appendChild(child);
+    Assert.assertTrue(first.getChildren()
+                           .isEmpty());
+    Assert.assertSame(second,
+                      child.getParent());
+  }
+
+  @Test
+  public void testGetElementById() {
+    HtmlElement body = new HtmlElement("body");
+    HtmlElement div = new HtmlElement("div");
+    HtmlElement span = new HtmlElement("span");
+    span.setId("target");
+    div.appendChild(span);
+    body.appendChild(div);
+    Assert.assertSame(span,
+                      body.getElementById("target"));
+    Assert.assertNull(body.getElementById("unknown"));
+  }
+
+  @Test
+  public void testSetTextContent() {
+    HtmlElement div = new HtmlElement("div");
+    div.appendChild(new HtmlElement("span"));
+    div.setTextContent("Nalu");
+    Assert.assertEquals("Nalu",
+                        div.getTextContent());
+    Assert.assertEquals("<div>Nalu</div>",
+                        div.toHtml());
+  }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.prerender;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class PrerenderEngineTest {
+
+  @BeforeClass
+  public static void installScope() {
+    PrerenderEngine.installScope();
+  }
+
+  @Test
+  public void testRender() {
+    PrerenderEngine engine = new PrerenderEngine(TestApplication::new);
+    RenderResult result = engine.render("/app/person/42");
+    engine.shutdown();
+    Assert.assertTrue(result.isSuccessful());
+    Assert.assertEquals("<body><div id=\"content\"><h1>Person 42</h1></div></body>",
+                        result.getHtml());
+    Assert.assertTrue(result.getRenderTime() > 0);
+  }
+
+  @Test
+  public void testRenderUnknownRoute() {
+    PrerenderEngine engine = new PrerenderEngine(TestApplication::new);
+    RenderResult result = engine.render("/app/unknown");
+    engine.shutdown();
+    Assert.assertFalse(result.isSuccessful());
+  }
+
+  @Test
+  public void testRenderAllConcurrently() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    PrerenderEngine engine = new PrerenderEngine(TestApplication::new,
+                                                 executor);
+    List<String> routes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      routes.add("/app/person/" + i);
+    }
+    PrerenderReport report = engine.renderAll(routes);
+    executor.shutdown();
+    Assert.assertEquals(200,
+                        report.getResults()
+                              .size());
+    Assert.assertEquals(0,
+                        report.getNumberOfFailures());
+    // every rendering uses its own application instance
+    for (int i = 0; i < 200; i++) {
+      Assert.assertEquals("<body><div id=\"content\"><h1>Person " + i + "</h1></div></body>",
+                          report.getResults()
+                                .get(i)
+                                .getHtml());
+    }
+    Assert.assertTrue(report.getThroughput() > 0);
+    Assert.assertTrue(report.getMaxRenderTime() >= report.getAverageRenderTime());
+  }
+
+  static class TestApplication
+      extends AbstractApplication<TestContext> {
+
+    TestApplication() {
+      super();
+      super.context = new TestContext();
+    }
+
+    @Override
+    protected void loadPlugins() {
+    }
+
+    @Override
+    protected void loadShellFactory() {
+      ShellFactory.get()
+                  .registerShell(TestShell.class.getCanonicalName(),
+                                 () -> {
+                                   TestShell shell = new TestShell();
+                                   shell.setContext(context);
+                                   shell.setEventBus(eventBus);
+                                   shell.setRouter(router);
+                                   ShellInstance shellInstance = new ShellInstance();
+                                   shellInstance.setShellClassName(TestShell.class.getCanonicalName());
+                                   shellInstance.setShell(shell);
+                                   return shellInstance;
+                                 });
+    }
+
+    @Override
+    protected void loadDebugConfiguration() {
+    }
+
+    @Override
+    protected void loadShells() {
+      super.shellConfiguration.getShells()
+                              .add(new ShellConfig("/app",
+                                                   TestShell.class.getCanonicalName()));
+    }
+
+    @Override
+    protected void loadRoutes() {
+      super.routerConfiguration.getRouters()
+                               .add(new RouteConfig("/app/person/*",
+                                                    Arrays.asList("id"),
+                                                    "content",
+                                                    TestController.class.getCanonicalName()));
+    }
+
+    @Override
+    protected void loadFilters() {
+    }
+
+    @Override
+    protected void loadDefaultRoutes() {
+      this.startRoute = "/app/person";
+      this.errorRoute = "/app/person";
+    }
+
+    @Override
+    protected void loadCompositeReferences() {
+    }
+
+    @Override
+    protected void loadCompositeController() {
+    }
+
+    @Override
+    protected void loadComponents() {
+      ControllerFactory.get()
+                       .registerController(TestController.class.getCanonicalName(),
+                                           params -> {
+                                             TestController controller = new TestController();
+                                             controller.setContext(context);
+                                             controller.setEventBus(eventBus);
+                                             controller.setRouter(router);
+                                             controller.id = params.length > 0 ? params[0] : null;
+                                             TestComponent component = new TestComponent();
+                                             component.setController(controller);
+                                             controller.setComponent(component);
+                                             component.render();
+                                             component.bind();
+                                             ControllerInstance controllerInstance = new ControllerInstance();
+                                             controllerInstance.setControllerClassName(TestController.class.getCanonicalName());
+                                             controllerInstance.setController(controller);
+                                             controllerInstance.setChached(false);
+                                             return controllerInstance;
+                                           });
+    }
+
+    @Override
+    protected void loadHandlers() {
+    }
+
+    @Override
+    protected IsApplicationLoader<TestContext> getApplicationLoader() {
+      return null;
+    }
+
+    @Override
+    protected boolean isUsingHash() {
+      return true;
+    }
+
+    @Override
+    protected boolean isUsingColonForParametersInUrl() {
+      return false;
+    }
+
+  }
+
+  static class TestContext
+      implements IsContext {
+
+  }
+
+  static class TestShell
+      extends AbstractShell<TestContext> {
+
+    @Override
+    public void attachShell() {
+      HtmlElement content = new HtmlElement("div");
+      content.setId("content");
+      PrerenderDocument.get()
+                       .getBody()
+                       .appendChild(content);
+    }
+
+  }
+
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, HtmlElement>
+      implements TestComponent.Controller {
+
+    private String id;
+
+  }
+
+  static class TestComponent
+      extends AbstractComponent<TestComponent.Controller, HtmlElement> {
+
+    @Override
+    public void render() {
+      HtmlElement headline = new HtmlElement("h1");
+      headline.setTextContent("Person " + ((TestController) this.getController()).id);
+      this.initElement(headline);
+    }
+
+    interface Controller
+        extends IsComponent.Controller {
+
+    }
+
+  }
+
+}
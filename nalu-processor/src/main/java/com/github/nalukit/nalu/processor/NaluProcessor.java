@@ -351,6 +351,15 @@ public class NaluProcessor
       // save filter data in metaModel
       this.metaModel.getFilters()
                     .addAll(filterModels);
+      // scan async filters and save data in metaModel
+      List<ClassNameModel> asyncFilterModels = FiltersAnnotationScanner.builder()
+                                                                       .processingEnvironment(processingEnv)
+                                                                       .metaModel(this.metaModel)
+                                                                       .filtersElement(filtersElement)
+                                                                       .build()
+                                                                       .scanAsyncFilters(roundEnv);
+      this.metaModel.getAsyncFilters()
+                    .addAll(asyncFilterModels);
 
     }
   }
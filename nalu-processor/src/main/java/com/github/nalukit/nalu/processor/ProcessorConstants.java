@@ -34,4 +34,6 @@ public class ProcessorConstants {
 
   public final static String PLUGIN_IMPL = "PluginImpl";
 
+  public final static String ROUTE_MATCHER_IMPL = "RouteMatcherImpl";
+
 }
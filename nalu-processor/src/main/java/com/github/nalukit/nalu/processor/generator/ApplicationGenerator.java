@@ -17,7 +17,6 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.application.IsApplicationLoader;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
 import com.github.nalukit.nalu.client.internal.application.NoApplicationLoader;
 import com.github.nalukit.nalu.processor.ProcessorException;
@@ -164,6 +163,14 @@ public class ApplicationGenerator {
     generateisUsingColonForParametersInUrl(typeSpec,
                                            metaModel);
 
+    if (metaModel.isGeneratingRouteMatcher()) {
+      RouteMatcherGenerator.builder()
+                           .processingEnvironment(this.processingEnvironment)
+                           .metaModel(metaModel)
+                           .build()
+                           .generate();
+    }
+
     JavaFile javaFile = JavaFile.builder(metaModel.getGenerateToPackage(),
                                          typeSpec.build())
                                 .build();
@@ -214,16 +221,14 @@ public class ApplicationGenerator {
                                                metaModel.getStartRoute())
                                  .addStatement("sb01.append(\"found startRoute >>$L<<\")",
                                                metaModel.getStartRoute())
-                                 .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                               ClassName.get(ClientLogger.class))
+                                 .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
                                  .addStatement("sb01 = new $T()",
                                                ClassName.get(StringBuilder.class))
                                  .addStatement("this.errorRoute = $S",
                                                metaModel.getRouteError())
                                  .addStatement("sb01.append(\"found errorRoute >>$L<<\")",
                                                metaModel.getRouteError())
-                                 .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                               ClassName.get(ClientLogger.class))
+                                 .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
                                  .build());
   }
 
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.CompositeModel;
@@ -60,8 +59,7 @@ public class CompositeControllerGenerator {
                                              "." +
                                              compositeModel.getProvider()
                                                            .getSimpleName())
-                                 .addStatement("$T.get().registerComposite($S, new $L(router, context, eventBus))",
-                                               ClassName.get(CompositeFactory.class),
+                                 .addStatement("runtime.getCompositeFactory().registerComposite($S, new $L(router, context, eventBus, runtime))",
                                                compositeModel.getProvider()
                                                              .getPackage() +
                                                "." +
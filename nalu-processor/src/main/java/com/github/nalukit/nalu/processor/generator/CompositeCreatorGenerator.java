@@ -16,11 +16,12 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -77,7 +78,10 @@ public class CompositeCreatorGenerator {
                                        .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                                            "eventBus")
                                                                   .build())
-                                       .addStatement("super(router, context, eventBus)")
+                                       .addParameter(ParameterSpec.builder(ClassName.get(NaluRuntime.class),
+                                                                           "runtime")
+                                                                  .build())
+                                       .addStatement("super(router, context, eventBus, runtime)")
                                        .build();
     typeSpec.addMethod(constructor);
     // create Method
@@ -95,8 +99,7 @@ public class CompositeCreatorGenerator {
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> will be created\")",
                                                               compositeModel.getProvider()
                                                                             .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                                                 .addStatement("$T compositeModel = new $T()",
                                                               ClassName.get(compositeModel.getProvider()
                                                                                           .getPackage(),
@@ -114,8 +117,7 @@ public class CompositeCreatorGenerator {
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> created and data injected\")",
                                                               compositeModel.getProvider()
                                                                             .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                                                              ClassName.get(ClientLogger.class));
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 5)");
     if (compositeModel.isComponentCreator()) {
       createMethod.addStatement("$T component = compositeModel.createComponent()",
                                 ClassName.get(compositeModel.getComponentInterface()
@@ -127,8 +129,7 @@ public class CompositeCreatorGenerator {
                   .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of compositeModel controller\")",
                                 compositeModel.getComponent()
                                               .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)");
     } else {
       createMethod.addStatement("$T component = new $T()",
                                 ClassName.get(compositeModel.getComponentInterface()
@@ -144,35 +145,29 @@ public class CompositeCreatorGenerator {
                   .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
                                 compositeModel.getComponent()
                                               .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)");
     }
     createMethod.addStatement("component.setController(compositeModel)")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 5)")
                 .addStatement("compositeModel.setComponent(component)")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"compositeModel >>\").append(compositeModel.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 5)")
                 .addStatement("component.render()")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 5)")
                 .addStatement("component.bind()")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 5)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T.get().logSimple(\"compositeModel >>$L<< created\", 4)",
-                              ClassName.get(ClientLogger.class),
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 5)")
+                .addStatement("runtime.getClientLogger().logSimple(\"compositeModel >>$L<< created\", 4)",
                               compositeModel.getComponent()
                                             .getClassName());
     // compositeModel has parameters?
@@ -195,8 +190,7 @@ public class CompositeCreatorGenerator {
                                     "<< to set value >>\").append(parms[" +
                                     Integer.toString(i) +
                                     "]).append(\"<<\")")
-                      .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                    ClassName.get(ClientLogger.class))
+                      .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                       .addStatement("compositeModel." +
                                     compositeModel.getParameterAcceptors()
                                                   .get(i)
@@ -217,6 +211,11 @@ public class CompositeCreatorGenerator {
                 .addStatement("return compositeInstance");
 
     typeSpec.addMethod(createMethod.build());
+    // setParameters method (only in case the composite accepts parameters)
+    if (compositeModel.getParameterAcceptors()
+                      .size() > 0) {
+      typeSpec.addMethod(this.createSetParametersMethod());
+    }
 
     JavaFile javaFile = JavaFile.builder(this.compositeModel.getProvider()
                                                             .getPackage(),
@@ -235,6 +234,48 @@ public class CompositeCreatorGenerator {
     }
   }
 
+  private MethodSpec createSetParametersMethod() {
+    ClassName compositeClassName = ClassName.get(compositeModel.getProvider()
+                                                               .getPackage(),
+                                                 compositeModel.getProvider()
+                                                               .getSimpleName());
+    MethodSpec.Builder setParametersMethod = MethodSpec.methodBuilder("setParameters")
+                                                       .addModifiers(Modifier.PUBLIC)
+                                                       .addAnnotation(Override.class)
+                                                       .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(ClassName.get(AbstractCompositeController.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class)),
+                                                                                           "instance")
+                                                                                  .build())
+                                                       .addParameter(ParameterSpec.builder(String[].class,
+                                                                                           "parms")
+                                                                                  .build())
+                                                       .varargs()
+                                                       .addException(ClassName.get(RoutingInterceptionException.class))
+                                                       .addStatement("$T compositeModel = ($T) instance",
+                                                                     compositeClassName,
+                                                                     compositeClassName)
+                                                       .beginControlFlow("if (parms != null)");
+    for (int i = 0; i <
+                    compositeModel.getParameterAcceptors()
+                                  .size(); i++) {
+      String methodName = compositeModel.getParameterAcceptors()
+                                        .get(i)
+                                        .getMethodName();
+      setParametersMethod.beginControlFlow("if (parms.length >= " + Integer.toString(i + 1) + ")")
+                         .addStatement("runtime.getClientLogger().logDetailed(\"compositeModel >>$L<< --> using method >>$L<< to set value >>\" + parms[$L] + \"<<\", 4)",
+                                       compositeModel.getProvider()
+                                                     .getClassName(),
+                                       methodName,
+                                       Integer.toString(i))
+                         .addStatement("compositeModel." + methodName + "(parms[" + Integer.toString(i) + "])")
+                         .endControlFlow();
+    }
+    setParametersMethod.endControlFlow();
+    return setParametersMethod.build();
+  }
+
   public static final class Builder {
 
     MetaModel metaModel;
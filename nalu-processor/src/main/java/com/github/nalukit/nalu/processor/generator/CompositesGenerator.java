@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.github.nalukit.nalu.processor.model.intern.ControllerCompositeModel;
@@ -58,8 +57,7 @@ public class CompositesGenerator {
                                                                              ClassName.get(StringBuilder.class),
                                                                              ClassName.get(StringBuilder.class))
                                                                .addStatement("sb01.append(\"load composite references\")")
-                                                               .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                             ClassName.get(ClientLogger.class));
+                                                               .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)");
     for (ControllerModel controllerModel : this.metaModel.getController()) {
       for (ControllerCompositeModel controllerCompositeModel : controllerModel.getComposites()) {
         loadCompositesMethodBuilder.addStatement("this.compositeControllerReferences.add(new $T($S, $S, $S, $S))",
@@ -77,8 +75,7 @@ public class CompositesGenerator {
                                                  controllerModel.getProvider()
                                                                 .getClassName(),
                                                  controllerCompositeModel.getSelector())
-                                   .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                 ClassName.get(ClientLogger.class));
+                                   .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)");
 
       }
     }
@@ -19,10 +19,9 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.ProcessorException;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -79,12 +78,17 @@ public class ControllerCreatorGenerator {
                                        .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                                            "eventBus")
                                                                   .build())
-                                       .addStatement("super(router, context, eventBus)")
+                                       .addParameter(ParameterSpec.builder(ClassName.get(NaluRuntime.class),
+                                                                           "runtime")
+                                                                  .build())
+                                       .addStatement("super(router, context, eventBus, runtime)")
                                        .build();
     typeSpec.addMethod(constructor);
     // create Method
-    MethodSpec.Builder createMethod = MethodSpec.methodBuilder("create")
-                                                .addModifiers(Modifier.PUBLIC)
+    //
+    // in case the controller is loaded asynchronously, the controller is only created inside the split point
+    MethodSpec.Builder createMethod = MethodSpec.methodBuilder(controllerModel.isLoadingAsync() ? "createController" : "create")
+                                                .addModifiers(controllerModel.isLoadingAsync() ? Modifier.PRIVATE : Modifier.PUBLIC)
                                                 .addParameter(ParameterSpec.builder(String[].class,
                                                                                     "parms")
                                                                            .build())
@@ -100,9 +104,8 @@ public class ControllerCreatorGenerator {
                                                 .addStatement("controllerInstance.setControllerClassName($S)",
                                                               controllerModel.getController()
                                                                              .getClassName())
-                                                .addStatement("$T<?, ?, ?> storedController = $T.get().getControllerFormStore($S)",
+                                                .addStatement("$T<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore($S)",
                                                               ClassName.get(AbstractComponentController.class),
-                                                              ClassName.get(ControllerFactory.class),
                                                               controllerModel.getController()
                                                                              .getClassName())
                                                 .beginControlFlow("if (storedController == null)")
@@ -112,8 +115,7 @@ public class ControllerCreatorGenerator {
                                                               "." +
                                                               controllerModel.getProvider()
                                                                              .getSimpleName())
-                                                .addStatement("$T.get().logSimple(sb01.toString(), 3)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logSimple(sb01.toString(), 3)")
                                                 .addStatement("$T controller = new $T()",
                                                               ClassName.get(controllerModel.getProvider()
                                                                                            .getPackage(),
@@ -132,8 +134,7 @@ public class ControllerCreatorGenerator {
                                                 .addStatement("sb01 = new $T()",
                                                               ClassName.get(StringBuilder.class))
                                                 .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> created and data injected\")")
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                                              ClassName.get(ClientLogger.class));
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)");
     if (controllerModel.isComponentCreator()) {
       createMethod.addStatement("$T component = controller.createComponent()",
                                 ClassName.get(controllerModel.getComponentInterface()
@@ -145,8 +146,7 @@ public class ControllerCreatorGenerator {
                   .addStatement("sb01.append(\"component >>$L<< --> created using createComponent-Method of controller\")",
                                 controllerModel.getComponent()
                                                .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)");
     } else {
       createMethod.addStatement("$T component = new $T()",
                                 ClassName.get(controllerModel.getComponentInterface()
@@ -162,35 +162,29 @@ public class ControllerCreatorGenerator {
                   .addStatement("sb01.append(\"component >>$L<< --> created using new\")",
                                 controllerModel.getComponent()
                                                .getClassName())
-                  .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                ClassName.get(ClientLogger.class));
+                  .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)");
     }
     createMethod.addStatement("component.setController(controller)")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> created and controller instance injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                 .addStatement("controller.setComponent(component)")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"controller >>\").append(controller.getClass().getCanonicalName()).append(\"<< --> instance of >>\").append(component.getClass().getCanonicalName()).append(\"<< injected\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                 .addStatement("component.render()")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> rendered\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                 .addStatement("component.bind()")
                 .addStatement("sb01 = new $T()",
                               ClassName.get(StringBuilder.class))
                 .addStatement("sb01.append(\"component >>\").append(component.getClass().getCanonicalName()).append(\"<< --> bound\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
-                .addStatement("$T.get().logSimple(\"controller >>$L<< created for route >>$L<<\", 3)",
-                              ClassName.get(ClientLogger.class),
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
+                .addStatement("runtime.getClientLogger().logSimple(\"controller >>$L<< created for route >>$L<<\", 3)",
                               controllerModel.getComponent()
                                              .getClassName(),
                               controllerModel.getRoute());
@@ -214,8 +208,7 @@ public class ControllerCreatorGenerator {
                                       "<< to set value >>\").append(parms[" +
                                       Integer.toString(i) +
                                       "]).append(\"<<\")")
-                        .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                                      ClassName.get(ClientLogger.class))
+                        .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                         .addStatement("controller." + methodName + "(parms[" + Integer.toString(i) + "])")
                         .endControlFlow();
           }
@@ -225,8 +218,7 @@ public class ControllerCreatorGenerator {
     }
     createMethod.nextControlFlow("else")
                 .addStatement("sb01.append(\"controller >>\").append(storedController.getClass().getCanonicalName()).append(\"<< --> found in cache -> REUSE!\")")
-                .addStatement("$T.get().logDetailed(sb01.toString(), 4)",
-                              ClassName.get(ClientLogger.class))
+                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 4)")
                 .addStatement("controllerInstance.setController(storedController)")
                 .addStatement("controllerInstance.setChached(true)")
                 .addStatement("controllerInstance.getController().setCached(true)")
@@ -234,6 +226,21 @@ public class ControllerCreatorGenerator {
     createMethod.addStatement("return controllerInstance");
 
     typeSpec.addMethod(createMethod.build());
+    // create, createAsync and isLoadingAsync method (only in case the controller is loaded asynchronously)
+    if (controllerModel.isLoadingAsync()) {
+      typeSpec.addMethod(this.createCreateMethodOfAsyncController());
+      typeSpec.addMethod(this.createCreateAsyncMethod());
+      typeSpec.addMethod(MethodSpec.methodBuilder("isLoadingAsync")
+                                   .addAnnotation(Override.class)
+                                   .addModifiers(Modifier.PUBLIC)
+                                   .returns(boolean.class)
+                                   .addStatement("return true")
+                                   .build());
+    }
+    // setParameters method (only in case the controller is reused on parameter change)
+    if (controllerModel.isReusingOnParameterChange()) {
+      typeSpec.addMethod(this.createSetParametersMethod());
+    }
 
     JavaFile javaFile = JavaFile.builder(controllerModel.getController()
                                                         .getPackage(),
@@ -252,6 +259,150 @@ public class ControllerCreatorGenerator {
     }
   }
 
+  private MethodSpec createCreateMethodOfAsyncController() {
+    return MethodSpec.methodBuilder("create")
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(ParameterSpec.builder(String[].class,
+                                                         "parms")
+                                                .build())
+                     .varargs()
+                     .returns(ClassName.get(ControllerInstance.class))
+                     .addException(ClassName.get(RoutingInterceptionException.class))
+                     .addStatement("throw new $T($S)",
+                                   ClassName.get(IllegalStateException.class),
+                                   "controller >>" +
+                                   controllerModel.getController()
+                                                  .getClassName() +
+                                   "<< is loaded asynchronously, use createAsync!")
+                     .build();
+  }
+
+  private MethodSpec createCreateAsyncMethod() {
+    ClassName gwtClassName = ClassName.get("com.google.gwt.core.client",
+                                           "GWT");
+    ClassName runAsyncCallbackClassName = ClassName.get("com.google.gwt.core.client",
+                                                        "RunAsyncCallback");
+    TypeSpec runAsyncCallback = TypeSpec.anonymousClassBuilder("")
+                                        .addSuperinterface(runAsyncCallbackClassName)
+                                        .addMethod(MethodSpec.methodBuilder("onFailure")
+                                                             .addAnnotation(Override.class)
+                                                             .addModifiers(Modifier.PUBLIC)
+                                                             .addParameter(ParameterSpec.builder(ClassName.get(Throwable.class),
+                                                                                                 "reason")
+                                                                                        .build())
+                                                             .addStatement("callback.onFailure(reason)")
+                                                             .build())
+                                        .addMethod(MethodSpec.methodBuilder("onSuccess")
+                                                             .addAnnotation(Override.class)
+                                                             .addModifiers(Modifier.PUBLIC)
+                                                             .addStatement("$T controllerInstance",
+                                                                           ClassName.get(ControllerInstance.class))
+                                                             .beginControlFlow("try")
+                                                             .addStatement("controllerInstance = createController(parms)")
+                                                             .nextControlFlow("catch ($T e)",
+                                                                              ClassName.get(RoutingInterceptionException.class))
+                                                             .addStatement("callback.onRoutingInterception(e)")
+                                                             .addStatement("return")
+                                                             .endControlFlow()
+                                                             .addStatement("callback.onCreate(controllerInstance)")
+                                                             .build())
+                                        .build();
+    // a cached controller does not need the split point: it is reused without loading.
+    // The cache check must not call createController, which references the controller
+    // class and would pull it into the initial fragment.
+    return MethodSpec.methodBuilder("createAsync")
+                     .addAnnotation(Override.class)
+                     .addModifiers(Modifier.PUBLIC)
+                     .addParameter(ParameterSpec.builder(ClassName.get(IsControllerCreator.Callback.class),
+                                                         "callback")
+                                                .addModifiers(Modifier.FINAL)
+                                                .build())
+                     .addParameter(ParameterSpec.builder(String[].class,
+                                                         "parms")
+                                                .addModifiers(Modifier.FINAL)
+                                                .build())
+                     .varargs()
+                     .addStatement("$T storedController = runtime.getControllerFactory().getControllerFormStore($S)",
+                                   ParameterizedTypeName.get(ClassName.get(AbstractComponentController.class),
+                                                             WildcardTypeName.subtypeOf(Object.class),
+                                                             WildcardTypeName.subtypeOf(Object.class),
+                                                             WildcardTypeName.subtypeOf(Object.class)),
+                                   controllerModel.getController()
+                                                  .getClassName())
+                     .beginControlFlow("if (storedController != null)")
+                     .addStatement("$T controllerInstance = new $T()",
+                                   ClassName.get(ControllerInstance.class),
+                                   ClassName.get(ControllerInstance.class))
+                     .addStatement("controllerInstance.setControllerClassName($S)",
+                                   controllerModel.getController()
+                                                  .getClassName())
+                     .addStatement("controllerInstance.setController(storedController)")
+                     .addStatement("controllerInstance.setChached(true)")
+                     .addStatement("controllerInstance.getController().setCached(true)")
+                     .addStatement("runtime.getClientLogger().logDetailed($S, 4)",
+                                   "controller >>" +
+                                   controllerModel.getController()
+                                                  .getClassName() +
+                                   "<< --> found in cache -> REUSE!")
+                     .addStatement("callback.onCreate(controllerInstance)")
+                     .addStatement("return")
+                     .endControlFlow()
+                     .addStatement("$T.runAsync($T.class, $L)",
+                                   gwtClassName,
+                                   ClassName.get(controllerModel.getProvider()
+                                                                .getPackage(),
+                                                 controllerModel.getProvider()
+                                                                .getSimpleName()),
+                                   runAsyncCallback)
+                     .build();
+  }
+
+  private MethodSpec createSetParametersMethod() {
+    ClassName controllerClassName = ClassName.get(controllerModel.getProvider()
+                                                                 .getPackage(),
+                                                  controllerModel.getProvider()
+                                                                 .getSimpleName());
+    MethodSpec.Builder setParametersMethod = MethodSpec.methodBuilder("setParameters")
+                                                       .addModifiers(Modifier.PUBLIC)
+                                                       .addAnnotation(Override.class)
+                                                       .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(ClassName.get(AbstractComponentController.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class),
+                                                                                                                     WildcardTypeName.subtypeOf(Object.class)),
+                                                                                           "instance")
+                                                                                  .build())
+                                                       .addParameter(ParameterSpec.builder(String[].class,
+                                                                                           "parms")
+                                                                                  .build())
+                                                       .varargs()
+                                                       .addException(ClassName.get(RoutingInterceptionException.class));
+    if (controllerModel.getParameterAcceptors()
+                       .size() > 0) {
+      setParametersMethod.addStatement("$T controller = ($T) instance",
+                                       controllerClassName,
+                                       controllerClassName)
+                         .beginControlFlow("if (parms != null)");
+      for (int i = 0; i <
+                      controllerModel.getParameters()
+                                     .size(); i++) {
+        String methodName = controllerModel.getParameterAcceptors(controllerModel.getParameters()
+                                                                                 .get(i));
+        if (methodName != null) {
+          setParametersMethod.beginControlFlow("if (parms.length >= " + Integer.toString(i + 1) + ")")
+                             .addStatement("runtime.getClientLogger().logDetailed(\"controller >>$L<< --> using method >>$L<< to set value >>\" + parms[$L] + \"<<\", 4)",
+                                           controllerModel.getProvider()
+                                                          .getClassName(),
+                                           methodName,
+                                           Integer.toString(i))
+                             .addStatement("controller." + methodName + "(parms[" + Integer.toString(i) + "])")
+                             .endControlFlow();
+        }
+      }
+      setParametersMethod.endControlFlow();
+    }
+    return setParametersMethod.build();
+  }
+
   public static final class Builder {
 
     MetaModel metaModel;
@@ -15,8 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -68,8 +66,7 @@ public class ControllerGenerator {
                                                  "." +
                                                  controllerModel.getProvider()
                                                                 .getSimpleName())
-                                     .addStatement("$T.get().registerController($S, new $L(router, context, eventBus))",
-                                                   ClassName.get(ControllerFactory.class),
+                                     .addStatement("runtime.getControllerFactory().registerController($S, new $L(router, context, eventBus, runtime))",
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
                                                    "." +
@@ -92,10 +89,9 @@ public class ControllerGenerator {
                                                                      ClassName.get(StringBuilder.class),
                                                                      ClassName.get(StringBuilder.class))
                                                        .addStatement("sb01.append(\"load routes\")")
-                                                       .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                     ClassName.get(ClientLogger.class));
+                                                       .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)");
     this.metaModel.getController()
-                  .forEach(route -> loadSelectorsMethod.addStatement("super.routerConfiguration.getRouters().add(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
+                  .forEach(route -> loadSelectorsMethod.addStatement("super.routerConfiguration.getRouters().add(new $T($S, $T.asList(new String[]{$L}), $S, $S$L))",
                                                                      ClassName.get(RouteConfig.class),
                                                                      createRoute(route.getRoute()),
                                                                      ClassName.get(Arrays.class),
@@ -103,7 +99,8 @@ public class ControllerGenerator {
                                                                                      true),
                                                                      route.getSelector(),
                                                                      route.getProvider()
-                                                                          .getClassName())
+                                                                          .getClassName(),
+                                                                     route.isReusingOnParameterChange() ? ", true" : "")
                                                        .addStatement("sb01 = new $T()",
                                                                      ClassName.get(StringBuilder.class))
                                                        .addStatement("sb01.append(\"register route >>$L<< with parameter >>$L<< for selector >>$L<< for controller >>$L<<\")",
@@ -113,8 +110,14 @@ public class ControllerGenerator {
                                                                      route.getSelector(),
                                                                      route.getProvider()
                                                                           .getClassName())
-                                                       .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                                     ClassName.get(ClientLogger.class)));
+                                                       .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)"));
+    // the route matcher needs to be set after all routes are added!
+    if (this.metaModel.isGeneratingRouteMatcher()) {
+      loadSelectorsMethod.addStatement("super.routerConfiguration.setRouteMatcher(new $T())",
+                                       ClassName.get(this.metaModel.getGenerateToPackage(),
+                                                     this.metaModel.getApplication()
+                                                                   .getSimpleName() + ProcessorConstants.ROUTE_MATCHER_IMPL));
+    }
     typeSpec.addMethod(loadSelectorsMethod.build());
   }
 
@@ -16,7 +16,6 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.application.annotation.Debug;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
@@ -49,8 +48,7 @@ public class DebugGenerator {
                                                                 .addAnnotation(Override.class)
                                                                 .addModifiers(Modifier.PUBLIC);
     if (metaModel.isHavingDebugAnnotation()) {
-      loadDebugConfigurationMethod.addStatement("$T.get().register($L, new $T(), $T.LogLevel.$L)",
-                                                ClassName.get(ClientLogger.class),
+      loadDebugConfigurationMethod.addStatement("runtime.getClientLogger().register($L, new $T(), $T.LogLevel.$L)",
                                                 "true",
                                                 metaModel.getDebugLogger()
                                                          .getTypeName(),
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -75,8 +74,21 @@ public class FiltersGenerator {
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("super.routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                              .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
-                                                                            ClassName.get(ClientLogger.class),
+                                                              .addStatement("runtime.getClientLogger().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName())));
+
+    this.metaModel.getAsyncFilters()
+                  .forEach(classNameModel -> loadFiltersMethod.addStatement("$T $L = new $T()",
+                                                                            ClassName.get(classNameModel.getPackage(),
+                                                                                          classNameModel.getSimpleName()),
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()),
+                                                                            ClassName.get(classNameModel.getPackage(),
+                                                                                          classNameModel.getSimpleName()))
+                                                              .addStatement("$L.setContext(super.context)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("super.routerConfiguration.getAsyncFilters().add($L)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("runtime.getClientLogger().logDetailed(\"AbstractApplication: async filter >> $L << created\", 0)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName())));
 
     typeSpec.addMethod(loadFiltersMethod.build());
@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorUtils;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -81,8 +80,7 @@ public class HandlerGenerator {
                                                     variableName)
                                       .addStatement("$L.bind()",
                                                     variableName)
-                                      .addStatement("$T.get().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
-                                                    ClassName.get(ClientLogger.class),
+                                      .addStatement("runtime.getClientLogger().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
                                                     handler.getClassName());
                   });
 
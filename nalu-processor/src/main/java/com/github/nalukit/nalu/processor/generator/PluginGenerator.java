@@ -17,12 +17,9 @@
 package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.application.AbstractPlugin;
-import com.github.nalukit.nalu.client.internal.application.CompositeFactory;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
@@ -99,7 +96,10 @@ public class PluginGenerator {
                                        .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                                            "eventBus")
                                                                   .build())
-                                       .addStatement("super(router, context, eventBus)")
+                                       .addParameter(ParameterSpec.builder(ClassName.get(NaluRuntime.class),
+                                                                           "runtime")
+                                                                  .build())
+                                       .addStatement("super(router, context, eventBus, runtime)")
                                        .build();
     typeSpec.addMethod(constructor);
 
@@ -157,8 +157,7 @@ public class PluginGenerator {
                                                     variableName)
                                       .addStatement("$L.bind()",
                                                     variableName)
-                                      .addStatement("$T.get().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
-                                                    ClassName.get(ClientLogger.class),
+                                      .addStatement("runtime.getClientLogger().logDetailed(\"AbstractController: handler >>$L<< created\", 0)",
                                                     handler.getClassName());
                   });
 
@@ -185,8 +184,21 @@ public class PluginGenerator {
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
                                                               .addStatement("routerConfiguration.getFilters().add($L)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName()))
-                                                              .addStatement("$T.get().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
-                                                                            ClassName.get(ClientLogger.class),
+                                                              .addStatement("runtime.getClientLogger().logDetailed(\"AbstractApplication: filter >> $L << created\", 0)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName())));
+
+    this.metaModel.getAsyncFilters()
+                  .forEach(classNameModel -> loadFiltersMethod.addStatement("$T $L = new $T()",
+                                                                            ClassName.get(classNameModel.getPackage(),
+                                                                                          classNameModel.getSimpleName()),
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()),
+                                                                            ClassName.get(classNameModel.getPackage(),
+                                                                                          classNameModel.getSimpleName()))
+                                                              .addStatement("$L.setContext(super.context)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("routerConfiguration.getAsyncFilters().add($L)",
+                                                                            this.processorUtils.createFullClassName(classNameModel.getClassName()))
+                                                              .addStatement("runtime.getClientLogger().logDetailed(\"AbstractApplication: async filter >> $L << created\", 0)",
                                                                             this.processorUtils.createFullClassName(classNameModel.getClassName())));
 
     typeSpec.addMethod(loadFiltersMethod.build());
@@ -206,8 +218,7 @@ public class PluginGenerator {
                                                              "." +
                                                              shellModel.getShell()
                                                                        .getSimpleName())
-                                                 .addStatement("$T.get().registerShell($S, new $L(router, context, eventBus))",
-                                                               ClassName.get(ShellFactory.class),
+                                                 .addStatement("runtime.getShellFactory().registerShell($S, new $L(router, context, eventBus, runtime))",
                                                                shellModel.getShell()
                                                                          .getPackage() +
                                                                "." +
@@ -234,8 +245,7 @@ public class PluginGenerator {
                                              "." +
                                              compositeModel.getProvider()
                                                            .getSimpleName())
-                                 .addStatement("$T.get().registerComposite($S, new $L(router, context, eventBus))",
-                                               ClassName.get(CompositeFactory.class),
+                                 .addStatement("runtime.getCompositeFactory().registerComposite($S, new $L(router, context, eventBus, runtime))",
                                                compositeModel.getProvider()
                                                              .getPackage() +
                                                "." +
@@ -262,8 +272,7 @@ public class PluginGenerator {
                                                  "." +
                                                  controllerModel.getProvider()
                                                                 .getSimpleName())
-                                     .addStatement("$T.get().registerController($S, new $L(router, context, eventBus))",
-                                                   ClassName.get(ControllerFactory.class),
+                                     .addStatement("runtime.getControllerFactory().registerController($S, new $L(router, context, eventBus, runtime))",
                                                    controllerModel.getProvider()
                                                                   .getPackage() +
                                                    "." +
@@ -310,14 +319,15 @@ public class PluginGenerator {
                                                                               ClassName.get(RouteConfig.class),
                                                                               ClassName.get(ArrayList.class));
     this.metaModel.getController()
-                  .forEach(route -> loadRouteConfigMethodBuilder.addStatement("list.add(new $T($S, $T.asList(new String[]{$L}), $S, $S))",
+                  .forEach(route -> loadRouteConfigMethodBuilder.addStatement("list.add(new $T($S, $T.asList(new String[]{$L}), $S, $S$L))",
                                                                               ClassName.get(RouteConfig.class),
                                                                               createRoute(route.getRoute()),
                                                                               ClassName.get(Arrays.class),
                                                                               createParaemter(route.getParameters()),
                                                                               route.getSelector(),
                                                                               route.getProvider()
-                                                                                   .getClassName()));
+                                                                                   .getClassName(),
+                                                                              route.isReusingOnParameterChange() ? ", true" : ""));
     loadRouteConfigMethodBuilder.addStatement("return list");
     typeSpec.addMethod(loadRouteConfigMethodBuilder.build());
   }
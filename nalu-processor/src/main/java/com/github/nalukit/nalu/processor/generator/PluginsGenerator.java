@@ -15,7 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
 import com.squareup.javapoet.ClassName;
@@ -70,16 +69,14 @@ public class PluginsGenerator {
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"load plugin >>$L<<\")",
                                                          pluginModel.getClassName())
-                                           .addStatement("$T.get().logSimple(sb01.toString(), 1)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logSimple(sb01.toString(), 1)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"create plugin >>$L<<\")",
                                                          pluginModel.getClassName())
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class))
-                                           .addStatement("$T $L = new $T(super.router, super.context, super.eventBus)",
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
+                                           .addStatement("$T $L = new $T(super.router, super.context, super.eventBus, super.runtime)",
                                                          ClassName.get(pluginModel.getPackage(),
                                                                        pluginModel.getSimpleName()),
                                                          pluginInstanceName,
@@ -89,71 +86,61 @@ public class PluginsGenerator {
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"plugin >>$L<< created\")",
                                                          pluginModel.getClassName())
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"call >>loadPlugin<<\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
                                            .addStatement("$L.loadPlugin(super.routerConfiguration)",
                                                          pluginInstanceName)
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"plugin >>$L<< loaded\")",
                                                          pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"call >>getShellConfigs<< and add to shellCreator config list\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
                                            .addStatement("super.shellConfiguration.getShells().addAll($L.getShellConfigs())",
                                                          pluginInstanceName)
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"called >>getShellConfigs<<\")",
                                                          pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"call >>getRouteConfigs<< and add to route config list\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
                                            .addStatement("super.routerConfiguration.getRouters().addAll($L.getRouteConfigs())",
                                                          pluginInstanceName)
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"called >>getRouteConfigs<<\")",
                                                          pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"call >>getCompositeReferences<< and add to composite controller references\")")
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
                                            .addStatement("super.compositeControllerReferences.addAll($L.getCompositeReferences())",
                                                          pluginInstanceName)
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"called >>getCompositeReferences<<\")",
                                                          pluginInstanceName)
-                                           .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                         ClassName.get(ClientLogger.class))
+                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)")
 
                                            .addStatement("sb01 = new $T()",
                                                          ClassName.get(StringBuilder.class))
                                            .addStatement("sb01.append(\"plugin >>$L<< loaded\")",
                                                          pluginModel.getClassName())
-                                           .addStatement("$T.get().logSimple(sb01.toString(), 2)",
-                                                         ClassName.get(ClientLogger.class));
+                                           .addStatement("runtime.getClientLogger().logSimple(sb01.toString(), 2)");
 
                   });
     typeSpec.addMethod(loadPluginMethodBuilder.build());
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.processor.generator;
+
+import com.github.nalukit.nalu.client.internal.route.RouteMatcher;
+import com.github.nalukit.nalu.processor.ProcessorConstants;
+import com.github.nalukit.nalu.processor.ProcessorException;
+import com.github.nalukit.nalu.processor.model.MetaModel;
+import com.github.nalukit.nalu.processor.model.intern.ControllerModel;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the route matcher of the application.
+ * <p>
+ * The generated matcher switches on the number of parts of the route and
+ * afterwards on the literal parts of the route. For each number of parts
+ * the generator builds a trie of the routes accepting that number of parts.
+ * The result of a leaf of the trie is the lowest index of the routes ending
+ * in this leaf, so the generated code returns the same route configuration
+ * as the router would find by comparing the route with each route in order
+ * of registration.
+ */
+public class RouteMatcherGenerator {
+
+  private static final String WILDCARD = "*";
+
+  private ProcessingEnvironment processingEnvironment;
+
+  private MetaModel metaModel;
+
+  @SuppressWarnings("unused")
+  private RouteMatcherGenerator() {
+    super();
+  }
+
+  private RouteMatcherGenerator(Builder builder) {
+    this.processingEnvironment = builder.processingEnvironment;
+    this.metaModel = builder.metaModel;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  void generate()
+      throws ProcessorException {
+    String className = this.metaModel.getApplication()
+                                     .getSimpleName() + ProcessorConstants.ROUTE_MATCHER_IMPL;
+    List<ControllerModel> routes = this.metaModel.getController();
+
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(className)
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.FINAL)
+                                        .addSuperinterface(ClassName.get(RouteMatcher.class));
+
+    typeSpec.addMethod(MethodSpec.methodBuilder("getNumberOfRoutes")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .returns(int.class)
+                                 .addStatement("return $L",
+                                               routes.size())
+                                 .build());
+
+    typeSpec.addMethod(MethodSpec.methodBuilder("findFirst")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .returns(int.class)
+                                 .addParameter(String[].class,
+                                               "partsOfRoute")
+                                 .addCode(this.createFindFirstCode(routes))
+                                 .build());
+
+    if (this.metaModel.isUsingColonForParametersInUrl()) {
+      typeSpec.addMethod(MethodSpec.methodBuilder("isParameter")
+                                   .addModifiers(Modifier.PRIVATE,
+                                                 Modifier.STATIC)
+                                   .returns(boolean.class)
+                                   .addParameter(String.class,
+                                                 "part")
+                                   .addStatement("return part.startsWith(\":\") || $S.equals(part)",
+                                                 RouteMatcherGenerator.WILDCARD)
+                                   .build());
+    }
+
+    JavaFile javaFile = JavaFile.builder(this.metaModel.getGenerateToPackage(),
+                                         typeSpec.build())
+                                .build();
+    try {
+      javaFile.writeTo(this.processingEnvironment.getFiler());
+    } catch (IOException e) {
+      throw new ProcessorException("Unable to write generated file: >>" +
+                                   className +
+                                   "<< -> exception: " +
+                                   e.getMessage());
+    }
+  }
+
+  private CodeBlock createFindFirstCode(List<ControllerModel> routes) {
+    String[][] segmentsOfRoutes = new String[routes.size()][];
+    int maxNumberOfSegments = 0;
+    for (int i = 0; i < routes.size(); i++) {
+      segmentsOfRoutes[i] = this.split(routes.get(i)
+                                             .getRoute());
+      maxNumberOfSegments = Math.max(maxNumberOfSegments,
+                                     segmentsOfRoutes[i].length);
+    }
+
+    CodeBlock.Builder code = CodeBlock.builder();
+    if (routes.isEmpty()) {
+      return code.addStatement("return NO_MATCH")
+                 .build();
+    }
+    code.addStatement("int index = $T.MAX_VALUE",
+                      Integer.class);
+    code.beginControlFlow("switch (partsOfRoute.length)");
+    // a route without any part matches every route
+    code.add("case 0:\n")
+        .indent()
+        .addStatement("return 0")
+        .unindent();
+    for (int numberOfParts = 1; numberOfParts <= maxNumberOfSegments; numberOfParts++) {
+      Node root = this.createTrie(segmentsOfRoutes,
+                                  numberOfParts);
+      if (root != null) {
+        code.add("case $L:\n",
+                 numberOfParts)
+            .indent();
+        this.addNode(code,
+                     root,
+                     0,
+                     numberOfParts);
+        code.addStatement("break")
+            .unindent();
+      }
+    }
+    code.add("default:\n")
+        .indent()
+        .addStatement("return NO_MATCH")
+        .unindent();
+    code.endControlFlow();
+    code.addStatement("return index == $T.MAX_VALUE ? NO_MATCH : index",
+                      Integer.class);
+    return code.build();
+  }
+
+  /* creates the trie of the routes accepting the number of parts - null in case there is none */
+  private Node createTrie(String[][] segmentsOfRoutes,
+                          int numberOfParts) {
+    Node root = null;
+    for (int index = 0; index < segmentsOfRoutes.length; index++) {
+      String[] segments = segmentsOfRoutes[index];
+      // a route can be shorter than the route configuration
+      // in case all missing parts are parameters
+      int firstTrailingWildcard = segments.length;
+      while (firstTrailingWildcard > 0 &&
+             RouteMatcherGenerator.WILDCARD.equals(segments[firstTrailingWildcard - 1])) {
+        firstTrailingWildcard--;
+      }
+      if (numberOfParts < firstTrailingWildcard ||
+          numberOfParts > segments.length) {
+        continue;
+      }
+      if (root == null) {
+        root = new Node();
+      }
+      Node node = root;
+      for (int depth = 0; depth < numberOfParts; depth++) {
+        if (RouteMatcherGenerator.WILDCARD.equals(segments[depth])) {
+          if (node.wildcard == null) {
+            node.wildcard = new Node();
+          }
+          node = node.wildcard;
+        } else {
+          node = node.children.computeIfAbsent(segments[depth],
+                                               k -> new Node());
+        }
+      }
+      node.acceptIndex = Math.min(node.acceptIndex,
+                                  index);
+    }
+    return root;
+  }
+
+  private void addNode(CodeBlock.Builder code,
+                       Node node,
+                       int depth,
+                       int numberOfParts) {
+    if (depth == numberOfParts) {
+      code.addStatement("index = $T.min(index, $L)",
+                        Math.class,
+                        node.acceptIndex);
+      return;
+    }
+    if (this.metaModel.isUsingColonForParametersInUrl()) {
+      // parameter values start with a colon and only match parameters
+      if (node.wildcard != null) {
+        code.beginControlFlow("if (isParameter(partsOfRoute[$L]))",
+                              depth);
+        this.addNode(code,
+                     node.wildcard,
+                     depth + 1,
+                     numberOfParts);
+        if (!node.children.isEmpty()) {
+          code.nextControlFlow("else");
+          this.addSwitch(code,
+                         node,
+                         depth,
+                         numberOfParts);
+        }
+        code.endControlFlow();
+      } else {
+        code.beginControlFlow("if (!isParameter(partsOfRoute[$L]))",
+                              depth);
+        this.addSwitch(code,
+                       node,
+                       depth,
+                       numberOfParts);
+        code.endControlFlow();
+      }
+    } else {
+      if (!node.children.isEmpty()) {
+        this.addSwitch(code,
+                       node,
+                       depth,
+                       numberOfParts);
+      }
+      // every value matches a parameter
+      if (node.wildcard != null) {
+        this.addNode(code,
+                     node.wildcard,
+                     depth + 1,
+                     numberOfParts);
+      }
+    }
+  }
+
+  private void addSwitch(CodeBlock.Builder code,
+                         Node node,
+                         int depth,
+                         int numberOfParts) {
+    code.beginControlFlow("switch (partsOfRoute[$L])",
+                          depth);
+    for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+      code.add("case $S:\n",
+               entry.getKey())
+          .indent();
+      this.addNode(code,
+                   entry.getValue(),
+                   depth + 1,
+                   numberOfParts);
+      code.addStatement("break")
+          .unindent();
+    }
+    code.endControlFlow();
+  }
+
+  /* splits the route the same way the router does (a leading '/' will be ignored) */
+  private String[] split(String route) {
+    String value = route.startsWith("/") ? route : "/" + route;
+    if (value.length() > 1) {
+      return value.substring(1)
+                  .split("/");
+    }
+    return new String[] { "" };
+  }
+
+  private static final class Node {
+
+    /* children of the node (key: segment) */
+    private Map<String, Node> children = new LinkedHashMap<>();
+
+    /* child for parameters */
+    private Node wildcard;
+
+    /* lowest index of a route ending at this node */
+    private int acceptIndex = Integer.MAX_VALUE;
+
+  }
+
+  public static final class Builder {
+
+    ProcessingEnvironment processingEnvironment;
+
+    MetaModel metaModel;
+
+    /**
+     * Set the meta model of the currently generated application
+     *
+     * @param metaModel meta data model of the application
+     * @return the Builder
+     */
+    public Builder metaModel(MetaModel metaModel) {
+      this.metaModel = metaModel;
+      return this;
+    }
+
+    public Builder processingEnvironment(ProcessingEnvironment processingEnvironment) {
+      this.processingEnvironment = processingEnvironment;
+      return this;
+    }
+
+    public RouteMatcherGenerator build() {
+      return new RouteMatcherGenerator(this);
+    }
+
+  }
+
+}
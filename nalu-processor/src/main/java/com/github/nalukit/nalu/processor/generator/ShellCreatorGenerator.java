@@ -17,8 +17,8 @@ package com.github.nalukit.nalu.processor.generator;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.internal.AbstractShellCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.ProcessorException;
@@ -76,7 +76,10 @@ public class ShellCreatorGenerator {
                                        .addParameter(ParameterSpec.builder(ClassName.get(SimpleEventBus.class),
                                                                            "eventBus")
                                                                   .build())
-                                       .addStatement("super(router, context, eventBus)")
+                                       .addParameter(ParameterSpec.builder(ClassName.get(NaluRuntime.class),
+                                                                           "runtime")
+                                                                  .build())
+                                       .addStatement("super(router, context, eventBus, runtime)")
                                        .build();
     typeSpec.addMethod(constructor);
     // create Method
@@ -95,8 +98,7 @@ public class ShellCreatorGenerator {
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> will be created\")",
                                                               shellModel.getShell()
                                                                         .getClassName())
-                                                .addStatement("$T.get().logSimple(sb01.toString(), 1)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logSimple(sb01.toString(), 1)")
                                                 .addStatement("$T compositeModel = new $T()",
                                                               ClassName.get(this.shellModel.getShell()
                                                                                            .getPackage(),
@@ -114,23 +116,20 @@ public class ShellCreatorGenerator {
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> created and data injected\")",
                                                               this.shellModel.getShell()
                                                                              .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
                                                 .addStatement("sb01 = new $T()",
                                                               ClassName.get(StringBuilder.class))
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> call bind()-method\")",
                                                               this.shellModel.getShell()
                                                                              .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
                                                 .addStatement("compositeModel.bind()")
                                                 .addStatement("sb01 = new $T()",
                                                               ClassName.get(StringBuilder.class))
                                                 .addStatement("sb01.append(\"compositeModel >>$L<< --> called bind()-method\")",
                                                               this.shellModel.getShell()
                                                                              .getClassName())
-                                                .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                              ClassName.get(ClientLogger.class))
+                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)")
                                                 .addStatement("shellInstance.setShell(compositeModel)")
                                                 .addStatement("return shellInstance");
 
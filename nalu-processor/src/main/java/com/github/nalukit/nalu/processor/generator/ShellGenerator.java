@@ -15,8 +15,6 @@
  */
 package com.github.nalukit.nalu.processor.generator;
 
-import com.github.nalukit.nalu.client.internal.ClientLogger;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.processor.ProcessorConstants;
 import com.github.nalukit.nalu.processor.model.MetaModel;
@@ -59,8 +57,7 @@ public class ShellGenerator {
                                                                          ClassName.get(StringBuilder.class),
                                                                          ClassName.get(StringBuilder.class))
                                                            .addStatement("sb01.append(\"load shell references\")")
-                                                           .addStatement("$T.get().logDetailed(sb01.toString(), 2)",
-                                                                         ClassName.get(ClientLogger.class));
+                                                           .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 2)");
 
     this.metaModel.getShells()
                   .forEach(shellModel -> loadShellsMethodBuilder.addStatement("super.shellConfiguration.getShells().add(new $T($S, $S))",
@@ -74,8 +71,7 @@ public class ShellGenerator {
                                                                               "/" + shellModel.getName(),
                                                                               shellModel.getShell()
                                                                                         .getClassName())
-                                                                .addStatement("$T.get().logDetailed(sb01.toString(), 3)",
-                                                                              ClassName.get(ClientLogger.class)));
+                                                                .addStatement("runtime.getClientLogger().logDetailed(sb01.toString(), 3)"));
     typeSpec.addMethod(loadShellsMethodBuilder.build());
   }
 
@@ -93,8 +89,7 @@ public class ShellGenerator {
                                                              "." +
                                                              shellModel.getShell()
                                                                        .getSimpleName())
-                                                 .addStatement("$T.get().registerShell($S, new $L(router, context, eventBus))",
-                                                               ClassName.get(ShellFactory.class),
+                                                 .addStatement("runtime.getShellFactory().registerShell($S, new $L(router, context, eventBus, runtime))",
                                                                shellModel.getShell()
                                                                          .getPackage() +
                                                                "." +
@@ -36,6 +36,8 @@ public class MetaModel {
 
   private boolean usingColonForParametersInUrl;
 
+  private boolean generatingRouteMatcher;
+
   /* this model represents the plugin interface */
   /* is the model not null, we have to deal     */
   /* with a a plugin and not with a pplication  */
@@ -63,6 +65,8 @@ public class MetaModel {
 
   private List<ClassNameModel> filters;
 
+  private List<ClassNameModel> asyncFilters;
+
   private List<ClassNameModel> handlers;
 
   private ClassNameModel componentType;
@@ -74,6 +78,7 @@ public class MetaModel {
     this.shells = new ArrayList<>();
     this.routes = new ArrayList<>();
     this.filters = new ArrayList<>();
+    this.asyncFilters = new ArrayList<>();
     this.handlers = new ArrayList<>();
     this.compositeModels = new ArrayList<>();
   }
@@ -177,6 +182,14 @@ public class MetaModel {
     this.filters = filters;
   }
 
+  public List<ClassNameModel> getAsyncFilters() {
+    return asyncFilters;
+  }
+
+  public void setAsyncFilters(List<ClassNameModel> asyncFilters) {
+    this.asyncFilters = asyncFilters;
+  }
+
   public List<ClassNameModel> getHandlers() {
     return handlers;
   }
@@ -241,6 +254,14 @@ public class MetaModel {
     this.usingColonForParametersInUrl = usingColonForParametersInUrl;
   }
 
+  public boolean isGeneratingRouteMatcher() {
+    return generatingRouteMatcher;
+  }
+
+  public void setGeneratingRouteMatcher(boolean generatingRouteMatcher) {
+    this.generatingRouteMatcher = generatingRouteMatcher;
+  }
+
   public String getShellOfStartRoute() {
     if (Objects.isNull(this.startRoute)) {
       return "";
@@ -48,6 +48,10 @@ public class ControllerModel {
 
   private boolean componentCreator;
 
+  private boolean reusingOnParameterChange;
+
+  private boolean loadingAsync;
+
   public ControllerModel(String originalRoute,
                          String route,
                          String selector,
@@ -183,6 +187,22 @@ public class ControllerModel {
     this.componentCreator = componentCreator;
   }
 
+  public boolean isReusingOnParameterChange() {
+    return reusingOnParameterChange;
+  }
+
+  public void setReusingOnParameterChange(boolean reusingOnParameterChange) {
+    this.reusingOnParameterChange = reusingOnParameterChange;
+  }
+
+  public boolean isLoadingAsync() {
+    return loadingAsync;
+  }
+
+  public void setLoadingAsync(boolean loadingAsync) {
+    this.loadingAsync = loadingAsync;
+  }
+
   public boolean match(String route) {
     if (this.matchShell(route)) {
       if (this.matchRouteWithoutShell(route)) {
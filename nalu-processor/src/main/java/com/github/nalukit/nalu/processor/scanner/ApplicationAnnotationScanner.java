@@ -76,6 +76,7 @@ public class ApplicationAnnotationScanner {
       metaModel.setRouteError(applicationAnnotation.routeError());
       metaModel.setUsingHash(applicationAnnotation.useHash());
       metaModel.setUsingColonForParametersInUrl(applicationAnnotation.useColonForParametersInUrl());
+      metaModel.setGeneratingRouteMatcher(applicationAnnotation.generateRouteMatcher());
     }
   }
 
@@ -43,6 +43,8 @@ import java.util.stream.Stream;
 
 public class ControllerAnnotationScanner {
 
+  private static final String GWT_CLASS_NAME = "com.google.gwt.core.client.GWT";
+
   private ProcessorUtils processorUtils;
 
   private ProcessingEnvironment processingEnvironment;
@@ -112,17 +114,30 @@ public class ControllerAnnotationScanner {
       throw new ProcessorException("Nalu-Processor: controller >>" + controllerElement.toString() + "<< does not have a context generic!");
     }
     // save model ...
-    return new ControllerModel(annotation.route(),
-                               getRoute(annotation.route()),
-                               annotation.selector(),
-                               getParametersFromRoute(annotation.route()),
-                               new ClassNameModel(context),
-                               new ClassNameModel(controllerElement.toString()),
-                               new ClassNameModel(componentInterfaceTypeElement.toString()),
-                               new ClassNameModel(componentTypeElement.toString()),
-                               new ClassNameModel(componentTypeTypeMirror.toString()),
-                               new ClassNameModel(controllerElement.toString()),
-                               componentController);
+    ControllerModel controllerModel = new ControllerModel(annotation.route(),
+                                                          getRoute(annotation.route()),
+                                                          annotation.selector(),
+                                                          getParametersFromRoute(annotation.route()),
+                                                          new ClassNameModel(context),
+                                                          new ClassNameModel(controllerElement.toString()),
+                                                          new ClassNameModel(componentInterfaceTypeElement.toString()),
+                                                          new ClassNameModel(componentTypeElement.toString()),
+                                                          new ClassNameModel(componentTypeTypeMirror.toString()),
+                                                          new ClassNameModel(controllerElement.toString()),
+                                                          componentController);
+    controllerModel.setReusingOnParameterChange(annotation.reuseOnParameterChange());
+    // code splitting requires GWT.runAsync
+    if (annotation.loadAsync()) {
+      if (this.processingEnvironment.getElementUtils()
+                                    .getTypeElement(ControllerAnnotationScanner.GWT_CLASS_NAME) != null) {
+        controllerModel.setLoadingAsync(true);
+      } else {
+        this.processorUtils.createWarningMessage("Nalu-Processor: controller >>" +
+                                                 controllerElement.toString() +
+                                                 "<< uses loadAsync, but GWT is not available. The controller will be loaded synchronously!");
+      }
+    }
+    return controllerModel;
   }
 
   private String getContextType(Element element)
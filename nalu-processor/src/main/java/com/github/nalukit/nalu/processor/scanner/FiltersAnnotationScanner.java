@@ -26,6 +26,7 @@ import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -53,13 +54,21 @@ public class FiltersAnnotationScanner {
 
   public List<ClassNameModel> scan(RoundEnvironment roundEnvironment)
       throws ProcessorException {
-    return this.getFiltersAsList()
+    return this.getFiltersAsList("filterClasses")
                .stream()
                .map(ClassNameModel::new)
                .collect(Collectors.toList());
   }
 
-  private List<String> getFiltersAsList() {
+  public List<ClassNameModel> scanAsyncFilters(RoundEnvironment roundEnvironment)
+      throws ProcessorException {
+    return this.getFiltersAsList("asyncFilterClasses")
+               .stream()
+               .map(ClassNameModel::new)
+               .collect(Collectors.toList());
+  }
+
+  private List<String> getFiltersAsList(String attributeName) {
     Element filterAnnotation = this.processingEnvironment.getElementUtils()
                                                          .getTypeElement(Filters.class.getName());
     TypeMirror filterAnnotationAsTypeMirror = filterAnnotation.asType();
@@ -70,6 +79,9 @@ public class FiltersAnnotationScanner {
                               .flatMap(annotationMirror -> annotationMirror.getElementValues()
                                                                            .entrySet()
                                                                            .stream())
+                              .filter(entry -> attributeName.equals(entry.getKey()
+                                                                         .getSimpleName()
+                                                                         .toString()))
                               .findFirst().<List<String>>map(entry -> Arrays.stream(entry.getValue()
                                                                                          .toString()
                                                                                          .replace("{",
@@ -79,9 +91,10 @@ public class FiltersAnnotationScanner {
                                                                                          .replace(" ",
                                                                                                   "")
                                                                                          .split(","))
+                                                                            .filter((v) -> v.contains(".class"))
                                                                             .map((v) -> v.substring(0,
                                                                                                     v.indexOf(".class")))
-                                                                            .collect(Collectors.toList())).orElse(null);
+                                                                            .collect(Collectors.toList())).orElse(new ArrayList<>());
   }
 
   public static class Builder {
@@ -47,4 +47,23 @@ public class CompositeCreatorTest {
                       .generatedSourceFile("com/github/nalukit/nalu/processor/compositeCreator/ok/CompositeCreatorImpl")
                       .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/compositeCreator/ok/CompositeCreatorImpl.java"));
   }
+
+  @Test
+  public void testCompositeCreatorOkWithParameters() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/compositeCreator/okWithParameters/Composite.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/compositeCreator/okWithParameters/ICompositeComponent.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/compositeCreator/okWithParameters/CompositeComponent.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/compositeCreator/okWithParameters/CompositeCreatorImpl")
+                      .contentsAsUtf8String()
+                      .contains("public void setParameters(");
+  }
 }
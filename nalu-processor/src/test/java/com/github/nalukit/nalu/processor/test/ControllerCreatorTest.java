@@ -137,4 +137,64 @@ public class ControllerCreatorTest {
                       .generatedSourceFile("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithTwoParameter04/ControllerC07CreatorImpl")
                       .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithTwoParameter04/ControllerC07CreatorImpl.java"));
   }
+
+  @Test
+  public void testControllerCreatorOkWithReuseOnParameterChange() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithReuseOnParameterChange/ControllerC08.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithReuseOnParameterChange/IComponent08.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithReuseOnParameterChange/Component08.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorOkWithReuseOnParameterChange/ControllerC08CreatorImpl")
+                      .contentsAsUtf8String()
+                      .contains("public void setParameters(");
+  }
+
+  @Test
+  public void testControllerCreatorLoadAsync() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/gwt/GWT.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/gwt/RunAsyncCallback.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsync/ControllerC09.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsync/IComponent09.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsync/Component09.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsync/ControllerC09CreatorImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsync/ControllerC09CreatorImpl.java"));
+  }
+
+  @Test
+  public void testControllerCreatorLoadAsyncWithoutGwt() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsyncWithoutGwt/ControllerC09.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsyncWithoutGwt/IComponent09.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsyncWithoutGwt/Component09.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .hadWarningContaining("uses loadAsync, but GWT is not available");
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/controllerCreator/controllerCreatorLoadAsyncWithoutGwt/ControllerC09CreatorImpl")
+                      .contentsAsUtf8String()
+                      .doesNotContain("createAsync");
+  }
 }
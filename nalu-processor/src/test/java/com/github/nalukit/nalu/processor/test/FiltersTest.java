@@ -43,4 +43,27 @@ public class FiltersTest {
     CompilationSubject.assertThat(compilation)
                       .hadErrorContaining("Nalu-Processor: @Filters can only be used on a type (interface)");
   }
+
+  @Test
+  public void testFiltersAnnotationOkWithAsyncFilter() {
+    Compilation compilation = javac().withProcessors(new NaluProcessor())
+                                     .compile(new ArrayList<JavaFileObject>() {
+                                       {
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/filter/filtersAnnotationOkWithAsyncFilter/FiltersAnnotationOkWithAsyncFilter.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockContext.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockFilter.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/MockAsyncFilter.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/MockShell.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Controller01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/IComponent01.java"));
+                                         add(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/common/ui/component01/Component01.java"));
+                                       }
+                                     });
+    CompilationSubject.assertThat(compilation)
+                      .succeeded();
+    CompilationSubject.assertThat(compilation)
+                      .generatedSourceFile("com/github/nalukit/nalu/processor/filter/filtersAnnotationOkWithAsyncFilter/FiltersAnnotationOkWithAsyncFilterImpl")
+                      .hasSourceEquivalentTo(JavaFileObjects.forResource("com/github/nalukit/nalu/processor/filter/filtersAnnotationOkWithAsyncFilter/FiltersAnnotationOkWithAsyncFilterImpl.java"));
+  }
+
 }
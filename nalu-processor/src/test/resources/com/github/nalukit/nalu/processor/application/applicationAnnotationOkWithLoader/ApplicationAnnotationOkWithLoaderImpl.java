@@ -1,10 +1,7 @@
 package com.github.nalukit.nalu.processor.application.applicationAnnotationOkWithLoader;
 
 import com.github.nalukit.nalu.client.application.IsApplicationLoader;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
-import com.github.nalukit.nalu.client.internal.application.ShellFactory;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.processor.common.MockContext;
@@ -26,17 +23,17 @@ public final class ApplicationAnnotationOkWithLoaderImpl extends AbstractApplica
   public void loadShells() {
     StringBuilder sb01 = new StringBuilder();
     sb01.append("load shell references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
     super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
     sb01 = new StringBuilder();
     sb01.append("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
   }
 
   @Override
   public void loadShellFactory() {
     // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
-    ShellFactory.get().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus));
+    runtime.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus, runtime));
   }
 
   @Override
@@ -46,18 +43,18 @@ public final class ApplicationAnnotationOkWithLoaderImpl extends AbstractApplica
   @Override
   public void loadComponents() {
     // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
-    ControllerFactory.get().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus));
+    runtime.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus, runtime));
   }
 
   @Override
   public void loadRoutes() {
     StringBuilder sb01 = new StringBuilder();
     sb01.append("load routes");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
     super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
     sb01 = new StringBuilder();
     sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 3);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
   }
 
   @Override
@@ -72,7 +69,7 @@ public final class ApplicationAnnotationOkWithLoaderImpl extends AbstractApplica
   public void loadCompositeReferences() {
     StringBuilder sb01 = new StringBuilder();
     sb01.append("load composite references");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
   }
 
   @Override
@@ -90,11 +87,11 @@ public final class ApplicationAnnotationOkWithLoaderImpl extends AbstractApplica
     StringBuilder sb01 = new StringBuilder();
     this.startRoute = "/mockShell/route01";
     sb01.append("found startRoute >>/mockShell/route01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
     sb01 = new StringBuilder();
     this.errorRoute = "/mockShell/route01";
     sb01.append("found errorRoute >>/mockShell/route01<<");
-    ClientLogger.get().logDetailed(sb01.toString(), 2);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
   }
 
   @Override
@@ -0,0 +1,107 @@
+package com.github.nalukit.nalu.processor.application.applicationAnnotationOkWithRouteMatcher;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import java.lang.Override;
+import java.lang.StringBuilder;
+import java.util.Arrays;
+
+public final class ApplicationAnnotationOkWithRouteMatcherImpl extends AbstractApplication<MockContext> implements ApplicationAnnotationOkWithRouteMatcher {
+  public ApplicationAnnotationOkWithRouteMatcherImpl() {
+    super();
+    super.context = new com.github.nalukit.nalu.processor.common.MockContext();
+  }
+
+  @Override
+  public void loadDebugConfiguration() {
+  }
+
+  @Override
+  public void loadShells() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load shell references");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
+    sb01 = new StringBuilder();
+    sb01.append("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
+  }
+
+  @Override
+  public void loadShellFactory() {
+    // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
+    runtime.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus, runtime));
+  }
+
+  @Override
+  public void loadCompositeController() {
+  }
+
+  @Override
+  public void loadComponents() {
+    // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
+    runtime.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus, runtime));
+  }
+
+  @Override
+  public void loadRoutes() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load routes");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+    sb01 = new StringBuilder();
+    sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
+    super.routerConfiguration.setRouteMatcher(new ApplicationAnnotationOkWithRouteMatcherRouteMatcherImpl());
+  }
+
+  @Override
+  public void loadFilters() {
+  }
+
+  @Override
+  public void loadHandlers() {
+  }
+
+  @Override
+  public void loadCompositeReferences() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load composite references");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+  }
+
+  @Override
+  public void loadPlugins() {
+    StringBuilder sb01 = new StringBuilder();
+  }
+
+  @Override
+  public IsApplicationLoader<MockContext> getApplicationLoader() {
+    return null;
+  }
+
+  @Override
+  public void loadDefaultRoutes() {
+    StringBuilder sb01 = new StringBuilder();
+    this.startRoute = "/mockShell/route01";
+    sb01.append("found startRoute >>/mockShell/route01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    sb01 = new StringBuilder();
+    this.errorRoute = "/mockShell/route01";
+    sb01.append("found errorRoute >>/mockShell/route01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+  }
+
+  @Override
+  public boolean isUsingHash() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingColonForParametersInUrl() {
+    return false;
+  }
+}
@@ -0,0 +1,48 @@
+package com.github.nalukit.nalu.processor.application.applicationAnnotationOkWithRouteMatcher;
+
+import com.github.nalukit.nalu.client.internal.route.RouteMatcher;
+import java.lang.Integer;
+import java.lang.Math;
+import java.lang.Override;
+import java.lang.String;
+
+public final class ApplicationAnnotationOkWithRouteMatcherRouteMatcherImpl implements RouteMatcher {
+  @Override
+  public int getNumberOfRoutes() {
+    return 1;
+  }
+
+  @Override
+  public int findFirst(String[] partsOfRoute) {
+    int index = Integer.MAX_VALUE;
+    switch (partsOfRoute.length) {
+      case 0:
+        return 0;
+      case 2:
+        switch (partsOfRoute[0]) {
+          case "mockShell":
+            switch (partsOfRoute[1]) {
+              case "route01":
+                index = Math.min(index, 0);
+                break;
+            }
+            break;
+        }
+        break;
+      case 3:
+        switch (partsOfRoute[0]) {
+          case "mockShell":
+            switch (partsOfRoute[1]) {
+              case "route01":
+                index = Math.min(index, 0);
+                break;
+            }
+            break;
+        }
+        break;
+      default:
+        return NO_MATCH;
+    }
+    return index == Integer.MAX_VALUE ? NO_MATCH : index;
+  }
+}
@@ -19,51 +19,51 @@ package com.github.nalukit.nalu.processor.compositeCreator.ok;
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.CompositeInstance;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.processor.common.MockContext;
 import java.lang.String;
 import java.lang.StringBuilder;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public final class CompositeCreatorImpl extends AbstractCompositeCreator<MockContext> implements IsCompositeCreator {
-  public CompositeCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
-    super(router, context, eventBus);
+  public CompositeCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus, NaluRuntime runtime) {
+    super(router, context, eventBus, runtime);
   }
 
   public CompositeInstance create(String... parms) throws RoutingInterceptionException {
     StringBuilder sb01 = new StringBuilder();
     sb01.append("compositeModel >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> will be created");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 4);
     Composite compositeModel = new Composite();
     compositeModel.setContext(context);
     compositeModel.setEventBus(eventBus);
     compositeModel.setRouter(router);
     sb01 = new StringBuilder();
     sb01.append("compositeModel >>com.github.nalukit.nalu.processor.compositeCreator.ok.Composite<< --> created and data injected");
-    ClientLogger.get().logDetailed(sb01.toString(), 5);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 5);
     ICompositeComponent component = new CompositeComponent();
     sb01 = new StringBuilder();
     sb01.append("component >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< --> created using new");
-    ClientLogger.get().logDetailed(sb01.toString(), 4);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 4);
     component.setController(compositeModel);
     sb01 = new StringBuilder();
     sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-    ClientLogger.get().logDetailed(sb01.toString(), 5);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 5);
     compositeModel.setComponent(component);
     sb01 = new StringBuilder();
     sb01.append("compositeModel >>").append(compositeModel.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-    ClientLogger.get().logDetailed(sb01.toString(), 5);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 5);
     component.render();
     sb01 = new StringBuilder();
     sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-    ClientLogger.get().logDetailed(sb01.toString(), 5);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 5);
     component.bind();
     sb01 = new StringBuilder();
     sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-    ClientLogger.get().logDetailed(sb01.toString(), 5);
-    ClientLogger.get().logSimple("compositeModel >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< created", 4);
+    runtime.getClientLogger().logDetailed(sb01.toString(), 5);
+    runtime.getClientLogger().logSimple("compositeModel >>com.github.nalukit.nalu.processor.compositeCreator.ok.CompositeComponent<< created", 4);
     CompositeInstance compositeInstance = new CompositeInstance();
     compositeInstance.setCompositeClassName(compositeModel.getClass().getCanonicalName());
     compositeInstance.setComposite(compositeModel);
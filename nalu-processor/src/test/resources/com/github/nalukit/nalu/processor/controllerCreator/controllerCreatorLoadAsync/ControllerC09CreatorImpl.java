@@ -0,0 +1,129 @@
+package com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync;
+
+import com.github.nalukit.nalu.client.Router;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+import java.lang.IllegalStateException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.lang.Throwable;
+import org.gwtproject.event.shared.SimpleEventBus;
+
+public final class ControllerC09CreatorImpl extends AbstractControllerCreator<MockContext> implements IsControllerCreator {
+  public ControllerC09CreatorImpl(Router router, MockContext context, SimpleEventBus eventBus, NaluRuntime runtime) {
+    super(router, context, eventBus, runtime);
+  }
+
+  private ControllerInstance createController(String... parms) throws RoutingInterceptionException {
+    StringBuilder sb01 = new StringBuilder();
+    ControllerInstance controllerInstance = new ControllerInstance();
+    controllerInstance.setControllerClassName("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09");
+    AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09");
+    if (storedController == null) {
+      sb01.append("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09<< --> will be created");
+      runtime.getClientLogger().logSimple(sb01.toString(), 3);
+      ControllerC09 controller = new ControllerC09();
+      controllerInstance.setController(controller);
+      controllerInstance.setChached(false);
+      controller.setContext(context);
+      controller.setEventBus(eventBus);
+      controller.setRouter(router);
+      controller.setCached(false);
+      sb01 = new StringBuilder();
+      sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      IComponent09 component = new Component09();
+      sb01 = new StringBuilder();
+      sb01.append("component >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.Component09<< --> created using new");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      component.setController(controller);
+      sb01 = new StringBuilder();
+      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      controller.setComponent(component);
+      sb01 = new StringBuilder();
+      sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      component.render();
+      sb01 = new StringBuilder();
+      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      component.bind();
+      sb01 = new StringBuilder();
+      sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      runtime.getClientLogger().logSimple("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.Component09<< created for route >>/mockShell/route01/*/*<<", 3);
+      if (parms != null) {
+        if (parms.length >= 1) {
+          sb01 = new StringBuilder();
+          sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setParameter01<< to set value >>").append(parms[0]).append("<<");
+          runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+          controller.setParameter01(parms[0]);
+        }
+        if (parms.length >= 2) {
+          sb01 = new StringBuilder();
+          sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setParameter02<< to set value >>").append(parms[1]).append("<<");
+          runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+          controller.setParameter02(parms[1]);
+        }
+      }
+    } else {
+      sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
+      runtime.getClientLogger().logDetailed(sb01.toString(), 4);
+      controllerInstance.setController(storedController);
+      controllerInstance.setChached(true);
+      controllerInstance.getController().setCached(true);
+    }
+    return controllerInstance;
+  }
+
+  public ControllerInstance create(String... parms) throws RoutingInterceptionException {
+    throw new IllegalStateException("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09<< is loaded asynchronously, use createAsync!");
+  }
+
+  @Override
+  public void createAsync(final IsControllerCreator.Callback callback, final String... parms) {
+    AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09");
+    if (storedController != null) {
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName("com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09");
+      controllerInstance.setController(storedController);
+      controllerInstance.setChached(true);
+      controllerInstance.getController().setCached(true);
+      runtime.getClientLogger().logDetailed("controller >>com.github.nalukit.nalu.processor.controllerCreator.controllerCreatorLoadAsync.ControllerC09<< --> found in cache -> REUSE!", 4);
+      callback.onCreate(controllerInstance);
+      return;
+    }
+    GWT.runAsync(ControllerC09.class, new RunAsyncCallback() {
+      @Override
+      public void onFailure(Throwable reason) {
+        callback.onFailure(reason);
+      }
+
+      @Override
+      public void onSuccess() {
+        ControllerInstance controllerInstance;
+        try {
+          controllerInstance = createController(parms);
+        } catch (RoutingInterceptionException e) {
+          callback.onRoutingInterception(e);
+          return;
+        }
+        callback.onCreate(controllerInstance);
+      }
+    });
+  }
+
+  @Override
+  public boolean isLoadingAsync() {
+    return true;
+  }
+}
@@ -0,0 +1,116 @@
+package com.github.nalukit.nalu.processor.filter.filtersAnnotationOkWithAsyncFilter;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.processor.common.MockAsyncFilter;
+import com.github.nalukit.nalu.processor.common.MockContext;
+import com.github.nalukit.nalu.processor.common.MockFilter;
+import java.lang.Override;
+import java.lang.StringBuilder;
+import java.util.Arrays;
+
+public final class FiltersAnnotationOkWithAsyncFilterImpl extends AbstractApplication<MockContext> implements FiltersAnnotationOkWithAsyncFilter {
+  public FiltersAnnotationOkWithAsyncFilterImpl() {
+    super();
+    super.context = new com.github.nalukit.nalu.processor.common.MockContext();
+  }
+
+  @Override
+  public void loadDebugConfiguration() {
+  }
+
+  @Override
+  public void loadShells() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load shell references");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    super.shellConfiguration.getShells().add(new ShellConfig("/mockShell", "com.github.nalukit.nalu.processor.common.MockShell"));
+    sb01 = new StringBuilder();
+    sb01.append("register shell >>/mockShell<< with class >>com.github.nalukit.nalu.processor.common.MockShell<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
+  }
+
+  @Override
+  public void loadShellFactory() {
+    // create ShellCreator for: com.github.nalukit.nalu.processor.common.MockShell
+    runtime.getShellFactory().registerShell("com.github.nalukit.nalu.processor.common.MockShell", new com.github.nalukit.nalu.processor.common.MockShellCreatorImpl(router, context, eventBus, runtime));
+  }
+
+  @Override
+  public void loadCompositeController() {
+  }
+
+  @Override
+  public void loadComponents() {
+    // create ControllerCreator for: com.github.nalukit.nalu.processor.common.ui.component01.Controller01
+    runtime.getControllerFactory().registerController("com.github.nalukit.nalu.processor.common.ui.component01.Controller01", new com.github.nalukit.nalu.processor.common.ui.component01.Controller01CreatorImpl(router, context, eventBus, runtime));
+  }
+
+  @Override
+  public void loadRoutes() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load routes");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    super.routerConfiguration.getRouters().add(new RouteConfig("/mockShell/route01/*", Arrays.asList(new String[]{"parameter01"}), "selector01", "com.github.nalukit.nalu.processor.common.ui.component01.Controller01"));
+    sb01 = new StringBuilder();
+    sb01.append("register route >>/mockShell/route01/*<< with parameter >>parameter01<< for selector >>selector01<< for controller >>com.github.nalukit.nalu.processor.common.ui.component01.Controller01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 3);
+  }
+
+  @Override
+  public void loadFilters() {
+    MockFilter com_github_nalukit_nalu_processor_common_MockFilter = new MockFilter();
+    com_github_nalukit_nalu_processor_common_MockFilter.setContext(super.context);
+    super.routerConfiguration.getFilters().add(com_github_nalukit_nalu_processor_common_MockFilter);
+    runtime.getClientLogger().logDetailed("AbstractApplication: filter >> com_github_nalukit_nalu_processor_common_MockFilter << created", 0);
+    MockAsyncFilter com_github_nalukit_nalu_processor_common_MockAsyncFilter = new MockAsyncFilter();
+    com_github_nalukit_nalu_processor_common_MockAsyncFilter.setContext(super.context);
+    super.routerConfiguration.getAsyncFilters().add(com_github_nalukit_nalu_processor_common_MockAsyncFilter);
+    runtime.getClientLogger().logDetailed("AbstractApplication: async filter >> com_github_nalukit_nalu_processor_common_MockAsyncFilter << created", 0);
+  }
+
+  @Override
+  public void loadHandlers() {
+  }
+
+  @Override
+  public void loadCompositeReferences() {
+    StringBuilder sb01 = new StringBuilder();
+    sb01.append("load composite references");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+  }
+
+  @Override
+  public void loadPlugins() {
+    StringBuilder sb01 = new StringBuilder();
+  }
+
+  @Override
+  public IsApplicationLoader<MockContext> getApplicationLoader() {
+    return null;
+  }
+
+  @Override
+  public void loadDefaultRoutes() {
+    StringBuilder sb01 = new StringBuilder();
+    this.startRoute = "/mockShell/route01";
+    sb01.append("found startRoute >>/mockShell/route01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+    sb01 = new StringBuilder();
+    this.errorRoute = "/mockShell/route01";
+    sb01.append("found errorRoute >>/mockShell/route01<<");
+    runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+  }
+
+  @Override
+  public boolean isUsingHash() {
+    return true;
+  }
+
+  @Override
+  public boolean isUsingColonForParametersInUrl() {
+    return false;
+  }
+}
@@ -2,15 +2,15 @@ package com.github.nalukit.nalu.processor.common;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.internal.AbstractShellCreator;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.client.internal.application.ShellInstance;
 import java.lang.StringBuilder;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public final class MockShellCreatorImpl extends AbstractShellCreator<MockContext> implements IsShellCreator {
-    public MockShellCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus) {
-        super(router, context, eventBus);
+    public MockShellCreatorImpl(Router router, MockContext context, SimpleEventBus eventBus, NaluRuntime runtime) {
+        super(router, context, eventBus, runtime);
     }
 
     public ShellInstance create() {
@@ -18,21 +18,21 @@ public final class MockShellCreatorImpl extends AbstractShellCreator<MockContext
         ShellInstance shellInstance = new ShellInstance();
         shellInstance.setShellClassName("com.github.nalukit.nalu.processor.common.MockShell");
         sb01.append("compositeModel >>com.github.nalukit.nalu.processor.common.MockShell<< --> will be created");
-        ClientLogger.get().logSimple(sb01.toString(), 1);
+        runtime.getClientLogger().logSimple(sb01.toString(), 1);
         MockShell compositeModel = new MockShell();
         compositeModel.setContext(context);
         compositeModel.setEventBus(eventBus);
         compositeModel.setRouter(router);
         sb01 = new StringBuilder();
         sb01.append("compositeModel >>com.github.nalukit.nalu.processor.common.MockShell<< --> created and data injected");
-        ClientLogger.get().logDetailed(sb01.toString(), 2);
+        runtime.getClientLogger().logDetailed(sb01.toString(), 2);
         sb01 = new StringBuilder();
         sb01.append("compositeModel >>com.github.nalukit.nalu.processor.common.MockShell<< --> call bind()-method");
-        ClientLogger.get().logDetailed(sb01.toString(), 2);
+        runtime.getClientLogger().logDetailed(sb01.toString(), 2);
         compositeModel.bind();
         sb01 = new StringBuilder();
         sb01.append("compositeModel >>com.github.nalukit.nalu.processor.common.MockShell<< --> called bind()-method");
-        ClientLogger.get().logDetailed(sb01.toString(), 2);
+        runtime.getClientLogger().logDetailed(sb01.toString(), 2);
         shellInstance.setShell(compositeModel);
         return shellInstance;
     }
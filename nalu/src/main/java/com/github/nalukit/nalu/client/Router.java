@@ -16,7 +16,14 @@
 
 package com.github.nalukit.nalu.client;
 
+import com.github.nalukit.nalu.client.cache.IsCacheStatistics;
+import com.github.nalukit.nalu.client.cache.IsCompositeCache;
+import com.github.nalukit.nalu.client.cache.IsControllerCache;
+import com.github.nalukit.nalu.client.cache.IsControllerPrefetcher;
+import com.github.nalukit.nalu.client.cache.IsRouteResolutionCache;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.internal.route.RouterException;
 import com.github.nalukit.nalu.client.model.NaluErrorMessage;
 
@@ -82,6 +89,76 @@ public interface Router {
    */
   <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller);
 
+  /**
+   * Marks the composite as cached. In case the controller of the composite is stopped,
+   * the composite is deactivated instead of stopped and will be reused by the next
+   * controller using the composite.
+   *
+   * @param composite composite to store
+   * @param <C>       composite type
+   */
+  <C extends AbstractCompositeController<?, ?, ?>> void storeCompositeInCache(C composite);
+
+  /**
+   * Removes a composite from the cache. In case the composite is not used by
+   * a controller, it will be stopped.
+   *
+   * @param composite composite to be removed
+   * @param <C>       composite type
+   */
+  <C extends AbstractCompositeController<?, ?, ?>> void removeCompositeFromCache(C composite);
+
+  /**
+   * Stops all composites, that are not used by a controller, and removes them from the cache.
+   */
+  void clearCompositeCache();
+
+  /**
+   * Stores the instance of the shell in the cache, so that it is reattached instead
+   * of re-created the next time the shell is used. The controllers of the shell-level
+   * routes are reused as well.
+   *
+   * @param shell shell to store
+   */
+  void storeShellInCache(IsShell shell);
+
+  /**
+   * Removes a shell from the cache. The controllers of the shell-level routes are
+   * removed from the cache as well.
+   *
+   * @param shell shell to be removed
+   */
+  void removeShellFromCache(IsShell shell);
+
+  /**
+   * Removes all shells from the cache.
+   */
+  void clearShellCache();
+
+  /**
+   * Sets the max number of redirects of a navigation (default: 16). In case
+   * the max number of redirects is reached, Nalu will stop routing and use
+   * the error route.
+   *
+   * @param maxRedirectDepth max number of redirects of a navigation
+   */
+  void setMaxRedirectDepth(int maxRedirectDepth);
+
+  /**
+   * Sets the time (in milliseconds) a positive decision of an async filter
+   * is reused for the same route and parameters. 0 (default) disables the
+   * caching of decisions.
+   *
+   * @param decisionCacheWindow time in milliseconds a decision is reused
+   */
+  void setAsyncFilterDecisionCacheWindow(long decisionCacheWindow);
+
+  /**
+   * Removes all cached decisions of the async filters. Should be called
+   * in case the state a filter depends on changes (f.e.: the user logs out).
+   */
+  void clearAsyncFilterDecisions();
+
   /**
    * Get a map of parameters contained in the url at application start
    *
@@ -89,4 +166,44 @@ public interface Router {
    */
   Map<String, String> getStartQueryParameters();
 
+  /**
+   * Returns the cache of resolved routes. Use the hit and miss
+   * counters to size the cache.
+   *
+   * @return the route resolution cache
+   */
+  IsRouteResolutionCache getRouteResolutionCache();
+
+  /**
+   * Returns the cache of controllers stored with storeInCache. Use it to
+   * set the size and the eviction policy and to read the statistics.
+   *
+   * @return the controller cache
+   */
+  IsControllerCache getControllerCache();
+
+  /**
+   * Returns the statistics of the cache of shells stored with storeShellInCache.
+   *
+   * @return the statistics of the shell cache
+   */
+  IsCacheStatistics getShellCache();
+
+  /**
+   * Returns the cache of composites stored with storeCompositeInCache. Use it to
+   * set the size and to read the statistics.
+   *
+   * @return the composite cache
+   */
+  IsCompositeCache getCompositeCache();
+
+  /**
+   * Returns the prefetcher, which creates the controllers of the most likely
+   * next routes while the browser is idle. Use it to enable the prefetching
+   * and to read the statistics.
+   *
+   * @return the controller prefetcher
+   */
+  IsControllerPrefetcher getControllerPrefetcher();
+
 }
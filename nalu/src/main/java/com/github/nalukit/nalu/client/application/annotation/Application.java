@@ -36,6 +36,8 @@ import java.lang.annotation.RetentionPolicy;
  * <li>routeError: in case an error occurs, Nalu will use this route toi display the error</li>
  * <li>useHash: if useHash is true, use a hash based url, otherwise a non hash based url</li>
  * <li>useColonForParametersInUrl: if useColonForParametersInUrl is true, Nalu expects parameters with a leading colon in urls</li>
+ * <li>generateRouteMatcher: if generateRouteMatcher is true, the processor generates the code to match routes
+ * instead of matching the routes at runtime</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -55,4 +57,6 @@ public @interface Application {
 
   boolean useColonForParametersInUrl() default false;
 
+  boolean generateRouteMatcher() default false;
+
 }
@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.application.annotation;
 
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 
 import java.lang.annotation.Retention;
@@ -30,6 +31,8 @@ import java.lang.annotation.RetentionPolicy;
  * The annotation has the following attributes:
  * <ul>
  * <li>filterClasses: classes of the filter to use.</li>
+ * <li>asyncFilterClasses: classes of the async filter to use. Async filters are executed
+ * after the filters.</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -37,6 +40,8 @@ import java.lang.annotation.RetentionPolicy;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Filters {
 
-  Class<? extends IsFilter>[] filterClasses();
+  Class<? extends IsFilter>[] filterClasses() default {};
+
+  Class<? extends IsAsyncFilter>[] asyncFilterClasses() default {};
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Statistics of a cache used by Nalu.
+ * <p>
+ * The number of hits and misses can be used to size the cache.
+ */
+public interface IsCacheStatistics {
+
+  /**
+   * Resets the statistics of the cache.
+   */
+  void resetStatistics();
+
+  /**
+   * Number of lookups answered by the cache.
+   *
+   * @return number of cache hits
+   */
+  long getHits();
+
+  /**
+   * Number of lookups, that were not answered by the cache.
+   *
+   * @return number of cache misses
+   */
+  long getMisses();
+
+  /**
+   * Number of currently cached entries.
+   *
+   * @return number of cached entries
+   */
+  int getSize();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Pool of deactivated composites stored with
+ * <code>router.storeCompositeInCache(composite)</code>.
+ * <p>
+ * In case the pool of a composite is full, the oldest composite is evicted.
+ */
+public interface IsCompositeCache
+    extends IsCacheStatistics {
+
+  /**
+   * Number of evicted composites.
+   *
+   * @return number of evictions
+   */
+  long getEvictions();
+
+  /**
+   * Max number of pooled instances of a composite.
+   *
+   * @return max number of pooled instances of a composite
+   */
+  int getMaxSizePerComposite();
+
+  /**
+   * Sets the max number of pooled instances of a composite. In case a
+   * pool contains more instances, the oldest instances are evicted. A value
+   * of 0 disables the pooling.
+   *
+   * @param maxSizePerComposite max number of pooled instances of a composite
+   */
+  void setMaxSizePerComposite(int maxSizePerComposite);
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Cache of controllers stored with <code>router.storeInCache(controller)</code>.
+ * <p>
+ * In case the cache is full, an entry is evicted depending on the eviction policy.
+ */
+public interface IsControllerCache
+    extends IsCacheStatistics {
+
+  /**
+   * Number of evicted controllers.
+   *
+   * @return number of evictions
+   */
+  long getEvictions();
+
+  /**
+   * Creation time saved by cache hits. The time is measured once, when the
+   * controller and its component are created.
+   *
+   * @return saved creation time in milliseconds
+   */
+  long getSavedCreationTime();
+
+  /**
+   * Max number of cached controllers.
+   *
+   * @return max number of cached controllers
+   */
+  int getMaxSize();
+
+  /**
+   * Sets the max number of cached controllers. In case there are more
+   * controllers cached, they will be evicted. A value of 0 disables the cache.
+   *
+   * @param maxSize max number of cached controllers
+   */
+  void setMaxSize(int maxSize);
+
+  /**
+   * The eviction policy of the cache.
+   *
+   * @return eviction policy
+   */
+  EvictionPolicy getEvictionPolicy();
+
+  /**
+   * Sets the eviction policy of the cache (default: LRU).
+   *
+   * @param evictionPolicy eviction policy
+   */
+  void setEvictionPolicy(EvictionPolicy evictionPolicy);
+
+  /**
+   * Time to live of a cached controller in milliseconds (TTL only).
+   *
+   * @return time to live in milliseconds
+   */
+  long getTimeToLive();
+
+  /**
+   * Sets the time to live of a cached controller in milliseconds. The value
+   * is only used by the TTL eviction policy.
+   *
+   * @param timeToLive time to live in milliseconds
+   */
+  void setTimeToLive(long timeToLive);
+
+  /**
+   * Eviction policies of the controller cache.
+   */
+  enum EvictionPolicy {
+    /* evicts the least recently used controller */
+    LRU,
+    /* evicts the least frequently used controller */
+    LFU,
+    /* evicts expired controllers and the oldest controller */
+    TTL
+  }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Prefetcher of the controllers of the most likely next routes.
+ * <p>
+ * The prefetching is disabled by default (max number of prefetched controllers: 0).
+ */
+public interface IsControllerPrefetcher {
+
+  /**
+   * Discards all prefetched controllers. The observed transitions are kept.
+   */
+  void clear();
+
+  /**
+   * Resets the statistics.
+   */
+  void resetStatistics();
+
+  /**
+   * Number of prefetched controllers.
+   *
+   * @return number of prefetches
+   */
+  long getPrefetches();
+
+  /**
+   * Number of prefetched controllers, that were adopted by a routing.
+   *
+   * @return number of adoptions
+   */
+  long getAdoptions();
+
+  /**
+   * Number of prefetched controllers, that were discarded without being used.
+   *
+   * @return number of discards
+   */
+  long getDiscards();
+
+  /**
+   * Number of currently prefetched controllers.
+   *
+   * @return number of prefetched controllers
+   */
+  int getSize();
+
+  /**
+   * Max number of prefetched controllers.
+   *
+   * @return max number of prefetched controllers
+   */
+  int getMaxPrefetchedControllers();
+
+  /**
+   * Sets the max number of prefetched controllers. A value of 0 disables
+   * the prefetching and removes the observed transitions.
+   *
+   * @param maxPrefetchedControllers max number of prefetched controllers
+   */
+  void setMaxPrefetchedControllers(int maxPrefetchedControllers);
+
+  /**
+   * Number of likely next hashes, whose controllers are prefetched.
+   *
+   * @return number of likely next hashes
+   */
+  int getNumberOfTargets();
+
+  /**
+   * Sets the number of likely next hashes, whose controllers are prefetched
+   * after a routing.
+   *
+   * @param numberOfTargets number of likely next hashes
+   */
+  void setNumberOfTargets(int numberOfTargets);
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.cache;
+
+/**
+ * Cache of resolved routes (key: normalized hash).
+ * <p>
+ * The least recently used resolution is removed in case the cache is full.
+ */
+public interface IsRouteResolutionCache
+    extends IsCacheStatistics {
+
+  /**
+   * Removes all cached resolutions. The statistics will not be reset.
+   */
+  void clear();
+
+  /**
+   * Max number of cached resolutions.
+   *
+   * @return max number of cached resolutions
+   */
+  int getMaxSize();
+
+  /**
+   * Sets the max number of cached resolutions. A value of 0 disables the cache.
+   *
+   * @param maxSize max number of cached resolutions
+   */
+  void setMaxSize(int maxSize);
+
+}
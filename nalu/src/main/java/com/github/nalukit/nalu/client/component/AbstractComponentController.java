@@ -110,6 +110,7 @@ public abstract class AbstractComponentController<C extends IsContext, V extends
   public void removeHandlers() {
     this.handlerRegistrations.removeHandler();
     this.handlerRegistrations = new HandlerRegistrations();
+    this.removeScopedHandlers();
   }
 
   /**
@@ -134,6 +135,19 @@ public abstract class AbstractComponentController<C extends IsContext, V extends
   public void deactivate() {
   }
 
+  /**
+   * The onParametersChanged-method will be called instead of the
+   * stop- and start-method in case the controller uses
+   * <code>reuseOnParameterChange = true</code> and only the parameters
+   * of the route have changed. The methods annotated with AcceptParameter
+   * are called with the new values before this method is called.
+   * <p>
+   * If you have to update the component with the new parameter values,
+   * that's the right place.
+   */
+  public void onParametersChanged() {
+  }
+
   /**
    * The stop-method will be called at the start of the controller's life cycle.
    * <p>
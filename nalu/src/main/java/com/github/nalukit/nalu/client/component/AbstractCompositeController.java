@@ -28,6 +28,9 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
 
   protected HandlerRegistrations handlerRegistrations = new HandlerRegistrations();
 
+  /* flag, if the composite is cached or not */
+  private boolean cached;
+
   public AbstractCompositeController() {
     super();
   }
@@ -57,6 +60,7 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
   public void removeHandlers() {
     this.handlerRegistrations.removeHandler();
     this.handlerRegistrations = new HandlerRegistrations();
+    this.removeScopedHandlers();
   }
 
   @Override
@@ -106,6 +110,25 @@ public abstract class AbstractCompositeController<C extends IsContext, V extends
   public void stop() {
   }
 
+  /**
+   * Indicates, if the composite is newly created or not
+   *
+   * @return true: the composite is reused, false: the composite is newly created
+   */
+  public boolean isCached() {
+    return cached;
+  }
+
+  /**
+   * Sets the value, if the composite is newly created or cached!
+   * <b>This field is used by Nalu! Setting the value can lead to unexpected behavior!</b>
+   *
+   * @param cached true: the composite is reused, false: the composite is newly created
+   */
+  public void setCached(boolean cached) {
+    this.cached = cached;
+  }
+
   /**
    * Get the component
    *
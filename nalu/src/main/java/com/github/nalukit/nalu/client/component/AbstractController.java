@@ -18,6 +18,8 @@ package com.github.nalukit.nalu.client.component;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+import org.gwtproject.event.shared.ScopedEventBus;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public abstract class AbstractController<C extends IsContext> {
@@ -28,6 +30,9 @@ public abstract class AbstractController<C extends IsContext> {
 
   protected SimpleEventBus eventBus;
 
+  /* handlers added to this bus are removed, once the controller is stopped */
+  protected ScopedEventBus scopedEventBus;
+
   public AbstractController() {
     super();
   }
@@ -42,6 +47,61 @@ public abstract class AbstractController<C extends IsContext> {
 
   public void setEventBus(SimpleEventBus eventBus) {
     this.eventBus = eventBus;
+    this.scopedEventBus = new ScopedEventBus(eventBus);
+  }
+
+  /**
+   * Returns the event bus bound to the life cycle of the controller.
+   * Handlers added to it are not called while a cached controller is
+   * deactivated and are removed once the controller is stopped. There
+   * is no need to add their registrations to the handlerRegistrations.
+   *
+   * @return the scoped event bus
+   */
+  public ScopedEventBus getScopedEventBus() {
+    return scopedEventBus;
+  }
+
+  /**
+   * Suspends the handlers of the scoped event bus.
+   * <p>
+   * The method is used by the framework!
+   * <p>
+   * <b>DO NOT CALL THIS METHOD! THIS WILL LEAD TO UNEXPECTED BEHAVIOR!</b>
+   */
+  @NaluInternalUse
+  public final void suspendScopedHandlers() {
+    if (this.scopedEventBus != null) {
+      this.scopedEventBus.suspend();
+    }
+  }
+
+  /**
+   * Resumes the handlers of the scoped event bus.
+   * <p>
+   * The method is used by the framework!
+   * <p>
+   * <b>DO NOT CALL THIS METHOD! THIS WILL LEAD TO UNEXPECTED BEHAVIOR!</b>
+   */
+  @NaluInternalUse
+  public final void resumeScopedHandlers() {
+    if (this.scopedEventBus != null) {
+      this.scopedEventBus.resume();
+    }
+  }
+
+  /**
+   * Removes the handlers of the scoped event bus.
+   * <p>
+   * The method is used by the framework!
+   * <p>
+   * <b>DO NOT CALL THIS METHOD! THIS WILL LEAD TO UNEXPECTED BEHAVIOR!</b>
+   */
+  @NaluInternalUse
+  protected final void removeScopedHandlers() {
+    if (this.scopedEventBus != null) {
+      this.scopedEventBus.removeHandlers();
+    }
   }
 
 }
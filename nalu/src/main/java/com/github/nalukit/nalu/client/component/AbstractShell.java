@@ -19,6 +19,7 @@ package com.github.nalukit.nalu.client.component;
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.application.IsContext;
 import com.github.nalukit.nalu.client.internal.HandlerRegistrations;
+import org.gwtproject.event.shared.ScopedEventBus;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 public abstract class AbstractShell<C extends IsContext>
@@ -30,6 +31,9 @@ public abstract class AbstractShell<C extends IsContext>
 
   protected SimpleEventBus eventBus;
 
+  /* handlers added to this bus are removed, once the shell is removed */
+  protected ScopedEventBus scopedEventBus;
+
   protected HandlerRegistrations handlerRegistrations = new HandlerRegistrations();
 
   public AbstractShell() {
@@ -45,6 +49,17 @@ public abstract class AbstractShell<C extends IsContext>
 
   public void setEventBus(SimpleEventBus eventBus) {
     this.eventBus = eventBus;
+    this.scopedEventBus = new ScopedEventBus(eventBus);
+  }
+
+  /**
+   * Returns the event bus bound to the life cycle of the shell. Handlers
+   * added to it are removed, once the handlers of the shell are removed.
+   *
+   * @return the scoped event bus
+   */
+  public ScopedEventBus getScopedEventBus() {
+    return scopedEventBus;
   }
 
   public void bind() {
@@ -61,6 +76,9 @@ public abstract class AbstractShell<C extends IsContext>
   public void removeHandlers() {
     this.handlerRegistrations.removeHandler();
     this.handlerRegistrations = new HandlerRegistrations();
+    if (this.scopedEventBus != null) {
+      this.scopedEventBus.removeHandlers();
+    }
   }
 
   @Override
@@ -30,6 +30,13 @@ import java.lang.annotation.Target;
  * The annotation has the following attributes:
  * <ul>
  * <li>route: name of the route which will display the controller in case of calling</li>
+ * <li>reuseOnParameterChange: in case the route stays the same and only the parameters change, Nalu
+ * will keep the controller, call the methods annotated with AcceptParameter with the new
+ * values and call onParametersChanged() instead of stopping and re-creating the controller
+ * (default: false)</li>
+ * <li>loadAsync: the controller and its component are moved into a split point and loaded once the
+ * controller is needed the first time. Code splitting requires GWT (GWT.runAsync). In case GWT is not
+ * available, the attribute is ignored and the controller is loaded synchronously (default: false)</li>
  * </ul>
  *
  * @author Frank Hossfeld
@@ -46,4 +53,8 @@ public @interface Controller {
 
   Class<? extends AbstractComponent<?, ?>> component();
 
+  boolean reuseOnParameterChange() default false;
+
+  boolean loadAsync() default false;
+
 }
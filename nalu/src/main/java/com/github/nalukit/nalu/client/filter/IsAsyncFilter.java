@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.filter;
+
+/**
+ * Filter that decides asynchronously, if a route can be used
+ * (for example: a filter that needs to validate a token on the server).
+ * <p>
+ * Once the filter has made its decision, it has to call
+ * <code>proceed()</code> or <code>redirect()</code> of the callback.
+ * In case the filter redirects, Nalu will route to <code>redirectTo()</code>
+ * using <code>parameters()</code>.
+ * <p>
+ * All async filters of a routing are started at the same time. In case a
+ * new routing starts before all filters have decided, the callbacks of the
+ * old routing are ignored.
+ */
+public interface IsAsyncFilter {
+
+  void filter(String route,
+              String[] parms,
+              Callback callback);
+
+  String redirectTo();
+
+  String[] parameters();
+
+  interface Callback {
+
+    /**
+     * The route can be used.
+     */
+    void proceed();
+
+    /**
+     * The route can not be used, Nalu will route to the
+     * route returned by <code>redirectTo()</code>.
+     */
+    void redirect();
+
+    /**
+     * Returns true, in case the routing was replaced by a newer routing.
+     * The filter does not need to decide anymore.
+     *
+     * @return true: the routing is cancelled
+     */
+    boolean isCancelled();
+
+  }
+
+}
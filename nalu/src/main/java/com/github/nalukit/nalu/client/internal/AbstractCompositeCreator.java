@@ -18,8 +18,11 @@ package com.github.nalukit.nalu.client.internal;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.application.IsCompositeCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 @NaluInternalUse
@@ -34,13 +37,51 @@ public abstract class AbstractCompositeCreator<C extends IsContext>
 
   protected SimpleEventBus eventBus;
 
+  /* runtime of the application, which owns the registries */
+  protected NaluRuntime runtime;
+
+  /**
+   * Creates the instance using the current runtime. Kept for compatibility,
+   * the generated code passes the runtime of the application.
+   *
+   * @param router   the router
+   * @param context  the context
+   * @param eventBus the event bus
+   */
   public AbstractCompositeCreator(Router router,
                                   C context,
                                   SimpleEventBus eventBus) {
+    this(router,
+         context,
+         eventBus,
+         NaluRuntime.current());
+  }
+
+  public AbstractCompositeCreator(Router router,
+                                  C context,
+                                  SimpleEventBus eventBus,
+                                  NaluRuntime runtime) {
     super();
     this.router = router;
     this.context = context;
     this.eventBus = eventBus;
+    this.runtime = runtime;
+  }
+
+  /**
+   * Sets the parameter values of a cached composite that is reused
+   * by another controller.
+   * <p>
+   * Creators of composites using AcceptParameter override this method
+   * and call the methods annotated with AcceptParameter.
+   *
+   * @param composite the cached instance of the composite
+   * @param parms     the parameter values
+   * @throws RoutingInterceptionException in case a setter interrupts the routing
+   */
+  public void setParameters(AbstractCompositeController<?, ?, ?> composite,
+                            String... parms)
+      throws RoutingInterceptionException {
   }
 
 }
@@ -18,8 +18,11 @@ package com.github.nalukit.nalu.client.internal;
 
 import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 @NaluInternalUse
@@ -34,13 +37,52 @@ public abstract class AbstractControllerCreator<C extends IsContext>
 
   protected SimpleEventBus eventBus;
 
+  /* runtime of the application, which owns the registries */
+  protected NaluRuntime runtime;
+
+  /**
+   * Creates the instance using the current runtime. Kept for compatibility,
+   * the generated code passes the runtime of the application.
+   *
+   * @param router   the router
+   * @param context  the context
+   * @param eventBus the event bus
+   */
   public AbstractControllerCreator(Router router,
                                    C context,
                                    SimpleEventBus eventBus) {
+    this(router,
+         context,
+         eventBus,
+         NaluRuntime.current());
+  }
+
+  public AbstractControllerCreator(Router router,
+                                   C context,
+                                   SimpleEventBus eventBus,
+                                   NaluRuntime runtime) {
     super();
     this.router = router;
     this.context = context;
     this.eventBus = eventBus;
+    this.runtime = runtime;
+  }
+
+  /**
+   * Sets the parameter values of a controller that is kept by the router,
+   * because only the parameters of the route have changed.
+   * <p>
+   * Creators of controllers using <code>reuseOnParameterChange = true</code>
+   * override this method and call the methods annotated with
+   * AcceptParameter.
+   *
+   * @param controller the active instance of the controller
+   * @param parms      the new parameter values
+   * @throws RoutingInterceptionException in case a setter interrupts the routing
+   */
+  public void setParameters(AbstractComponentController<?, ?, ?> controller,
+                            String... parms)
+      throws RoutingInterceptionException {
   }
 
 }
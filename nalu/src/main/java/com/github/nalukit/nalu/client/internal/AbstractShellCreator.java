@@ -20,6 +20,7 @@ import com.github.nalukit.nalu.client.Router;
 import com.github.nalukit.nalu.client.application.IsContext;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.application.IsShellCreator;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import org.gwtproject.event.shared.SimpleEventBus;
 
 @NaluInternalUse
@@ -34,13 +35,35 @@ public abstract class AbstractShellCreator<C extends IsContext>
 
   protected SimpleEventBus eventBus;
 
+  /* runtime of the application, which owns the registries */
+  protected NaluRuntime runtime;
+
+  /**
+   * Creates the instance using the current runtime. Kept for compatibility,
+   * the generated code passes the runtime of the application.
+   *
+   * @param router   the router
+   * @param context  the context
+   * @param eventBus the event bus
+   */
   public AbstractShellCreator(Router router,
                               C context,
                               SimpleEventBus eventBus) {
+    this(router,
+         context,
+         eventBus,
+         NaluRuntime.current());
+  }
+
+  public AbstractShellCreator(Router router,
+                              C context,
+                              SimpleEventBus eventBus,
+                              NaluRuntime runtime) {
     super();
     this.router = router;
     this.context = context;
     this.eventBus = eventBus;
+    this.runtime = runtime;
   }
 
 }
@@ -18,11 +18,10 @@ package com.github.nalukit.nalu.client.internal;
 
 import com.github.nalukit.nalu.client.application.IsLogger;
 import com.github.nalukit.nalu.client.application.annotation.Debug;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 
 public class ClientLogger {
 
-  private static ClientLogger instance = new ClientLogger();
-
   /* debug enabled? */
   private boolean debugEnabled = false;
 
@@ -32,14 +31,17 @@ public class ClientLogger {
   /* log level */
   private Debug.LogLevel logLevel;
 
-  private ClientLogger() {
+  public ClientLogger() {
   }
 
+  /**
+   * Returns the logger of the current runtime.
+   *
+   * @return the logger of the current runtime
+   */
   public static ClientLogger get() {
-    if (instance == null) {
-      instance = new ClientLogger();
-    }
-    return instance;
+    return NaluRuntime.current()
+                      .getClientLogger();
   }
 
   public void register(boolean debugEnabled,
@@ -50,6 +52,17 @@ public class ClientLogger {
     this.logLevel = logLevel;
   }
 
+  /**
+   * Checks, if messages will be logged. Use this method to avoid
+   * creating messages which will not be logged.
+   *
+   * @return true: messages will be logged
+   */
+  public boolean isLoggingEnabled() {
+    return this.debugEnabled &&
+           this.logger != null;
+  }
+
   public void logDetailed(String message,
                           int depth) {
     if (this.debugEnabled) {
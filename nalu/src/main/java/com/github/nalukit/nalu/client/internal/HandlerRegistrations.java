@@ -26,7 +26,7 @@ import java.util.List;
 @NaluInternalUse
 public class HandlerRegistrations {
 
-  private List<HandlerRegistration> handlerRegistrations;
+  private final List<HandlerRegistration> handlerRegistrations;
 
   public HandlerRegistrations() {
     this.handlerRegistrations = new ArrayList<>();
@@ -57,13 +57,10 @@ public class HandlerRegistrations {
   }
 
   public void removeHandler() {
-    if (handlerRegistrations == null) {
-      return;
-    }
     handlerRegistrations.forEach(h -> h.removeHandler());
-    // make sure we remove the handlers to avoid potential leaks
-    // if someone fails to null out their reference to us
-    handlerRegistrations = null;
+    // make sure we remove the handlers to avoid potential leaks,
+    // the instance can be used to add new handlers afterwards
+    handlerRegistrations.clear();
   }
 
 }
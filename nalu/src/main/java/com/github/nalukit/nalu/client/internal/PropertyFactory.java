@@ -1,24 +1,25 @@
 package com.github.nalukit.nalu.client.internal;
 
-import java.util.Objects;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 
 public class PropertyFactory {
 
-  private static PropertyFactory instance;
-
   // is the application using hash in url?
   boolean usingHash;
   // is the application using colon in url for parameter?
   boolean usingColonForParametersInUrl;
 
-  private PropertyFactory() {
+  public PropertyFactory() {
   }
 
+  /**
+   * Returns the properties of the current runtime.
+   *
+   * @return the properties of the current runtime
+   */
   public static PropertyFactory get() {
-    if (Objects.isNull(instance)) {
-      instance = new PropertyFactory();
-    }
-    return instance;
+    return NaluRuntime.current()
+                      .getPropertyFactory();
   }
 
   /**
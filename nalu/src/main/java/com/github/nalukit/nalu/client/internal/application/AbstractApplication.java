@@ -21,7 +21,6 @@ import com.github.nalukit.nalu.client.application.IsApplication;
 import com.github.nalukit.nalu.client.application.IsApplicationLoader;
 import com.github.nalukit.nalu.client.application.IsContext;
 import com.github.nalukit.nalu.client.component.IsShell;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 import com.github.nalukit.nalu.client.internal.route.*;
@@ -61,34 +60,41 @@ public abstract class AbstractApplication<C extends IsContext>
   protected SimpleEventBus                     eventBus;
   /* plugin */
   protected IsNaluProcessorPlugin              plugin;
+  /* runtime of the application */
+  protected NaluRuntime                        runtime;
 
   public AbstractApplication() {
     super();
     this.compositeControllerReferences = new ArrayList<>();
+    this.runtime = new NaluRuntime();
   }
 
   @Override
   public void run(IsNaluProcessorPlugin plugin) {
+    // the generated code uses the runtime of this application
+    this.runtime.enter();
     // save the plugin
     this.plugin = plugin;
     // first load the debug configuration
     this.loadDebugConfiguration();
     // debug message
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("=================================================================================",
                              0);
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("Running Nalu version: v" + Nalu.getVersion(),
                              0);
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("=================================================================================",
                              0);
     // debug message
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logSimple("AbstractApplication: application is started!",
                            0);
     // instantiate necessary classes
     this.eventBus = new SimpleEventBus();
+    // deferred and coalesced events are delivered once the current task is done
+    this.eventBus.setScheduler(command -> this.plugin.scheduleDeferred(command::run));
     this.shellConfiguration = new ShellConfiguration();
     this.routerConfiguration = new RouterConfiguration();
     // initialize plugin
@@ -100,9 +106,10 @@ public abstract class AbstractApplication<C extends IsContext>
                                  this.routerConfiguration,
                                  this.compositeControllerReferences,
                                  this.isUsingHash(),
-                                 this.isUsingColonForParametersInUrl());
+                                 this.isUsingColonForParametersInUrl(),
+                                 this.runtime);
     // load everything you need to start
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: load configurations",
                              1);
     this.loadPlugins();
@@ -113,37 +120,39 @@ public abstract class AbstractApplication<C extends IsContext>
     this.loadCompositeReferences();
     this.router.setRouteError(AbstractApplication.NO_ROUTE.equals(this.errorRoute) ? null : this.errorRoute);
     // load the shells of the application
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: load shells",
                              1);
     this.loadShellFactory();
     // load the composite of the application
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: load compositeControllers",
                              1);
     this.loadCompositeController();
     // load the controllers of the application
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: load components",
                              1);
     this.loadComponents();
     // load the handlers fo the application
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: load handlers",
                              1);
     this.loadHandlers();
     // execute the loader (if one is present)
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logDetailed("AbstractApplication: execute loader",
                              1);
     // validate
-    if (!RouteValidation.validateStartRoute(this.shellConfiguration,
+    if (!RouteValidation.validateStartRoute(this.runtime,
+                                            this.shellConfiguration,
                                             this.routerConfiguration,
                                             this.startRoute)) {
       this.plugin.alert("startRoute not valid - application stopped!");
       return;
     }
-    if (!RouteValidation.validateRouteError(this.shellConfiguration,
+    if (!RouteValidation.validateRouteError(this.runtime,
+                                            this.shellConfiguration,
                                             this.routerConfiguration,
                                             this.errorRoute)) {
       this.plugin.alert("routeError not valid - application stopped!");
@@ -192,6 +201,8 @@ public abstract class AbstractApplication<C extends IsContext>
    * Once the loader did his job, we will continue
    */
   private void onFinishLoading() {
+    // the loader might finish, while another application is running
+    this.runtime.enter();
     // save the current hash
     String hashOnStart = this.plugin.getStartRoute(isUsingHash());
     // check if the url contains a hash.
@@ -200,7 +211,7 @@ public abstract class AbstractApplication<C extends IsContext>
     if (hashOnStart != null &&
         hashOnStart.trim()
                    .length() > 0) {
-      ClientLogger.get()
+      this.runtime.getClientLogger()
                   .logDetailed("AbstractApplication: handle history (hash at start: >>" + hashOnStart + "<<",
                                1);
       RouteResult routeResult;
@@ -210,15 +221,14 @@ public abstract class AbstractApplication<C extends IsContext>
         return;
       }
       this.router.route(routeResult.getRoute(),
-                        routeResult.getParameterValues()
-                                   .toArray(new String[0]));
+                        routeResult.getParameterValuesAsArray());
     } else {
-      ClientLogger.get()
+      this.runtime.getClientLogger()
                   .logDetailed("AbstractApplication: no history found -> use startRoute: >>" + this.startRoute + "<<",
                                1);
       this.router.route(this.startRoute);
     }
-    ClientLogger.get()
+    this.runtime.getClientLogger()
                 .logSimple("AbstractApplication: application started",
                            0);
   }
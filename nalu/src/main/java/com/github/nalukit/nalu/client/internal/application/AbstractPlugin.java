@@ -36,13 +36,35 @@ public abstract class AbstractPlugin<C extends IsContext>
 
   protected SimpleEventBus eventBus;
 
+  /* runtime of the application, which owns the registries */
+  protected NaluRuntime runtime;
+
+  /**
+   * Creates the instance using the current runtime. Kept for compatibility,
+   * the generated code passes the runtime of the application.
+   *
+   * @param router   the router
+   * @param context  the context
+   * @param eventBus the event bus
+   */
   public AbstractPlugin(Router router,
                         C context,
                         SimpleEventBus eventBus) {
+    this(router,
+         context,
+         eventBus,
+         NaluRuntime.current());
+  }
+
+  public AbstractPlugin(Router router,
+                        C context,
+                        SimpleEventBus eventBus,
+                        NaluRuntime runtime) {
     super();
     this.router = router;
     this.context = context;
     this.eventBus = eventBus;
+    this.runtime = runtime;
   }
 
   @Override
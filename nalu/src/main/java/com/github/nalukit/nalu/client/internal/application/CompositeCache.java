@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.cache.IsCompositeCache;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool of deactivated composites (key: class name of the composite).
+ * <p>
+ * Composites are marked as cached by calling <code>router.storeCompositeInCache(composite)</code>.
+ * In case the controller of a cached composite is stopped, the composite is
+ * deactivated instead of stopped and added to the pool. The next controller
+ * using the composite takes the composite from the pool instead of creating
+ * a new one. A pooled composite is used by one controller at a time.
+ * <p>
+ * In case the pool of a composite is full, the oldest composite is evicted.
+ * Evicted composites are stopped by the router and their handlers are removed.
+ */
+public class CompositeCache
+    implements IsCompositeCache {
+
+  /* default number of pooled instances of a composite */
+  public static final int DEFAULT_MAX_SIZE_PER_COMPOSITE = 4;
+
+  /* pooled composites, oldest first */
+  private Map<String, LinkedList<AbstractCompositeController<?, ?, ?>>> pools;
+
+  /* max number of pooled instances of a composite */
+  private int maxSizePerComposite;
+
+  /* tears down evicted composites */
+  private EvictionHandler evictionHandler;
+
+  /* number of reused composites */
+  private long hits;
+
+  /* number of created composites */
+  private long misses;
+
+  /* number of evicted composites */
+  private long evictions;
+
+  CompositeCache() {
+    this.pools = new HashMap<>();
+    this.maxSizePerComposite = CompositeCache.DEFAULT_MAX_SIZE_PER_COMPOSITE;
+  }
+
+  AbstractCompositeController<?, ?, ?> take(String compositeClassName) {
+    LinkedList<AbstractCompositeController<?, ?, ?>> pool = this.pools.get(compositeClassName);
+    if (pool == null ||
+        pool.isEmpty()) {
+      this.misses++;
+      return null;
+    }
+    this.hits++;
+    // the most recently used composite is reused
+    return pool.removeLast();
+  }
+
+  void release(AbstractCompositeController<?, ?, ?> composite) {
+    LinkedList<AbstractCompositeController<?, ?, ?>> pool = this.pools.computeIfAbsent(composite.getClass()
+                                                                                                .getCanonicalName(),
+                                                                                       k -> new LinkedList<>());
+    if (pool.contains(composite)) {
+      return;
+    }
+    pool.addLast(composite);
+    while (pool.size() > this.maxSizePerComposite) {
+      this.evict(pool.removeFirst());
+    }
+  }
+
+  boolean contains(AbstractCompositeController<?, ?, ?> composite) {
+    LinkedList<AbstractCompositeController<?, ?, ?>> pool = this.pools.get(composite.getClass()
+                                                                                    .getCanonicalName());
+    return pool != null &&
+           pool.contains(composite);
+  }
+
+  void remove(AbstractCompositeController<?, ?, ?> composite) {
+    LinkedList<AbstractCompositeController<?, ?, ?>> pool = this.pools.get(composite.getClass()
+                                                                                    .getCanonicalName());
+    if (pool != null &&
+        pool.remove(composite)) {
+      this.evict(composite);
+    }
+  }
+
+  void clear() {
+    List<AbstractCompositeController<?, ?, ?>> composites = new ArrayList<>();
+    this.pools.values()
+              .forEach(composites::addAll);
+    this.pools.clear();
+    composites.forEach(this::evict);
+  }
+
+  void setEvictionHandler(EvictionHandler evictionHandler) {
+    this.evictionHandler = evictionHandler;
+  }
+
+  private void evict(AbstractCompositeController<?, ?, ?> composite) {
+    this.evictions++;
+    composite.setCached(false);
+    if (this.evictionHandler != null) {
+      this.evictionHandler.onEvict(composite);
+    }
+  }
+
+  /**
+   * Resets the statistics.
+   */
+  @Override
+  public void resetStatistics() {
+    this.hits = 0;
+    this.misses = 0;
+    this.evictions = 0;
+  }
+
+  /**
+   * Number of composites, that are taken from the pool instead of created.
+   *
+   * @return number of cache hits
+   */
+  @Override
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Number of composites, that are created, because the pool is empty.
+   *
+   * @return number of cache misses
+   */
+  @Override
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Number of evicted composites.
+   *
+   * @return number of evictions
+   */
+  @Override
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Number of pooled composites.
+   *
+   * @return size of the cache
+   */
+  @Override
+  public int getSize() {
+    return this.pools.values()
+                     .stream()
+                     .mapToInt(List::size)
+                     .sum();
+  }
+
+  @Override
+  public int getMaxSizePerComposite() {
+    return maxSizePerComposite;
+  }
+
+  /**
+   * Sets the max number of pooled instances of a composite. In case a
+   * pool contains more instances, the oldest instances are evicted. A value
+   * of 0 disables the pooling.
+   *
+   * @param maxSizePerComposite max number of pooled instances of a composite
+   */
+  @Override
+  public void setMaxSizePerComposite(int maxSizePerComposite) {
+    this.maxSizePerComposite = Math.max(0,
+                                        maxSizePerComposite);
+    for (LinkedList<AbstractCompositeController<?, ?, ?>> pool : this.pools.values()) {
+      while (pool.size() > this.maxSizePerComposite) {
+        this.evict(pool.removeFirst());
+      }
+    }
+  }
+
+  /**
+   * Called in case a composite is removed from the cache.
+   */
+  @FunctionalInterface
+  public interface EvictionHandler {
+
+    void onEvict(AbstractCompositeController<?, ?, ?> composite);
+
+  }
+
+}
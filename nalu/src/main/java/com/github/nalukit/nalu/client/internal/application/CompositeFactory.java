@@ -16,7 +16,9 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.AbstractCompositeCreator;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 import java.util.HashMap;
@@ -25,21 +27,25 @@ import java.util.Map;
 @NaluInternalUse
 public class CompositeFactory {
 
-  /* instance of the controller factory */
-  private static CompositeFactory instance;
-
   /* map of components (key: name of class, Value: CompositeCreatorF */
   private Map<String, IsCompositeCreator> compositeFactory;
 
-  private CompositeFactory() {
+  /* pooled composites */
+  private CompositeCache compositeStore;
+
+  public CompositeFactory() {
     this.compositeFactory = new HashMap<>();
+    this.compositeStore = new CompositeCache();
   }
 
+  /**
+   * Returns the composite factory of the current runtime.
+   *
+   * @return the composite factory of the current runtime
+   */
   public static CompositeFactory get() {
-    if (instance == null) {
-      instance = new CompositeFactory();
-    }
-    return instance;
+    return NaluRuntime.current()
+                      .getCompositeFactory();
   }
 
   public void registerComposite(String name,
@@ -52,10 +58,51 @@ public class CompositeFactory {
                                         String... parms)
       throws RoutingInterceptionException {
     if (this.compositeFactory.containsKey(composite)) {
-      return this.compositeFactory.get(composite)
-                                  .create(parms);
+      IsCompositeCreator creator = this.compositeFactory.get(composite);
+      AbstractCompositeController<?, ?, ?> storedComposite = this.compositeStore.take(composite);
+      if (storedComposite != null) {
+        if (creator instanceof AbstractCompositeCreator) {
+          try {
+            ((AbstractCompositeCreator<?>) creator).setParameters(storedComposite,
+                                                                  parms);
+          } catch (RoutingInterceptionException e) {
+            this.compositeStore.release(storedComposite);
+            throw e;
+          }
+        }
+        CompositeInstance compositeInstance = new CompositeInstance();
+        compositeInstance.setCompositeClassName(composite);
+        compositeInstance.setComposite(storedComposite);
+        compositeInstance.setCached(true);
+        return compositeInstance;
+      }
+      return creator.create(parms);
     }
     return null;
   }
 
+  public boolean isStoredInCache(AbstractCompositeController<?, ?, ?> composite) {
+    return this.compositeStore.contains(composite);
+  }
+
+  public void release(AbstractCompositeController<?, ?, ?> composite) {
+    this.compositeStore.release(composite);
+  }
+
+  public void removeFromCache(AbstractCompositeController<?, ?, ?> composite) {
+    this.compositeStore.remove(composite);
+  }
+
+  public void clearCompositeCache() {
+    this.compositeStore.clear();
+  }
+
+  public CompositeCache getCompositeCache() {
+    return this.compositeStore;
+  }
+
+  public void setCompositeEvictionHandler(CompositeCache.EvictionHandler evictionHandler) {
+    this.compositeStore.setEvictionHandler(evictionHandler);
+  }
+
 }
@@ -28,6 +28,9 @@ public class CompositeInstance {
   /* controller */
   private AbstractCompositeController<?, ?, ?> composite;
 
+  /* flag, that indicates weather the composite is reused or not */
+  private boolean cached;
+
   public CompositeInstance() {
   }
 
@@ -47,4 +50,12 @@ public class CompositeInstance {
     this.composite = composite;
   }
 
+  public boolean isCached() {
+    return cached;
+  }
+
+  public void setCached(boolean cached) {
+    this.cached = cached;
+  }
+
 }
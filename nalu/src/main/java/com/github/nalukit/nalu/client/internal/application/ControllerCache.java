@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.cache.IsControllerCache;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of controllers (key: formatted class name of the controller).
+ * <p>
+ * Controllers are added by calling <code>router.storeInCache(controller)</code>.
+ * In case the cache is full, an entry is evicted depending on the eviction policy:
+ * <ul>
+ * <li>LRU: the least recently used controller</li>
+ * <li>LFU: the least frequently used controller</li>
+ * <li>TTL: the oldest controller. Controllers expire after the time to live.</li>
+ * </ul>
+ * Evicted controllers are stopped by the router and their handlers are removed.
+ * A controller that is attached to the DOM at the time of the eviction will be
+ * stopped the next time the route changes.
+ * <p>
+ * The statistics can be used to size the cache.
+ */
+public class ControllerCache
+    implements IsControllerCache {
+
+  /* default number of cached controllers */
+  public static final int DEFAULT_MAX_SIZE = 32;
+
+  /* default time to live of a cached controller (TTL only) in milliseconds */
+  public static final long DEFAULT_TIME_TO_LIVE = 300000;
+
+  /* cached controllers in access order */
+  private Map<String, Entry> entries;
+
+  /* max number of cached controllers */
+  private int maxSize;
+
+  /* eviction policy */
+  private EvictionPolicy evictionPolicy;
+
+  /* time to live of a cached controller (TTL only) in milliseconds */
+  private long timeToLive;
+
+  /* tears down evicted controllers */
+  private EvictionHandler evictionHandler;
+
+  /* number of cache hits */
+  private long hits;
+
+  /* number of cache misses */
+  private long misses;
+
+  /* number of evicted controllers */
+  private long evictions;
+
+  /* creation time saved by cache hits in milliseconds */
+  private long savedCreationTime;
+
+  ControllerCache() {
+    this.entries = new LinkedHashMap<>(16,
+                                       0.75f,
+                                       true);
+    this.maxSize = ControllerCache.DEFAULT_MAX_SIZE;
+    this.evictionPolicy = EvictionPolicy.LRU;
+    this.timeToLive = ControllerCache.DEFAULT_TIME_TO_LIVE;
+  }
+
+  /**
+   * Looks up the cached controller. An expired controller will be evicted.
+   *
+   * @param key formatted class name of the controller
+   * @return the cached controller or null
+   */
+  AbstractComponentController<?, ?, ?> get(String key) {
+    Entry entry = this.entries.get(key);
+    if (entry != null &&
+        this.isExpired(entry)) {
+      this.evict(key);
+      entry = null;
+    }
+    if (entry == null) {
+      this.misses++;
+      return null;
+    }
+    this.hits++;
+    this.savedCreationTime += entry.creationTime;
+    entry.accessCount++;
+    return entry.controller;
+  }
+
+  /**
+   * Stores the controller. In case the cache is full, entries will be evicted.
+   * In case another instance is cached for the key, that instance will be evicted.
+   *
+   * @param key          formatted class name of the controller
+   * @param controller   the controller
+   * @param creationTime time in milliseconds the creation of the controller took
+   */
+  void put(String key,
+           AbstractComponentController<?, ?, ?> controller,
+           long creationTime) {
+    Entry entry = this.entries.get(key);
+    if (entry != null &&
+        entry.controller == controller) {
+      return;
+    }
+    // the replaced instance is no longer reachable through the cache
+    if (entry != null) {
+      this.evict(key);
+    }
+    this.evictExpired();
+    // make room before adding: a new entry would always be the LFU candidate
+    while (this.entries.size() > 0 &&
+           this.entries.size() >= this.maxSize) {
+      this.evict(this.getEvictionCandidate());
+    }
+    this.entries.put(key,
+                     new Entry(controller,
+                               creationTime,
+                               this.now()));
+    this.evictToMaxSize();
+  }
+
+  /**
+   * Checks if the controller is cached without updating the statistics.
+   *
+   * @param key formatted class name of the controller
+   * @return true: the controller is cached
+   */
+  boolean contains(String key) {
+    return this.entries.containsKey(key);
+  }
+
+  /**
+   * Removes the controller without tearing it down.
+   *
+   * @param key formatted class name of the controller
+   */
+  void remove(String key) {
+    this.entries.remove(key);
+  }
+
+  /**
+   * Removes all controllers without tearing them down.
+   */
+  void clear() {
+    this.entries.clear();
+  }
+
+  void setEvictionHandler(EvictionHandler evictionHandler) {
+    this.evictionHandler = evictionHandler;
+  }
+
+  /* current time - can be overridden in tests */
+  long now() {
+    return System.currentTimeMillis();
+  }
+
+  private boolean isExpired(Entry entry) {
+    return this.evictionPolicy == EvictionPolicy.TTL &&
+           this.now() - entry.storedAt >= this.timeToLive;
+  }
+
+  private void evictExpired() {
+    if (this.evictionPolicy != EvictionPolicy.TTL) {
+      return;
+    }
+    // collect first: tearing down a controller might call the cache
+    List<String> expiredKeys = new ArrayList<>();
+    for (Map.Entry<String, Entry> mapEntry : this.entries.entrySet()) {
+      if (this.isExpired(mapEntry.getValue())) {
+        expiredKeys.add(mapEntry.getKey());
+      }
+    }
+    for (String key : expiredKeys) {
+      this.evict(key);
+    }
+  }
+
+  private void evictToMaxSize() {
+    while (this.entries.size() > this.maxSize) {
+      this.evict(this.getEvictionCandidate());
+    }
+  }
+
+  private String getEvictionCandidate() {
+    String candidate = null;
+    Entry candidateEntry = null;
+    // iterating in access order: on a tie the least recently used entry wins
+    for (Map.Entry<String, Entry> mapEntry : this.entries.entrySet()) {
+      Entry entry = mapEntry.getValue();
+      if (candidateEntry == null) {
+        candidate = mapEntry.getKey();
+        candidateEntry = entry;
+        if (this.evictionPolicy == EvictionPolicy.LRU) {
+          break;
+        }
+      } else if ((this.evictionPolicy == EvictionPolicy.LFU && entry.accessCount < candidateEntry.accessCount) ||
+                 (this.evictionPolicy == EvictionPolicy.TTL && entry.storedAt < candidateEntry.storedAt)) {
+        candidate = mapEntry.getKey();
+        candidateEntry = entry;
+      }
+    }
+    return candidate;
+  }
+
+  private void evict(String key) {
+    Entry entry = this.entries.remove(key);
+    if (entry == null) {
+      return;
+    }
+    this.evictions++;
+    if (this.evictionHandler != null) {
+      this.evictionHandler.onEvict(entry.controller);
+    }
+  }
+
+  /**
+   * Resets the statistics.
+   */
+  @Override
+  public void resetStatistics() {
+    this.hits = 0;
+    this.misses = 0;
+    this.evictions = 0;
+    this.savedCreationTime = 0;
+  }
+
+  /**
+   * Number of controllers taken from the cache.
+   *
+   * @return number of cache hits
+   */
+  @Override
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Number of controllers, that were not found in the cache.
+   *
+   * @return number of cache misses
+   */
+  @Override
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Number of evicted controllers.
+   *
+   * @return number of evictions
+   */
+  @Override
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Creation time saved by cache hits. The time is measured once, when the
+   * controller and its component are created.
+   *
+   * @return saved creation time in milliseconds
+   */
+  @Override
+  public long getSavedCreationTime() {
+    return savedCreationTime;
+  }
+
+  /**
+   * Number of currently cached controllers.
+   *
+   * @return number of cached controllers
+   */
+  @Override
+  public int getSize() {
+    return this.entries.size();
+  }
+
+  /**
+   * Max number of cached controllers.
+   *
+   * @return max number of cached controllers
+   */
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the max number of cached controllers. In case there are more
+   * controllers cached, they will be evicted. A value of 0 disables the cache.
+   *
+   * @param maxSize max number of cached controllers
+   */
+  @Override
+  public void setMaxSize(int maxSize) {
+    this.maxSize = Math.max(0,
+                            maxSize);
+    this.evictToMaxSize();
+  }
+
+  /**
+   * The eviction policy of the cache.
+   *
+   * @return eviction policy
+   */
+  @Override
+  public EvictionPolicy getEvictionPolicy() {
+    return evictionPolicy;
+  }
+
+  /**
+   * Sets the eviction policy of the cache (default: LRU).
+   *
+   * @param evictionPolicy eviction policy
+   */
+  @Override
+  public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+    this.evictionPolicy = evictionPolicy;
+    this.evictExpired();
+  }
+
+  /**
+   * Time to live of a cached controller in milliseconds (TTL only).
+   *
+   * @return time to live in milliseconds
+   */
+  @Override
+  public long getTimeToLive() {
+    return timeToLive;
+  }
+
+  /**
+   * Sets the time to live of a cached controller in milliseconds. The value
+   * is only used by the TTL eviction policy.
+   *
+   * @param timeToLive time to live in milliseconds
+   */
+  @Override
+  public void setTimeToLive(long timeToLive) {
+    this.timeToLive = timeToLive;
+    this.evictExpired();
+  }
+
+  /**
+   * Tears down evicted controllers.
+   */
+  @FunctionalInterface
+  public interface EvictionHandler {
+
+    void onEvict(AbstractComponentController<?, ?, ?> controller);
+
+  }
+
+  private static final class Entry {
+
+    private AbstractComponentController<?, ?, ?> controller;
+
+    private long creationTime;
+
+    private long storedAt;
+
+    private int accessCount;
+
+    private Entry(AbstractComponentController<?, ?, ?> controller,
+                  long creationTime,
+                  long storedAt) {
+      this.controller = controller;
+      this.creationTime = creationTime;
+      this.storedAt = storedAt;
+    }
+
+  }
+
+}
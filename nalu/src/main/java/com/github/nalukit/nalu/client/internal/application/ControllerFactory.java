@@ -18,33 +18,44 @@ package com.github.nalukit.nalu.client.internal.application;
 
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @NaluInternalUse
 public class ControllerFactory {
 
-  /* instance of the controller factory */
-  private static ControllerFactory instance;
-
   /* map of components (key: name of class, Value: ControllerCreator */
   private Map<String, IsControllerCreator> controllerFactory;
 
-  /* map of stored components (key: name of class, Value: instance of controller */
-  private Map<String, AbstractComponentController<?, ?, ?>> controllerStore;
+  /* cache of stored controllers (key: name of class, Value: instance of controller */
+  private ControllerCache controllerStore;
+
+  /* time the last creation of a controller took (key: name of class, Value: time in milliseconds */
+  private Map<String, Long> creationTimes;
+
+  /* controllers, that are currently loaded asynchronously (key: name of class, Value: waiting requests */
+  private Map<String, Loading> loadings;
 
-  private ControllerFactory() {
+  public ControllerFactory() {
     this.controllerFactory = new HashMap<>();
-    this.controllerStore = new HashMap<>();
+    this.controllerStore = new ControllerCache();
+    this.creationTimes = new HashMap<>();
+    this.loadings = new HashMap<>();
   }
 
+  /**
+   * Returns the controller factory of the current runtime.
+   *
+   * @return the controller factory of the current runtime
+   */
   public static ControllerFactory get() {
-    if (instance == null) {
-      instance = new ControllerFactory();
-    }
-    return instance;
+    return NaluRuntime.current()
+                      .getControllerFactory();
   }
 
   public void registerController(String controller,
@@ -53,25 +64,171 @@ public class ControllerFactory {
                                creator);
   }
 
+  /**
+   * Creates the controller synchronously.
+   * <p>
+   * Controllers, which are loaded asynchronously (code splitting), can not be
+   * created synchronously. Use
+   * <code>controller(String, IsControllerCreator.Callback, String...)</code>
+   * for them.
+   *
+   * @param controller name of the controller class
+   * @param parms      parameters of the route
+   * @return the created controller or null, in case there is no creator for the controller
+   * @throws RoutingInterceptionException in case the controller interrupts the routing
+   * @throws IllegalStateException        in case the controller is loaded asynchronously
+   */
   public ControllerInstance controller(String controller,
                                        String... parms)
       throws RoutingInterceptionException {
-    if (this.controllerFactory.containsKey(controller)) {
-      return this.controllerFactory.get(controller)
-                                   .create(parms);
+    IsControllerCreator creator = this.controllerFactory.get(controller);
+    if (creator != null) {
+      if (creator.isLoadingAsync()) {
+        throw new IllegalStateException("controller >>" +
+                                        controller +
+                                        "<< is loaded asynchronously and can not be created synchronously, use controller(String, IsControllerCreator.Callback, String...)");
+      }
+      long start = System.currentTimeMillis();
+      ControllerInstance controllerInstance = creator.create(parms);
+      // remember the creation time, so that the cache knows the time saved by a hit
+      if (controllerInstance != null &&
+          !controllerInstance.isChached()) {
+        this.creationTimes.put(this.classFormatter(controller),
+                               System.currentTimeMillis() - start);
+      }
+      return controllerInstance;
     }
     return null;
   }
 
+  /**
+   * Creates the controller asynchronously. Controllers using code splitting
+   * are created once their code is loaded, all other controllers are created
+   * immediately.
+   * <p>
+   * In case the controller is already loading, no further loading is started.
+   * The request waits for the loading: the first request gets the loaded
+   * controller. In case the loaded controller was stored in the cache while
+   * handling the first request, every other waiting request gets this
+   * instance. Otherwise every waiting request gets its own controller, which
+   * is created once the code is loaded. No callback is dropped.
+   *
+   * @param controller name of the controller class
+   * @param callback   callback, that is called once the controller is created
+   * @param parms      parameters of the route
+   */
+  public void controller(String controller,
+                         IsControllerCreator.Callback callback,
+                         String... parms) {
+    IsControllerCreator creator = this.controllerFactory.get(controller);
+    if (creator == null) {
+      callback.onCreate(null);
+      return;
+    }
+    Loading waiting = this.loadings.get(controller);
+    if (waiting != null) {
+      waiting.requests.add(new Request(callback,
+                                       parms));
+      return;
+    }
+    Loading loading = new Loading();
+    loading.requests.add(new Request(callback,
+                                     parms));
+    this.loadings.put(controller,
+                      loading);
+    long start = System.currentTimeMillis();
+    creator.createAsync(new IsControllerCreator.Callback() {
+
+                          @Override
+                          public void onCreate(ControllerInstance controllerInstance) {
+                            loadings.remove(controller);
+                            if (controllerInstance != null &&
+                                !controllerInstance.isChached()) {
+                              creationTimes.put(classFormatter(controller),
+                                                System.currentTimeMillis() - start);
+                            }
+                            loading.first()
+                                   .onCreate(controllerInstance);
+                            createForWaitingRequests(controller,
+                                                     loading);
+                          }
+
+                          @Override
+                          public void onRoutingInterception(RoutingInterceptionException e) {
+                            loadings.remove(controller);
+                            loading.first()
+                                   .onRoutingInterception(e);
+                            createForWaitingRequests(controller,
+                                                     loading);
+                          }
+
+                          @Override
+                          public void onFailure(Throwable reason) {
+                            loadings.remove(controller);
+                            loading.requests.forEach(request -> request.callback.onFailure(reason));
+                          }
+
+                        },
+                        parms);
+  }
+
+  /**
+   * Returns true, in case the controller is currently loaded asynchronously.
+   *
+   * @param controller name of the controller class
+   * @return true: the controller is loading
+   */
+  public boolean isLoading(String controller) {
+    return this.loadings.containsKey(controller);
+  }
+
+  /* the code of the controller is loaded: further requests reuse the cached instance or get their own one */
+  private void createForWaitingRequests(String controller,
+                                        Loading loading) {
+    for (Request request : loading.requests.subList(1,
+                                                    loading.requests.size())) {
+      AbstractComponentController<?, ?, ?> storedController = this.getControllerFormStore(controller);
+      if (storedController != null) {
+        ControllerInstance controllerInstance = new ControllerInstance();
+        controllerInstance.setControllerClassName(controller);
+        controllerInstance.setController(storedController);
+        controllerInstance.setChached(true);
+        storedController.setCached(true);
+        request.callback.onCreate(controllerInstance);
+      } else {
+        this.controller(controller,
+                        request.callback,
+                        request.parms);
+      }
+    }
+  }
+
+  public void setParameters(String controller,
+                            AbstractComponentController<?, ?, ?> instance,
+                            String... parms)
+      throws RoutingInterceptionException {
+    IsControllerCreator creator = this.controllerFactory.get(controller);
+    if (creator instanceof AbstractControllerCreator) {
+      ((AbstractControllerCreator<?>) creator).setParameters(instance,
+                                                             parms);
+    }
+  }
+
   public AbstractComponentController<?, ?, ?> getControllerFormStore(String controllerClassName) {
     return this.controllerStore.get(this.classFormatter(controllerClassName));
   }
 
+  public boolean isStoredInCache(String controllerClassName) {
+    return this.controllerStore.contains(this.classFormatter(controllerClassName));
+  }
+
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
     String key = this.classFormatter(controller.getClass()
                                                .getCanonicalName());
+    Long creationTime = this.creationTimes.get(key);
     this.controllerStore.put(key,
-                             controller);
+                             controller,
+                             creationTime == null ? 0 : creationTime);
   }
 
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
@@ -84,9 +241,43 @@ public class ControllerFactory {
     this.controllerStore.clear();
   }
 
+  public ControllerCache getControllerCache() {
+    return this.controllerStore;
+  }
+
+  public void setControllerEvictionHandler(ControllerCache.EvictionHandler evictionHandler) {
+    this.controllerStore.setEvictionHandler(evictionHandler);
+  }
+
   private String classFormatter(String route) {
     return route.replace(".",
                          "_");
   }
 
+  /* requests waiting for a controller, that is loaded asynchronously */
+  private static final class Loading {
+
+    private final List<Request> requests = new ArrayList<>();
+
+    /* the request, which started the loading */
+    private IsControllerCreator.Callback first() {
+      return this.requests.get(0).callback;
+    }
+
+  }
+
+  private static final class Request {
+
+    private final IsControllerCreator.Callback callback;
+
+    private final String[] parms;
+
+    private Request(IsControllerCreator.Callback callback,
+                    String[] parms) {
+      this.callback = callback;
+      this.parms = parms;
+    }
+
+  }
+
 }
@@ -23,7 +23,59 @@ import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 @FunctionalInterface
 public interface IsControllerCreator {
 
+  /**
+   * Creates the controller synchronously.
+   * <p>
+   * Controllers, which are loaded asynchronously (code splitting), can not be
+   * created synchronously: their creators throw an
+   * <code>IllegalStateException</code>. Use <code>createAsync</code> instead.
+   *
+   * @param params parameters of the route
+   * @return the created or cached controller
+   * @throws RoutingInterceptionException in case the controller interrupts the routing
+   */
   ControllerInstance create(String... params)
       throws RoutingInterceptionException;
 
+  /**
+   * Returns true, in case the controller is loaded asynchronously (code
+   * splitting). Such a controller can only be created using <code>createAsync</code>.
+   *
+   * @return true: the controller is loaded asynchronously
+   */
+  default boolean isLoadingAsync() {
+    return false;
+  }
+
+  /**
+   * Creates the controller asynchronously. Creators of controllers, which are
+   * loaded asynchronously (code splitting), override this method. By default
+   * the controller is created synchronously and the callback is called
+   * immediately.
+   *
+   * @param callback callback, that is called once the controller is created
+   * @param params   parameters of the route
+   */
+  default void createAsync(Callback callback,
+                           String... params) {
+    ControllerInstance controllerInstance;
+    try {
+      controllerInstance = this.create(params);
+    } catch (RoutingInterceptionException e) {
+      callback.onRoutingInterception(e);
+      return;
+    }
+    callback.onCreate(controllerInstance);
+  }
+
+  interface Callback {
+
+    void onCreate(ControllerInstance controllerInstance);
+
+    void onRoutingInterception(RoutingInterceptionException e);
+
+    void onFailure(Throwable reason);
+
+  }
+
 }
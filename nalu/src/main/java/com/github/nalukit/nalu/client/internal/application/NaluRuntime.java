@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
+
+/**
+ * Runtime of a Nalu application. The runtime owns the registries of
+ * the application (controllers, composites, shells, properties and the
+ * logger). Every application creates its own runtime, so that several
+ * applications can exist at the same time without sharing state.
+ * <p>
+ * The generated code (application, creators and plugins) gets the runtime
+ * of its application injected. The static accessors
+ * (f.e. <code>ControllerFactory.get()</code>) are kept for compatibility.
+ * They delegate to the current runtime. The
+ * current runtime is set, in case an application starts or routes.
+ * By default, the current runtime is stored in a static field. That is
+ * fine for a browser. To run several applications concurrently on
+ * different threads (f.e. tests or server side rendering), set a scope
+ * which stores the current runtime per thread:
+ * <pre>
+ * ThreadLocal&lt;NaluRuntime&gt; runtimes = new ThreadLocal&lt;&gt;();
+ * NaluRuntime.setScope(new NaluRuntime.Scope() {
+ *   public NaluRuntime get() { return runtimes.get(); }
+ *   public void set(NaluRuntime runtime) { runtimes.set(runtime); }
+ * });
+ * </pre>
+ */
+@NaluInternalUse
+public final class NaluRuntime {
+
+  /* stores the current runtime */
+  private static Scope scope = new StaticScope();
+
+  /* registry of the controllers */
+  private final ControllerFactory controllerFactory;
+
+  /* registry of the composites */
+  private final CompositeFactory compositeFactory;
+
+  /* registry of the shells */
+  private final ShellFactory shellFactory;
+
+  /* properties of the application */
+  private final PropertyFactory propertyFactory;
+
+  /* logger of the application */
+  private final ClientLogger clientLogger;
+
+  public NaluRuntime() {
+    this.controllerFactory = new ControllerFactory();
+    this.compositeFactory = new CompositeFactory();
+    this.shellFactory = new ShellFactory();
+    this.propertyFactory = new PropertyFactory();
+    this.clientLogger = new ClientLogger();
+  }
+
+  /**
+   * Returns the current runtime. In case there is no current runtime,
+   * a runtime is created and set as current runtime.
+   *
+   * @return the current runtime
+   */
+  public static NaluRuntime current() {
+    NaluRuntime runtime = NaluRuntime.scope.get();
+    if (runtime == null) {
+      runtime = new NaluRuntime();
+      NaluRuntime.scope.set(runtime);
+    }
+    return runtime;
+  }
+
+  /**
+   * Sets the scope, which stores the current runtime. Set the scope
+   * before the first application is created.
+   *
+   * @param scope the scope of the current runtime
+   */
+  public static void setScope(Scope scope) {
+    NaluRuntime.scope = scope;
+  }
+
+  /**
+   * Sets this runtime as current runtime.
+   */
+  public void enter() {
+    if (NaluRuntime.scope.get() != this) {
+      NaluRuntime.scope.set(this);
+    }
+  }
+
+  public ControllerFactory getControllerFactory() {
+    return controllerFactory;
+  }
+
+  public CompositeFactory getCompositeFactory() {
+    return compositeFactory;
+  }
+
+  public ShellFactory getShellFactory() {
+    return shellFactory;
+  }
+
+  public PropertyFactory getPropertyFactory() {
+    return propertyFactory;
+  }
+
+  public ClientLogger getClientLogger() {
+    return clientLogger;
+  }
+
+  /**
+   * Stores the current runtime.
+   */
+  public interface Scope {
+
+    NaluRuntime get();
+
+    void set(NaluRuntime runtime);
+
+  }
+
+  /* one current runtime per JS context or JVM */
+  private static class StaticScope
+      implements Scope {
+
+    private NaluRuntime runtime;
+
+    @Override
+    public NaluRuntime get() {
+      return this.runtime;
+    }
+
+    @Override
+    public void set(NaluRuntime runtime) {
+      this.runtime = runtime;
+    }
+
+  }
+
+}
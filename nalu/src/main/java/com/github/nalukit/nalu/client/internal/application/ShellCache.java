@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.cache.IsCacheStatistics;
+import com.github.nalukit.nalu.client.component.IsShell;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of shells (key: class name of the shell).
+ * <p>
+ * Shells are added by calling <code>router.storeShellInCache(shell)</code>.
+ * A cached shell is not re-created in case the application switches back to
+ * it. The instance is attached again and the controllers of the shell-level
+ * routes are reused.
+ * <p>
+ * Shells are only removed by calling <code>router.removeShellFromCache(shell)</code>
+ * or <code>router.clearShellCache()</code>. Evicted shells are torn down by the
+ * router. A shell, that is attached at the time of the eviction, will be
+ * handled like a not cached shell the next time the shell changes.
+ */
+public class ShellCache
+    implements IsCacheStatistics {
+
+  /* cached shells */
+  private Map<String, IsShell> shells;
+
+  /* tears down evicted shells */
+  private EvictionHandler evictionHandler;
+
+  /* number of reused shells */
+  private long hits;
+
+  /* number of created shells */
+  private long misses;
+
+  ShellCache() {
+    this.shells = new LinkedHashMap<>();
+  }
+
+  IsShell get(String shellClassName) {
+    IsShell shell = this.shells.get(shellClassName);
+    if (shell == null) {
+      this.misses++;
+    } else {
+      this.hits++;
+    }
+    return shell;
+  }
+
+  void put(String shellClassName,
+           IsShell shell) {
+    this.shells.put(shellClassName,
+                    shell);
+  }
+
+  boolean contains(String shellClassName) {
+    return this.shells.containsKey(shellClassName);
+  }
+
+  void remove(String shellClassName) {
+    IsShell shell = this.shells.remove(shellClassName);
+    if (shell != null &&
+        this.evictionHandler != null) {
+      this.evictionHandler.onEvict(shell);
+    }
+  }
+
+  void clear() {
+    List<String> shellClassNames = new ArrayList<>(this.shells.keySet());
+    shellClassNames.forEach(this::remove);
+  }
+
+  void setEvictionHandler(EvictionHandler evictionHandler) {
+    this.evictionHandler = evictionHandler;
+  }
+
+  /**
+   * Resets the statistics.
+   */
+  @Override
+  public void resetStatistics() {
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /**
+   * Number of shells, that are reused instead of created.
+   *
+   * @return number of cache hits
+   */
+  @Override
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Number of shells, that are created, because they are not cached.
+   *
+   * @return number of cache misses
+   */
+  @Override
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Number of cached shells.
+   *
+   * @return size of the cache
+   */
+  @Override
+  public int getSize() {
+    return this.shells.size();
+  }
+
+  /**
+   * Called in case a shell is removed from the cache.
+   */
+  @FunctionalInterface
+  public interface EvictionHandler {
+
+    void onEvict(IsShell shell);
+
+  }
+
+}
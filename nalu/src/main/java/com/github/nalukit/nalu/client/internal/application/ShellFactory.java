@@ -16,6 +16,7 @@
 
 package com.github.nalukit.nalu.client.internal.application;
 
+import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.internal.annotation.NaluInternalUse;
 
 import java.util.HashMap;
@@ -24,21 +25,25 @@ import java.util.Map;
 @NaluInternalUse
 public class ShellFactory {
 
-  /* instance of the controller factory */
-  private static ShellFactory instance;
-
   /* map of components (key: name of class, Value: ShellCreator */
   private Map<String, IsShellCreator> shellFactory;
 
-  private ShellFactory() {
+  /* cached shells */
+  private ShellCache shellStore;
+
+  public ShellFactory() {
     this.shellFactory = new HashMap<>();
+    this.shellStore = new ShellCache();
   }
 
+  /**
+   * Returns the shell factory of the current runtime.
+   *
+   * @return the shell factory of the current runtime
+   */
   public static ShellFactory get() {
-    if (instance == null) {
-      instance = new ShellFactory();
-    }
-    return instance;
+    return NaluRuntime.current()
+                      .getShellFactory();
   }
 
   public void registerShell(String shellName,
@@ -49,10 +54,45 @@ public class ShellFactory {
 
   public ShellInstance shell(String shellName) {
     if (this.shellFactory.containsKey(shellName)) {
+      IsShell storedShell = this.shellStore.get(shellName);
+      if (storedShell != null) {
+        ShellInstance shellInstance = new ShellInstance();
+        shellInstance.setShellClassName(shellName);
+        shellInstance.setShell(storedShell);
+        shellInstance.setCached(true);
+        return shellInstance;
+      }
       return this.shellFactory.get(shellName)
                               .create();
     }
     return null;
   }
 
+  public boolean isStoredInCache(String shellClassName) {
+    return this.shellStore.contains(shellClassName);
+  }
+
+  public void storeInCache(IsShell shell) {
+    this.shellStore.put(shell.getClass()
+                             .getCanonicalName(),
+                        shell);
+  }
+
+  public void removeFromCache(IsShell shell) {
+    this.shellStore.remove(shell.getClass()
+                                .getCanonicalName());
+  }
+
+  public void clearShellCache() {
+    this.shellStore.clear();
+  }
+
+  public ShellCache getShellCache() {
+    return this.shellStore;
+  }
+
+  public void setShellEvictionHandler(ShellCache.EvictionHandler evictionHandler) {
+    this.shellStore.setEvictionHandler(evictionHandler);
+  }
+
 }
@@ -28,6 +28,9 @@ public class ShellInstance {
   /* controller */
   private IsShell shell;
 
+  /* flag, that indicates weather the shell is reused or not */
+  private boolean cached;
+
   public ShellInstance() {
   }
 
@@ -47,4 +50,12 @@ public class ShellInstance {
     this.shell = shell;
   }
 
+  public boolean isCached() {
+    return cached;
+  }
+
+  public void setCached(boolean cached) {
+    this.cached = cached;
+  }
+
 }
@@ -16,28 +16,29 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import com.github.nalukit.nalu.client.Nalu;
+import com.github.nalukit.nalu.client.cache.IsCacheStatistics;
+import com.github.nalukit.nalu.client.cache.IsCompositeCache;
+import com.github.nalukit.nalu.client.cache.IsControllerCache;
+import com.github.nalukit.nalu.client.cache.IsControllerPrefetcher;
+import com.github.nalukit.nalu.client.cache.IsRouteResolutionCache;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.component.AbstractCompositeController;
 import com.github.nalukit.nalu.client.component.IsShell;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
 import com.github.nalukit.nalu.client.filter.IsFilter;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
-import com.github.nalukit.nalu.client.internal.PropertyFactory;
 import com.github.nalukit.nalu.client.internal.application.*;
 import com.github.nalukit.nalu.client.model.NaluErrorMessage;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 abstract class AbstractRouter
     implements ConfiguratableRouter {
 
-  private final static String NALU_SLASH_REPLACEMENT = "--U972--";
+  final static String NALU_SLASH_REPLACEMENT = "--U972--";
 
   private static final String NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE = "NoControllerInstance";
 
@@ -45,8 +46,15 @@ abstract class AbstractRouter
 
   private static final String NALU_ERROR_TYPE_LOOP_DETECTED = "RoutingLoopDEtected";
 
+  /* max number of compiled routes used by generate */
+  private static final int ROUTE_TEMPLATE_CACHE_SIZE = 256;
+
   // the plugin
   IsNaluProcessorPlugin plugin;
+  // runtime of the application, owns the factories used by the router
+  private NaluRuntime                                       runtime;
+  // logs using the logger of the runtime
+  private RouterLogger                                      logger;
   // route in case of route error
   private String                                            routeError;
   // the latest error object
@@ -57,8 +65,8 @@ abstract class AbstractRouter
   private ShellConfiguration                                shellConfiguration;
   // List of the routes of the application
   private RouterConfiguration                               routerConfiguration;
-  // List of active components
-  private Map<String, AbstractComponentController<?, ?, ?>> activeComponents;
+  // registry of active components (key: selector)
+  private ActiveControllerRegistry                          activeControllers;
   // hash of last successful routing
   private String                                            lastExecutedHash = "";
   // last added shell - used, to check if the shell needs an shell replacement
@@ -66,14 +74,32 @@ abstract class AbstractRouter
   // instance of the current shell
   private IsShell                                           shell;
   // list of routes used for handling the current route - used to detect loops
-  private List<String>                                      loopDetectionList;
+  private RedirectTracker                                   redirectTracker;
+  // cache of resolved hashes
+  private RouteResolutionCache                              routeResolutionCache;
+  // compiled routes used to generate urls (key: route)
+  private Map<String, RouteTemplate>                        routeTemplates;
+  // executes the async filters of a routing
+  private AsyncFilterChain                                  asyncFilterChain;
+  // requested navigations
+  private NavigationQueue                                   navigationQueue;
+  // prefetches the controllers of the likely next routes
+  private ControllerPrefetcher                              controllerPrefetcher;
+  // id of the current routing, controllers loaded for an older routing are discarded
+  private int                                               routingId;
+  // controllers of the shell-level routes of cached shells (key: class name of the shell)
+  private Map<String, List<AbstractComponentController<?, ?, ?>>> shellControllers;
 
   AbstractRouter(List<CompositeControllerReference> compositeControllerReferences,
                  ShellConfiguration shellConfiguration,
                  RouterConfiguration routerConfiguration,
                  IsNaluProcessorPlugin plugin,
                  boolean usingHash,
-                 boolean usingColonForParametersInUrl) {
+                 boolean usingColonForParametersInUrl,
+                 NaluRuntime runtime) {
+    // save the runtime
+    this.runtime = runtime;
+    this.logger = new RouterLogger(runtime.getClientLogger());
     // save the composite configuration reference
     this.compositeControllerReferences = compositeControllerReferences;
     // save the shell configuration reference
@@ -83,12 +109,36 @@ abstract class AbstractRouter
     // save te plugin
     this.plugin = plugin;
     // inistantiate lists, etc.
-    this.activeComponents = new HashMap<>();
-    this.loopDetectionList = new ArrayList<>();
+    this.activeControllers = new ActiveControllerRegistry();
+    this.redirectTracker = new RedirectTracker();
+    this.routeResolutionCache = new RouteResolutionCache();
+    this.asyncFilterChain = new AsyncFilterChain();
+    this.navigationQueue = new NavigationQueue();
+    this.controllerPrefetcher = new ControllerPrefetcher();
+    this.shellControllers = new HashMap<>();
+    this.routeTemplates = new LinkedHashMap<String, RouteTemplate>(16,
+                                                                   0.75f,
+                                                                   true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, RouteTemplate> eldest) {
+        return size() > AbstractRouter.ROUTE_TEMPLATE_CACHE_SIZE;
+      }
+
+    };
+    // evicted controllers need to be stopped
+    this.runtime.getControllerFactory()
+                .setControllerEvictionHandler(this::evictController);
+    // ... and so do evicted shells
+    this.runtime.getShellFactory()
+                .setShellEvictionHandler(this::evictShell);
+    // ... and composites
+    this.runtime.getCompositeFactory()
+                .setCompositeEvictionHandler(this::evictComposite);
     // set up PropertyFactory
-    PropertyFactory.get()
-                   .register(usingHash,
-                             usingColonForParametersInUrl);
+    this.runtime.getPropertyFactory()
+                .register(usingHash,
+                          usingColonForParametersInUrl);
   }
 
   /**
@@ -121,6 +171,35 @@ abstract class AbstractRouter
     this.routeError = routeError;
   }
 
+  /**
+   * Sets the max number of redirects of a navigation. In case the max number
+   * of redirects is reached, Nalu will stop routing and use the error route.
+   *
+   * @param maxRedirectDepth max number of redirects of a navigation
+   */
+  public void setMaxRedirectDepth(int maxRedirectDepth) {
+    this.redirectTracker.setMaxRedirectDepth(maxRedirectDepth);
+  }
+
+  /**
+   * Sets the time (in milliseconds) a positive decision of an async filter
+   * is reused for the same route and parameters. 0 (default) disables the
+   * caching of decisions.
+   *
+   * @param decisionCacheWindow time in milliseconds a decision is reused
+   */
+  public void setAsyncFilterDecisionCacheWindow(long decisionCacheWindow) {
+    this.asyncFilterChain.setDecisionCacheWindow(decisionCacheWindow);
+  }
+
+  /**
+   * Removes all cached decisions of the async filters. The next navigation
+   * calls the async filters again.
+   */
+  public void clearAsyncFilterDecisions() {
+    this.asyncFilterChain.clearDecisions();
+  }
+
   /**
    * Stores the instance of the controller in the cache, so that it can be reused the next time
    * the route is called.
@@ -129,9 +208,10 @@ abstract class AbstractRouter
    * @param <C>        controller type
    */
   public <C extends AbstractComponentController<?, ?, ?>> void storeInCache(C controller) {
-    ControllerFactory.get()
-                     .storeInCache(controller);
+    // mark the controller first: in case the cache evicts it at once (f.e.: max size 0), the eviction resets the flag
     controller.setCached(true);
+    this.runtime.getControllerFactory()
+                .storeInCache(controller);
   }
 
   /**
@@ -141,65 +221,142 @@ abstract class AbstractRouter
    * @param <C>        controller type
    */
   public <C extends AbstractComponentController<?, ?, ?>> void removeFromCache(C controller) {
-    ControllerFactory.get()
-                     .removeFromCache(controller);
+    this.runtime.getControllerFactory()
+                .removeFromCache(controller);
     controller.setCached(false);
   }
 
+  /**
+   * Stores the instance of the shell in the cache, so that it can be reattached
+   * the next time the shell is used. The controllers of the shell-level routes
+   * are reused as well.
+   *
+   * @param shell shell to store
+   */
+  public void storeShellInCache(IsShell shell) {
+    this.runtime.getShellFactory()
+                .storeInCache(shell);
+  }
+
+  /**
+   * Removes a shell from the chache. The controllers of the shell-level routes
+   * are removed from the cache as well.
+   *
+   * @param shell shell to be removed
+   */
+  public void removeShellFromCache(IsShell shell) {
+    this.runtime.getShellFactory()
+                .removeFromCache(shell);
+  }
+
+  /**
+   * Removes all shells from the cache.
+   */
+  public void clearShellCache() {
+    this.runtime.getShellFactory()
+                .clearShellCache();
+  }
+
+  /**
+   * Marks the composite as cached. In case the controller of the composite
+   * is stopped, the composite is deactivated instead of stopped and will
+   * be reused by the next controller using the composite.
+   *
+   * @param composite composite to store
+   * @param <C>       composite type
+   */
+  public <C extends AbstractCompositeController<?, ?, ?>> void storeCompositeInCache(C composite) {
+    composite.setCached(true);
+  }
+
+  /**
+   * Removes a composite from the chache. In case the composite is not used
+   * by a controller, it will be stopped.
+   *
+   * @param composite composite to be removed
+   * @param <C>       composite type
+   */
+  public <C extends AbstractCompositeController<?, ?, ?>> void removeCompositeFromCache(C composite) {
+    composite.setCached(false);
+    this.runtime.getCompositeFactory()
+                .removeFromCache(composite);
+  }
+
+  /**
+   * Stops all composites, that are not used by a controller, and removes them from the cache.
+   */
+  public void clearCompositeCache() {
+    this.runtime.getCompositeFactory()
+                .clearCompositeCache();
+  }
+
   /**
    * clears the chache
    */
   public void clearCache() {
-    ControllerFactory.get()
-                     .clearControllerCache();
+    this.runtime.getControllerFactory()
+                .clearControllerCache();
   }
 
   void handleRouting(String hash) {
+    // the generated code resolves the factories through the current runtime
+    this.runtime.enter();
     // in some cases the hash contains protocoll, port and URI, we clean it
     if (hash.contains("#")) {
       hash = hash.substring(hash.indexOf("#") + 1);
     }
     // logg hash
-    RouterLogger.logHandleHash(hash);
-    // save have to loo detector list ...
-    if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(hash))) {
-      // loop discovered .... -> show message
-      String message = RouterLogger.logLoopDetected(this.loopDetectionList.get(0));
+    this.logger.logHandleHash(hash);
+    // a new routing cancels the async filters of the current one
+    this.asyncFilterChain.cancel();
+    // ... and outdates the controllers, that are still loading
+    this.routingId++;
+    // check for redirect loops ...
+    if (this.redirectTracker.contains(hash) ||
+        this.redirectTracker.isMaxRedirectDepthReached()) {
+      String message = this.redirectTracker.contains(hash) ?
+                       this.logger.logLoopDetected(this.redirectTracker.getChain(),
+                                                   hash) :
+                       this.logger.logMaxRedirectDepthReached(this.redirectTracker.getChain(),
+                                                              hash,
+                                                              this.redirectTracker.getMaxRedirectDepth());
       // check, if there is a loop containing the error route
-      if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(this.routeError))) {
+      if (Objects.isNull(this.routeError) ||
+          this.redirectTracker.contains(this.routeError)) {
         // YES!! -> just use the alert feature of the plugin
         this.plugin.alert(message);
       } else {
         // NO!! -> route to error site ....
         this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_LOOP_DETECTED,
                                                      message);
-        this.loopDetectionList.add(pimpUpHashForLoopDetection(this.routeError));
+        // the error route starts a new chain, so a loop inside the error route will be detected
+        this.redirectTracker.clear();
         this.route(this.routeError);
       }
       // abort handling!
       return;
-    } else {
-      this.loopDetectionList.add(pimpUpHashForLoopDetection(hash));
     }
+    this.redirectTracker.add(hash);
     // parse hash ...
     RouteResult routeResult;
+    List<RouteConfig> routeConfigurations;
     try {
-      routeResult = this.parse(hash);
+      RouteResolutionCache.RouteResolution routeResolution = this.resolve(hash);
+      routeResult = routeResolution.getRouteResult();
+      routeConfigurations = routeResolution.getRouteConfigs();
     } catch (RouterException e) {
       this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE,
-                                                   RouterLogger.logNoMatchingRoute(hash,
-                                                                                   this.routeError));
+                                                   this.logger.logNoMatchingRoute(hash,
+                                                                                  this.routeError));
       if (!Objects.isNull(this.routeError)) {
-        // loop discovered .... -> show message
-        String message = RouterLogger.logLoopDetected(this.loopDetectionList.get(0));
         // check, if there is a loop containing the error route
-        if (this.loopDetectionList.contains(pimpUpHashForLoopDetection(this.routeError))) {
+        if (this.redirectTracker.contains(this.routeError)) {
           // YES!! -> just use the alert feature of the plugin
-          this.plugin.alert(message);
+          this.plugin.alert(this.logger.logLoopDetected(this.redirectTracker.getChain(),
+                                                        this.routeError));
           return;
         }
-        RouterLogger.logUseErrorRoute(this.routeError);
-        this.loopDetectionList.add(pimpUpHashForLoopDetection(hash));
+        this.logger.logUseErrorRoute(this.routeError);
         this.route(this.routeError,
                    true);
       } else {
@@ -208,28 +365,129 @@ abstract class AbstractRouter
       }
       return;
     }
+    // the parameter values are copied once per navigation, filters and controllers get the copy
+    String[] parms = routeResult.getParameterValuesAsArray();
     // First we have to check if there is a filter
     // if there are filters ==>  filter the route
     for (IsFilter filter : this.routerConfiguration.getFilters()) {
       if (!filter.filter(addLeadindgSlash(routeResult.getRoute()),
-                         routeResult.getParameterValues()
-                                    .toArray(new String[0]))) {
-        RouterLogger.logFilterInterceptsRouting(filter.getClass()
-                                                      .getCanonicalName(),
-                                                filter.redirectTo(),
-                                                filter.parameters());
+                         parms)) {
+        this.logger.logFilterInterceptsRouting(filter.getClass()
+                                                     .getCanonicalName(),
+                                               filter.redirectTo(),
+                                               filter.parameters());
         this.route(filter.redirectTo(),
                    true,
                    filter.parameters());
         return;
       }
     }
-    // search for a matching routing
-    List<RouteConfig> routeConfigurations = this.routerConfiguration.match(routeResult.getRoute());
+    // in case there are no async filters, we can route immediately
+    if (this.routerConfiguration.getAsyncFilters()
+                                .isEmpty()) {
+      this.handleFilteredRouting(hash,
+                                 routeResult,
+                                 parms,
+                                 routeConfigurations);
+      return;
+    }
+    // otherwise routing continues once the async filters accepted the route
+    final String filteredHash = hash;
+    final RouteResult filteredRouteResult = routeResult;
+    final List<RouteConfig> filteredRouteConfigurations = routeConfigurations;
+    final NavigationQueue.Navigation navigation = this.navigationQueue.getCurrent();
+    this.asyncFilterChain.execute(this.routerConfiguration.getAsyncFilters(),
+                                  addLeadindgSlash(routeResult.getRoute()),
+                                  parms,
+                                  new AsyncFilterChain.Handler() {
+
+                                    @Override
+                                    public void onProceed() {
+                                      if (isNavigationSuperseded(filteredHash)) {
+                                        return;
+                                      }
+                                      // the filters proceeded synchronously (f.e. a cached decision):
+                                      // the navigation is still executed and completed by executeNavigations
+                                      if (navigationQueue.isExecuting()) {
+                                        handleFilteredRouting(filteredHash,
+                                                              filteredRouteResult,
+                                                              parms,
+                                                              filteredRouteConfigurations);
+                                        return;
+                                      }
+                                      // continue the navigation, so that redirects replace it
+                                      navigationQueue.resume(navigation);
+                                      try {
+                                        handleFilteredRouting(filteredHash,
+                                                              filteredRouteResult,
+                                                              parms,
+                                                              filteredRouteConfigurations);
+                                      } finally {
+                                        navigationQueue.complete();
+                                      }
+                                      executeNavigations();
+                                    }
+
+                                    @Override
+                                    public void onRedirect(IsAsyncFilter filter) {
+                                      logger.logFilterInterceptsRouting(filter.getClass()
+                                                                              .getCanonicalName(),
+                                                                        filter.redirectTo(),
+                                                                        filter.parameters());
+                                      route(filter.redirectTo(),
+                                            true,
+                                            filter.parameters());
+                                    }
+
+                                  });
+  }
+
+  private void handleFilteredRouting(String hash,
+                                     RouteResult routeResult,
+                                     String[] parms,
+                                     List<RouteConfig> targetRouteConfigurations) {
+    // controllers that stay in their selector with the same route and parameters are kept
+    List<RouteConfig> routeConfigurations = this.getChangedRouteConfigurations(routeResult,
+                                                                               targetRouteConfigurations);
+    if (routeConfigurations.isEmpty()) {
+      // update kept controllers with changed parameters ...
+      if (!this.updateParameters(routeResult,
+                                 parms,
+                                 targetRouteConfigurations)) {
+        return;
+      }
+      this.logger.logNoControllerChanged(hash);
+      this.controllerPrefetcher.record(this.lastExecutedHash,
+                                       hash);
+      // save current hash
+      this.lastExecutedHash = hash;
+      // clear loo detection list ...
+      this.redirectTracker.clear();
+      this.schedulePrefetching(hash);
+      return;
+    }
     // check whether or not the routing is possible ...
     if (this.confirmRouting(routeConfigurations)) {
+      this.controllerPrefetcher.record(this.lastExecutedHash,
+                                       hash);
+      // in case the shell changes and is cached, the controllers of the shell-level routes are deactivated instead of stopped
+      if (!routeResult.getShell()
+                      .equals(this.lastAddedShell)) {
+        this.storeShellControllersInCache();
+      }
       // call stop for all elements
       this.stopController(routeConfigurations);
+      // controllers might be loaded asynchronously, the shell is notified once all of them are handled
+      PendingControllers pendingControllers = new PendingControllers(routeConfigurations.size(),
+                                                                     () -> {
+                                                                       if (this.isNavigationSuperseded(hash)) {
+                                                                         return;
+                                                                       }
+                                                                       this.shell.onAttachedComponent();
+                                                                       this.logger.logShellOnAttachedComponentMethodCalled(this.shell.getClass()
+                                                                                                                                     .getCanonicalName());
+                                                                       this.schedulePrefetching(hash);
+                                                                     });
       // handle shellCreator
       //
       // in case shellCreator changed or is not set, use the actual shellCreator!
@@ -238,19 +496,19 @@ abstract class AbstractRouter
         // add shellCreator to the viewport
         ShellConfig shellConfig = this.shellConfiguration.match(routeResult.getShell());
         if (!Objects.isNull(shellConfig)) {
-          ShellInstance shellInstance = ShellFactory.get()
+          ShellInstance shellInstance = this.runtime.getShellFactory()
                                                     .shell(shellConfig.getClassName());
           if (!Objects.isNull(shellInstance)) {
             // in case there is an instance of an shellCreator existing, call the onDetach mehtod inside the shellCreator
             if (!Objects.isNull(this.shell)) {
-              ClientLogger.get()
+              this.runtime.getClientLogger()
                           .logDetailed("Router: detach shellCreator >>" +
                                        this.shell.getClass()
                                                  .getCanonicalName() +
                                        "<<",
                                        1);
               this.shell.detachShell();
-              ClientLogger.get()
+              this.runtime.getClientLogger()
                           .logDetailed("Router: shellCreator >>" +
                                        this.shell.getClass()
                                                  .getCanonicalName() +
@@ -262,83 +520,385 @@ abstract class AbstractRouter
             // save the last added shellCreator ....
             this.lastAddedShell = routeResult.getShell();
             // initialize shellCreator ...
-            ClientLogger.get()
-                        .logDetailed("Router: attach shellCreator >>" + routeResult.getShell() + "<<",
+            this.runtime.getClientLogger()
+                        .logDetailed("Router: attach " +
+                                     (shellInstance.isCached() ? "cached " : "") +
+                                     "shellCreator >>" +
+                                     routeResult.getShell() +
+                                     "<<",
                                      1);
             shellInstance.getShell()
                          .attachShell();
-            ClientLogger.get()
+            this.runtime.getClientLogger()
                         .logDetailed("Router: shellCreator >>" + routeResult.getShell() + "<< attached",
                                      1);
             // start the application by calling url + '#'
-            ClientLogger.get()
+            this.runtime.getClientLogger()
                         .logDetailed("Router: initialize shellCreator >>" + routeResult.getShell() + "<< (route to '/')",
                                      1);
             // get shellCreator matching root configs ...
             List<RouteConfig> shellMatchingRouteConfigurations = this.routerConfiguration.match(routeResult.getShell());
+            pendingControllers.add(shellMatchingRouteConfigurations.size());
             for (RouteConfig routeConfiguraion : shellMatchingRouteConfigurations) {
+              if (this.isNavigationSuperseded(hash)) {
+                return;
+              }
               this.handleRouteConfig(routeConfiguraion,
                                      routeResult,
-                                     hash);
+                                     parms,
+                                     hash,
+                                     pendingControllers);
             }
           }
         } else {
-          RouterLogger.logUseErrorRoute(this.routeError);
+          this.logger.logUseErrorRoute(this.routeError);
           this.route(this.routeError,
                      true);
         }
       }
+      // update kept controllers with changed parameters ...
+      if (!this.updateParameters(routeResult,
+                                 parms,
+                                 targetRouteConfigurations)) {
+        return;
+      }
       // routing
       for (RouteConfig routeConfiguraion : routeConfigurations) {
+        if (this.isNavigationSuperseded(hash)) {
+          return;
+        }
         this.handleRouteConfig(routeConfiguraion,
                                routeResult,
-                               hash);
+                               parms,
+                               hash,
+                               pendingControllers);
       }
-      this.shell.onAttachedComponent();
-      RouterLogger.logShellOnAttachedComponentMethodCalled(this.shell.getClass()
-                                                                     .getCanonicalName());
-
     } else {
       this.plugin.route("#" + this.lastExecutedHash,
                         false,
-                        Nalu.isUsingHash());
+                        this.runtime.getPropertyFactory()
+                                    .isUsingHash());
+    }
+  }
+
+  /**
+   * Compares the active controllers with the target route configurations and
+   * returns the route configurations, which need a new controller. A controller
+   * is kept, in case it is active in the selector for the same route, controller
+   * class and parameter values. A controller using
+   * <code>reuseOnParameterChange = true</code> is also kept, in case only the
+   * parameter values have changed.
+   * <p>
+   * In case the shell changes, all route configurations are returned.
+   *
+   * @param routeResult         the target route
+   * @param routeConfigurations the route configurations of the target route
+   * @return the route configurations, which need a new controller
+   */
+  private List<RouteConfig> getChangedRouteConfigurations(RouteResult routeResult,
+                                                          List<RouteConfig> routeConfigurations) {
+    if (!routeResult.getShell()
+                    .equals(this.lastAddedShell)) {
+      return routeConfigurations;
+    }
+    // the list is only created, in case there is an unchanged controller
+    List<RouteConfig> changedRouteConfigurations = null;
+    for (int i = 0; i < routeConfigurations.size(); i++) {
+      RouteConfig routeConfiguration = routeConfigurations.get(i);
+      ActiveControllerRegistry.ActiveController activeController = this.activeControllers.get(routeConfiguration.getSelector());
+      boolean unchanged = !Objects.isNull(activeController) &&
+                          (routeConfiguration.isReusingControllerOnParameterChange() ?
+                           activeController.isActiveFor(routeConfiguration.getRoute(),
+                                                        routeConfiguration.getClassName()) :
+                           activeController.isActiveFor(routeConfiguration.getRoute(),
+                                                        routeConfiguration.getClassName(),
+                                                        routeResult.parameterValues()));
+      if (unchanged) {
+        if (Objects.isNull(changedRouteConfigurations)) {
+          changedRouteConfigurations = new ArrayList<>(routeConfigurations.subList(0,
+                                                                                   i));
+        }
+        this.logger.logControllerKept(activeController.getController()
+                                                      .getClass()
+                                                      .getCanonicalName(),
+                                      routeConfiguration.getSelector());
+      } else if (!Objects.isNull(changedRouteConfigurations)) {
+        changedRouteConfigurations.add(routeConfiguration);
+      }
+    }
+    return Objects.isNull(changedRouteConfigurations) ? routeConfigurations : changedRouteConfigurations;
+  }
+
+  /**
+   * Sets the new parameter values for all kept controllers, which are using
+   * <code>reuseOnParameterChange = true</code> and whose parameter values have
+   * changed. Instead of stopping and starting the controller, the methods
+   * annotated with AcceptParameter and onParametersChanged() are called.
+   *
+   * @param routeResult         the target route
+   * @param parms               copy of the parameter values of the navigation
+   * @param routeConfigurations the route configurations of the target route
+   * @return false: a controller interrupted the routing
+   */
+  private boolean updateParameters(RouteResult routeResult,
+                                   String[] parms,
+                                   List<RouteConfig> routeConfigurations) {
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      if (!routeConfiguration.isReusingControllerOnParameterChange()) {
+        continue;
+      }
+      ActiveControllerRegistry.ActiveController activeController = this.activeControllers.get(routeConfiguration.getSelector());
+      if (Objects.isNull(activeController) ||
+          !activeController.isActiveFor(routeConfiguration.getRoute(),
+                                        routeConfiguration.getClassName()) ||
+          Arrays.equals(activeController.getParameterValues(),
+                        routeResult.parameterValues())) {
+        continue;
+      }
+      try {
+        this.runtime.getControllerFactory()
+                    .setParameters(routeConfiguration.getClassName(),
+                                   activeController.getController(),
+                                   parms);
+      } catch (RoutingInterceptionException e) {
+        this.logger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                   e.getRoute(),
+                                                   e.getParameter());
+        this.route(e.getRoute(),
+                   true,
+                   e.getParameter());
+        return false;
+      }
+      activeController.setParameterValues(routeResult.parameterValues());
+      activeController.getController()
+                      .onParametersChanged();
+      this.logger.logControllerOnParametersChangedMethodCalled(activeController.getController()
+                                                                               .getClass()
+                                                                               .getCanonicalName());
     }
+    return true;
+  }
+
+  /**
+   * Schedules the prefetching of the controllers of the most likely next
+   * routes. The prefetching is executed once the browser is idle.
+   *
+   * @param hash the routed hash
+   */
+  private void schedulePrefetching(String hash) {
+    if (!this.controllerPrefetcher.isEnabled()) {
+      return;
+    }
+    this.plugin.scheduleIdle(() -> this.prefetch(hash));
+  }
+
+  private void prefetch(String hash) {
+    // a new navigation was requested in the meantime
+    if (!hash.equals(this.lastExecutedHash) ||
+        this.navigationQueue.isExecuting() ||
+        this.navigationQueue.hasPending()) {
+      return;
+    }
+    for (String target : this.controllerPrefetcher.getLikelyTargets(hash)) {
+      RouteResolutionCache.RouteResolution routeResolution;
+      try {
+        routeResolution = this.resolve(target);
+      } catch (RouterException e) {
+        continue;
+      }
+      String[] parms = routeResolution.getRouteResult()
+                                      .getParameterValuesAsArray();
+      // controllers of routes, that might be rejected by a filter, are not prefetched
+      if (!this.isAcceptedByFilters(routeResolution.getRouteResult(),
+                                    parms)) {
+        continue;
+      }
+      String[] parameterValues = routeResolution.getRouteResult()
+                                                .parameterValues();
+      for (RouteConfig routeConfiguration : routeResolution.getRouteConfigs()) {
+        // the controller will be kept, cached, is already prefetched or is loading for a routing
+        ActiveControllerRegistry.ActiveController activeController = this.activeControllers.get(routeConfiguration.getSelector());
+        if ((!Objects.isNull(activeController) &&
+             activeController.isActiveFor(routeConfiguration.getRoute(),
+                                          routeConfiguration.getClassName(),
+                                          parameterValues)) ||
+            this.runtime.getControllerFactory()
+                        .isStoredInCache(routeConfiguration.getClassName()) ||
+            this.runtime.getControllerFactory()
+                        .isLoading(routeConfiguration.getClassName()) ||
+            this.controllerPrefetcher.contains(routeConfiguration.getClassName(),
+                                               parameterValues)) {
+          continue;
+        }
+        this.runtime.getControllerFactory()
+                    .controller(routeConfiguration.getClassName(),
+                                new IsControllerCreator.Callback() {
+
+                                  @Override
+                                  public void onCreate(ControllerInstance controllerInstance) {
+                                    if (!Objects.isNull(controllerInstance) &&
+                                        !Objects.isNull(controllerInstance.getController()) &&
+                                        !controllerInstance.isChached()) {
+                                      // the handlers of the scoped event bus wait until the controller is adopted
+                                      controllerInstance.getController()
+                                                        .suspendScopedHandlers();
+                                      controllerPrefetcher.put(routeConfiguration.getClassName(),
+                                                               parameterValues,
+                                                               controllerInstance);
+                                      logger.logControllerPrefetched(routeConfiguration.getClassName(),
+                                                                     target);
+                                    }
+                                  }
+
+                                  @Override
+                                  public void onRoutingInterception(RoutingInterceptionException e) {
+                                    // the controller will intercept the routing, nothing to prefetch
+                                  }
+
+                                  @Override
+                                  public void onFailure(Throwable reason) {
+                                    // the controller will be loaded again during the routing
+                                  }
+
+                                },
+                                parms);
+      }
+    }
+  }
+
+  /**
+   * Checks the filters without executing the routing. The sync filters are
+   * called, the async filters are only checked against their cached
+   * decisions.
+   *
+   * @param routeResult the route to check
+   * @param parms       copy of the parameter values of the route
+   * @return true: all filters accept the route
+   */
+  private boolean isAcceptedByFilters(RouteResult routeResult,
+                                      String[] parms) {
+    for (IsFilter filter : this.routerConfiguration.getFilters()) {
+      if (!filter.filter(addLeadindgSlash(routeResult.getRoute()),
+                         parms)) {
+        return false;
+      }
+    }
+    return this.routerConfiguration.getAsyncFilters()
+                                   .isEmpty() ||
+           this.asyncFilterChain.isAccepted(this.routerConfiguration.getAsyncFilters(),
+                                            addLeadindgSlash(routeResult.getRoute()),
+                                            routeResult.parameterValues());
   }
 
   private void handleRouteConfig(RouteConfig routeConfiguraion,
                                  RouteResult routeResult,
-                                 String hash) {
-    ControllerInstance controller;
-    try {
-      controller = ControllerFactory.get()
-                                    .controller(routeConfiguraion.getClassName(),
-                                                routeResult.getParameterValues()
-                                                           .toArray(new String[0]));
-    } catch (RoutingInterceptionException e) {
-      RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
-                                                  e.getRoute(),
-                                                  e.getParameter());
-      this.route(e.getRoute(),
-                 true,
-                 e.getParameter());
+                                 String[] parms,
+                                 String hash,
+                                 PendingControllers pendingControllers) {
+    // a prefetched controller is adopted, in case the controller is not cached
+    if (!this.runtime.getControllerFactory()
+                     .isStoredInCache(routeConfiguraion.getClassName())) {
+      ControllerInstance controller = this.controllerPrefetcher.take(routeConfiguraion.getClassName(),
+                                                                     routeResult.parameterValues());
+      if (!Objects.isNull(controller)) {
+        this.logger.logPrefetchedControllerAdopted(routeConfiguraion.getClassName());
+        controller.getController()
+                  .resumeScopedHandlers();
+        doRouting(hash,
+                  routeResult,
+                  parms,
+                  routeConfiguraion,
+                  controller);
+        pendingControllers.done();
+        return;
+      }
+    }
+    // the controller might be loaded asynchronously, in the meantime a new routing might have started
+    final int routingId = this.routingId;
+    this.runtime.getControllerFactory()
+                .controller(routeConfiguraion.getClassName(),
+                            new IsControllerCreator.Callback() {
+
+                              @Override
+                              public void onCreate(ControllerInstance controller) {
+                                // an asynchronously loaded controller returns outside the routing
+                                AbstractRouter.this.runtime.enter();
+                                if (routingId != AbstractRouter.this.routingId) {
+                                  logger.logControllerLoadedForOutdatedRouting(routeConfiguraion.getClassName(),
+                                                                               hash);
+                                  discard(controller);
+                                  return;
+                                }
+                                // do the routing ...
+                                doRouting(hash,
+                                          routeResult,
+                                          parms,
+                                          routeConfiguraion,
+                                          controller);
+                                pendingControllers.done();
+                              }
+
+                              @Override
+                              public void onRoutingInterception(RoutingInterceptionException e) {
+                                if (routingId != AbstractRouter.this.routingId) {
+                                  return;
+                                }
+                                logger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                                      e.getRoute(),
+                                                                      e.getParameter());
+                                route(e.getRoute(),
+                                      true,
+                                      e.getParameter());
+                                pendingControllers.done();
+                              }
+
+                              @Override
+                              public void onFailure(Throwable reason) {
+                                if (routingId != AbstractRouter.this.routingId) {
+                                  return;
+                                }
+                                naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE,
+                                                                        logger.logControllerLoadingFailed(routeConfiguraion.getClassName(),
+                                                                                                          hash,
+                                                                                                          reason));
+                                if (!Objects.isNull(routeError)) {
+                                  logger.logUseErrorRoute(routeError);
+                                  route(routeError,
+                                        true);
+                                } else {
+                                  plugin.alert("Nalu: ups ... loading failed!");
+                                }
+                                pendingControllers.done();
+                              }
+
+                            },
+                            parms);
+  }
+
+  /* a controller, that is created but never started, only needs to remove the handlers of bind */
+  private void discard(ControllerInstance controllerInstance) {
+    if (Objects.isNull(controllerInstance) ||
+        Objects.isNull(controllerInstance.getController()) ||
+        controllerInstance.isChached()) {
       return;
     }
-    // do the routing ...
-    doRouting(hash,
-              routeResult,
-              routeConfiguraion,
-              controller);
+    controllerInstance.getController()
+                      .removeHandlers();
+    controllerInstance.getController()
+                      .getComponent()
+                      .removeHandlers();
   }
 
   private void doRouting(String hash,
                          RouteResult hashResult,
+                         String[] parms,
                          RouteConfig routeConfiguration,
                          ControllerInstance controllerInstance) {
     if (Objects.isNull(controllerInstance.getController())) {
       this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_CONTROLLER_INSTANCE,
-                                                   RouterLogger.logNoControllerFoundForHash(hash));
+                                                   this.logger.logNoControllerFoundForHash(hash));
       if (!Objects.isNull(this.routeError)) {
-        RouterLogger.logUseErrorRoute(this.routeError);
+        this.logger.logUseErrorRoute(this.routeError);
         this.route(this.routeError,
                    true);
       } else {
@@ -353,11 +913,13 @@ abstract class AbstractRouter
                         .setRouter(this);
       // composites of the controller
       List<AbstractCompositeController<?, ?, ?>> compositeControllers = new ArrayList<>();
+      // composites taken from the composite cache
+      List<AbstractCompositeController<?, ?, ?>> reusedCompositeControllers = new ArrayList<>();
       // in case the controller is not cached, that means it is newly created, we have to deal with compüosites
       // handle composite of the controller
-      RouterLogger.logControllerLookForCompositeController(controllerInstance.getController()
-                                                                             .getClass()
-                                                                             .getCanonicalName());
+      this.logger.logControllerLookForCompositeController(controllerInstance.getController()
+                                                                            .getClass()
+                                                                            .getCanonicalName());
       // get a list of compistes for this controller (might be empty ...
       List<CompositeControllerReference> compositeForController = this.getCompositeForController(controllerInstance.getController()
                                                                                                                    .getClass()
@@ -365,23 +927,25 @@ abstract class AbstractRouter
       // in case the controller is not cached, we have to deal with composites!
       if (!controllerInstance.isChached()) {
         if (compositeForController.size() > 0) {
-          RouterLogger.logControllerCompositeControllerFound(controllerInstance.getController()
-                                                                               .getClass()
-                                                                               .getCanonicalName(),
-                                                             compositeForController.size());
+          this.logger.logControllerCompositeControllerFound(controllerInstance.getController()
+                                                                              .getClass()
+                                                                              .getCanonicalName(),
+                                                            compositeForController.size());
           compositeForController.forEach(s -> {
             try {
-              CompositeInstance compositeInstance = CompositeFactory.get()
-                                                                    .getComposite(s.getComposite(),
-                                                                                  hashResult.getParameterValues()
-                                                                                            .toArray(new String[0]));
+              CompositeInstance compositeInstance = this.runtime.getCompositeFactory()
+                                                                .getComposite(s.getComposite(),
+                                                                              parms);
               if (compositeInstance == null) {
-                RouterLogger.logCompositeNotFound(controllerInstance.getController()
-                                                                    .getClass()
-                                                                    .getCanonicalName(),
-                                                  s.getCompositeName());
+                this.logger.logCompositeNotFound(controllerInstance.getController()
+                                                                   .getClass()
+                                                                   .getCanonicalName(),
+                                                 s.getCompositeName());
               } else {
                 compositeControllers.add(compositeInstance.getComposite());
+                if (compositeInstance.isCached()) {
+                  reusedCompositeControllers.add(compositeInstance.getComposite());
+                }
                 // inject router into composite
                 compositeInstance.getComposite()
                                  .setRouter(this);
@@ -390,30 +954,35 @@ abstract class AbstractRouter
                                   .getComposites()
                                   .put(s.getCompositeName(),
                                        compositeInstance.getComposite());
-                RouterLogger.logCompositeControllerInjectedInController(compositeInstance.getComposite()
+                this.logger.logCompositeControllerInjectedInController(compositeInstance.getComposite()
+                                                                                        .getClass()
+                                                                                        .getCanonicalName(),
+                                                                       controllerInstance.getController()
                                                                                          .getClass()
-                                                                                         .getCanonicalName(),
-                                                                        controllerInstance.getController()
-                                                                                          .getClass()
-                                                                                          .getCanonicalName());
+                                                                                         .getCanonicalName());
               }
             } catch (RoutingInterceptionException e) {
-              RouterLogger.logControllerInterceptsRouting(e.getControllerClassName(),
-                                                          e.getRoute(),
-                                                          e.getParameter());
+              this.logger.logControllerInterceptsRouting(e.getControllerClassName(),
+                                                         e.getRoute(),
+                                                         e.getParameter());
               this.route(e.getRoute(),
                          true,
                          e.getParameter());
             }
           });
         } else {
-          RouterLogger.logControllerNoCompositeControllerFound(controllerInstance.getController()
-                                                                                 .getClass()
-                                                                                 .getCanonicalName());
+          this.logger.logControllerNoCompositeControllerFound(controllerInstance.getController()
+                                                                                .getClass()
+                                                                                .getCanonicalName());
         }
       }
+      // a composite might have redirected
+      if (this.isNavigationSuperseded(hash)) {
+        return;
+      }
       // add element to DOM
-      this.append(routeConfiguration.getSelector(),
+      this.append(routeConfiguration,
+                  hashResult.parameterValues(),
                   controllerInstance.getController());
       if (!controllerInstance.isChached()) {
         // append composite
@@ -430,61 +999,151 @@ abstract class AbstractRouter
           if (reference != null) {
             this.append(reference.getSelector(),
                         compositeController);
-            RouterLogger.logControllerOnAttachedCompositeController(controllerInstance.getController()
-                                                                                      .getClass()
-                                                                                      .getCanonicalName(),
-                                                                    compositeController.getClass()
-                                                                                       .getCanonicalName());
+            this.logger.logControllerOnAttachedCompositeController(controllerInstance.getController()
+                                                                                     .getClass()
+                                                                                     .getCanonicalName(),
+                                                                   compositeController.getClass()
+                                                                                      .getCanonicalName());
           }
         }
       }
+      // appending a composite might have failed
+      if (this.isNavigationSuperseded(hash)) {
+        return;
+      }
       // call the onAttach method (for the component).
       // we will do it in both cases, cached and not cached!
       controllerInstance.getController()
                         .onAttach();
-      RouterLogger.logControllerOnAttachedMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+      this.logger.logControllerOnAttachedMethodCalled(controllerInstance.getController()
+                                                                        .getClass()
+                                                                        .getCanonicalName());
+      // handlers of the scoped event bus of a cached controller or a reused
+      // composite were suspended on deactivation and are called again
+      compositeControllers.forEach(AbstractCompositeController::resumeScopedHandlers);
+      controllerInstance.getController()
+                        .resumeScopedHandlers();
       // in case the controller is cached, we call only activate  ...
       if (controllerInstance.isChached()) {
         compositeControllers.forEach(s -> {
           s.activate();
-          RouterLogger.logCompositeComntrollerActivateMethodCalled(s.getClass()
-                                                                    .getCanonicalName());
+          this.logger.logCompositeComntrollerActivateMethodCalled(s.getClass()
+                                                                   .getCanonicalName());
         });
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        this.activeControllers.setState(routeConfiguration.getSelector(),
+                                        ActiveControllerRegistry.State.ACTIVE);
+        this.logger.logControllerActivateMethodCalled(controllerInstance.getController()
+                                                                        .getClass()
+                                                                        .getCanonicalName());
       } else {
         compositeControllers.forEach(s -> {
-          s.start();
-          RouterLogger.logCompositeComntrollerStartMethodCalled(s.getClass()
-                                                                 .getCanonicalName());
+          // a reused composite is already started
+          if (!reusedCompositeControllers.contains(s)) {
+            s.start();
+            this.logger.logCompositeComntrollerStartMethodCalled(s.getClass()
+                                                                  .getCanonicalName());
+          }
           s.activate();
-          RouterLogger.logCompositeComntrollerActivateMethodCalled(s.getClass()
-                                                                    .getCanonicalName());
+          this.logger.logCompositeComntrollerActivateMethodCalled(s.getClass()
+                                                                   .getCanonicalName());
         });
         controllerInstance.getController()
                           .start();
-        RouterLogger.logControllerStartMethodCalled(controllerInstance.getController()
-                                                                      .getClass()
-                                                                      .getCanonicalName());
+        this.activeControllers.setState(routeConfiguration.getSelector(),
+                                        ActiveControllerRegistry.State.STARTED);
+        this.logger.logControllerStartMethodCalled(controllerInstance.getController()
+                                                                     .getClass()
+                                                                     .getCanonicalName());
         controllerInstance.getController()
                           .activate();
-        RouterLogger.logControllerActivateMethodCalled(controllerInstance.getController()
-                                                                         .getClass()
-                                                                         .getCanonicalName());
+        this.activeControllers.setState(routeConfiguration.getSelector(),
+                                        ActiveControllerRegistry.State.ACTIVE);
+        this.logger.logControllerActivateMethodCalled(controllerInstance.getController()
+                                                                        .getClass()
+                                                                        .getCanonicalName());
       }
       // save current hash
       this.lastExecutedHash = hash;
       // clear loo detection list ...
-      this.loopDetectionList.clear();
+      this.redirectTracker.clear();
     }
 
   }
 
+  /**
+   * Resolves the hash: parses the hash and looks for the matching route configurations.
+   * Resolutions are cached, so that navigating to a known hash does not need to parse it again.
+   *
+   * @param hash the hash to resolve
+   * @return resolution of the hash
+   * @throws com.github.nalukit.nalu.client.internal.route.RouterException in case no controller is found for the routing
+   */
+  private RouteResolutionCache.RouteResolution resolve(String hash)
+      throws RouterException {
+    String key = hash.startsWith("/") ? hash.substring(1) : hash;
+    RouteResolutionCache.RouteResolution routeResolution = this.routeResolutionCache.get(key,
+                                                                                         this.routerConfiguration.getVersion(),
+                                                                                         this.shellConfiguration.getVersion());
+    if (Objects.isNull(routeResolution)) {
+      RouteResult routeResult = this.parse(hash);
+      routeResolution = new RouteResolutionCache.RouteResolution(routeResult,
+                                                                 this.routerConfiguration.match(routeResult.getRoute()));
+      this.routeResolutionCache.put(key,
+                                    routeResolution);
+    }
+    return routeResolution;
+  }
+
+  /**
+   * Returns the cache of resolved routes.
+   *
+   * @return the route resolution cache
+   */
+  public IsRouteResolutionCache getRouteResolutionCache() {
+    return this.routeResolutionCache;
+  }
+
+  /**
+   * Returns the cache of controllers stored with storeInCache.
+   *
+   * @return the controller cache
+   */
+  public IsControllerCache getControllerCache() {
+    return this.runtime.getControllerFactory()
+                       .getControllerCache();
+  }
+
+  /**
+   * Returns the cache of shells stored with storeShellInCache.
+   *
+   * @return the shell cache
+   */
+  public IsCacheStatistics getShellCache() {
+    return this.runtime.getShellFactory()
+                       .getShellCache();
+  }
+
+  /**
+   * Returns the cache of composites stored with storeCompositeInCache.
+   *
+   * @return the composite cache
+   */
+  public IsCompositeCache getCompositeCache() {
+    return this.runtime.getCompositeFactory()
+                       .getCompositeCache();
+  }
+
+  /**
+   * Returns the prefetcher of the controllers of the likely next routes.
+   *
+   * @return the controller prefetcher
+   */
+  public IsControllerPrefetcher getControllerPrefetcher() {
+    return this.controllerPrefetcher;
+  }
+
   /**
    * Parse the hash and divides it into shellCreator, route and parameters
    *
@@ -494,7 +1153,6 @@ abstract class AbstractRouter
    */
   public RouteResult parse(String route)
       throws RouterException {
-    RouteResult routeResult = new RouteResult();
     String routeValue = route;
     // only the part after the first # is intresting:
     if (routeValue.contains("#")) {
@@ -505,28 +1163,23 @@ abstract class AbstractRouter
       routeValue = routeValue.substring(1);
     }
     // check, if there are more "/"
+    String shell;
     if (routeValue.contains("/")) {
-      routeResult.setShell("/" +
-                           routeValue.substring(0,
-                                                routeValue.indexOf("/")));
+      shell = "/" +
+              routeValue.substring(0,
+                                   routeValue.indexOf("/"));
     } else {
-      routeResult.setShell("/" + routeValue);
+      shell = "/" + routeValue;
     }
     // check, if the shellCreator exists ....
-    Optional<String> optional = this.shellConfiguration.getShells()
-                                                       .stream()
-                                                       .map(ShellConfig::getRoute)
-                                                       .filter(f -> f.equals(routeResult.getShell()))
-                                                       .findAny();
-    if (optional.isPresent()) {
-      routeResult.setShell(optional.get());
-    } else {
+    ShellConfig shellConfig = this.shellConfiguration.match(shell);
+    if (Objects.isNull(shellConfig)) {
       StringBuilder sb = new StringBuilder();
       sb.append("no matching shellCreator found for route >>")
         .append(route)
         .append("<< --> Routing aborted!");
-      RouterLogger.logSimple(sb.toString(),
-                             1);
+      this.logger.logSimple(sb.toString(),
+                            1);
       throw new RouterException(sb.toString());
     }
     // extract route first:
@@ -535,65 +1188,103 @@ abstract class AbstractRouter
       routeValue = routeValue.substring(1);
     }
     if (routeValue.contains("/")) {
-      String searchRoute = routeValue;
-      Optional<RouteConfig> optionalRouterConfig = this.routerConfiguration.getRouters()
-                                                                           .stream()
-                                                                           .filter(rc -> Nalu.match(searchRoute,
-                                                                                                    rc.getRoute()))
-                                                                           .findFirst();
+      Optional<RouteConfig> optionalRouterConfig = this.routerConfiguration.findFirst(routeValue,
+                                                                                      this.runtime.getPropertyFactory()
+                                                                                                  .isUsingColonForParametersInUrl());
       if (optionalRouterConfig.isPresent()) {
-        routeResult.setRoute(optionalRouterConfig.get()
-                                                 .getRoute());
-        if (routeResult.getRoute()
-                       .contains("*")) {
-          String[] partsOfRoute = routeValue.split("/");
-          String compareRoute = optionalRouterConfig.get()
-                                                    .getRoute();
-          if (compareRoute.startsWith("/")) {
-            compareRoute = compareRoute.substring(1);
-          }
-          String[] partsOfRouteFromConfiguration = compareRoute.split("/");
-          for (int i = 0; i < partsOfRouteFromConfiguration.length; i++) {
-            if (partsOfRouteFromConfiguration[i].equals("*")) {
-              if (partsOfRoute.length - 1 >= i) {
-                String parameterValue = partsOfRoute[i].replace(AbstractRouter.NALU_SLASH_REPLACEMENT,
-                                                                "/");
-                if (Nalu.isUsingColonForParametersInUrl()) {
-                  if (parameterValue.length() > 0) {
-                    if (parameterValue.startsWith(":")) {
-                      parameterValue = parameterValue.substring(1);
-                    }
-                  }
-                }
-                routeResult.getParameterValues()
-                           .add(parameterValue);
-              } else {
-                routeResult.getParameterValues()
-                           .add("");
-              }
-            }
-          }
-        }
+        return new RouteResult(shellConfig.getRoute(),
+                               optionalRouterConfig.get()
+                                                   .getRoute(),
+                               this.extractParameterValues(routeValue,
+                                                           optionalRouterConfig.get()));
       } else {
         StringBuilder sb = new StringBuilder();
         sb.append("no matching route found for route >>")
           .append(route)
           .append("<< --> Routing aborted!");
-        RouterLogger.logSimple(sb.toString(),
-                               1);
+        this.logger.logSimple(sb.toString(),
+                              1);
         throw new RouterException(sb.toString());
       }
     } else {
-      String finalSearchPart = "/" + routeValue;
-      if (this.routerConfiguration.getRouters()
-                                  .stream()
-                                  .anyMatch(f -> f.match(finalSearchPart))) {
-        routeResult.setRoute("/" + routeValue);
+      if (this.routerConfiguration.match("/" + routeValue)
+                                  .size() > 0) {
+        return new RouteResult(shellConfig.getRoute(),
+                               "/" + routeValue);
       } else {
-        throw new RouterException(RouterLogger.logNoMatchingRoute(route));
+        throw new RouterException(this.logger.logNoMatchingRoute(route));
       }
     }
-    return routeResult;
+  }
+
+  /**
+   * Extracts the values of the parameters ('*') of the route configuration
+   * from the route. The route is scanned once using indexes, only the values
+   * themselves are created. Missing values are returned as empty string.
+   *
+   * @param routeValue  the route (without leading '/')
+   * @param routeConfig the matching route configuration
+   * @return the parameter values
+   */
+  private String[] extractParameterValues(String routeValue,
+                                          RouteConfig routeConfig) {
+    int numberOfWildcards = routeConfig.getNumberOfWildcards();
+    if (numberOfWildcards == 0) {
+      return null;
+    }
+    String[] parameterValues = new String[numberOfWildcards];
+    boolean usingColon = this.runtime.getPropertyFactory()
+                                     .isUsingColonForParametersInUrl();
+    // trailing empty parts are ignored
+    int end = routeValue.length();
+    while (end > 0 && routeValue.charAt(end - 1) == '/') {
+      end--;
+    }
+    int startOfPart = 0;
+    int parameterIndex = 0;
+    for (int i = 0; i < routeConfig.getNumberOfSegments(); i++) {
+      int endOfPart = -1;
+      if (startOfPart < end) {
+        endOfPart = routeValue.indexOf('/',
+                                       startOfPart);
+        if (endOfPart == -1 || endOfPart > end) {
+          endOfPart = end;
+        }
+      }
+      if (routeConfig.isWildcard(i)) {
+        if (endOfPart == -1) {
+          parameterValues[parameterIndex] = "";
+        } else {
+          parameterValues[parameterIndex] = this.extractParameterValue(routeValue,
+                                                                       startOfPart,
+                                                                       endOfPart,
+                                                                       usingColon);
+        }
+        parameterIndex++;
+      }
+      if (endOfPart != -1) {
+        startOfPart = endOfPart + 1;
+      }
+    }
+    return parameterValues;
+  }
+
+  private String extractParameterValue(String routeValue,
+                                       int start,
+                                       int end,
+                                       boolean usingColon) {
+    if (usingColon &&
+        start < end &&
+        routeValue.charAt(start) == ':') {
+      start++;
+    }
+    String parameterValue = routeValue.substring(start,
+                                                 end);
+    if (parameterValue.contains(AbstractRouter.NALU_SLASH_REPLACEMENT)) {
+      return parameterValue.replace(AbstractRouter.NALU_SLASH_REPLACEMENT,
+                                    "/");
+    }
+    return parameterValue;
   }
 
   private String addLeadindgSlash(String value) {
@@ -604,186 +1295,362 @@ abstract class AbstractRouter
   }
 
   private boolean confirmRouting(List<RouteConfig> routeConfigurations) {
-    AtomicBoolean isDirtyComposite = new AtomicBoolean(false);
-    routeConfigurations.stream()
-                       .map(config -> this.activeComponents.get(config.getSelector()))
-                       .filter(Objects::nonNull)
-                       .forEach(c -> {
-                         Optional<String> optional = c.getComposites()
-                                                      .values()
-                                                      .stream()
-                                                      .map(AbstractCompositeController::mayStop)
-                                                      .filter(Objects::nonNull)
-                                                      .findFirst();
-                         if (optional.isPresent()) {
-                           this.plugin.confirm(optional.get());
-                           isDirtyComposite.set(true);
-                         }
-                       });
-
-    return !isDirtyComposite.get() &&
-           routeConfigurations.stream()
-                              .map(config -> this.activeComponents.get(config.getSelector()))
-                              .filter(Objects::nonNull)
-                              .map(AbstractComponentController::mayStop)
-                              .filter(Objects::nonNull)
-                              .allMatch(message -> this.plugin.confirm(message));
+    boolean isDirtyComposite = false;
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      ActiveControllerRegistry.ActiveController activeController = this.getActiveController(routeConfiguration);
+      if (!Objects.isNull(activeController)) {
+        for (AbstractCompositeController<?, ?, ?> compositeController : activeController.getController()
+                                                                                         .getComposites()
+                                                                                         .values()) {
+          String message = compositeController.mayStop();
+          if (!Objects.isNull(message)) {
+            this.plugin.confirm(message);
+            isDirtyComposite = true;
+            break;
+          }
+        }
+      }
+    }
+    if (isDirtyComposite) {
+      return false;
+    }
+    for (RouteConfig routeConfiguration : routeConfigurations) {
+      ActiveControllerRegistry.ActiveController activeController = this.getActiveController(routeConfiguration);
+      if (!Objects.isNull(activeController)) {
+        String message = activeController.getController()
+                                         .mayStop();
+        if (!Objects.isNull(message) &&
+            !this.plugin.confirm(message)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /* returns the active controller of the selector, in case it is active */
+  private ActiveControllerRegistry.ActiveController getActiveController(RouteConfig routeConfiguration) {
+    ActiveControllerRegistry.ActiveController activeController = this.activeControllers.get(routeConfiguration.getSelector());
+    if (Objects.isNull(activeController) ||
+        activeController.getState() != ActiveControllerRegistry.State.ACTIVE) {
+      return null;
+    }
+    return activeController;
   }
 
   private void stopController(List<RouteConfig> routeConfiguraions) {
     // ToDo: issue 30!
-    routeConfiguraions.stream()
-                      .map(config -> this.activeComponents.get(config.getSelector()))
-                      .filter(Objects::nonNull)
-                      .forEach(controller -> {
-                        // stop controller
-                        RouterLogger.logControllerHandlingStop(controller.getClass()
-                                                                         .getCanonicalName());
-                        RouterLogger.logControllerHandlingStopComposites(controller.getClass()
-                                                                                   .getCanonicalName());
-                        // stop compositeComntrollers
-                        controller.getComposites()
-                                  .values()
-                                  .forEach(s -> {
-                                    if (controller.isCached()) {
-                                      deactivateCompositeController(controller,
-                                                                    s);
-                                    } else {
-                                      stopCompositeController(controller,
-                                                              s);
-                                    }
-                                  });
-
-                        RouterLogger.logControllerCompositesStopped(controller.getClass()
-                                                                              .getCanonicalName());
-                        if (controller.isCached()) {
-                          deactivateController(controller);
-                        } else {
-                          stopController(controller);
-                        }
-                      });
+    for (RouteConfig routeConfiguraion : routeConfiguraions) {
+      ActiveControllerRegistry.ActiveController activeController = this.activeControllers.remove(routeConfiguraion.getSelector());
+      if (!Objects.isNull(activeController)) {
+        this.stopController(activeController);
+      }
+    }
     routeConfiguraions.forEach(routeConfiguraion -> this.plugin.remove(routeConfiguraion.getSelector()));
-    routeConfiguraions.stream()
-                      .map(config -> this.activeComponents.get(config.getSelector()))
-                      .filter(Objects::nonNull)
-                      .forEach(c -> this.activeComponents.remove(c));
+  }
+
+  private void stopController(ActiveControllerRegistry.ActiveController activeController) {
+    // only started controllers need to be deactivated or stopped
+    if (activeController.getState() != ActiveControllerRegistry.State.STARTED &&
+        activeController.getState() != ActiveControllerRegistry.State.ACTIVE) {
+      return;
+    }
+    AbstractComponentController<?, ?, ?> controller = activeController.getController();
+    // stop controller
+    this.logger.logControllerHandlingStop(controller.getClass()
+                                                    .getCanonicalName());
+    this.logger.logControllerHandlingStopComposites(controller.getClass()
+                                                              .getCanonicalName());
+    // stop compositeComntrollers
+    controller.getComposites()
+              .values()
+              .forEach(s -> {
+                if (controller.isCached()) {
+                  deactivateCompositeController(controller,
+                                                s);
+                } else if (s.isCached()) {
+                  releaseCompositeController(controller,
+                                             s);
+                } else {
+                  stopCompositeController(controller,
+                                          s);
+                }
+              });
+    this.logger.logControllerCompositesStopped(controller.getClass()
+                                                         .getCanonicalName());
+    if (controller.isCached()) {
+      deactivateController(controller);
+      activeController.setState(ActiveControllerRegistry.State.DEACTIVATED);
+    } else {
+      stopController(controller);
+      activeController.setState(ActiveControllerRegistry.State.STOPPED);
+    }
   }
 
   private void deactivateController(AbstractComponentController<?, ?, ?> controller) {
     // deactivate controller
-    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    this.logger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
+                                                                    .getCanonicalName());
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    controller.suspendScopedHandlers();
+    this.logger.logControllerDeactivateMethodCalled(controller.getClass()
+                                                              .getCanonicalName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    this.logger.logControllerDetached(controller.getClass()
+                                                .getCanonicalName());
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
-    RouterLogger.logControllerDeactivated(controller.getClass()
-                                                    .getCanonicalName());
+    this.logger.logComponentDetached(controller.getComponent()
+                                               .getClass()
+                                               .getCanonicalName());
+    this.logger.logControllerDeactivated(controller.getClass()
+                                                   .getCanonicalName());
   }
 
   private void stopController(AbstractComponentController<?, ?, ?> controller) {
-    RouterLogger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
-                                                                     .getCanonicalName());
+    this.logger.logControllerdeactivateMethodWillBeCalled(controller.getClass()
+                                                                    .getCanonicalName());
     controller.deactivate();
-    RouterLogger.logControllerDeactivateMethodCalled(controller.getClass()
-                                                               .getCanonicalName());
+    this.logger.logControllerDeactivateMethodCalled(controller.getClass()
+                                                              .getCanonicalName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    this.logger.logControllerDetached(controller.getClass()
+                                                .getCanonicalName());
     // stop controller
-    RouterLogger.logControllerStopMethodWillBeCalled(controller.getClass()
-                                                               .getCanonicalName());
+    this.logger.logControllerStopMethodWillBeCalled(controller.getClass()
+                                                              .getCanonicalName());
     controller.stop();
-    RouterLogger.logControllerStopMethodCalled(controller.getClass()
-                                                         .getCanonicalName());
+    this.logger.logControllerStopMethodCalled(controller.getClass()
+                                                        .getCanonicalName());
     controller.onDetach();
-    RouterLogger.logControllerDetached(controller.getClass()
-                                                 .getCanonicalName());
+    this.logger.logControllerDetached(controller.getClass()
+                                                .getCanonicalName());
     controller.removeHandlers();
-    RouterLogger.logControllerRemoveHandlersMethodCalled(controller.getClass()
-                                                                   .getCanonicalName());
+    this.logger.logControllerRemoveHandlersMethodCalled(controller.getClass()
+                                                                  .getCanonicalName());
     controller.getComponent()
               .onDetach();
-    RouterLogger.logComponentDetached(controller.getComponent()
-                                                .getClass()
-                                                .getCanonicalName());
+    this.logger.logComponentDetached(controller.getComponent()
+                                               .getClass()
+                                               .getCanonicalName());
     controller.getComponent()
               .removeHandlers();
-    RouterLogger.logComponentRemoveHandlersMethodCalled(controller.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
-    RouterLogger.logControllerStopped(controller.getClass()
-                                                .getCanonicalName());
+    this.logger.logComponentRemoveHandlersMethodCalled(controller.getComponent()
+                                                                 .getClass()
+                                                                 .getCanonicalName());
+    this.logger.logControllerStopped(controller.getClass()
+                                               .getCanonicalName());
+  }
+
+  /**
+   * Stores the active controllers of the shell-level routes of the current
+   * shell in the controller cache, in case the current shell is cached.
+   * So, the controllers are deactivated instead of stopped and will be
+   * reused once the shell is reattached.
+   */
+  private void storeShellControllersInCache() {
+    if (Objects.isNull(this.shell) ||
+        Objects.isNull(this.lastAddedShell) ||
+        !this.runtime.getShellFactory()
+                     .isStoredInCache(this.shell.getClass()
+                                                .getCanonicalName())) {
+      return;
+    }
+    List<AbstractComponentController<?, ?, ?>> controllers = new ArrayList<>();
+    for (RouteConfig routeConfiguration : this.routerConfiguration.match(this.lastAddedShell)) {
+      ActiveControllerRegistry.ActiveController activeController = this.activeControllers.get(routeConfiguration.getSelector());
+      if (!Objects.isNull(activeController) &&
+          activeController.getController()
+                          .getClass()
+                          .getCanonicalName()
+                          .equals(routeConfiguration.getClassName())) {
+        this.storeInCache(activeController.getController());
+        controllers.add(activeController.getController());
+      }
+    }
+    this.shellControllers.put(this.shell.getClass()
+                                        .getCanonicalName(),
+                              controllers);
+  }
+
+  /**
+   * Tears down a shell evicted from the shell cache. The controllers of
+   * the shell-level routes are removed from the controller cache and torn
+   * down.
+   * <p>
+   * In case the shell is attached, it will be detached like a not cached
+   * shell, the next time the shell changes.
+   *
+   * @param shell the evicted shell
+   */
+  private void evictShell(IsShell shell) {
+    List<AbstractComponentController<?, ?, ?>> controllers = this.shellControllers.remove(shell.getClass()
+                                                                                            .getCanonicalName());
+    if (!Objects.isNull(controllers)) {
+      for (AbstractComponentController<?, ?, ?> controller : controllers) {
+        // the controller might have been evicted from the controller cache already
+        if (controller.isCached()) {
+          this.runtime.getControllerFactory()
+                      .removeFromCache(controller);
+          this.evictController(controller);
+        }
+      }
+    }
+    if (shell == this.shell) {
+      this.logger.logShellEvicted(shell.getClass()
+                                       .getCanonicalName(),
+                                  false);
+      return;
+    }
+    shell.removeHandlers();
+    this.logger.logShellEvicted(shell.getClass()
+                                     .getCanonicalName(),
+                                true);
+  }
+
+  /**
+   * Tears down a controller evicted from the controller cache. A cached
+   * controller was deactivated, when it was removed from the DOM. So only
+   * stop and removeHandlers need to be called.
+   * <p>
+   * In case the controller is attached to the DOM, it is marked as not
+   * cached and will be stopped at the next routing.
+   *
+   * @param controller the evicted controller
+   */
+  private void evictController(AbstractComponentController<?, ?, ?> controller) {
+    controller.setCached(false);
+    if (this.activeControllers.contains(controller)) {
+      this.logger.logControllerEvicted(controller.getClass()
+                                                 .getCanonicalName(),
+                                       false);
+      return;
+    }
+    for (AbstractCompositeController<?, ?, ?> compositeController : controller.getComposites()
+                                                                              .values()) {
+      // a cached composite is already deactivated and will be reused by the next controller
+      if (compositeController.isCached()) {
+        compositeController.remove();
+        this.runtime.getCompositeFactory()
+                    .release(compositeController);
+        continue;
+      }
+      compositeController.stop();
+      compositeController.remove();
+      compositeController.removeHandlers();
+      compositeController.getComponent()
+                         .removeHandlers();
+    }
+    controller.stop();
+    controller.removeHandlers();
+    controller.getComponent()
+              .removeHandlers();
+    this.logger.logControllerEvicted(controller.getClass()
+                                               .getCanonicalName(),
+                                     true);
   }
 
   private void deactivateCompositeController(AbstractComponentController<?, ?, ?> controller,
                                              AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    this.logger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
+                                                                                      .getCanonicalName());
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    compositeController.suspendScopedHandlers();
+    this.logger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
+                                                                                .getCanonicalName());
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    this.logger.logCompositeControllerDetached(compositeController.getClass()
+                                                                  .getCanonicalName());
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
+    this.logger.logCompositeComponentDetached(compositeController.getComponent()
+                                                                 .getClass()
+                                                                 .getCanonicalName());
+    this.logger.logCompositeControllerDeactivated(controller.getClass()
+                                                            .getCanonicalName());
+  }
+
+  /**
+   * Deactivates a cached composite, removes it from the DOM and adds it
+   * to the composite cache, so that the next controller using the composite
+   * can reuse it.
+   *
+   * @param controller          the stopped controller
+   * @param compositeController the cached composite
+   */
+  private void releaseCompositeController(AbstractComponentController<?, ?, ?> controller,
+                                          AbstractCompositeController<?, ?, ?> compositeController) {
+    this.deactivateCompositeController(controller,
+                                       compositeController);
+    compositeController.remove();
+    this.runtime.getCompositeFactory()
+                .release(compositeController);
+    this.logger.logCompositeControllerReleased(compositeController.getClass()
                                                                   .getCanonicalName());
-    RouterLogger.logCompositeControllerDeactivated(controller.getClass()
-                                                             .getCanonicalName());
+  }
+
+  /**
+   * Tears down a composite evicted from the composite cache. A cached
+   * composite was deactivated, when it was added to the cache. So only
+   * stop and removeHandlers need to be called.
+   *
+   * @param compositeController the evicted composite
+   */
+  private void evictComposite(AbstractCompositeController<?, ?, ?> compositeController) {
+    compositeController.stop();
+    compositeController.removeHandlers();
+    compositeController.getComponent()
+                       .removeHandlers();
+    this.logger.logCompositeControllerEvicted(compositeController.getClass()
+                                                                 .getCanonicalName());
   }
 
   private void stopCompositeController(AbstractComponentController<?, ?, ?> controller,
                                        AbstractCompositeController<?, ?, ?> compositeController) {
-    RouterLogger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
-                                                                                       .getCanonicalName());
+    this.logger.logCompositeControllerDeactivateMethodWillBeCalled(compositeController.getClass()
+                                                                                      .getCanonicalName());
     compositeController.deactivate();
-    RouterLogger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
-    RouterLogger.logCompositeControllerStopMethodWillBeCalled(compositeController.getClass()
-                                                                                 .getCanonicalName());
+    this.logger.logCompositeControllerDeactivateMethodCalled(compositeController.getClass()
+                                                                                .getCanonicalName());
+    this.logger.logCompositeControllerStopMethodWillBeCalled(compositeController.getClass()
+                                                                                .getCanonicalName());
     compositeController.stop();
-    RouterLogger.logCompositeControllerRemoveMethodCalled(compositeController.getClass()
-                                                                             .getCanonicalName());
+    this.logger.logCompositeControllerRemoveMethodCalled(compositeController.getClass()
+                                                                            .getCanonicalName());
     compositeController.remove();
-    RouterLogger.logCompositeControllerStopMethodCalled(compositeController.getClass()
-                                                                           .getCanonicalName());
+    this.logger.logCompositeControllerStopMethodCalled(compositeController.getClass()
+                                                                          .getCanonicalName());
     compositeController.onDetach();
-    RouterLogger.logCompositeControllerDetached(compositeController.getClass()
-                                                                   .getCanonicalName());
+    this.logger.logCompositeControllerDetached(compositeController.getClass()
+                                                                  .getCanonicalName());
     compositeController.removeHandlers();
-    RouterLogger.logCompositeControllerRemoveHandlersMethodCalled(compositeController.getClass()
-                                                                                     .getCanonicalName());
+    this.logger.logCompositeControllerRemoveHandlersMethodCalled(compositeController.getClass()
+                                                                                    .getCanonicalName());
     compositeController.getComponent()
                        .onDetach();
-    RouterLogger.logCompositeComponentDetached(compositeController.getComponent()
-                                                                  .getClass()
-                                                                  .getCanonicalName());
+    this.logger.logCompositeComponentDetached(compositeController.getComponent()
+                                                                 .getClass()
+                                                                 .getCanonicalName());
     compositeController.getComponent()
                        .removeHandlers();
-    RouterLogger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponent()
-                                                                                    .getClass()
-                                                                                    .getCanonicalName());
-    RouterLogger.logCompositeControllerStopped(controller.getClass()
-                                                         .getCanonicalName());
+    this.logger.logCompositeComponentRemoveHandlersMethodCalled(compositeController.getComponent()
+                                                                                   .getClass()
+                                                                                   .getCanonicalName());
+    this.logger.logCompositeControllerStopped(controller.getClass()
+                                                        .getCanonicalName());
   }
 
-  private void append(String selector,
+  private void append(RouteConfig routeConfiguration,
+                      String[] parameterValues,
                       AbstractComponentController<?, ?, ?> controller) {
-    if (this.plugin.attach(selector,
+    if (this.plugin.attach(routeConfiguration.getSelector(),
                            controller.asElement())) {
       // save to active components
-      this.activeComponents.put(selector,
-                                controller);
+      this.activeControllers.put(routeConfiguration.getSelector(),
+                                 routeConfiguration.getRoute(),
+                                 routeConfiguration.getClassName(),
+                                 parameterValues,
+                                 controller);
     }
   }
 
@@ -792,11 +1659,11 @@ abstract class AbstractRouter
     if (!this.plugin.attach(selector,
                             compositeController.asElement())) {
       String sb = "no element found, that matches selector >>" + selector + "<< --> Routing aborted!";
-      RouterLogger.logSimple(sb,
-                             1);
+      this.logger.logSimple(sb,
+                            1);
       this.naluErrorMessage = new NaluErrorMessage(AbstractRouter.NALU_ERROR_TYPE_NO_SELECTOR_FOUND,
                                                    sb);
-      RouterLogger.logUseErrorRoute(this.routeError);
+      this.logger.logUseErrorRoute(this.routeError);
       this.route(this.routeError,
                  true);
     }
@@ -832,16 +1699,70 @@ abstract class AbstractRouter
                      String... parms) {
     String newRouteWithParams = this.generate(newRoute,
                                               parms);
-    if (replaceState) {
-      this.plugin.route(newRouteWithParams,
-                        true,
-                        Nalu.isUsingHash());
-    } else {
-      this.plugin.route(newRouteWithParams,
-                        false,
-                        Nalu.isUsingHash());
+    this.navigationQueue.offer(newRouteWithParams,
+                               replaceState,
+                               true);
+    // in case there is a running navigation (f.e. a filter redirects),
+    // the new navigation will replace it, once the running navigation stops
+    if (this.navigationQueue.isExecuting()) {
+      return;
+    }
+    // navigations requested during the same event loop task are coalesced
+    if (!this.navigationQueue.isScheduled()) {
+      this.navigationQueue.setScheduled(true);
+      this.plugin.scheduleDeferred(() -> {
+        this.navigationQueue.setScheduled(false);
+        this.executeNavigations();
+      });
+    }
+  }
+
+  /**
+   * Handles a route change triggered by the browser (f.e. the back button).
+   * The history is already updated, so the navigation is executed immediately.
+   *
+   * @param hash the new hash
+   */
+  void handleRouteChange(String hash) {
+    this.navigationQueue.offer(hash,
+                               false,
+                               false);
+    this.executeNavigations();
+  }
+
+  /* executes the latest requested navigation until there is no more navigation waiting */
+  private void executeNavigations() {
+    if (this.navigationQueue.isExecuting()) {
+      return;
+    }
+    while (this.navigationQueue.hasPending()) {
+      NavigationQueue.Navigation navigation = this.navigationQueue.poll();
+      // a navigation, that is not a redirect, starts a new redirect chain - even in case
+      // the superseded navigation did not finish (f.e. an async filter is still pending)
+      if (!navigation.isRedirect()) {
+        this.redirectTracker.clear();
+      }
+      try {
+        if (navigation.isUpdatingHistory()) {
+          this.plugin.route(navigation.getHash(),
+                            navigation.isReplacingState(),
+                            this.runtime.getPropertyFactory()
+                                        .isUsingHash());
+        }
+        this.handleRouting(navigation.getHash());
+      } finally {
+        this.navigationQueue.complete();
+      }
+    }
+  }
+
+  /* checks if a newer navigation is waiting, if so, the current routing has to stop */
+  private boolean isNavigationSuperseded(String hash) {
+    if (this.navigationQueue.isSuperseded()) {
+      this.logger.logNavigationSuperseded(hash);
+      return true;
     }
-    this.handleRouting(newRouteWithParams);
+    return false;
   }
 
   /**
@@ -856,88 +1777,26 @@ abstract class AbstractRouter
    */
   public String generate(String route,
                          String... parms) {
-    StringBuilder sb = new StringBuilder();
-    String routeValue = route;
-    if (routeValue.startsWith("/")) {
-      routeValue = routeValue.substring(1);
-    }
-    String[] partsOfRoute = routeValue.split("/");
-
-    int parameterIndex = 0;
-    for (String s : partsOfRoute) {
-      sb.append("/");
-      if ("*".equals(s)) {
-        if (Nalu.isUsingColonForParametersInUrl()) {
-          sb.append(":");
-        }
-        if (parms.length - 1 >= parameterIndex) {
-          sb.append(parms[parameterIndex].replace("/",
-                                                  AbstractRouter.NALU_SLASH_REPLACEMENT));
-          parameterIndex++;
-        }
-      } else {
-        sb.append(s);
-      }
-    }
-
-    // in case there are more paraemters then placesholders, we add them add the end!
-    long numberOfPlaceHolders = Stream.of(partsOfRoute)
-                                      .filter(s -> "*".equals(s))
-                                      .count();
-    if (parms.length > numberOfPlaceHolders) {
-      String sbExeption = "Warning: route >>" +
-                          route +
-                          "<< has less parameter placeholder >>" +
-                          numberOfPlaceHolders +
-                          "<< than the number of parameters in the list of parameters >>" +
-                          parms.length +
-                          "<< --> adding Prameters add the end of the url";
-      RouterLogger.logSimple(sbExeption,
-                             1);
-      for (int i = parameterIndex; i < parms.length; i++) {
-        sb.append("/");
-        if (Nalu.isUsingColonForParametersInUrl()) {
-          sb.append(":");
-        }
-        if (!Objects.isNull(parms[parameterIndex])) {
-          sb.append(parms[parameterIndex].replace("/",
-                                                  AbstractRouter.NALU_SLASH_REPLACEMENT));
-        } else {
-          sb.append("null");
-        }
-        parameterIndex++;
-      }
+    RouteTemplate routeTemplate = this.routeTemplates.get(route);
+    if (Objects.isNull(routeTemplate)) {
+      routeTemplate = new RouteTemplate(route);
+      this.routeTemplates.put(route,
+                              routeTemplate);
     }
-
-    // remove leading '/'
-    String generatedRoute = sb.toString();
-    if (generatedRoute.startsWith("/")) {
-      generatedRoute = generatedRoute.substring(1);
-    }
-    StringBuilder parameters = new StringBuilder();
-    for (int i = 0; i < parms.length; i++) {
-      parameters.append(parms[i]);
-      if (parms.length - 1 < i) {
-        parameters.append(",");
-      }
+    if (parms.length > routeTemplate.getNumberOfPlaceholders()) {
+      this.logger.logGenerateWithMoreParametersThanPlaceholders(route,
+                                                                routeTemplate.getNumberOfPlaceholders(),
+                                                                parms.length);
     }
-    String sblog = "generated route >>" + generatedRoute + "<< -> created from >>" + route + "<< with parameters >>" + parameters + "<<";
-    RouterLogger.logSimple(sblog,
-                           1);
+    String generatedRoute = routeTemplate.generate(this.runtime.getPropertyFactory()
+                                                               .isUsingColonForParametersInUrl(),
+                                                   parms);
+    this.logger.logGeneratedRoute(generatedRoute,
+                                  route,
+                                  parms);
     return generatedRoute;
   }
 
-  private String pimpUpHashForLoopDetection(String hash) {
-    String value = hash;
-    if (value.startsWith("#")) {
-      value = value.substring(1);
-    }
-    if (value.startsWith("/")) {
-      value = value.substring(1);
-    }
-    return value;
-  }
-
   /**
    * Returns a map of query parameters that was available at application start.
    *
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the controllers that are attached to the DOM (key: selector).
+ * <p>
+ * For every selector the registry keeps the controller, the route, the
+ * controller class and the parameter values the controller was attached for
+ * and the lifecycle state of the controller. Lookup and removal are done
+ * by selector.
+ */
+final class ActiveControllerRegistry {
+
+  /* attached controllers (key: selector) */
+  private Map<String, ActiveController> activeControllers;
+
+  ActiveControllerRegistry() {
+    this.activeControllers = new HashMap<>();
+  }
+
+  /**
+   * Registers a controller that was attached to the DOM. The state of the
+   * controller is CREATED. In case there is already a controller registered
+   * for the selector, it will be replaced.
+   *
+   * @param selector        selector the controller is attached to
+   * @param route           route the controller was attached for
+   * @param className       class name of the controller (as used in the route configuration)
+   * @param parameterValues parameter values the controller was created with
+   * @param controller      the controller
+   * @return the registered controller
+   */
+  ActiveController put(String selector,
+                       String route,
+                       String className,
+                       String[] parameterValues,
+                       AbstractComponentController<?, ?, ?> controller) {
+    ActiveController activeController = new ActiveController(selector,
+                                                             route,
+                                                             className,
+                                                             parameterValues,
+                                                             controller);
+    this.activeControllers.put(selector,
+                               activeController);
+    return activeController;
+  }
+
+  /**
+   * Returns the controller registered for the selector.
+   *
+   * @param selector the selector
+   * @return the registered controller or null
+   */
+  ActiveController get(String selector) {
+    return this.activeControllers.get(selector);
+  }
+
+  /**
+   * Removes the controller registered for the selector.
+   *
+   * @param selector the selector
+   * @return the removed controller or null
+   */
+  ActiveController remove(String selector) {
+    return this.activeControllers.remove(selector);
+  }
+
+  /**
+   * Updates the state of the controller registered for the selector.
+   * In case there is no controller registered, nothing happens.
+   *
+   * @param selector the selector
+   * @param state    new state of the controller
+   */
+  void setState(String selector,
+                State state) {
+    ActiveController activeController = this.activeControllers.get(selector);
+    if (activeController != null) {
+      activeController.setState(state);
+    }
+  }
+
+  /**
+   * Checks if the controller instance is registered for any selector.
+   *
+   * @param controller the controller
+   * @return true: the controller is attached to the DOM
+   */
+  boolean contains(AbstractComponentController<?, ?, ?> controller) {
+    for (ActiveController activeController : this.activeControllers.values()) {
+      if (activeController.getController() == controller) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  int size() {
+    return this.activeControllers.size();
+  }
+
+  /**
+   * Lifecycle state of a registered controller.
+   */
+  enum State {
+    /* created (or taken from the cache) and attached */
+    CREATED,
+    /* start method called */
+    STARTED,
+    /* activate method called */
+    ACTIVE,
+    /* deactivated - the controller is cached */
+    DEACTIVATED,
+    /* stopped - the controller is not cached */
+    STOPPED
+  }
+
+  static final class ActiveController {
+
+    private String selector;
+
+    private String route;
+
+    private String className;
+
+    private String[] parameterValues;
+
+    private AbstractComponentController<?, ?, ?> controller;
+
+    private State state;
+
+    private ActiveController(String selector,
+                             String route,
+                             String className,
+                             String[] parameterValues,
+                             AbstractComponentController<?, ?, ?> controller) {
+      this.selector = selector;
+      this.route = route;
+      this.className = className;
+      this.parameterValues = parameterValues;
+      this.controller = controller;
+      this.state = State.CREATED;
+    }
+
+    /**
+     * Checks if the controller is active for the route, the controller class
+     * and the parameter values. In this case, the controller can be kept.
+     *
+     * @param route           the route
+     * @param className       the class name of the controller
+     * @param parameterValues the parameter values
+     * @return true: the controller is active for route, class and parameter values
+     */
+    boolean isActiveFor(String route,
+                        String className,
+                        String[] parameterValues) {
+      return this.isActiveFor(route,
+                              className) &&
+             Arrays.equals(this.parameterValues,
+                           parameterValues);
+    }
+
+    /**
+     * Checks if the controller is active for the route and the controller class,
+     * ignoring the parameter values. In this case, the controller can be kept,
+     * if it accepts parameter changes.
+     *
+     * @param route     the route
+     * @param className the class name of the controller
+     * @return true: the controller is active for route and class
+     */
+    boolean isActiveFor(String route,
+                        String className) {
+      return this.state == State.ACTIVE &&
+             this.route.equals(route) &&
+             this.className.equals(className);
+    }
+
+    String getSelector() {
+      return this.selector;
+    }
+
+    String getRoute() {
+      return this.route;
+    }
+
+    String getClassName() {
+      return this.className;
+    }
+
+    String[] getParameterValues() {
+      return this.parameterValues;
+    }
+
+    void setParameterValues(String[] parameterValues) {
+      this.parameterValues = parameterValues;
+    }
+
+    AbstractComponentController<?, ?, ?> getController() {
+      return this.controller;
+    }
+
+    State getState() {
+      return this.state;
+    }
+
+    void setState(State state) {
+      this.state = state;
+    }
+
+  }
+
+}
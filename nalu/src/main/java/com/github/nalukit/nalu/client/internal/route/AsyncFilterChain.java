@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes the async filters of a routing.
+ * <p>
+ * All filters are started at once. The routing continues after all filters
+ * called <code>proceed()</code>. In case a filter calls <code>redirect()</code>,
+ * the routing is redirected after all filters registered before the filter
+ * have called <code>proceed()</code>. So, in case more than one filter redirects,
+ * the first registered filter wins - regardless of the order the filters decide.
+ * <p>
+ * Starting a new execution cancels the current one. Decisions of a cancelled
+ * execution are ignored.
+ * <p>
+ * Positive decisions can be cached. In this case a filter is not called again
+ * for the same route and parameters during the decision cache window.
+ */
+class AsyncFilterChain {
+
+  /* max number of cached decisions per filter */
+  static final int MAX_CACHED_DECISIONS = 64;
+
+  /* time in milliseconds a positive decision is reused - 0: decisions are not cached */
+  private long decisionCacheWindow;
+
+  /* cached positive decisions (key: filter, value: time of the decision by route and parameters) */
+  private Map<IsAsyncFilter, Map<String, Long>> decisions;
+
+  /* current execution */
+  private Execution execution;
+
+  AsyncFilterChain() {
+    this.decisions = new HashMap<>();
+  }
+
+  /**
+   * Starts the filters. The handler is called once all filters have decided.
+   * In case there is a running execution, it will be cancelled.
+   *
+   * @param filters filters to execute
+   * @param route   the route to filter
+   * @param parms   the parameters of the route
+   * @param handler handler to call in case all filters have decided
+   */
+  void execute(List<IsAsyncFilter> filters,
+               String route,
+               String[] parms,
+               Handler handler) {
+    this.cancel();
+    if (filters.isEmpty()) {
+      handler.onProceed();
+      return;
+    }
+    Execution execution = new Execution(filters,
+                                        this.createKey(route,
+                                                       parms),
+                                        handler);
+    this.execution = execution;
+    for (int i = 0; i < filters.size(); i++) {
+      if (execution.isDone()) {
+        return;
+      }
+      IsAsyncFilter filter = filters.get(i);
+      if (this.isAcceptedByCache(filter,
+                                 execution.key)) {
+        execution.setDecision(i,
+                              Execution.PROCEED);
+      } else {
+        filter.filter(route,
+                      parms,
+                      new ExecutionCallback(execution,
+                                            i));
+      }
+    }
+  }
+
+  /**
+   * Checks, whether all filters have accepted the route before. No filter
+   * is called.
+   *
+   * @param filters filters to check
+   * @param route   the route to filter
+   * @param parms   the parameters of the route
+   * @return true: the decision cache contains a positive decision of every filter
+   */
+  boolean isAccepted(List<IsAsyncFilter> filters,
+                     String route,
+                     String[] parms) {
+    String key = this.createKey(route,
+                                parms);
+    for (IsAsyncFilter filter : filters) {
+      if (!this.isAcceptedByCache(filter,
+                                  key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Cancels the running execution (if any).
+   */
+  void cancel() {
+    if (this.execution != null) {
+      this.execution.cancelled = true;
+      this.execution = null;
+    }
+  }
+
+  /**
+   * Removes all cached decisions.
+   */
+  void clearDecisions() {
+    this.decisions.clear();
+  }
+
+  long getDecisionCacheWindow() {
+    return this.decisionCacheWindow;
+  }
+
+  void setDecisionCacheWindow(long decisionCacheWindow) {
+    this.decisionCacheWindow = decisionCacheWindow;
+    if (decisionCacheWindow <= 0) {
+      this.decisions.clear();
+    }
+  }
+
+  /* returns the current time - used to check the decision cache window */
+  long now() {
+    return System.currentTimeMillis();
+  }
+
+  private boolean isAcceptedByCache(IsAsyncFilter filter,
+                                    String key) {
+    if (this.decisionCacheWindow <= 0) {
+      return false;
+    }
+    Map<String, Long> decisionsOfFilter = this.decisions.get(filter);
+    if (decisionsOfFilter == null) {
+      return false;
+    }
+    Long time = decisionsOfFilter.get(key);
+    if (time == null) {
+      return false;
+    }
+    if (this.now() - time > this.decisionCacheWindow) {
+      decisionsOfFilter.remove(key);
+      return false;
+    }
+    return true;
+  }
+
+  private void storeDecision(IsAsyncFilter filter,
+                             String key) {
+    if (this.decisionCacheWindow <= 0) {
+      return;
+    }
+    Map<String, Long> decisionsOfFilter = this.decisions.get(filter);
+    if (decisionsOfFilter == null) {
+      decisionsOfFilter = new LinkedHashMap<String, Long>() {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+          return size() > AsyncFilterChain.MAX_CACHED_DECISIONS;
+        }
+
+      };
+      this.decisions.put(filter,
+                         decisionsOfFilter);
+    }
+    decisionsOfFilter.put(key,
+                          this.now());
+  }
+
+  private String createKey(String route,
+                           String[] parms) {
+    if (parms == null ||
+        parms.length == 0) {
+      return route;
+    }
+    StringBuilder sb = new StringBuilder(route);
+    for (String parm : parms) {
+      sb.append('\u0000')
+        .append(parm);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Handler called, once the filters have decided.
+   */
+  interface Handler {
+
+    /**
+     * All filters have accepted the route.
+     */
+    void onProceed();
+
+    /**
+     * A filter has redirected the route.
+     *
+     * @param filter the filter that redirects
+     */
+    void onRedirect(IsAsyncFilter filter);
+
+  }
+
+  /* state of one execution of the filters */
+  private final class Execution {
+
+    static final int PENDING = 0;
+
+    static final int PROCEED = 1;
+
+    static final int REDIRECT = 2;
+
+    private List<IsAsyncFilter> filters;
+
+    private String key;
+
+    private Handler handler;
+
+    /* decisions of the filters in order of registration */
+    private int[] decisions;
+
+    private boolean cancelled;
+
+    private boolean done;
+
+    private Execution(List<IsAsyncFilter> filters,
+                      String key,
+                      Handler handler) {
+      this.filters = filters;
+      this.key = key;
+      this.handler = handler;
+      this.decisions = new int[filters.size()];
+    }
+
+    private boolean isDone() {
+      return this.done || this.cancelled;
+    }
+
+    private void setDecision(int index,
+                             int decision) {
+      if (this.isDone() ||
+          this.decisions[index] != Execution.PENDING) {
+        return;
+      }
+      this.decisions[index] = decision;
+      if (decision == Execution.PROCEED) {
+        AsyncFilterChain.this.storeDecision(this.filters.get(index),
+                                            this.key);
+      }
+      // the first undecided or redirecting filter decides
+      for (int i = 0; i < this.decisions.length; i++) {
+        if (this.decisions[i] == Execution.PENDING) {
+          return;
+        }
+        if (this.decisions[i] == Execution.REDIRECT) {
+          this.finish();
+          this.handler.onRedirect(this.filters.get(i));
+          return;
+        }
+      }
+      this.finish();
+      this.handler.onProceed();
+    }
+
+    private void finish() {
+      this.done = true;
+      if (AsyncFilterChain.this.execution == this) {
+        AsyncFilterChain.this.execution = null;
+      }
+    }
+
+  }
+
+  /* callback handed to a filter */
+  private final class ExecutionCallback
+      implements IsAsyncFilter.Callback {
+
+    private Execution execution;
+
+    private int index;
+
+    private ExecutionCallback(Execution execution,
+                              int index) {
+      this.execution = execution;
+      this.index = index;
+    }
+
+    @Override
+    public void proceed() {
+      this.execution.setDecision(this.index,
+                                 Execution.PROCEED);
+    }
+
+    @Override
+    public void redirect() {
+      this.execution.setDecision(this.index,
+                                 Execution.REDIRECT);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return this.execution.cancelled;
+    }
+
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * List used by the route and shell configuration.
+ * <p>
+ * The generated code adds routes and shells directly to the lists
+ * returned by the configurations. To keep the indices of the
+ * configurations up to date, the list counts every modification.
+ * The configurations compare the version with the version of their
+ * index and rebuild it in case it is outdated.
+ *
+ * @param <E> type of the configuration element
+ */
+class ConfigurationList<E>
+    extends AbstractList<E> {
+
+  /* the elements */
+  private List<E> elements;
+
+  /* number of modifications */
+  private int version;
+
+  ConfigurationList() {
+    super();
+
+    this.elements = new ArrayList<>();
+  }
+
+  @Override
+  public E get(int index) {
+    return this.elements.get(index);
+  }
+
+  @Override
+  public int size() {
+    return this.elements.size();
+  }
+
+  @Override
+  public E set(int index,
+               E element) {
+    E oldElement = this.elements.set(index,
+                                     element);
+    this.version++;
+    return oldElement;
+  }
+
+  @Override
+  public void add(int index,
+                  E element) {
+    this.elements.add(index,
+                      element);
+    this.version++;
+  }
+
+  @Override
+  public E remove(int index) {
+    E removedElement = this.elements.remove(index);
+    this.version++;
+    return removedElement;
+  }
+
+  /**
+   * Returns the number of modifications of the list.
+   *
+   * @return number of modifications
+   */
+  int getVersion() {
+    return this.version;
+  }
+
+}
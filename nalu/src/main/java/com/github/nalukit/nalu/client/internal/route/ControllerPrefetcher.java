@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.cache.IsControllerPrefetcher;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefetches the controllers of the most likely next routes.
+ * <p>
+ * The router records the transitions between the routed hashes. Once a
+ * routing is done and the browser is idle, the router creates the
+ * controllers (and renders and binds their components) of the most likely
+ * next hashes. The next routing adopts a prefetched controller, in case
+ * the controller class and the parameter values match. A prefetched
+ * controller is not started before it is adopted.
+ * <p>
+ * The number of prefetched controllers is bounded. In case the limit is
+ * reached, the least recently prefetched controller is discarded. The
+ * prefetching is disabled by default (max number of prefetched controllers: 0).
+ * <p>
+ * The prefetching is executed by <code>plugin.scheduleIdle</code>. Only
+ * plugins with an idle callback (the web plugins) execute it. The default
+ * implementation of the plugin interface ignores the command, so other
+ * plugins never prefetch.
+ */
+public class ControllerPrefetcher
+    implements IsControllerPrefetcher {
+
+  /* default number of likely next hashes, that are prefetched */
+  public static final int DEFAULT_NUMBER_OF_TARGETS = 2;
+
+  /* observed transitions */
+  private TransitionModel transitionModel;
+
+  /* prefetched controllers (key: class name of the controller) */
+  private Map<String, PrefetchedController> prefetchedControllers;
+
+  /* max number of prefetched controllers */
+  private int maxPrefetchedControllers;
+
+  /* number of likely next hashes, that are prefetched */
+  private int numberOfTargets;
+
+  /* number of prefetched controllers */
+  private long prefetches;
+
+  /* number of adopted controllers */
+  private long adoptions;
+
+  /* number of discarded controllers */
+  private long discards;
+
+  ControllerPrefetcher() {
+    this.transitionModel = new TransitionModel();
+    this.prefetchedControllers = new LinkedHashMap<>();
+    this.numberOfTargets = ControllerPrefetcher.DEFAULT_NUMBER_OF_TARGETS;
+  }
+
+  boolean isEnabled() {
+    return this.maxPrefetchedControllers > 0;
+  }
+
+  void record(String source,
+              String target) {
+    if (this.isEnabled()) {
+      this.transitionModel.record(source,
+                                  target);
+    }
+  }
+
+  List<String> getLikelyTargets(String source) {
+    if (!this.isEnabled()) {
+      return new ArrayList<>();
+    }
+    return this.transitionModel.getLikelyTargets(source,
+                                                 this.numberOfTargets);
+  }
+
+  boolean contains(String className,
+                   String[] parameterValues) {
+    PrefetchedController prefetchedController = this.prefetchedControllers.get(className);
+    return prefetchedController != null &&
+           Arrays.equals(prefetchedController.parameterValues,
+                         parameterValues);
+  }
+
+  /**
+   * Stores a prefetched controller. A controller of the same class, that was
+   * prefetched before, will be discarded.
+   *
+   * @param className          class name of the controller (as used in the route configuration)
+   * @param parameterValues    parameter values the controller was created with
+   * @param controllerInstance the created controller
+   */
+  void put(String className,
+           String[] parameterValues,
+           ControllerInstance controllerInstance) {
+    PrefetchedController replaced = this.prefetchedControllers.remove(className);
+    if (replaced != null) {
+      this.discard(replaced);
+    }
+    this.prefetchedControllers.put(className,
+                                   new PrefetchedController(parameterValues,
+                                                            controllerInstance));
+    this.prefetches++;
+    this.discardToMaxSize();
+  }
+
+  /**
+   * Removes and returns the prefetched controller, in case it was created
+   * with the parameter values.
+   *
+   * @param className       class name of the controller (as used in the route configuration)
+   * @param parameterValues parameter values of the routing
+   * @return the prefetched controller or null
+   */
+  ControllerInstance take(String className,
+                          String[] parameterValues) {
+    if (!this.contains(className,
+                       parameterValues)) {
+      return null;
+    }
+    this.adoptions++;
+    return this.prefetchedControllers.remove(className).controllerInstance;
+  }
+
+  private void discardToMaxSize() {
+    while (this.prefetchedControllers.size() > this.maxPrefetchedControllers) {
+      String eldest = this.prefetchedControllers.keySet()
+                                                .iterator()
+                                                .next();
+      this.discard(this.prefetchedControllers.remove(eldest));
+    }
+  }
+
+  /* a prefetched controller was never started, only the handlers of bind need to be removed */
+  private void discard(PrefetchedController prefetchedController) {
+    AbstractComponentController<?, ?, ?> controller = prefetchedController.controllerInstance.getController();
+    controller.removeHandlers();
+    controller.getComponent()
+              .removeHandlers();
+    this.discards++;
+  }
+
+  /**
+   * Discards all prefetched controllers. The observed transitions are kept.
+   */
+  @Override
+  public void clear() {
+    List<PrefetchedController> discarded = new ArrayList<>(this.prefetchedControllers.values());
+    this.prefetchedControllers.clear();
+    discarded.forEach(this::discard);
+  }
+
+  /**
+   * Resets the statistics.
+   */
+  @Override
+  public void resetStatistics() {
+    this.prefetches = 0;
+    this.adoptions = 0;
+    this.discards = 0;
+  }
+
+  /**
+   * Number of prefetched controllers.
+   *
+   * @return number of prefetches
+   */
+  @Override
+  public long getPrefetches() {
+    return prefetches;
+  }
+
+  /**
+   * Number of prefetched controllers, that were adopted by a routing.
+   *
+   * @return number of adoptions
+   */
+  @Override
+  public long getAdoptions() {
+    return adoptions;
+  }
+
+  /**
+   * Number of prefetched controllers, that were discarded without being used.
+   *
+   * @return number of discards
+   */
+  @Override
+  public long getDiscards() {
+    return discards;
+  }
+
+  /**
+   * Number of currently prefetched controllers.
+   *
+   * @return number of prefetched controllers
+   */
+  @Override
+  public int getSize() {
+    return this.prefetchedControllers.size();
+  }
+
+  /**
+   * Max number of prefetched controllers.
+   *
+   * @return max number of prefetched controllers
+   */
+  @Override
+  public int getMaxPrefetchedControllers() {
+    return maxPrefetchedControllers;
+  }
+
+  /**
+   * Sets the max number of prefetched controllers. A value of 0 disables
+   * the prefetching and removes the observed transitions.
+   *
+   * @param maxPrefetchedControllers max number of prefetched controllers
+   */
+  @Override
+  public void setMaxPrefetchedControllers(int maxPrefetchedControllers) {
+    this.maxPrefetchedControllers = Math.max(0,
+                                             maxPrefetchedControllers);
+    this.discardToMaxSize();
+    if (!this.isEnabled()) {
+      this.transitionModel.clear();
+    }
+  }
+
+  /**
+   * Number of likely next hashes, whose controllers are prefetched.
+   *
+   * @return number of likely next hashes
+   */
+  @Override
+  public int getNumberOfTargets() {
+    return numberOfTargets;
+  }
+
+  /**
+   * Sets the number of likely next hashes, whose controllers are prefetched
+   * after a routing.
+   *
+   * @param numberOfTargets number of likely next hashes
+   */
+  @Override
+  public void setNumberOfTargets(int numberOfTargets) {
+    this.numberOfTargets = Math.max(0,
+                                    numberOfTargets);
+  }
+
+  private static final class PrefetchedController {
+
+    private String[] parameterValues;
+
+    private ControllerInstance controllerInstance;
+
+    private PrefetchedController(String[] parameterValues,
+                                 ControllerInstance controllerInstance) {
+      this.parameterValues = parameterValues;
+      this.controllerInstance = controllerInstance;
+    }
+
+  }
+
+}
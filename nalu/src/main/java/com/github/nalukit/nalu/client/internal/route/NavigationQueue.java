@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+/**
+ * Queue of the requested navigations.
+ * <p>
+ * Only the latest requested navigation is kept. Requesting a navigation
+ * while another one is waiting supersedes the waiting one, so it will never
+ * be executed. Requesting a navigation while a navigation is executed (f.e.
+ * a filter redirects) supersedes the executed one: the router stops the
+ * executed navigation and continues with the new one instead of nesting it.
+ */
+final class NavigationQueue {
+
+  /* navigation waiting to be executed */
+  private Navigation pending;
+
+  /* navigation being executed */
+  private Navigation current;
+
+  /* true: the execution of the pending navigation is scheduled */
+  private boolean scheduled;
+
+  /* number of navigations that were superseded before they were executed */
+  private int numberOfDroppedNavigations;
+
+  NavigationQueue() {
+  }
+
+  /**
+   * Requests a navigation. In case there is a waiting navigation, it will be
+   * dropped. The new navigation replaces the state of the browser history only
+   * in case the dropped navigation would have replaced it too.
+   * <p>
+   * A navigation requested with <code>replaceState = true</code>, that updates
+   * the history, is a redirect of the router (f.e. by a filter) and continues
+   * the redirect chain of the current navigation.
+   *
+   * @param hash          the hash to navigate to
+   * @param replaceState  true: replace the current history entry
+   * @param updateHistory true: the history needs to be updated (false for
+   *                      navigations triggered by the browser)
+   * @return the requested navigation
+   */
+  Navigation offer(String hash,
+                   boolean replaceState,
+                   boolean updateHistory) {
+    boolean replace = replaceState || !updateHistory;
+    if (this.pending != null) {
+      replace = replace && this.pending.isReplacingState();
+      this.numberOfDroppedNavigations++;
+    }
+    this.pending = new Navigation(hash,
+                                  replace,
+                                  updateHistory,
+                                  replaceState && updateHistory);
+    return this.pending;
+  }
+
+  /**
+   * Takes the waiting navigation for execution.
+   *
+   * @return the navigation to execute or null
+   */
+  Navigation poll() {
+    this.current = this.pending;
+    this.pending = null;
+    return this.current;
+  }
+
+  /**
+   * Continues the execution of a navigation (f.e. once the async filters
+   * have accepted the navigation).
+   *
+   * @param navigation the navigation to continue
+   */
+  void resume(Navigation navigation) {
+    this.current = navigation;
+  }
+
+  /**
+   * Marks the executed navigation as done.
+   */
+  void complete() {
+    this.current = null;
+  }
+
+  boolean hasPending() {
+    return this.pending != null;
+  }
+
+  boolean isExecuting() {
+    return this.current != null;
+  }
+
+  /**
+   * Checks if there is a newer navigation waiting, so the current
+   * navigation is superseded.
+   *
+   * @return true: stop executing the current navigation
+   */
+  boolean isSuperseded() {
+    return this.pending != null;
+  }
+
+  boolean isScheduled() {
+    return this.scheduled;
+  }
+
+  void setScheduled(boolean scheduled) {
+    this.scheduled = scheduled;
+  }
+
+  Navigation getCurrent() {
+    return this.current;
+  }
+
+  int getNumberOfDroppedNavigations() {
+    return this.numberOfDroppedNavigations;
+  }
+
+  static final class Navigation {
+
+    private String hash;
+
+    private boolean replacingState;
+
+    private boolean updatingHistory;
+
+    private boolean redirect;
+
+    private Navigation(String hash,
+                       boolean replacingState,
+                       boolean updatingHistory,
+                       boolean redirect) {
+      this.hash = hash;
+      this.replacingState = replacingState;
+      this.updatingHistory = updatingHistory;
+      this.redirect = redirect;
+    }
+
+    String getHash() {
+      return this.hash;
+    }
+
+    boolean isReplacingState() {
+      return this.replacingState;
+    }
+
+    boolean isUpdatingHistory() {
+      return this.updatingHistory;
+    }
+
+    boolean isRedirect() {
+      return this.redirect;
+    }
+
+  }
+
+}
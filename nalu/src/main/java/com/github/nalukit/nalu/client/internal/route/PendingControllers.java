@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+/**
+ * Counts the controllers of a routing, that are not handled yet.
+ * <p>
+ * Controllers can be loaded asynchronously (code splitting), so the
+ * router can not rely on the order of the calls. Once the last controller
+ * of the routing is handled, the command is executed.
+ */
+final class PendingControllers {
+
+  /* number of controllers, that are not handled yet */
+  private int pending;
+
+  /* executed once all controllers are handled */
+  private Runnable command;
+
+  PendingControllers(int pending,
+                     Runnable command) {
+    this.pending = pending;
+    this.command = command;
+  }
+
+  /**
+   * Adds controllers to handle.
+   *
+   * @param controllers number of controllers
+   */
+  void add(int controllers) {
+    this.pending += controllers;
+  }
+
+  /**
+   * Marks a controller as handled. In case it is the last one, the command is executed.
+   */
+  void done() {
+    this.pending--;
+    if (this.pending == 0) {
+      this.command.run();
+    }
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracks the hashes of the current navigation to detect redirect loops.
+ * <p>
+ * Hashes are normalized (a leading '#' and a leading '/' are ignored).
+ * The first hash of a navigation is stored as it is, so a navigation
+ * without redirects does not create any objects. Once a redirect happens,
+ * the hashes are stored in a hash set (to look them up in constant time)
+ * and in a list (to report the redirect chain).
+ */
+final class RedirectTracker {
+
+  static final int DEFAULT_MAX_REDIRECT_DEPTH = 16;
+
+  /* first hash of the navigation (not normalized) */
+  private String first;
+
+  /* normalized hashes - only used after a redirect */
+  private Set<String> visited;
+
+  /* normalized hashes in order of routing - only used after a redirect */
+  private List<String> chain;
+
+  /* max number of redirects of a navigation */
+  private int maxRedirectDepth;
+
+  RedirectTracker() {
+    this.maxRedirectDepth = RedirectTracker.DEFAULT_MAX_REDIRECT_DEPTH;
+  }
+
+  /**
+   * Checks if the hash was already used during the current navigation.
+   *
+   * @param hash hash to check
+   * @return true: the hash was already used
+   */
+  boolean contains(String hash) {
+    if (this.first == null ||
+        hash == null) {
+      return false;
+    }
+    if (this.isRedirected()) {
+      return this.visited.contains(this.normalize(hash));
+    }
+    int offset = this.offset(hash);
+    int firstOffset = this.offset(this.first);
+    int length = hash.length() - offset;
+    return length == this.first.length() - firstOffset &&
+           hash.regionMatches(offset,
+                              this.first,
+                              firstOffset,
+                              length);
+  }
+
+  /**
+   * Adds the hash to the current navigation.
+   *
+   * @param hash hash to add
+   */
+  void add(String hash) {
+    if (this.first == null) {
+      this.first = hash;
+      return;
+    }
+    if (this.chain == null) {
+      this.visited = new HashSet<>();
+      this.chain = new ArrayList<>();
+    }
+    if (this.chain.isEmpty()) {
+      String normalizedFirst = this.normalize(this.first);
+      this.visited.add(normalizedFirst);
+      this.chain.add(normalizedFirst);
+    }
+    String normalizedHash = this.normalize(hash);
+    this.visited.add(normalizedHash);
+    this.chain.add(normalizedHash);
+  }
+
+  /**
+   * Checks if the current navigation reached the max number of redirects.
+   *
+   * @return true: no more redirects are allowed
+   */
+  boolean isMaxRedirectDepthReached() {
+    return this.getNumberOfRedirects() >= this.maxRedirectDepth;
+  }
+
+  /**
+   * Returns the number of redirects of the current navigation.
+   *
+   * @return number of redirects
+   */
+  int getNumberOfRedirects() {
+    if (this.first == null) {
+      return 0;
+    }
+    return this.isRedirected() ? this.chain.size() - 1 : 0;
+  }
+
+  /**
+   * Returns the normalized hashes of the current navigation in order of routing.
+   *
+   * @return the redirect chain
+   */
+  List<String> getChain() {
+    List<String> chain = new ArrayList<>();
+    if (this.isRedirected()) {
+      chain.addAll(this.chain);
+    } else if (this.first != null) {
+      chain.add(this.normalize(this.first));
+    }
+    return chain;
+  }
+
+  /**
+   * Starts a new navigation.
+   */
+  void clear() {
+    this.first = null;
+    if (this.chain != null) {
+      this.chain.clear();
+      this.visited.clear();
+    }
+  }
+
+  int getMaxRedirectDepth() {
+    return this.maxRedirectDepth;
+  }
+
+  void setMaxRedirectDepth(int maxRedirectDepth) {
+    this.maxRedirectDepth = maxRedirectDepth;
+  }
+
+  private boolean isRedirected() {
+    return this.chain != null &&
+           !this.chain.isEmpty();
+  }
+
+  private String normalize(String hash) {
+    int offset = this.offset(hash);
+    return offset == 0 ? hash : hash.substring(offset);
+  }
+
+  /* number of leading characters to ignore ('#' and '/') */
+  private int offset(String hash) {
+    int offset = 0;
+    if (hash.startsWith("#")) {
+      offset++;
+    }
+    if (hash.startsWith("/",
+                        offset)) {
+      offset++;
+    }
+    return offset;
+  }
+
+}
@@ -18,6 +18,7 @@ package com.github.nalukit.nalu.client.internal.route;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,9 +27,21 @@ public class RouteConfig {
   /* shellCreator */
   private List<String> shell;
 
+  /* names of the shells (without leading '/') - used for matching */
+  private String[] shellNames;
+
   /* route */
   private String route;
 
+  /* segments of the route (including the shell) */
+  private String[] segments;
+
+  /* marks the segments of the route which are parameters ('*') */
+  private boolean[] wildcards;
+
+  /* number of parameters ('*') of the route */
+  private int numberOfWildcards;
+
   /* route without shellCreator */
   private String routeWithoutShell;
 
@@ -41,6 +54,9 @@ public class RouteConfig {
   /* class name of the class which uses this configuration */
   private String className;
 
+  /* true: the controller will be kept in case only the parameters change */
+  private boolean reusingControllerOnParameterChange;
+
   @SuppressWarnings("unused")
   private RouteConfig() {
   }
@@ -49,14 +65,27 @@ public class RouteConfig {
                      List<String> parameters,
                      String selector,
                      String className) {
+    this(route,
+         parameters,
+         selector,
+         className,
+         false);
+  }
+
+  public RouteConfig(String route,
+                     List<String> parameters,
+                     String selector,
+                     String className,
+                     boolean reusingControllerOnParameterChange) {
     super();
 
-    this.shell = new ArrayList<>();
+    List<String> shell = new ArrayList<>();
 
     this.route = route;
     this.parameters = parameters;
     this.selector = selector;
     this.className = className;
+    this.reusingControllerOnParameterChange = reusingControllerOnParameterChange;
     // get shellCreator from route
     String tmpValue = route;
     if (tmpValue.startsWith("/")) {
@@ -79,12 +108,25 @@ public class RouteConfig {
                                                 shellFromRoute.length() - 1);
     }
     if (shellFromRoute.contains("|")) {
-      this.shell = Arrays.asList(shellFromRoute.split("\\|"))
+      shell.addAll(Arrays.asList(shellFromRoute.split("\\|"))
                          .stream()
                          .map(s -> "/" + s)
-                         .collect(Collectors.toList());
+                         .collect(Collectors.toList()));
     } else {
-      this.shell.add("/" + shellFromRoute);
+      shell.add("/" + shellFromRoute);
+    }
+    this.shell = Collections.unmodifiableList(shell);
+    this.shellNames = shell.stream()
+                           .map(s -> s.substring(1))
+                           .toArray(String[]::new);
+    // split the route once, so that matching does not need to do it again
+    this.segments = RouterUtils.split(route);
+    this.wildcards = new boolean[this.segments.length];
+    for (int i = 0; i < this.segments.length; i++) {
+      this.wildcards[i] = "*".equals(this.segments[i]);
+      if (this.wildcards[i]) {
+        this.numberOfWildcards++;
+      }
     }
   }
 
@@ -92,41 +134,55 @@ public class RouteConfig {
     return route;
   }
 
+  /**
+   * Checks if the route (without parameter values) belongs to this route configuration.
+   * <p>
+   * The method does not create any objects.
+   *
+   * @param route route to check
+   * @return true: the route belongs to the configuration
+   */
   public boolean match(String route) {
-    if (this.matchShell(route)) {
-      return this.matchRouteWithoutShell(route);
+    int start = route.startsWith("/") ? 1 : 0;
+    int indexOfSlash = route.indexOf('/',
+                                     start);
+    int endOfShell = indexOfSlash == -1 ? route.length() : indexOfSlash;
+    if (this.matchShell(route,
+                        start,
+                        endOfShell)) {
+      return this.matchRouteWithoutShell(route,
+                                         indexOfSlash);
     }
     return false;
   }
 
-  private boolean matchShell(String route) {
-    if (this.shell.contains("*")) {
-      return true;
-    }
-    // seperate shellCreator from route
-    String shellOfRoute = route;
-    if (shellOfRoute.startsWith("/")) {
-      shellOfRoute = shellOfRoute.substring(1);
-    }
-    if (shellOfRoute.contains("/")) {
-      shellOfRoute = shellOfRoute.substring(0,
-                                            shellOfRoute.indexOf("/"));
+  private boolean matchShell(String route,
+                             int start,
+                             int end) {
+    int length = end - start;
+    for (String shellName : this.shellNames) {
+      if (shellName.length() == length &&
+          route.regionMatches(start,
+                              shellName,
+                              0,
+                              length)) {
+        return true;
+      }
     }
-    return this.shell.contains("/" + shellOfRoute);
+    return false;
   }
 
-  private boolean matchRouteWithoutShell(String route) {
-    // seperate shellCreator from route
-    String routeWithoutShell = route;
-    if (routeWithoutShell.startsWith("/")) {
-      routeWithoutShell = routeWithoutShell.substring(1);
-    }
-    if (routeWithoutShell.contains("/")) {
-      routeWithoutShell = routeWithoutShell.substring(routeWithoutShell.indexOf("/") + 1);
-    } else {
-      routeWithoutShell = "";
+  private boolean matchRouteWithoutShell(String route,
+                                         int indexOfSlash) {
+    if (indexOfSlash == -1) {
+      return "/".equals(this.routeWithoutShell);
     }
-    return this.routeWithoutShell.equals("/" + routeWithoutShell);
+    int length = route.length() - indexOfSlash;
+    return this.routeWithoutShell.length() == length &&
+           route.regionMatches(indexOfSlash,
+                               this.routeWithoutShell,
+                               0,
+                               length);
   }
 
   public List<String> getShell() {
@@ -149,4 +205,52 @@ public class RouteConfig {
     return parameters;
   }
 
+  /**
+   * Returns true, if the controller of this configuration will be kept
+   * in case only the parameters of the route change.
+   *
+   * @return true: controller will be reused on parameter change
+   */
+  public boolean isReusingControllerOnParameterChange() {
+    return reusingControllerOnParameterChange;
+  }
+
+  /**
+   * Returns the number of parameters ('*') of the route.
+   *
+   * @return number of parameters
+   */
+  int getNumberOfWildcards() {
+    return this.numberOfWildcards;
+  }
+
+  /**
+   * Returns the number of segments of the route (including the shell).
+   *
+   * @return number of segments
+   */
+  int getNumberOfSegments() {
+    return this.segments.length;
+  }
+
+  /**
+   * Returns the segment at the index.
+   *
+   * @param index index of the segment
+   * @return the segment
+   */
+  String getSegment(int index) {
+    return this.segments[index];
+  }
+
+  /**
+   * Checks if the segment at the index is a parameter ('*').
+   *
+   * @param index index of the segment
+   * @return true: the segment is a parameter
+   */
+  boolean isWildcard(int index) {
+    return this.wildcards[index];
+  }
+
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled index of the route configurations.
+ * <p>
+ * The index consists of two parts:
+ * <ul>
+ * <li>a segment trie, used to find the first route configuration that
+ * matches a route containing parameter values. The first level of the trie
+ * is the shell, the following levels are the segments of the route. Parameters
+ * ('*') are stored as wildcard edge.</li>
+ * <li>a map of the route configurations keyed by shell and route, used to
+ * find all route configurations of a route (without parameter values).</li>
+ * </ul>
+ * Looking up a route will take time proportional to the depth of the route
+ * instead of the number of routes.
+ */
+final class RouteIndex {
+
+  private static final String WILDCARD = "*";
+
+  /* route configurations in order of registration */
+  private List<RouteConfig> routeConfigs;
+
+  /* root of the trie */
+  private Node root;
+
+  /* route configurations by shell and route without shell */
+  private Map<String, List<RouteConfig>> routeConfigsByRoute;
+
+  RouteIndex(List<RouteConfig> routeConfigs) {
+    this.routeConfigs = new ArrayList<>(routeConfigs);
+    this.root = new Node();
+    this.routeConfigsByRoute = new HashMap<>();
+    for (int i = 0; i < this.routeConfigs.size(); i++) {
+      RouteConfig routeConfig = this.routeConfigs.get(i);
+      this.addToTrie(routeConfig,
+                     i);
+      this.addToRouteMap(routeConfig);
+    }
+  }
+
+  /**
+   * Returns the first route configuration (in order of registration)
+   * that matches the route. The route can contain parameter values.
+   * <p>
+   * This method returns the same result as comparing the route with
+   * each route configuration using {@link RouterUtils#match(String, String)}.
+   *
+   * @param route                        the route containing parameter values
+   * @param usingColonForParametersInUrl true: parameter values start with a colon
+   * @return the first matching route configuration or null, if there is none
+   */
+  RouteConfig findFirst(String route,
+                        boolean usingColonForParametersInUrl) {
+    String[] partsOfRoute = RouterUtils.split(route);
+    if (partsOfRoute.length == 0) {
+      // a route without any part matches every route configuration
+      return this.routeConfigs.isEmpty() ? null : this.routeConfigs.get(0);
+    }
+    int index = this.findFirst(this.root,
+                               partsOfRoute,
+                               0,
+                               usingColonForParametersInUrl,
+                               Integer.MAX_VALUE);
+    return index == Integer.MAX_VALUE ? null : this.routeConfigs.get(index);
+  }
+
+  /**
+   * Returns all route configurations of the route (shell and route without shell).
+   * <p>
+   * This method returns the same result as calling {@link RouteConfig#match(String)}
+   * on each route configuration.
+   *
+   * @param route the route to look for
+   * @return list of route configurations (might be empty)
+   */
+  List<RouteConfig> match(String route) {
+    String value = route;
+    if (value.startsWith("/")) {
+      value = value.substring(1);
+    }
+    String key;
+    int indexOfSlash = value.indexOf("/");
+    if (indexOfSlash > -1) {
+      key = "/" + value;
+    } else {
+      key = "/" + value + "/";
+    }
+    List<RouteConfig> result = this.routeConfigsByRoute.get(key);
+    if (result == null) {
+      return new ArrayList<>();
+    }
+    return new ArrayList<>(result);
+  }
+
+  private int findFirst(Node node,
+                        String[] partsOfRoute,
+                        int depth,
+                        boolean usingColonForParametersInUrl,
+                        int bestIndex) {
+    if (node.minIndex >= bestIndex) {
+      // nothing better to find here
+      return bestIndex;
+    }
+    if (depth == partsOfRoute.length) {
+      return Math.min(node.acceptIndex,
+                      bestIndex);
+    }
+    String part = partsOfRoute[depth];
+    if (usingColonForParametersInUrl) {
+      if (part.startsWith(":") ||
+          RouteIndex.WILDCARD.equals(part)) {
+        if (node.wildcard != null) {
+          bestIndex = this.findFirst(node.wildcard,
+                                     partsOfRoute,
+                                     depth + 1,
+                                     true,
+                                     bestIndex);
+        }
+      } else {
+        Node child = node.children.get(part);
+        if (child != null) {
+          bestIndex = this.findFirst(child,
+                                     partsOfRoute,
+                                     depth + 1,
+                                     true,
+                                     bestIndex);
+        }
+      }
+    } else {
+      Node child = node.children.get(part);
+      if (child != null) {
+        bestIndex = this.findFirst(child,
+                                   partsOfRoute,
+                                   depth + 1,
+                                   false,
+                                   bestIndex);
+      }
+      if (node.wildcard != null) {
+        bestIndex = this.findFirst(node.wildcard,
+                                   partsOfRoute,
+                                   depth + 1,
+                                   false,
+                                   bestIndex);
+      }
+    }
+    return bestIndex;
+  }
+
+  private void addToTrie(RouteConfig routeConfig,
+                         int index) {
+    int numberOfSegments = routeConfig.getNumberOfSegments();
+    // index of the first part of the trailing parameters
+    int firstTrailingWildcard = numberOfSegments;
+    while (firstTrailingWildcard > 0 &&
+           routeConfig.isWildcard(firstTrailingWildcard - 1)) {
+      firstTrailingWildcard--;
+    }
+    Node node = this.root;
+    node.minIndex = Math.min(node.minIndex,
+                             index);
+    for (int depth = 0; depth < numberOfSegments; depth++) {
+      if (routeConfig.isWildcard(depth)) {
+        if (node.wildcard == null) {
+          node.wildcard = new Node();
+        }
+        node = node.wildcard;
+      } else {
+        node = node.children.computeIfAbsent(routeConfig.getSegment(depth),
+                                             k -> new Node());
+      }
+      node.minIndex = Math.min(node.minIndex,
+                               index);
+      // a route can be shorter than the route configuration
+      // in case all missing parts are parameters
+      if (depth + 1 >= firstTrailingWildcard) {
+        node.acceptIndex = Math.min(node.acceptIndex,
+                                    index);
+      }
+    }
+  }
+
+  private void addToRouteMap(RouteConfig routeConfig) {
+    for (String shell : routeConfig.getShell()) {
+      List<RouteConfig> list = this.routeConfigsByRoute.computeIfAbsent(shell + routeConfig.getRouteWithoutShell(),
+                                                                        k -> new ArrayList<>());
+      if (!list.contains(routeConfig)) {
+        list.add(routeConfig);
+      }
+    }
+  }
+
+  private static final class Node {
+
+    /* children of the node (key: segment) */
+    private Map<String, Node> children = new HashMap<>();
+
+    /* child for parameters */
+    private Node wildcard;
+
+    /* lowest index of a route configuration accepting a route ending at this node */
+    private int acceptIndex = Integer.MAX_VALUE;
+
+    /* lowest index of a route configuration inside this subtree */
+    private int minIndex = Integer.MAX_VALUE;
+
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+/**
+ * A route matcher finds the first route configuration (in order of registration)
+ * that matches a route containing parameter values.
+ * <p>
+ * Implementations are generated by the processor in case the application
+ * is annotated with <code>generateRouteMatcher = true</code>. The generated
+ * code knows all routes at compile time and dispatches on the number of parts
+ * of the route and on the literal parts, so no route has to be interpreted
+ * at runtime.
+ * <p>
+ * The result has to be the same as comparing the route with each
+ * route configuration using {@link RouterUtils#match(String, String)}.
+ */
+public interface RouteMatcher {
+
+  /**
+   * Value returned in case no route configuration matches.
+   */
+  int NO_MATCH = -1;
+
+  /**
+   * Returns the number of route configurations the matcher was created for.
+   *
+   * @return number of route configurations
+   */
+  int getNumberOfRoutes();
+
+  /**
+   * Returns the index of the first route configuration that matches the route.
+   * <p>
+   * The parts are the parts of the route split by '/'. A leading '/' is
+   * ignored as are trailing empty parts.
+   *
+   * @param partsOfRoute parts of the route containing parameter values
+   * @return index of the matching route configuration or {@link #NO_MATCH}
+   */
+  int findFirst(String[] partsOfRoute);
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.cache.IsRouteResolutionCache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded cache of resolved routes (key: normalized hash).
+ * <p>
+ * A resolution contains the parsed route (shell, route and parameter values)
+ * and the matching route configurations. The least recently used entry is
+ * removed in case the cache is full. The cache is cleared, in case the routes
+ * or shells of the application change.
+ * <p>
+ * The number of hits and misses can be used to size the cache.
+ */
+public class RouteResolutionCache
+    implements IsRouteResolutionCache {
+
+  /* default number of cached resolutions */
+  public static final int DEFAULT_MAX_SIZE = 64;
+
+  /* cached resolutions in access order */
+  private Map<String, RouteResolution> resolutions;
+
+  /* max number of cached resolutions */
+  private int maxSize;
+
+  /* number of cache hits */
+  private long hits;
+
+  /* number of cache misses */
+  private long misses;
+
+  /* version of the routes the cache is based on */
+  private int routesVersion;
+
+  /* version of the shells the cache is based on */
+  private int shellsVersion;
+
+  RouteResolutionCache() {
+    this.maxSize = RouteResolutionCache.DEFAULT_MAX_SIZE;
+    this.resolutions = new LinkedHashMap<String, RouteResolution>(16,
+                                                                  0.75f,
+                                                                  true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, RouteResolution> eldest) {
+        return size() > RouteResolutionCache.this.maxSize;
+      }
+
+    };
+  }
+
+  /**
+   * Looks up the resolution of the hash. In case the routes or shells
+   * changed since the resolution was cached, the cache will be cleared.
+   *
+   * @param hash          the normalized hash
+   * @param routesVersion current version of the routes
+   * @param shellsVersion current version of the shells
+   * @return the cached resolution or null
+   */
+  RouteResolution get(String hash,
+                      int routesVersion,
+                      int shellsVersion) {
+    if (this.routesVersion != routesVersion ||
+        this.shellsVersion != shellsVersion) {
+      this.resolutions.clear();
+      this.routesVersion = routesVersion;
+      this.shellsVersion = shellsVersion;
+    }
+    RouteResolution resolution = this.resolutions.get(hash);
+    if (resolution == null) {
+      this.misses++;
+    } else {
+      this.hits++;
+    }
+    return resolution;
+  }
+
+  void put(String hash,
+           RouteResolution resolution) {
+    if (this.maxSize > 0) {
+      this.resolutions.put(hash,
+                           resolution);
+    }
+  }
+
+  /**
+   * Removes all cached resolutions. The statistics will not be reset.
+   */
+  @Override
+  public void clear() {
+    this.resolutions.clear();
+  }
+
+  /**
+   * Resets the number of hits and misses.
+   */
+  @Override
+  public void resetStatistics() {
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /**
+   * Number of lookups answered by the cache.
+   *
+   * @return number of cache hits
+   */
+  @Override
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Number of lookups, that were not answered by the cache.
+   *
+   * @return number of cache misses
+   */
+  @Override
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Number of currently cached resolutions.
+   *
+   * @return number of cached resolutions
+   */
+  @Override
+  public int getSize() {
+    return this.resolutions.size();
+  }
+
+  /**
+   * Max number of cached resolutions.
+   *
+   * @return max number of cached resolutions
+   */
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the max number of cached resolutions. A value of 0 disables the cache.
+   *
+   * @param maxSize max number of cached resolutions
+   */
+  @Override
+  public void setMaxSize(int maxSize) {
+    this.maxSize = Math.max(0,
+                            maxSize);
+    if (this.resolutions.size() > this.maxSize) {
+      this.resolutions.clear();
+    }
+  }
+
+  /**
+   * Resolution of a hash: the parsed route and the matching route configurations.
+   */
+  static final class RouteResolution {
+
+    private RouteResult routeResult;
+
+    private List<RouteConfig> routeConfigs;
+
+    RouteResolution(RouteResult routeResult,
+                    List<RouteConfig> routeConfigs) {
+      this.routeResult = routeResult;
+      this.routeConfigs = Collections.unmodifiableList(routeConfigs);
+    }
+
+    RouteResult getRouteResult() {
+      return routeResult;
+    }
+
+    List<RouteConfig> getRouteConfigs() {
+      return routeConfigs;
+    }
+
+  }
+
+}
@@ -16,60 +16,76 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
-public class RouteResult {
+/**
+ * Result of parsing a route: the shell, the route and the parameter values.
+ * <p>
+ * Instances are immutable and are shared by the resolution cache of the
+ * router. The array of parameter values is created once while parsing,
+ * code outside the router only gets copies of it.
+ */
+public final class RouteResult {
 
-  private String shell;
+  private static final String[] NO_PARAMETERS = new String[0];
 
-  private String route;
+  private final String shell;
 
-  private List<String> parameterValues;
+  private final String route;
 
-  public RouteResult() {
-    this(null,
-         null,
-         new ArrayList<>());
-  }
+  private final String[] parameterValues;
+
+  private final List<String> parameterValueList;
 
   public RouteResult(String shell,
                      String route,
-                     List<String> parameterValues) {
+                     String... parameterValues) {
     this.shell = shell;
     this.route = route;
-    this.parameterValues = parameterValues;
+    this.parameterValues = parameterValues == null || parameterValues.length == 0 ? RouteResult.NO_PARAMETERS : parameterValues;
+    this.parameterValueList = Collections.unmodifiableList(Arrays.asList(this.parameterValues));
   }
 
   public RouteResult(String shell,
-                     String route) {
+                     String route,
+                     List<String> parameterValues) {
     this(shell,
          route,
-         new ArrayList<>());
+         parameterValues.toArray(new String[0]));
   }
 
   public String getRoute() {
     return route;
   }
 
-  public void setRoute(String route) {
-    this.route = route;
+  /**
+   * Returns the parameter values as unmodifiable list.
+   *
+   * @return list of parameter values
+   */
+  public List<String> getParameterValues() {
+    return parameterValueList;
   }
 
-  public List<String> getParameterValues() {
-    return parameterValues;
+  /**
+   * Returns a copy of the parameter values.
+   *
+   * @return parameter values
+   */
+  public String[] getParameterValuesAsArray() {
+    return parameterValues.length == 0 ? parameterValues : Arrays.copyOf(parameterValues,
+                                                                         parameterValues.length);
   }
 
-  public void setParameterValues(List<String> parameterValues) {
-    this.parameterValues = parameterValues;
+  /* the shared array, only used by the router for comparisons. Never hand it out! */
+  String[] parameterValues() {
+    return parameterValues;
   }
 
   public String getShell() {
     return shell;
   }
 
-  public void setShell(String shell) {
-    this.shell = shell;
-  }
-
 }
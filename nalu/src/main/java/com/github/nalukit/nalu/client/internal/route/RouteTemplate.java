@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled route used to generate urls.
+ * <p>
+ * The route is split once into the literal chunks between the
+ * placeholders ('*'). Generating a url appends the chunks and
+ * the (encoded) parameters to one StringBuilder.
+ */
+final class RouteTemplate {
+
+  private static final String WILDCARD = "*";
+
+  /* literal chunk in front of each placeholder */
+  private String[] chunks;
+
+  /* literal chunk after the last placeholder */
+  private String trailingChunk;
+
+  /* estimated length of the generated url (without parameters) */
+  private int length;
+
+  RouteTemplate(String route) {
+    String routeValue = route;
+    if (routeValue.startsWith("/")) {
+      routeValue = routeValue.substring(1);
+    }
+    List<String> chunks = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    for (String part : routeValue.split("/")) {
+      sb.append("/");
+      if (RouteTemplate.WILDCARD.equals(part)) {
+        chunks.add(sb.toString());
+        sb.setLength(0);
+      } else {
+        sb.append(part);
+      }
+    }
+    this.chunks = chunks.toArray(new String[0]);
+    this.trailingChunk = sb.toString();
+    this.length = this.trailingChunk.length();
+    for (String chunk : this.chunks) {
+      this.length += chunk.length() + 1;
+    }
+  }
+
+  /**
+   * Returns the number of placeholders ('*') of the route.
+   *
+   * @return number of placeholders
+   */
+  int getNumberOfPlaceholders() {
+    return this.chunks.length;
+  }
+
+  /**
+   * Generates the url (without leading '/'). The parameters are added
+   * in place of the placeholders. In case there are more parameters
+   * than placeholders, the remaining parameters are added at the end.
+   *
+   * @param usingColonForParametersInUrl true: add a colon in front of each parameter
+   * @param parms                        parameters
+   * @return the url
+   */
+  String generate(boolean usingColonForParametersInUrl,
+                  String... parms) {
+    StringBuilder sb = new StringBuilder(this.length + 8 * parms.length);
+    for (int i = 0; i < this.chunks.length; i++) {
+      sb.append(this.chunks[i]);
+      if (usingColonForParametersInUrl) {
+        sb.append(':');
+      }
+      if (i < parms.length) {
+        this.appendParameter(sb,
+                             parms[i]);
+      }
+    }
+    sb.append(this.trailingChunk);
+    // in case there are more parameters then placeholders, we add them at the end!
+    for (int i = this.chunks.length; i < parms.length; i++) {
+      sb.append('/');
+      if (usingColonForParametersInUrl) {
+        sb.append(':');
+      }
+      this.appendParameter(sb,
+                           parms[i]);
+    }
+    // remove leading '/'
+    return sb.length() == 0 ? "" : sb.substring(1);
+  }
+
+  /* appends the parameter and replaces all '/' */
+  private void appendParameter(StringBuilder sb,
+                               String parameter) {
+    if (parameter == null) {
+      sb.append("null");
+      return;
+    }
+    int start = 0;
+    int indexOfSlash = parameter.indexOf('/');
+    while (indexOfSlash != -1) {
+      sb.append(parameter,
+                start,
+                indexOfSlash)
+        .append(AbstractRouter.NALU_SLASH_REPLACEMENT);
+      start = indexOfSlash + 1;
+      indexOfSlash = parameter.indexOf('/',
+                                       start);
+    }
+    sb.append(parameter,
+              start,
+              parameter.length());
+  }
+
+}
@@ -16,23 +16,40 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
+import com.github.nalukit.nalu.client.Nalu;
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
 import com.github.nalukit.nalu.client.filter.IsFilter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 public class RouterConfiguration {
 
-  private List<RouteConfig> routers;
+  private ConfigurationList<RouteConfig> routers;
 
   private List<IsFilter> filters;
 
+  private List<IsAsyncFilter> asyncFilters;
+
+  /* index of the routes - will be rebuild in case the routes changed */
+  private RouteIndex routeIndex;
+
+  /* version of the routes used to build the index */
+  private int routeIndexVersion;
+
+  /* generated route matcher (optional) */
+  private RouteMatcher routeMatcher;
+
+  /* version of the routes the route matcher was set for */
+  private int routeMatcherVersion;
+
   public RouterConfiguration() {
     super();
 
-    this.routers = new ArrayList<>();
+    this.routers = new ConfigurationList<>();
     this.filters = new ArrayList<>();
+    this.asyncFilters = new ArrayList<>();
   }
 
   public List<RouteConfig> getRouters() {
@@ -43,10 +60,86 @@ public class RouterConfiguration {
     return filters;
   }
 
+  public List<IsAsyncFilter> getAsyncFilters() {
+    return asyncFilters;
+  }
+
   public List<RouteConfig> match(String hash) {
-    return this.routers.stream()
-                       .filter(routeConfig -> routeConfig.match(hash))
-                       .collect(Collectors.toList());
+    return this.getRouteIndex()
+               .match(hash);
+  }
+
+  /**
+   * Looks for the first route configuration that matches the route.
+   * The route can contain parameter values.
+   * <p>
+   * Uses the properties of the current runtime. The router uses
+   * {@link #findFirst(String, boolean)} with the properties of its runtime.
+   *
+   * @param route the route containing parameter values instead of '*'
+   * @return the first matching route configuration
+   */
+  public Optional<RouteConfig> findFirst(String route) {
+    return this.findFirst(route,
+                          Nalu.isUsingColonForParametersInUrl());
+  }
+
+  /**
+   * Looks for the first route configuration that matches the route.
+   * The route can contain parameter values.
+   *
+   * @param route                        the route containing parameter values instead of '*'
+   * @param usingColonForParametersInUrl true: parameter values start with a ':'
+   * @return the first matching route configuration
+   */
+  public Optional<RouteConfig> findFirst(String route,
+                                         boolean usingColonForParametersInUrl) {
+    if (this.isRouteMatcherValid()) {
+      int index = this.routeMatcher.findFirst(RouterUtils.split(route));
+      return index == RouteMatcher.NO_MATCH ? Optional.empty() : Optional.of(this.routers.get(index));
+    }
+    return Optional.ofNullable(this.getRouteIndex()
+                                   .findFirst(route,
+                                              usingColonForParametersInUrl));
+  }
+
+  /**
+   * Sets the generated route matcher. The matcher has to be set after
+   * the routes are added.
+   * <p>
+   * The route matcher will only be used as long as the routes are
+   * the routes the matcher was generated for. Otherwise the routes are
+   * matched by using the index.
+   *
+   * @param routeMatcher the generated route matcher
+   */
+  public void setRouteMatcher(RouteMatcher routeMatcher) {
+    this.routeMatcher = routeMatcher;
+    this.routeMatcherVersion = this.routers.getVersion();
+  }
+
+  /**
+   * Returns the number of modifications of the routes.
+   *
+   * @return version of the routes
+   */
+  int getVersion() {
+    return this.routers.getVersion();
+  }
+
+  private boolean isRouteMatcherValid() {
+    return this.routeMatcher != null &&
+           this.routeMatcherVersion == this.routers.getVersion() &&
+           this.routeMatcher.getNumberOfRoutes() == this.routers.size();
+  }
+
+  private RouteIndex getRouteIndex() {
+    if (this.routeIndex == null ||
+        this.routeIndexVersion != this.routers.getVersion()) {
+      this.routeIndex = new RouteIndex(this.routers);
+      this.routeIndexVersion = this.routers.getVersion();
+    }
+    return this.routeIndex;
   }
 
 }
@@ -16,8 +16,8 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import com.github.nalukit.nalu.client.Nalu;
 import com.github.nalukit.nalu.client.internal.CompositeControllerReference;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
 
 import java.util.List;
@@ -31,14 +31,31 @@ public final class RouterImpl
                     List<CompositeControllerReference> compositeControllerReferences,
                     boolean usingHash,
                     boolean usingColonForParametersInUrl) {
+    this(plugin,
+         shellConfiguration,
+         routerConfiguration,
+         compositeControllerReferences,
+         usingHash,
+         usingColonForParametersInUrl,
+         NaluRuntime.current());
+  }
+
+  public RouterImpl(IsNaluProcessorPlugin plugin,
+                    ShellConfiguration shellConfiguration,
+                    RouterConfiguration routerConfiguration,
+                    List<CompositeControllerReference> compositeControllerReferences,
+                    boolean usingHash,
+                    boolean usingColonForParametersInUrl,
+                    NaluRuntime runtime) {
     super(compositeControllerReferences,
           shellConfiguration,
           routerConfiguration,
           plugin,
           usingHash,
-          usingColonForParametersInUrl);
-    this.plugin.register(super::handleRouting,
-                         Nalu.isUsingHash());
+          usingColonForParametersInUrl,
+          runtime);
+    this.plugin.register(super::handleRouteChange,
+                         usingHash);
   }
 
 }
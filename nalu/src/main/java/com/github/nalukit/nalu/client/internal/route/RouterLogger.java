@@ -19,44 +19,82 @@ package com.github.nalukit.nalu.client.internal.route;
 import com.github.nalukit.nalu.client.internal.ClientLogger;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 class RouterLogger {
 
-  RouterLogger() {
+  /* logger of the runtime of the router */
+  private final ClientLogger clientLogger;
+
+  RouterLogger(ClientLogger clientLogger) {
+    this.clientLogger = clientLogger;
   }
 
-  static void logHandleHash(String hash) {
+  void logHandleHash(String hash) {
     String sb = "Router: handleRouting for hash ->>" + hash + "<<";
     logDetailed(sb,
                 0);
   }
 
-  private static void logDetailed(String message,
-                                  int depth) {
-    ClientLogger.get()
-                .logDetailed(message,
-                             depth);
+  private void logDetailed(String message,
+                           int depth) {
+    this.clientLogger.logDetailed(message,
+                                  depth);
   }
 
-  static String logNoMatchingRoute(String route,
-                                   String routeError) {
+  String logNoMatchingRoute(String route,
+                            String routeError) {
     String sb = "no matching controller for route >>" + route + "<< found --> use configurated route: >" + routeError + "<<";
     logSimple(sb,
               3);
     return sb;
   }
 
-  static void logSimple(String message,
-                        int depth) {
-    ClientLogger.get()
-                .logSimple(message,
-                           depth);
+  void logSimple(String message,
+                 int depth) {
+    this.clientLogger.logSimple(message,
+                                depth);
+  }
+
+  void logGenerateWithMoreParametersThanPlaceholders(String route,
+                                                     int numberOfPlaceholders,
+                                                     int numberOfParameters) {
+    if (!this.clientLogger.isLoggingEnabled()) {
+      return;
+    }
+    String sb = "Warning: route >>" +
+                route +
+                "<< has less parameter placeholder >>" +
+                numberOfPlaceholders +
+                "<< than the number of parameters in the list of parameters >>" +
+                numberOfParameters +
+                "<< --> adding Prameters add the end of the url";
+    logSimple(sb,
+              1);
   }
 
-  static void logFilterInterceptsRouting(String canonicalName,
-                                         String redirectTo,
-                                         String[] parameters) {
+  void logGeneratedRoute(String generatedRoute,
+                         String route,
+                         String[] parms) {
+    if (!this.clientLogger.isLoggingEnabled()) {
+      return;
+    }
+    StringBuilder parameters = new StringBuilder();
+    for (int i = 0; i < parms.length; i++) {
+      if (i > 0) {
+        parameters.append(",");
+      }
+      parameters.append(parms[i]);
+    }
+    String sb = "generated route >>" + generatedRoute + "<< -> created from >>" + route + "<< with parameters >>" + parameters + "<<";
+    logSimple(sb,
+              1);
+  }
+
+  void logFilterInterceptsRouting(String canonicalName,
+                                  String redirectTo,
+                                  String[] parameters) {
     StringBuilder sb = new StringBuilder();
     sb.append("Router: filter >>")
       .append(canonicalName)
@@ -75,9 +113,9 @@ class RouterLogger {
               3);
   }
 
-  static void logControllerInterceptsRouting(String controllerClassName,
-                                             String route,
-                                             String[] parameter) {
+  void logControllerInterceptsRouting(String controllerClassName,
+                                      String route,
+                                      String[] parameter) {
     StringBuilder sb = new StringBuilder();
     sb.append("Router: create controller >>")
       .append(controllerClassName)
@@ -96,182 +134,243 @@ class RouterLogger {
               0);
   }
 
-  static String logNoControllerFoundForHash(String hash) {
+  String logNoControllerFoundForHash(String hash) {
     String sb = "no controller found for hash >>" + hash + "<<";
     logSimple(sb,
               3);
     return sb;
   }
 
-  static void logUseErrorRoute(String routeError) {
+  void logUseErrorRoute(String routeError) {
     String sb = "use configurated default route >>" + routeError + "<<";
     logSimple(sb,
               3);
   }
 
-  static void logControllerOnAttachedMethodCalled(String canonicalName) {
+  void logControllerOnAttachedMethodCalled(String canonicalName) {
     String sb = "Router: create controller >>" + canonicalName + "<< - calls method onAttached()";
     logDetailed(sb,
                 4);
   }
 
-  static void logControllerActivateMethodCalled(String canonicalName) {
+  void logControllerActivateMethodCalled(String canonicalName) {
     String sb = "Router: create controller >>" + canonicalName + "<< - calls method activate()";
     logDetailed(sb,
                 4);
   }
 
-  static void logControllerStartMethodCalled(String canonicalName) {
+  void logControllerStartMethodCalled(String canonicalName) {
     String sb = "Router: create controller >>" + canonicalName + "<< - calls method start()";
     logDetailed(sb,
                 4);
   }
 
-  static void logShellOnAttachedComponentMethodCalled(String canonicalName) {
+  void logControllerPrefetched(String className,
+                               String hash) {
+    String sb = "controller >>" + className + "<< --> prefetched for hash >>" + hash + "<<";
+    logSimple(sb,
+              3);
+  }
+
+  void logControllerLoadedForOutdatedRouting(String className,
+                                             String hash) {
+    String sb = "controller >>" + className + "<< --> loaded for outdated hash >>" + hash + "<< - discarded";
+    logSimple(sb,
+              3);
+  }
+
+  String logControllerLoadingFailed(String className,
+                                    String hash,
+                                    Throwable reason) {
+    String sb = "loading controller >>" + className + "<< for hash >>" + hash + "<< failed: " + reason.getMessage();
+    logSimple(sb,
+              3);
+    return sb;
+  }
+
+  void logPrefetchedControllerAdopted(String className) {
+    String sb = "controller >>" + className + "<< --> prefetched controller adopted";
+    logSimple(sb,
+              3);
+  }
+
+  void logCompositeControllerReleased(String canonicalName) {
+    String sb = "composite >>" + canonicalName + "<< --> deactivated and added to cache";
+    logSimple(sb,
+              4);
+  }
+
+  void logCompositeControllerEvicted(String canonicalName) {
+    String sb = "composite >>" + canonicalName + "<< --> evicted from cache and stopped";
+    logSimple(sb,
+              3);
+  }
+
+  void logShellEvicted(String canonicalName,
+                       boolean removedHandlers) {
+    String sb = "shell >>" + canonicalName + "<< --> evicted from cache" + (removedHandlers ? " and handlers removed" : " (attached, will be detached at next shell change)");
+    logSimple(sb,
+              3);
+  }
+
+  void logControllerEvicted(String canonicalName,
+                            boolean stopped) {
+    String sb = "controller >>" + canonicalName + "<< --> evicted from cache" + (stopped ? " and stopped" : " (attached, will be stopped at next routing)");
+    logSimple(sb,
+              3);
+  }
+
+  void logControllerOnParametersChangedMethodCalled(String canonicalName) {
+    String sb = "Router: keep controller >>" + canonicalName + "<< - calls method onParametersChanged()";
+    logDetailed(sb,
+                4);
+  }
+
+  void logShellOnAttachedComponentMethodCalled(String canonicalName) {
     String sb = "Router: create controller >>" + canonicalName + "<< - calls shellCreator.onAttachedComponent()";
     logDetailed(sb,
                 4);
   }
 
-  static void logControllerdeactivateMethodWillBeCalled(String canonicalName) {
+  void logControllerdeactivateMethodWillBeCalled(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> will be deactivated";
     logSimple(sb,
               3);
   }
 
-  static void logControllerStopMethodWillBeCalled(String canonicalName) {
+  void logControllerStopMethodWillBeCalled(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> will be stopped";
     logSimple(sb,
               3);
   }
 
-  static void logCompositeControllerStopMethodWillBeCalled(String canonicalName) {
+  void logCompositeControllerStopMethodWillBeCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> will be stopped";
     logSimple(sb,
               5);
   }
 
-  static void logControllerDeactivateMethodCalled(String canonicalName) {
+  void logControllerDeactivateMethodCalled(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> deactivated";
     logDetailed(sb,
                 4);
   }
 
-  static void logControllerStopMethodCalled(String canonicalName) {
+  void logControllerStopMethodCalled(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> stopped";
     logDetailed(sb,
                 4);
   }
 
-  static void logCompositeControllerDeactivateMethodWillBeCalled(String canonicalName) {
+  void logCompositeControllerDeactivateMethodWillBeCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> deactivate";
     logDetailed(sb,
                 6);
   }
 
-  static void logCompositeControllerDeactivateMethodCalled(String canonicalName) {
+  void logCompositeControllerDeactivateMethodCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> deactivated";
     logDetailed(sb,
                 6);
   }
 
-  static void logCompositeControllerRemoveMethodCalled(String canonicalName) {
+  void logCompositeControllerRemoveMethodCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> remove";
     logDetailed(sb,
                 6);
   }
 
-  static void logCompositeControllerStopMethodCalled(String canonicalName) {
+  void logCompositeControllerStopMethodCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> stopped";
     logDetailed(sb,
                 6);
   }
 
-  static void logComponentDetached(String canonicalName) {
+  void logComponentDetached(String canonicalName) {
     String sb = "composite component >>" + canonicalName + "<< --> detached";
     logDetailed(sb,
                 4);
   }
 
-  static void logCompositeComponentDetached(String canonicalName) {
+  void logCompositeComponentDetached(String canonicalName) {
     String sb = "component >>" + canonicalName + "<< --> detached";
     logDetailed(sb,
                 6);
   }
 
-  static void logControllerDetached(String canonicalName) {
+  void logControllerDetached(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> detached";
     logDetailed(sb,
                 4);
   }
 
-  static void logCompositeControllerDetached(String canonicalName) {
+  void logCompositeControllerDetached(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> detached";
     logDetailed(sb,
                 6);
   }
 
-  static void logComponentRemoveHandlersMethodCalled(String canonicalName) {
+  void logComponentRemoveHandlersMethodCalled(String canonicalName) {
     String sb = "component >>" + canonicalName + "<< --> removed handlers";
     logDetailed(sb,
                 4);
   }
 
-  static void logCompositeComponentRemoveHandlersMethodCalled(String canonicalName) {
+  void logCompositeComponentRemoveHandlersMethodCalled(String canonicalName) {
     String sb = "composite component >>" + canonicalName + "<< --> removed handlers";
     logDetailed(sb,
                 6);
   }
 
-  static void logControllerRemoveHandlersMethodCalled(String canonicalName) {
+  void logControllerRemoveHandlersMethodCalled(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> removed handlers";
     logDetailed(sb,
                 4);
   }
 
-  static void logCompositeControllerRemoveHandlersMethodCalled(String canonicalName) {
+  void logCompositeControllerRemoveHandlersMethodCalled(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> removed handlers";
     logDetailed(sb,
                 6);
   }
 
-  static void logControllerDeactivated(String canonicalName) {
+  void logControllerDeactivated(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> deactivated";
     logSimple(sb,
               3);
   }
 
-  static void logControllerStopped(String canonicalName) {
+  void logControllerStopped(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> stopped";
     logSimple(sb,
               3);
   }
 
-  static void logControllerHandlingStop(String canonicalName) {
+  void logControllerHandlingStop(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> handlling stop request";
     logSimple(sb,
               3);
   }
 
-  static void logControllerHandlingStopComposites(String canonicalName) {
+  void logControllerHandlingStopComposites(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> stopping composites";
     logSimple(sb,
               4);
   }
 
-  static void logControllerCompositesStopped(String canonicalName) {
+  void logControllerCompositesStopped(String canonicalName) {
     String sb = "controller >>" + canonicalName + "<< --> composites stopped";
     logSimple(sb,
               4);
   }
 
-  static void logCompositeControllerDeactivated(String canonicalName) {
+  void logCompositeControllerDeactivated(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> deactivated";
     logSimple(sb,
               5);
   }
 
-  static void logCompositeControllerStopped(String canonicalName) {
+  void logCompositeControllerStopped(String canonicalName) {
     String sb = "composite controller >>" + canonicalName + "<< --> stopped";
     logSimple(sb,
               5);
@@ -296,7 +395,7 @@ class RouterLogger {
 //    return sb.toString();
 //  }
 
-  static String logNoMatchingRoute(String hash) {
+  String logNoMatchingRoute(String hash) {
     StringBuilder sb = new StringBuilder();
     sb.append("no matching route for hash >>")
       .append(hash)
@@ -306,53 +405,53 @@ class RouterLogger {
     return sb.toString();
   }
 
-  static void logControllerLookForCompositeController(String controller) {
+  void logControllerLookForCompositeController(String controller) {
     String sb = "controller >>" + controller + "<< --> looking for composite";
     logDetailed(sb,
                 4);
   }
 
-  static void logControllerNoCompositeControllerFound(String controller) {
+  void logControllerNoCompositeControllerFound(String controller) {
     String sb = "controller >>" + controller + "<< --> no composite found";
     logDetailed(sb,
                 5);
   }
 
-  static void logControllerCompositeControllerFound(String controller,
-                                                    int numberofCompositeControllerFound) {
+  void logControllerCompositeControllerFound(String controller,
+                                             int numberofCompositeControllerFound) {
     String sb = "controller >>" + controller + "<< --> composites found >>" + numberofCompositeControllerFound + "<<";
     logDetailed(sb,
                 5);
   }
 
-  static void logCompositeControllerInjectedInController(String controller,
-                                                         String compositeController) {
+  void logCompositeControllerInjectedInController(String controller,
+                                                  String compositeController) {
     String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< injected";
     logDetailed(sb,
                 5);
   }
 
-  static void logControllerOnAttachedCompositeController(String controller,
-                                                         String compositeController) {
+  void logControllerOnAttachedCompositeController(String controller,
+                                                  String compositeController) {
     String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< attached";
     logDetailed(sb,
                 5);
   }
 
-  static void logCompositeComntrollerActivateMethodCalled(String compositeController) {
+  void logCompositeComntrollerActivateMethodCalled(String compositeController) {
     String sb = "Router: create compositeController >>" + compositeController + "<< - calls method activate()";
     logDetailed(sb,
                 5);
   }
 
-  static void logCompositeComntrollerStartMethodCalled(String compositeController) {
+  void logCompositeComntrollerStartMethodCalled(String compositeController) {
     String sb = "Router: create compositeController >>" + compositeController + "<< - calls method start()";
     logDetailed(sb,
                 5);
   }
 
-  static void logCompositeNotFound(String controller,
-                                   String compositeController) {
+  void logCompositeNotFound(String controller,
+                            String compositeController) {
     String sb = "controller >>" + controller + "<< --> compositeController >>" + compositeController + "<< not found";
     logDetailed(sb,
                 5);
@@ -372,14 +471,65 @@ class RouterLogger {
   //                5);
   //  }
 
-  static String logLoopDetected(String hash) {
+  String logLoopDetected(List<String> chain,
+                         String hash) {
     StringBuilder sb = new StringBuilder();
     sb.append("loop detected for hash >>")
-      .append(hash)
-      .append("<< --> Routing aborted!");
+      .append(chain.isEmpty() ? hash : chain.get(0))
+      .append("<< (redirect chain: >>")
+      .append(RouterLogger.createRedirectChain(chain,
+                                               hash))
+      .append("<<) --> Routing aborted!");
+    logSimple(sb.toString(),
+              0);
+    return sb.toString();
+  }
+
+  String logMaxRedirectDepthReached(List<String> chain,
+                                    String hash,
+                                    int maxRedirectDepth) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("max redirect depth >>")
+      .append(maxRedirectDepth)
+      .append("<< reached for hash >>")
+      .append(chain.isEmpty() ? hash : chain.get(0))
+      .append("<< (redirect chain: >>")
+      .append(RouterLogger.createRedirectChain(chain,
+                                               hash))
+      .append("<<) --> Routing aborted!");
     logSimple(sb.toString(),
               0);
     return sb.toString();
   }
 
+  void logControllerKept(String controllerClassName,
+                         String selector) {
+    String sb = "Router: controller >>" + controllerClassName + "<< in selector >>" + selector + "<< unchanged --> controller kept";
+    logDetailed(sb,
+                2);
+  }
+
+  void logNoControllerChanged(String hash) {
+    String sb = "Router: no controller changed for hash >>" + hash + "<< --> nothing to do";
+    logSimple(sb,
+              1);
+  }
+
+  void logNavigationSuperseded(String hash) {
+    String sb = "Router: routing for hash >>" + hash + "<< superseded by a newer navigation --> Routing aborted!";
+    logSimple(sb,
+              1);
+  }
+
+  private static String createRedirectChain(List<String> chain,
+                                            String hash) {
+    StringBuilder sb = new StringBuilder();
+    for (String value : chain) {
+      sb.append(value)
+        .append(" -> ");
+    }
+    return sb.append(hash)
+             .toString();
+  }
+
 }
@@ -57,109 +57,110 @@ public class RouterUtils {
   public static boolean match(String route,
                               String withRoute,
                               boolean exact) {
-    String[] partsOfRoute = RouterUtils.split(route);
-    String[] partsOfWithRoute = RouterUtils.split(withRoute);
+    return RouterUtils.match(route,
+                             withRoute,
+                             exact,
+                             Nalu.isUsingColonForParametersInUrl());
+  }
+
+  /**
+   * Same as {@link #match(String, String, boolean)}, but uses the given
+   * property instead of the property of the current runtime. So, routes
+   * of several applications can be matched at the same time.
+   *
+   * @param route                        the route containing parameter values instead of '*'
+   * @param withRoute                    the compare route which has no parameter values and uses '*' instead
+   * @param exact                        if true, routes must match exactly
+   * @param usingColonForParametersInUrl true: parameter values start with a ':'
+   * @return true the routes matches or false in case not
+   */
+  public static boolean match(String route,
+                              String withRoute,
+                              boolean exact,
+                              boolean usingColonForParametersInUrl) {
+    // the method works on indices of the strings instead of
+    // splitting them - so no objects are created while matching
+    int routeStart = RouterUtils.start(route);
+    int routeEnd = RouterUtils.end(route,
+                                   routeStart);
+    int withRouteStart = RouterUtils.start(withRoute);
+    int withRouteEnd = RouterUtils.end(withRoute,
+                                       withRouteStart);
+    int numberOfPartsOfRoute = RouterUtils.numberOfParts(route,
+                                                         routeStart,
+                                                         routeEnd);
+    int numberOfPartsOfWithRoute = RouterUtils.numberOfParts(withRoute,
+                                                             withRouteStart,
+                                                             withRouteEnd);
 
     // in case route has more parts than withRoute, return false
-    if (partsOfRoute.length > partsOfWithRoute.length) {
+    if (numberOfPartsOfRoute > numberOfPartsOfWithRoute) {
       return false;
     }
     // if numbers of parts not equal ==> routes do not match!
     if (exact) {
-      if (partsOfRoute.length != partsOfWithRoute.length) {
+      if (numberOfPartsOfRoute != numberOfPartsOfWithRoute) {
         return false;
       }
     }
-    // check if colons are used inside the url
-    if (Nalu.isUsingColonForParametersInUrl()) {
-      for (int i = 0; i < partsOfRoute.length; i++) {
-        if (partsOfRoute[i].startsWith(":")) {
-          if (partsOfWithRoute.length > i) {
-            if (!"*".equals(partsOfWithRoute[i])) {
-              return false;
-            }
-          } else {
-            return false;
-          }
-        } else {
-          if (partsOfWithRoute.length > i) {
-            if (!partsOfRoute[i].equals(partsOfWithRoute[i])) {
-              return false;
-            }
-          } else {
-            return false;
-          }
+    if (numberOfPartsOfRoute == 0) {
+      return true;
+    }
+    int partOfRouteStart = routeStart;
+    int partOfWithRouteStart = withRouteStart;
+    for (int i = 0; i < numberOfPartsOfRoute; i++) {
+      int partOfRouteEnd = RouterUtils.endOfPart(route,
+                                                 partOfRouteStart,
+                                                 routeEnd);
+      int partOfWithRouteEnd = RouterUtils.endOfPart(withRoute,
+                                                     partOfWithRouteStart,
+                                                     withRouteEnd);
+      boolean isParameter = RouterUtils.isParameter(withRoute,
+                                                    partOfWithRouteStart,
+                                                    partOfWithRouteEnd);
+      // check if colons are used inside the url
+      if (usingColonForParametersInUrl &&
+          partOfRouteEnd > partOfRouteStart &&
+          route.charAt(partOfRouteStart) == ':') {
+        if (!isParameter) {
+          return false;
         }
-        if (partsOfRoute.length - 1 == i) {
-          if (partsOfWithRoute.length > partsOfRoute.length){
-            return RouterUtils.onlyParameterAddEnd(partsOfWithRoute,
-                                                   i + 1);
-          }
+      } else if (!RouterUtils.partEquals(route,
+                                         partOfRouteStart,
+                                         partOfRouteEnd,
+                                         withRoute,
+                                         partOfWithRouteStart,
+                                         partOfWithRouteEnd)) {
+        if (usingColonForParametersInUrl ||
+            !isParameter) {
+          return false;
         }
       }
-//
-//      for (int i = 0; i < partsOfWithRoute.length; i++) {
-//        if (partsOfRoute.length < i + 1) {
-//          return RouterUtils.onlyParameterAddEnd(partsOfWithRoute,
-//                                                 i);
-//        }
-//        // check if partsOfRoute[i] startsWith ':' ==> partOfWithRoute[i] must be '*'
-//        if (Nalu.isUsingColonForParametersInUrl()) {
-//          if (partsOfRoute[i].startsWith(":")) {
-//            if (!"*".equals(partsOfWithRoute[i])) {
-//              return false;
-//            }
-//          } else {
-//            if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-//              return false;
-//            }
-//          }
-//        } else {
-//          if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-//            if (!"*".equals(partsOfWithRoute[i])) {
-//              return false;
-//            }
-//          }
-//        }
-    } else {
-      // compare the parts!
-      for (int i = 0; i < partsOfRoute.length; i++) {
-        if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-          if (!"*".equals(partsOfWithRoute[i])) {
-            return false;
-          }
-        }
-        if (partsOfRoute.length - 1 == i) {
-          if (partsOfWithRoute.length > partsOfRoute.length){
-            return RouterUtils.onlyParameterAddEnd(partsOfWithRoute,
-                                                   i + 1);
-          }
-        }
-//        if (partsOfWithRoute.length < i + 1) {
-//          return RouterUtils.parameterOnPosition(partsOfWithRoute,
-//                                                 i);
-//        } else {
-//          // check if partOfWithRoute[i] is '*' ==> everything is fine
-//          if (!"*".equals(partsOfWithRoute[i])) {
-//            if (partsOfRoute.length < i + 1) {
-//              if (!exact) {
-//                return RouterUtils.onlyParameterAddEnd(partsOfRoute,
-//                                                       i);
-//              }
-//              return false;
-//            } else {
-//              if (!partsOfWithRoute[i].equals(partsOfRoute[i])) {
-//                return false;
-//              }
-//            }
-//          }
-//        }
+      partOfRouteStart = partOfRouteEnd + 1;
+      partOfWithRouteStart = partOfWithRouteEnd + 1;
+    }
+    // in case withRoute has more parts than route, the additional parts must be parameters
+    for (int i = numberOfPartsOfRoute; i < numberOfPartsOfWithRoute; i++) {
+      int partOfWithRouteEnd = RouterUtils.endOfPart(withRoute,
+                                                     partOfWithRouteStart,
+                                                     withRouteEnd);
+      if (!RouterUtils.isParameter(withRoute,
+                                   partOfWithRouteStart,
+                                   partOfWithRouteEnd)) {
+        return false;
       }
+      partOfWithRouteStart = partOfWithRouteEnd + 1;
     }
     return true;
   }
 
-  private static String[] split(String route) {
+  /**
+   * Splits the route into its parts (a leading '/' will be ignored).
+   *
+   * @param route the route to split
+   * @return parts of the route
+   */
+  static String[] split(String route) {
     if (route.startsWith("/")) {
       if (route.length() > 1) {
         return route.substring(1)
@@ -171,22 +172,68 @@ public class RouterUtils {
     }
   }
 
-  private static boolean onlyParameterAddEnd(String[] partsOfRoute,
-                                             int index) {
-    for (int i = index; i < partsOfRoute.length; i++) {
-      if (!"*".equals(partsOfRoute[i])) {
-        return false;
-      }
+  private static int start(String route) {
+    return route.startsWith("/") ? 1 : 0;
+  }
+
+  /* end of the route without trailing '/' (same as String.split does) */
+  private static int end(String route,
+                         int start) {
+    int end = route.length();
+    while (end > start &&
+           route.charAt(end - 1) == '/') {
+      end--;
     }
-    return true;
+    return end;
   }
 
-  private static boolean parameterOnPosition(String[] partsOfRoute,
-                                             int index) {
-    if (partsOfRoute.length - 1 < index) {
-      return false;
+  private static int numberOfParts(String route,
+                                   int start,
+                                   int end) {
+    if (start == route.length()) {
+      // empty route - has one empty part
+      return 1;
+    }
+    if (start == end) {
+      // route contains only '/'
+      return 0;
     }
-    return "*".equals(partsOfRoute[index]);
+    int numberOfParts = 1;
+    for (int i = start; i < end; i++) {
+      if (route.charAt(i) == '/') {
+        numberOfParts++;
+      }
+    }
+    return numberOfParts;
+  }
+
+  private static int endOfPart(String route,
+                               int start,
+                               int end) {
+    int index = route.indexOf('/',
+                              start);
+    return index == -1 || index > end ? end : index;
+  }
+
+  private static boolean isParameter(String route,
+                                     int start,
+                                     int end) {
+    return end - start == 1 &&
+           route.charAt(start) == '*';
+  }
+
+  private static boolean partEquals(String route,
+                                    int start,
+                                    int end,
+                                    String withRoute,
+                                    int withStart,
+                                    int withEnd) {
+    int length = end - start;
+    return length == withEnd - withStart &&
+           route.regionMatches(start,
+                               withRoute,
+                               withStart,
+                               length);
   }
 
 }
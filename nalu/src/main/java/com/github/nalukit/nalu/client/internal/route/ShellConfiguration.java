@@ -16,29 +16,86 @@
 
 package com.github.nalukit.nalu.client.internal.route;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ShellConfiguration {
 
-  private List<ShellConfig> shells;
+  private ConfigurationList<ShellConfig> shells;
+
+  /* index of the shells (key: shell route) - will be rebuild in case the shells changed */
+  private Map<String, ShellConfig> shellIndex;
+
+  /* version of the shells used to build the index */
+  private int shellIndexVersion;
 
   public ShellConfiguration() {
     super();
 
-    this.shells = new ArrayList<>();
+    this.shells = new ConfigurationList<>();
   }
 
   public List<ShellConfig> getShells() {
     return shells;
   }
 
+  /**
+   * Looks for the shell configuration of the shell route.
+   * The shell route can be used with or without a leading '/'.
+   *
+   * @param hash the shell route
+   * @return the shell configuration or null, if there is no shell with this route
+   */
   public ShellConfig match(String hash) {
-    return this.shells.stream()
-                      .filter(shellConfig -> shellConfig.getRoute()
-                                                        .equals(hash))
-                      .findFirst()
-                      .get();
+    if (hash == null) {
+      return null;
+    }
+    return this.getShellIndex()
+               .get(this.normalize(hash));
+  }
+
+  /**
+   * Checks if there is a shell configuration for the shell route.
+   *
+   * @param hash the shell route
+   * @return true: there is a shell with this route
+   */
+  public boolean contains(String hash) {
+    return this.match(hash) != null;
+  }
+
+  /**
+   * Returns the number of modifications of the shells.
+   *
+   * @return version of the shells
+   */
+  int getVersion() {
+    return this.shells.getVersion();
+  }
+
+  private Map<String, ShellConfig> getShellIndex() {
+    if (this.shellIndex == null ||
+        this.shellIndexVersion != this.shells.getVersion()) {
+      Map<String, ShellConfig> shellIndex = new HashMap<>();
+      for (ShellConfig shellConfig : this.shells) {
+        if (shellConfig.getRoute() != null) {
+          // in case of duplicates, the first shell wins
+          shellIndex.putIfAbsent(this.normalize(shellConfig.getRoute()),
+                                 shellConfig);
+        }
+      }
+      this.shellIndex = shellIndex;
+      this.shellIndexVersion = this.shells.getVersion();
+    }
+    return this.shellIndex;
+  }
+
+  private String normalize(String shellRoute) {
+    if (shellRoute.startsWith("/")) {
+      return shellRoute;
+    }
+    return "/" + shellRoute;
   }
 
 }
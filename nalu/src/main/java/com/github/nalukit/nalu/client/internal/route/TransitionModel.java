@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the observed transitions from one hash to the next one.
+ * <p>
+ * The model is bounded: it keeps the transitions of the recently used
+ * source hashes only and for every source hash a limited number of
+ * target hashes. In case the limit of targets is reached, the least
+ * frequently used target is replaced.
+ */
+final class TransitionModel {
+
+  /* default number of source hashes */
+  static final int DEFAULT_MAX_SOURCES = 64;
+
+  /* max number of targets of a source hash */
+  static final int MAX_TARGETS = 8;
+
+  /* number of transitions (key: source hash, value: (key: target hash, value: count)) in access order */
+  private Map<String, Map<String, Integer>> transitions;
+
+  /* max number of source hashes */
+  private int maxSources;
+
+  TransitionModel() {
+    this.maxSources = TransitionModel.DEFAULT_MAX_SOURCES;
+    this.transitions = new LinkedHashMap<String, Map<String, Integer>>(16,
+                                                                       0.75f,
+                                                                       true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Map<String, Integer>> eldest) {
+        return size() > TransitionModel.this.maxSources;
+      }
+
+    };
+  }
+
+  /**
+   * Records a transition.
+   *
+   * @param source the hash before the routing (might be null or empty)
+   * @param target the hash after the routing
+   */
+  void record(String source,
+              String target) {
+    if (source == null ||
+        source.isEmpty() ||
+        source.equals(target)) {
+      return;
+    }
+    Map<String, Integer> targets = this.transitions.get(source);
+    if (targets == null) {
+      targets = new HashMap<>();
+      this.transitions.put(source,
+                           targets);
+    }
+    Integer count = targets.get(target);
+    if (count == null) {
+      if (targets.size() >= TransitionModel.MAX_TARGETS) {
+        targets.remove(this.getLeastFrequentTarget(targets));
+      }
+      targets.put(target,
+                  1);
+    } else {
+      targets.put(target,
+                  count + 1);
+    }
+  }
+
+  /**
+   * Returns the targets with the highest number of transitions, starting
+   * with the most frequent one.
+   *
+   * @param source the current hash
+   * @param limit  max number of targets
+   * @return most likely targets
+   */
+  List<String> getLikelyTargets(String source,
+                                int limit) {
+    List<String> likelyTargets = new ArrayList<>();
+    Map<String, Integer> targets = this.transitions.get(source);
+    if (targets == null) {
+      return likelyTargets;
+    }
+    List<Map.Entry<String, Integer>> entries = new ArrayList<>(targets.entrySet());
+    entries.sort((e1, e2) -> Integer.compare(e2.getValue(),
+                                             e1.getValue()));
+    for (int i = 0; i < entries.size() && i < limit; i++) {
+      likelyTargets.add(entries.get(i)
+                               .getKey());
+    }
+    return likelyTargets;
+  }
+
+  private String getLeastFrequentTarget(Map<String, Integer> targets) {
+    String leastFrequentTarget = null;
+    int leastCount = Integer.MAX_VALUE;
+    for (Map.Entry<String, Integer> entry : targets.entrySet()) {
+      if (entry.getValue() < leastCount) {
+        leastFrequentTarget = entry.getKey();
+        leastCount = entry.getValue();
+      }
+    }
+    return leastFrequentTarget;
+  }
+
+  void clear() {
+    this.transitions.clear();
+  }
+
+  int size() {
+    return this.transitions.size();
+  }
+
+}
@@ -16,11 +16,9 @@
 
 package com.github.nalukit.nalu.client.internal.validation;
 
-import com.github.nalukit.nalu.client.Nalu;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.client.internal.route.RouterConfiguration;
-import com.github.nalukit.nalu.client.internal.route.ShellConfig;
 import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
 
 import java.util.Optional;
@@ -30,7 +28,8 @@ public class RouteValidation {
   public static boolean validateRoute(ShellConfiguration shellConfiguration,
                                       RouterConfiguration routerConfiguration,
                                       String route) {
-    return validateRoute(shellConfiguration,
+    return validateRoute(NaluRuntime.current(),
+                         shellConfiguration,
                          routerConfiguration,
                          route,
                          false,
@@ -41,7 +40,28 @@ public class RouteValidation {
   public static boolean validateStartRoute(ShellConfiguration shellConfiguration,
                                            RouterConfiguration routerConfiguration,
                                            String route) {
-    return validateRoute(shellConfiguration,
+    return validateStartRoute(NaluRuntime.current(),
+                              shellConfiguration,
+                              routerConfiguration,
+                              route);
+
+  }
+
+  /**
+   * Validates the start route using the properties and the logger of the runtime.
+   *
+   * @param runtime             runtime of the application
+   * @param shellConfiguration  the shells of the application
+   * @param routerConfiguration the routes of the application
+   * @param route               the start route
+   * @return true: the route exists
+   */
+  public static boolean validateStartRoute(NaluRuntime runtime,
+                                           ShellConfiguration shellConfiguration,
+                                           RouterConfiguration routerConfiguration,
+                                           String route) {
+    return validateRoute(runtime,
+                         shellConfiguration,
                          routerConfiguration,
                          route,
                          true,
@@ -52,7 +72,28 @@ public class RouteValidation {
   public static boolean validateRouteError(ShellConfiguration shellConfiguration,
                                            RouterConfiguration routerConfiguration,
                                            String route) {
-    return validateRoute(shellConfiguration,
+    return validateRouteError(NaluRuntime.current(),
+                              shellConfiguration,
+                              routerConfiguration,
+                              route);
+
+  }
+
+  /**
+   * Validates the error route using the properties and the logger of the runtime.
+   *
+   * @param runtime             runtime of the application
+   * @param shellConfiguration  the shells of the application
+   * @param routerConfiguration the routes of the application
+   * @param route               the error route
+   * @return true: the route exists
+   */
+  public static boolean validateRouteError(NaluRuntime runtime,
+                                           ShellConfiguration shellConfiguration,
+                                           RouterConfiguration routerConfiguration,
+                                           String route) {
+    return validateRoute(runtime,
+                         shellConfiguration,
                          routerConfiguration,
                          route,
                          false,
@@ -60,7 +101,8 @@ public class RouteValidation {
 
   }
 
-  private static boolean validateRoute(ShellConfiguration shellConfiguration,
+  private static boolean validateRoute(NaluRuntime runtime,
+                                       ShellConfiguration shellConfiguration,
                                        RouterConfiguration routerConfiguration,
                                        String route,
                                        boolean startRoute,
@@ -68,13 +110,9 @@ public class RouteValidation {
     String shellOfRoute = getShellFromRoute(route);
     String routeWithoutShell = getRouteWithoutShellAndParameter(route);
     // check shell
-    Optional<ShellConfig> optinalShell = shellConfiguration.getShells()
-                                                           .stream()
-                                                           .filter(s -> s.getRoute()
-                                                                         .equals("/" + shellOfRoute))
-                                                           .findFirst();
-    if (!optinalShell.isPresent()) {
-      logRouteNotFoud(route,
+    if (!shellConfiguration.contains("/" + shellOfRoute)) {
+      logRouteNotFoud(runtime,
+                      route,
                       startRoute,
                       routeError);
       return false;
@@ -85,14 +123,12 @@ public class RouteValidation {
                          .length() > 0) {
       searchRoute = searchRoute + "/" + routeWithoutShell;
     }
-    String finalSearchRoute = searchRoute;
-    Optional<RouteConfig> optionalRoute = routerConfiguration.getRouters()
-                                                             .stream()
-                                                             .filter(r -> Nalu.match(finalSearchRoute,
-                                                                                     r.getRoute()))
-                                                             .findFirst();
+    Optional<RouteConfig> optionalRoute = routerConfiguration.findFirst(searchRoute,
+                                                                        runtime.getPropertyFactory()
+                                                                               .isUsingColonForParametersInUrl());
     if (!optionalRoute.isPresent()) {
-      logRouteNotFoud(route,
+      logRouteNotFoud(runtime,
+                      route,
                       startRoute,
                       routeError);
       return false;
@@ -100,7 +136,8 @@ public class RouteValidation {
     return true;
   }
 
-  private static void logRouteNotFoud(String route,
+  private static void logRouteNotFoud(NaluRuntime runtime,
+                                      String route,
                                       boolean startRoute,
                                       boolean routeError) {
     String sb = "value of ";
@@ -112,9 +149,9 @@ public class RouteValidation {
       sb += "route ";
     }
     sb += ">>" + route + "<< does not exist!";
-    ClientLogger.get()
-                .logSimple(sb,
-                           0);
+    runtime.getClientLogger()
+           .logSimple(sb,
+                      0);
   }
 
   private static String getRouteWithoutShellAndParameter(String route) {
@@ -45,6 +45,32 @@ public interface IsNaluProcessorPlugin {
   void initialize(boolean usingHash,
                   ShellConfiguration shellConfiguration);
 
+  /**
+   * Executes the command once the current browser event loop task is done.
+   * Nalu uses it to coalesce routings requested during the same task.
+   * <p>
+   * By default, the command is executed immediately. Plugins running in
+   * the browser should override the method.
+   *
+   * @param command command to execute
+   */
+  default void scheduleDeferred(ScheduledCommand command) {
+    command.execute();
+  }
+
+  /**
+   * Executes the command once the browser is idle. Nalu uses it to
+   * prefetch the controllers of the most likely next routes.
+   * <p>
+   * By default, the command is not executed: a plugin without an idle
+   * callback does not prefetch, because the prefetching would block the
+   * routing.
+   *
+   * @param command command to execute
+   */
+  default void scheduleIdle(ScheduledCommand command) {
+  }
+
   @FunctionalInterface
   interface RouteChangeHandler {
 
@@ -52,4 +78,11 @@ public interface IsNaluProcessorPlugin {
 
   }
 
+  @FunctionalInterface
+  interface ScheduledCommand {
+
+    void execute();
+
+  }
+
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.gwtproject.event.shared.Event.Type;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects metrics of a {@link SimpleEventBus}:
+ * <ul>
+ * <li>number of fired events per type</li>
+ * <li>number of handler calls, cumulative and max handler execution time per type</li>
+ * <li>number of UmbrellaExceptions per type</li>
+ * </ul>
+ * The metrics are collected only, if they are set on the bus
+ * (<code>eventBus.setMetrics(new EventBusMetrics())</code>). Use
+ * <code>eventBus.getMetricsSnapshot()</code> to read them, together
+ * with the current number of handlers.
+ * <p>
+ * The execution time is measured by the clock of the metrics. The
+ * default clock uses <code>System.nanoTime()</code>.
+ */
+public class EventBusMetrics {
+
+  private final Clock clock;
+
+  /* metrics per event type */
+  private Map<Type<?>, Counters> counters = new HashMap<>();
+
+  public EventBusMetrics() {
+    this(System::nanoTime);
+  }
+
+  public EventBusMetrics(Clock clock) {
+    this.clock = clock;
+  }
+
+  long now() {
+    return clock.now();
+  }
+
+  void recordFire(Type<?> type) {
+    counters(type).fires++;
+  }
+
+  void recordHandler(Type<?> type,
+                     long time) {
+    Counters counters = counters(type);
+    counters.handlerCalls++;
+    counters.totalHandlerTime += time;
+    if (time > counters.maxHandlerTime) {
+      counters.maxHandlerTime = time;
+    }
+  }
+
+  void recordUmbrellaException(Type<?> type) {
+    counters(type).umbrellaExceptions++;
+  }
+
+  /**
+   * Resets all metrics.
+   */
+  public void reset() {
+    counters.clear();
+  }
+
+  Snapshot snapshot(Map<Type<?>, Map<Object, Integer>> handlerCounts) {
+    Map<Type<?>, TypeSnapshot> types = new HashMap<>();
+    for (Map.Entry<Type<?>, Counters> entry : counters.entrySet()) {
+      types.put(entry.getKey(),
+                new TypeSnapshot(entry.getValue(),
+                                 handlerCounts.get(entry.getKey())));
+    }
+    for (Map.Entry<Type<?>, Map<Object, Integer>> entry : handlerCounts.entrySet()) {
+      if (!types.containsKey(entry.getKey())) {
+        types.put(entry.getKey(),
+                  new TypeSnapshot(new Counters(),
+                                   entry.getValue()));
+      }
+    }
+    return new Snapshot(types);
+  }
+
+  private Counters counters(Type<?> type) {
+    return counters.computeIfAbsent(type,
+                                    k -> new Counters());
+  }
+
+  /**
+   * Source of the time used to measure the handler execution time.
+   */
+  @FunctionalInterface
+  public interface Clock {
+
+    long now();
+
+  }
+
+  private static class Counters {
+
+    private long fires;
+
+    private long handlerCalls;
+
+    private long totalHandlerTime;
+
+    private long maxHandlerTime;
+
+    private long umbrellaExceptions;
+
+  }
+
+  /**
+   * Metrics of the event bus at the time the snapshot was taken.
+   */
+  public static class Snapshot {
+
+    private final Map<Type<?>, TypeSnapshot> types;
+
+    private Snapshot(Map<Type<?>, TypeSnapshot> types) {
+      this.types = Collections.unmodifiableMap(types);
+    }
+
+    /**
+     * Returns the metrics of the type. In case there are no metrics for
+     * the type, metrics with all values set to zero are returned.
+     *
+     * @param type the event type
+     * @return the metrics of the type
+     */
+    public TypeSnapshot get(Type<?> type) {
+      TypeSnapshot snapshot = types.get(type);
+      return snapshot == null ? new TypeSnapshot(new Counters(),
+                                                 null) : snapshot;
+    }
+
+    public Map<Type<?>, TypeSnapshot> getTypes() {
+      return types;
+    }
+
+  }
+
+  /**
+   * Metrics of one event type.
+   */
+  public static class TypeSnapshot {
+
+    private final long fires;
+
+    private final long handlerCalls;
+
+    private final long totalHandlerTime;
+
+    private final long maxHandlerTime;
+
+    private final long umbrellaExceptions;
+
+    /* number of handlers per source, key null: global handlers */
+    private final Map<Object, Integer> handlerCounts;
+
+    private TypeSnapshot(Counters counters,
+                         Map<Object, Integer> handlerCounts) {
+      this.fires = counters.fires;
+      this.handlerCalls = counters.handlerCalls;
+      this.totalHandlerTime = counters.totalHandlerTime;
+      this.maxHandlerTime = counters.maxHandlerTime;
+      this.umbrellaExceptions = counters.umbrellaExceptions;
+      this.handlerCounts = handlerCounts == null ? Collections.emptyMap() : Collections.unmodifiableMap(handlerCounts);
+    }
+
+    public long getFires() {
+      return fires;
+    }
+
+    public long getHandlerCalls() {
+      return handlerCalls;
+    }
+
+    /**
+     * Cumulative execution time of the handlers in units of the clock.
+     *
+     * @return total handler time
+     */
+    public long getTotalHandlerTime() {
+      return totalHandlerTime;
+    }
+
+    /**
+     * Max execution time of a handler in units of the clock.
+     *
+     * @return max handler time
+     */
+    public long getMaxHandlerTime() {
+      return maxHandlerTime;
+    }
+
+    public long getUmbrellaExceptions() {
+      return umbrellaExceptions;
+    }
+
+    /**
+     * Current number of handlers of the type (global, source and batch handlers).
+     *
+     * @return number of handlers
+     */
+    public int getHandlerCount() {
+      int count = 0;
+      for (Integer value : handlerCounts.values()) {
+        count += value;
+      }
+      return count;
+    }
+
+    /**
+     * Current number of handlers of the type and source.
+     *
+     * @param source the source, null for the global and batch handlers
+     * @return number of handlers
+     */
+    public int getHandlerCount(Object source) {
+      Integer count = handlerCounts.get(source);
+      return count == null ? 0 : count;
+    }
+
+  }
+
+}
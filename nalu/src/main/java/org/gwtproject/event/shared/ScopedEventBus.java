@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.gwtproject.event.shared.Event.Type;
+
+/**
+ * View of a {@link SimpleEventBus} bound to the life cycle of its owner
+ * (f.e. a controller).
+ * <p>
+ * Handlers added through the view are added to the underlying bus, but
+ * belong to the scope of the view. Events fired through the view are
+ * fired on the underlying bus.
+ * <ul>
+ * <li>{@link #suspend()}: the handlers of the scope are not called until
+ * {@link #resume()} is called</li>
+ * <li>{@link #removeHandlers()}: all handlers of the scope are removed
+ * at once, without touching the handlers one by one</li>
+ * </ul>
+ */
+public class ScopedEventBus
+    extends EventBus {
+
+  private final SimpleEventBus eventBus;
+
+  /* scope of the handlers added since the last removeHandlers */
+  private Scope scope;
+
+  public ScopedEventBus(SimpleEventBus eventBus) {
+    if (eventBus == null) {
+      throw new NullPointerException("Cannot create a scoped event bus without an event bus");
+    }
+    this.eventBus = eventBus;
+    this.scope = new Scope();
+  }
+
+  @Override
+  public <H> HandlerRegistration addHandler(Type<H> type,
+                                            H handler) {
+    scope.empty = false;
+    return eventBus.addScopedHandler(type,
+                                     null,
+                                     handler,
+                                     scope);
+  }
+
+  @Override
+  public <H> HandlerRegistration addHandlerToSource(Type<H> type,
+                                                    Object source,
+                                                    H handler) {
+    if (source == null) {
+      throw new NullPointerException("Cannot add a handler with a null source");
+    }
+    scope.empty = false;
+    return eventBus.addScopedHandler(type,
+                                     source,
+                                     handler,
+                                     scope);
+  }
+
+  @Override
+  public void fireEvent(Event<?> event) {
+    eventBus.fireEvent(event);
+  }
+
+  @Override
+  public void fireEventFromSource(Event<?> event,
+                                  Object source) {
+    eventBus.fireEventFromSource(event,
+                                 source);
+  }
+
+  /**
+   * Stops calling the handlers of the scope.
+   */
+  public void suspend() {
+    scope.suspended = true;
+  }
+
+  /**
+   * Calls the handlers of the scope again.
+   */
+  public void resume() {
+    scope.suspended = false;
+  }
+
+  public boolean isSuspended() {
+    return scope.suspended;
+  }
+
+  /**
+   * Removes all handlers added through this view. Handlers added
+   * afterwards belong to a new scope.
+   */
+  public void removeHandlers() {
+    if (scope.empty) {
+      return;
+    }
+    scope.removed = true;
+    eventBus.scopeRemoved();
+    Scope newScope = new Scope();
+    newScope.suspended = scope.suspended;
+    scope = newScope;
+  }
+
+  /**
+   * Returns the underlying event bus.
+   *
+   * @return the event bus
+   */
+  public SimpleEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * State shared by the handlers added through the view.
+   */
+  static final class Scope {
+
+    /* true: no handler was added to the scope */
+    private boolean empty = true;
+
+    private boolean suspended;
+
+    private boolean removed;
+
+    boolean isActive() {
+      return !suspended && !removed;
+    }
+
+    boolean isRemoved() {
+      return removed;
+    }
+
+  }
+
+}
@@ -17,25 +17,192 @@ package org.gwtproject.event.shared;
 
 import org.gwtproject.event.shared.Event.Type;
 
-import java.util.*;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Basic implementation of {@link EventBus}.
+ * <p>
+ * The handlers are stored in arrays, which are never modified. Adding or
+ * removing a handler replaces the array (copy on write). A dispatch works
+ * on the arrays present at the start of the dispatch. So, handlers added
+ * during a dispatch are not called by this dispatch, and handlers removed
+ * during a dispatch are still called by it. Firing an event does not
+ * allocate, as long as no handler throws an exception.
+ * <p>
+ * Events fired by {@link #fireDeferred(Event)} and
+ * {@link #fireCoalesced(Event)} are delivered at the end of the current
+ * task using the scheduler of the bus. Coalesced events of the same type
+ * (and key) are merged: the handlers receive the last one, the batch
+ * handlers receive all of them.
  */
 public class SimpleEventBus
     extends EventBus {
 
+  private static final Object[] NO_HANDLERS = new Object[0];
+
+  /**
+   * Map of event type to the handlers of the type.
+   */
+  private final Map<Type<?>, Handlers> map = new HashMap<>();
+
+  /**
+   * Executes the delivery of the deferred events.
+   */
+  private Scheduler scheduler;
+
+  /**
+   * Deferred events waiting for their delivery, grouped by type and coalescing key.
+   */
+  private Map<Object, List<Event<?>>> pending = new LinkedHashMap<>();
+
+  private boolean deliveryScheduled;
+
+  /**
+   * true: there are handlers of removed scopes inside the handler arrays
+   */
+  private boolean pruneRequired;
+
+  private boolean pruneScheduled;
+
+  /**
+   * Collects the metrics of the bus, null: metrics are disabled.
+   */
+  private EventBusMetrics metrics;
+
+  /**
+   * Read-only list passed to the batch handlers, reused by every dispatch
+   * that is not nested inside another batch dispatch.
+   */
+  private final EventBatch eventBatch = new EventBatch();
+
+  /**
+   * Sets the scheduler used to deliver deferred events. Nalu uses the
+   * plugin to deliver them once the current task is done. Without a
+   * scheduler, deferred events are delivered immediately.
+   *
+   * @param scheduler the scheduler
+   */
+  public void setScheduler(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Sets the metrics collecting the fired events and the handler
+   * execution times. Set null to disable the metrics (default).
+   *
+   * @param metrics the metrics
+   */
+  public void setMetrics(EventBusMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public EventBusMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Returns the collected metrics together with the current number of
+   * handlers per type and source.
+   *
+   * @return the snapshot or null, in case metrics are disabled
+   */
+  public EventBusMetrics.Snapshot getMetricsSnapshot() {
+    if (metrics == null) {
+      return null;
+    }
+    pruneRemovedScopes();
+    Map<Type<?>, Map<Object, Integer>> handlerCounts = new HashMap<>();
+    for (Map.Entry<Type<?>, Handlers> entry : map.entrySet()) {
+      handlerCounts.put(entry.getKey(),
+                        entry.getValue()
+                             .count());
+    }
+    return metrics.snapshot(handlerCounts);
+  }
+
+  /**
+   * Adds a handler receiving the events of the type as list. Coalesced
+   * events are passed as one list, all other events as a list with one
+   * event.
+   *
+   * @param type    type of the events
+   * @param handler the batch handler
+   * @param <E>     event class
+   * @return the registration of the handler
+   */
+  public <E extends Event<?>> HandlerRegistration addBatchHandler(Type<?> type,
+                                                                  BatchHandler<E> handler) {
+    if (type == null) {
+      throw new NullPointerException("Cannot add a handler with a null type");
+    }
+    if (handler == null) {
+      throw new NullPointerException("Cannot add a null handler");
+    }
+
+    map.computeIfAbsent(type,
+                        k -> new Handlers())
+       .addBatch(handler);
+
+    return () -> {
+      Handlers handlers = map.get(type);
+      if (handlers == null) {
+        return;
+      }
+      handlers.removeBatch(handler);
+      if (handlers.isEmpty()) {
+        map.remove(type);
+      }
+    };
+  }
+
   /**
-   * Map of event type to map of event source to list of their handlers.
+   * Fires the event at the end of the current task. Every event is
+   * delivered, in the order they are fired.
+   *
+   * @param event the event to fire
    */
-  private final Map<Type<?>, Map<Object, List<?>>> map = new HashMap<>();
+  public void fireDeferred(Event<?> event) {
+    // every deferred event is a group of its own
+    enqueue(new Object(),
+            event);
+  }
 
-  private int firingDepth = 0;
+  /**
+   * Fires the event at the end of the current task. Events of the same
+   * type fired during the task are delivered once.
+   *
+   * @param event the event to fire
+   */
+  public void fireCoalesced(Event<?> event) {
+    fireCoalesced(event,
+                  null);
+  }
 
   /**
-   * Add and remove operations received during dispatch.
+   * Fires the event at the end of the current task. Events of the same
+   * type and the same key fired during the task are delivered once.
+   *
+   * @param event the event to fire
+   * @param key   the coalescing key, null merges all events of the type
    */
-  private List<Command> deferredDeltas;
+  public void fireCoalesced(Event<?> event,
+                            Object key) {
+    if (event == null) {
+      throw new NullPointerException("Cannot fire null event");
+    }
+    enqueue(new CoalescingKey(event.getAssociatedType(),
+                              key),
+            event);
+  }
 
   @Override
   public <H> HandlerRegistration addHandler(Type<H> type,
@@ -74,207 +241,538 @@ public class SimpleEventBus
            source);
   }
 
-  private <H> void doRemove(Event.Type<H> type,
-                            Object source,
-                            H handler) {
-    if (firingDepth > 0) {
-      enqueueRemove(type,
-                    source,
-                    handler);
-    } else {
-      doRemoveNow(type,
-                  source,
-                  handler);
+  /**
+   * Adds a handler belonging to the scope of a {@link ScopedEventBus}.
+   */
+  <H> HandlerRegistration addScopedHandler(Type<H> type,
+                                           Object source,
+                                           H handler,
+                                           ScopedEventBus.Scope scope) {
+    if (handler == null) {
+      throw new NullPointerException("Cannot add a null handler");
     }
+    return doAdd(type,
+                 source,
+                 new ScopedHandler(handler,
+                                   scope));
   }
 
-  private void defer(Command command) {
-    if (deferredDeltas == null) {
-      deferredDeltas = new ArrayList<>();
+  /**
+   * Called once the handlers of a scope are removed. The handlers of the
+   * scope are skipped by the dispatch and are removed from the handler
+   * arrays at the end of the current task.
+   */
+  void scopeRemoved() {
+    pruneRequired = true;
+    if (scheduler == null || pruneScheduled) {
+      return;
     }
-    deferredDeltas.add(command);
+    pruneScheduled = true;
+    scheduler.schedule(() -> {
+      pruneScheduled = false;
+      pruneRemovedScopes();
+    });
   }
 
-  private <H> HandlerRegistration doAdd(final Event.Type<H> type,
-                                        final Object source,
-                                        final H handler) {
+  private void pruneRemovedScopes() {
+    if (!pruneRequired) {
+      return;
+    }
+    pruneRequired = false;
+    Iterator<Handlers> iterator = map.values()
+                                     .iterator();
+    while (iterator.hasNext()) {
+      Handlers handlers = iterator.next();
+      handlers.prune();
+      if (handlers.isEmpty()) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private HandlerRegistration doAdd(final Event.Type<?> type,
+                                    final Object source,
+                                    final Object handler) {
     if (type == null) {
       throw new NullPointerException("Cannot add a handler with a null type");
     }
     if (handler == null) {
       throw new NullPointerException("Cannot add a null handler");
     }
+    // without a scheduler, the handlers of removed scopes are removed with the next add
+    pruneRemovedScopes();
 
-    if (firingDepth > 0) {
-      enqueueAdd(type,
-                 source,
-                 handler);
-    } else {
-      doAddNow(type,
-               source,
-               handler);
-    }
+    map.computeIfAbsent(type,
+                        k -> new Handlers())
+       .add(source,
+            handler);
 
     return () -> doRemove(type,
                           source,
                           handler);
   }
 
-  private <H> void doAddNow(Event.Type<H> type,
-                            Object source,
-                            H handler) {
-    List<H> l = ensureHandlerList(type,
-                                  source);
-    l.add(handler);
+  private void doRemove(Event.Type<?> type,
+                        Object source,
+                        Object handler) {
+    Handlers handlers = map.get(type);
+    if (handlers == null) {
+      return;
+    }
+    handlers.remove(source,
+                    handler);
+    if (handlers.isEmpty()) {
+      map.remove(type);
+    }
+  }
+
+  private void enqueue(Object key,
+                       Event<?> event) {
+    if (event == null) {
+      throw new NullPointerException("Cannot fire null event");
+    }
+    pending.computeIfAbsent(key,
+                            k -> new ArrayList<>())
+           .add(event);
+    if (deliveryScheduled) {
+      return;
+    }
+    if (scheduler == null) {
+      deliverPending();
+      return;
+    }
+    deliveryScheduled = true;
+    scheduler.schedule(this::deliverPending);
+  }
+
+  private void deliverPending() {
+    deliveryScheduled = false;
+    // events fired during the delivery are delivered by the next delivery
+    Map<Object, List<Event<?>>> events = pending;
+    pending = new LinkedHashMap<>();
+    Set<Throwable> causes = null;
+    for (List<Event<?>> group : events.values()) {
+      try {
+        doFire(group.get(group.size() - 1),
+               null,
+               group);
+      } catch (UmbrellaException e) {
+        if (causes == null) {
+          causes = new HashSet<>();
+        }
+        causes.addAll(e.getCauses());
+      }
+    }
+    if (causes != null) {
+      throw new UmbrellaException(causes);
+    }
   }
 
   private <H> void doFire(Event<H> event,
                           Object source) {
+    doFire(event,
+           source,
+           null);
+  }
+
+  private <H> void doFire(Event<H> event,
+                          Object source,
+                          List<Event<?>> batch) {
     if (event == null) {
       throw new NullPointerException("Cannot fire null event");
     }
-    try {
-      firingDepth++;
 
-      if (source != null) {
-        setSourceOfEvent(event,
-                         source);
-      }
+    if (source != null) {
+      setSourceOfEvent(event,
+                       source);
+    }
 
-      List<H> handlers = getDispatchList(event.getAssociatedType(),
-                                         source);
-      Set<Throwable> causes = null;
+    if (metrics != null) {
+      metrics.recordFire(event.getAssociatedType());
+    }
 
-      for (H handler : handlers) {
-        try {
-          dispatchEvent(event,
-                        handler);
-        } catch (Throwable e) {
-          if (causes == null) {
-            causes = new HashSet<>();
-          }
-          causes.add(e);
-        }
+    Handlers handlers = map.get(event.getAssociatedType());
+    if (handlers == null) {
+      return;
+    }
+    // the arrays are never modified, so changes during the dispatch do not affect it
+    Object[] directHandlers = source == null ? handlers.global : handlers.get(source);
+    Object[] globalHandlers = source == null ? NO_HANDLERS : handlers.global;
+
+    Set<Throwable> causes = dispatch(event,
+                                     directHandlers,
+                                     null);
+    causes = dispatch(event,
+                      globalHandlers,
+                      causes);
+    if (handlers.batch.length > 0) {
+      causes = dispatchBatch(event,
+                             batch,
+                             handlers.batch,
+                             causes);
+    }
+
+    if (causes != null) {
+      if (metrics != null) {
+        metrics.recordUmbrellaException(event.getAssociatedType());
       }
+      throw new UmbrellaException(causes);
+    }
+  }
 
-      if (causes != null) {
-        throw new UmbrellaException(causes);
+  private <H> Set<Throwable> dispatch(Event<H> event,
+                                      Object[] handlers,
+                                      Set<Throwable> causes) {
+    for (int i = 0; i < handlers.length; i++) {
+      Object registered = handlers[i];
+      if (registered instanceof ScopedHandler) {
+        ScopedHandler scopedHandler = (ScopedHandler) registered;
+        if (!scopedHandler.scope.isActive()) {
+          continue;
+        }
+        registered = scopedHandler.handler;
+      }
+      long start = metrics == null ? 0 : metrics.now();
+      try {
+        // safe, the handlers of a type are added using the type
+        @SuppressWarnings("unchecked") H handler = (H) registered;
+        dispatchEvent(event,
+                      handler);
+      } catch (Throwable e) {
+        if (causes == null) {
+          causes = new HashSet<>();
+        }
+        causes.add(e);
       }
-    } finally {
-      firingDepth--;
-      if (firingDepth == 0) {
-        handleQueuedAddsAndRemoves();
+      if (metrics != null) {
+        metrics.recordHandler(event.getAssociatedType(),
+                              metrics.now() - start);
       }
     }
+    return causes;
   }
 
-  private <H> void doRemoveNow(Event.Type<H> type,
-                               Object source,
-                               H handler) {
-    List<H> l = getHandlerList(type,
-                               source);
+  private Set<Throwable> dispatchBatch(Event<?> event,
+                                       List<Event<?>> batch,
+                                       Object[] handlers,
+                                       Set<Throwable> causes) {
+    Type<?> type = event.getAssociatedType();
+    // a batch handler firing an event nests a dispatch, which must not change the list of the outer one
+    EventBatch events = eventBatch.inUse ? new EventBatch() : eventBatch;
+    events.set(event,
+               batch);
+    for (int i = 0; i < handlers.length; i++) {
+      long start = metrics == null ? 0 : metrics.now();
+      try {
+        // safe, the batch handlers of a type are added for the events of the type
+        @SuppressWarnings("unchecked") BatchHandler<Event<?>> handler = (BatchHandler<Event<?>>) handlers[i];
+        handler.onEvents(events);
+      } catch (Throwable e) {
+        if (causes == null) {
+          causes = new HashSet<>();
+        }
+        causes.add(e);
+      }
+      if (metrics != null) {
+        metrics.recordHandler(type,
+                              metrics.now() - start);
+      }
+    }
+    events.reset();
+    return causes;
+  }
 
-    boolean removed = l.remove(handler);
+  private static Object[] append(Object[] handlers,
+                                 Object handler) {
+    Object[] copy = new Object[handlers.length + 1];
+    System.arraycopy(handlers,
+                     0,
+                     copy,
+                     0,
+                     handlers.length);
+    copy[handlers.length] = handler;
+    return copy;
+  }
 
-    if (removed && l.isEmpty()) {
-      prune(type,
-            source);
+  /* removes the handlers of removed scopes, returns the same array in case there are none */
+  private static Object[] prune(Object[] handlers) {
+    int removed = 0;
+    for (Object handler : handlers) {
+      if (handler instanceof ScopedHandler &&
+          ((ScopedHandler) handler).scope.isRemoved()) {
+        removed++;
+      }
+    }
+    if (removed == 0) {
+      return handlers;
+    }
+    if (removed == handlers.length) {
+      return NO_HANDLERS;
     }
+    Object[] copy = new Object[handlers.length - removed];
+    int index = 0;
+    for (Object handler : handlers) {
+      if (!(handler instanceof ScopedHandler &&
+            ((ScopedHandler) handler).scope.isRemoved())) {
+        copy[index++] = handler;
+      }
+    }
+    return copy;
   }
 
-  private <H> void enqueueAdd(final Event.Type<H> type,
-                              final Object source,
-                              final H handler) {
-    defer(() -> doAddNow(type,
-                         source,
-                         handler));
+  /* removes the first occurrence of the handler, returns the same array in case the handler is unknown */
+  private static Object[] remove(Object[] handlers,
+                                 Object handler) {
+    for (int i = 0; i < handlers.length; i++) {
+      if (handlers[i].equals(handler)) {
+        if (handlers.length == 1) {
+          return NO_HANDLERS;
+        }
+        Object[] copy = new Object[handlers.length - 1];
+        System.arraycopy(handlers,
+                         0,
+                         copy,
+                         0,
+                         i);
+        System.arraycopy(handlers,
+                         i + 1,
+                         copy,
+                         i,
+                         handlers.length - i - 1);
+        return copy;
+      }
+    }
+    return handlers;
   }
 
-  private <H> void enqueueRemove(final Event.Type<H> type,
-                                 final Object source,
-                                 final H handler) {
-    defer(() -> doRemoveNow(type,
-                            source,
-                            handler));
-  }
+  /**
+   * Handlers of one event type: the global handlers and the handlers of each source.
+   */
+  private static class Handlers {
 
-  private <H> List<H> ensureHandlerList(Event.Type<H> type,
-                                        Object source) {
-    Map<Object, List<?>> sourceMap = map.computeIfAbsent(type,
-                                                         k -> new HashMap<>());
+    private Object[] global = NO_HANDLERS;
 
-    // safe, we control the puts.
-    @SuppressWarnings("unchecked") List<H> handlers = (List<H>) sourceMap.get(source);
-    if (handlers == null) {
-      handlers = new ArrayList<>();
-      sourceMap.put(source,
-                    handlers);
+    private Object[] batch = NO_HANDLERS;
+
+    /* created with the first source */
+    private Map<Object, Object[]> bySource;
+
+    private Object[] get(Object source) {
+      if (bySource == null) {
+        return NO_HANDLERS;
+      }
+      Object[] handlers = bySource.get(source);
+      return handlers == null ? NO_HANDLERS : handlers;
     }
 
-    return handlers;
-  }
+    private void add(Object source,
+                     Object handler) {
+      if (source == null) {
+        global = append(global,
+                        handler);
+        return;
+      }
+      if (bySource == null) {
+        bySource = new HashMap<>();
+      }
+      bySource.put(source,
+                   append(get(source),
+                          handler));
+    }
 
-  private <H> List<H> getDispatchList(Event.Type<H> type,
-                                      Object source) {
-    List<H> directHandlers = getHandlerList(type,
-                                            source);
-    if (source == null) {
-      return directHandlers;
+    private void remove(Object source,
+                        Object handler) {
+      if (source == null) {
+        global = SimpleEventBus.remove(global,
+                                       handler);
+        return;
+      }
+      Object[] handlers = SimpleEventBus.remove(get(source),
+                                                handler);
+      if (handlers.length == 0) {
+        if (bySource != null) {
+          bySource.remove(source);
+        }
+      } else {
+        bySource.put(source,
+                     handlers);
+      }
     }
 
-    List<H> globalHandlers = getHandlerList(type,
-                                            null);
+    private void addBatch(Object handler) {
+      batch = append(batch,
+                     handler);
+    }
 
-    List<H> rtn = new ArrayList<>(directHandlers);
-    rtn.addAll(globalHandlers);
-    return rtn;
-  }
+    private void removeBatch(Object handler) {
+      batch = SimpleEventBus.remove(batch,
+                                    handler);
+    }
 
-  private <H> List<H> getHandlerList(Event.Type<H> type,
-                                     Object source) {
-    Map<Object, List<?>> sourceMap = map.get(type);
-    if (sourceMap == null) {
-      return Collections.emptyList();
+    /* removes the handlers of removed scopes */
+    private void prune() {
+      global = SimpleEventBus.prune(global);
+      if (bySource == null) {
+        return;
+      }
+      Iterator<Map.Entry<Object, Object[]>> iterator = bySource.entrySet()
+                                                               .iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<Object, Object[]> entry = iterator.next();
+        Object[] handlers = SimpleEventBus.prune(entry.getValue());
+        if (handlers.length == 0) {
+          iterator.remove();
+        } else {
+          entry.setValue(handlers);
+        }
+      }
     }
 
-    // safe, we control the puts.
-    @SuppressWarnings("unchecked") List<H> handlers = (List<H>) sourceMap.get(source);
-    if (handlers == null) {
-      return Collections.emptyList();
+    /* number of handlers per source, key null: global and batch handlers */
+    private Map<Object, Integer> count() {
+      Map<Object, Integer> counts = new HashMap<>();
+      if (global.length + batch.length > 0) {
+        counts.put(null,
+                   global.length + batch.length);
+      }
+      if (bySource != null) {
+        for (Map.Entry<Object, Object[]> entry : bySource.entrySet()) {
+          counts.put(entry.getKey(),
+                     entry.getValue().length);
+        }
+      }
+      return counts;
+    }
+
+    private boolean isEmpty() {
+      return global.length == 0 &&
+             batch.length == 0 &&
+             (bySource == null || bySource.isEmpty());
     }
 
-    return handlers;
   }
 
-  private void handleQueuedAddsAndRemoves() {
-    if (deferredDeltas != null) {
-      try {
-        for (Command c : deferredDeltas) {
-          c.execute();
-        }
-      } finally {
-        deferredDeltas = null;
+  /**
+   * Handler added by a {@link ScopedEventBus}.
+   */
+  private static class ScopedHandler {
+
+    private final Object handler;
+
+    private final ScopedEventBus.Scope scope;
+
+    private ScopedHandler(Object handler,
+                          ScopedEventBus.Scope scope) {
+      this.handler = handler;
+      this.scope = scope;
+    }
+
+  }
+
+  /**
+   * Key of coalesced events: the type of the event and the coalescing key.
+   */
+  private static class CoalescingKey {
+
+    private final Type<?> type;
+
+    private final Object key;
+
+    private CoalescingKey(Type<?> type,
+                          Object key) {
+      this.type = type;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CoalescingKey)) {
+        return false;
       }
+      CoalescingKey that = (CoalescingKey) o;
+      return type == that.type &&
+             Objects.equals(key,
+                            that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type,
+                          key);
     }
+
   }
 
-  private void prune(Event.Type<?> type,
-                     Object source) {
-    Map<Object, List<?>> sourceMap = map.get(type);
+  /* read-only view of the events of a batch: the fired event or the coalesced events */
+  private static final class EventBatch
+      extends AbstractList<Event<?>> {
 
-    List<?> pruned = sourceMap.remove(source);
+    private Event<?> event;
 
-    assert pruned != null : "Can't prune what wasn't there";
-    assert pruned.isEmpty() : "Pruned unempty list!";
+    private List<Event<?>> events;
 
-    if (sourceMap.isEmpty()) {
-      map.remove(type);
+    private boolean inUse;
+
+    private void set(Event<?> event,
+                     List<Event<?>> events) {
+      this.event = event;
+      this.events = events;
+      this.inUse = true;
+    }
+
+    private void reset() {
+      this.event = null;
+      this.events = null;
+      this.inUse = false;
+    }
+
+    @Override
+    public Event<?> get(int index) {
+      if (this.events != null) {
+        return this.events.get(index);
+      }
+      if (index != 0 ||
+          this.event == null) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      return this.event;
     }
+
+    @Override
+    public int size() {
+      if (this.events != null) {
+        return this.events.size();
+      }
+      return this.event == null ? 0 : 1;
+    }
+
+  }
+
+  /**
+   * Schedules the delivery of the deferred events.
+   */
+  @FunctionalInterface
+  public interface Scheduler {
+
+    void schedule(Runnable command);
+
   }
 
-  private interface Command {
+  /**
+   * Handler receiving events as list.
+   * <p>
+   * The list is read-only and only valid during the call of
+   * <code>onEvents</code>. Copy it, in case the events are needed later.
+   *
+   * @param <E> event class
+   */
+  @FunctionalInterface
+  public interface BatchHandler<E extends Event<?>> {
 
-    void execute();
+    void onEvents(List<E> events);
 
   }
 
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client;
+
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the routing with an async filter, which decides synchronously
+ * or asynchronously.
+ */
+public class AsyncFilterRoutingTest {
+
+  /**
+   * The filter proceeds inside filter(). A redirect of the started controller
+   * is executed once the current navigation is done, not nested inside it.
+   */
+  @Test
+  public void testSynchronousProceedDoesNotNestNavigations() {
+    TestFilter filter = new TestFilter(true);
+    TestApplication application = new TestApplication(filter);
+    RoutingTestSupport.TestPlugin plugin = new RoutingTestSupport.TestPlugin();
+    application.run(plugin);
+
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2"),
+                        filter.ids);
+    Assert.assertEquals(1,
+                        filter.maxDepth);
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2"),
+                        application.ids);
+    Assert.assertEquals("app/person/2",
+                        plugin.currentRoute);
+  }
+
+  /**
+   * The filter proceeds later. The routing continues once the filter proceeds.
+   */
+  @Test
+  public void testAsynchronousProceedContinuesNavigation() {
+    TestFilter filter = new TestFilter(false);
+    TestApplication application = new TestApplication(filter);
+    RoutingTestSupport.TestPlugin plugin = new RoutingTestSupport.TestPlugin();
+    application.run(plugin);
+
+    Assert.assertEquals(Arrays.asList("1"),
+                        filter.ids);
+    Assert.assertTrue(application.ids.isEmpty());
+
+    filter.callback.proceed();
+    // the redirect of the started controller is routed, once its filter proceeds
+    Assert.assertEquals(Arrays.asList("1"),
+                        application.ids);
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2"),
+                        filter.ids);
+
+    filter.callback.proceed();
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2"),
+                        application.ids);
+    Assert.assertEquals("app/person/2",
+                        plugin.currentRoute);
+  }
+
+  /**
+   * A navigation supersedes the navigation waiting for the filter. Navigating
+   * back to the first hash starts a new redirect chain, it is not reported
+   * as redirect loop.
+   */
+  @Test
+  public void testSupersededNavigationDoesNotReportRedirectLoop() {
+    TestFilter filter = new TestFilter(false);
+    TestApplication application = new TestApplication(filter);
+    RoutingTestSupport.TestPlugin plugin = new RoutingTestSupport.TestPlugin();
+    application.run(plugin);
+
+    application.getRouter()
+               .route("/app/person/*",
+                      "3");
+    application.getRouter()
+               .route("/app/person/*",
+                      "1");
+
+    Assert.assertEquals(Arrays.asList("1",
+                                      "3",
+                                      "1"),
+                        filter.ids);
+    Assert.assertEquals("app/person/1",
+                        plugin.currentRoute);
+
+    filter.callback.proceed();
+    Assert.assertEquals(Arrays.asList("1"),
+                        application.ids);
+  }
+
+  /**
+   * A cached decision is reused until the decisions are cleared.
+   */
+  @Test
+  public void testClearedDecisionsAreFilteredAgain() {
+    TestFilter filter = new TestFilter(true);
+    TestApplication application = new TestApplication(filter);
+    RoutingTestSupport.TestPlugin plugin = new RoutingTestSupport.TestPlugin();
+    application.run(plugin);
+    Router router = application.getRouter();
+    router.setAsyncFilterDecisionCacheWindow(60000);
+
+    router.route("/app/person/*",
+                 "3");
+    router.route("/app/person/*",
+                 "4");
+    router.route("/app/person/*",
+                 "3");
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2",
+                                      "3",
+                                      "4"),
+                        filter.ids);
+
+    router.clearAsyncFilterDecisions();
+    router.route("/app/person/*",
+                 "4");
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2",
+                                      "3",
+                                      "4",
+                                      "4"),
+                        filter.ids);
+    Assert.assertEquals("app/person/4",
+                        plugin.currentRoute);
+  }
+
+  static class TestFilter
+      implements IsAsyncFilter {
+
+    /* true: proceed inside filter() */
+    private boolean synchronous;
+
+    /* ids of the filtered routes */
+    private List<String> ids = new ArrayList<>();
+
+    /* callback of the last call */
+    private Callback callback;
+
+    /* number of nested calls of filter() */
+    private int depth;
+
+    private int maxDepth;
+
+    TestFilter(boolean synchronous) {
+      this.synchronous = synchronous;
+    }
+
+    @Override
+    public void filter(String route,
+                       String[] parms,
+                       Callback callback) {
+      this.depth++;
+      this.maxDepth = Math.max(this.maxDepth,
+                               this.depth);
+      this.ids.add(parms[0]);
+      this.callback = callback;
+      if (this.synchronous) {
+        callback.proceed();
+      }
+      this.depth--;
+    }
+
+    @Override
+    public String redirectTo() {
+      return "/app/person";
+    }
+
+    @Override
+    public String[] parameters() {
+      return new String[] {};
+    }
+
+  }
+
+  static class TestApplication
+      extends RoutingTestSupport.TestApplication {
+
+    private TestFilter filter;
+
+    /* ids of the created controllers */
+    private List<String> ids = new ArrayList<>();
+
+    TestApplication(TestFilter filter) {
+      super(false);
+      this.filter = filter;
+    }
+
+    @Override
+    protected void loadFilters() {
+      super.routerConfiguration.getAsyncFilters()
+                               .add(this.filter);
+    }
+
+    @Override
+    protected void loadComponents() {
+      super.runtime.getControllerFactory()
+                   .registerController(RoutingTestSupport.PersonController.class.getCanonicalName(),
+                                       parms -> {
+                                         MovedPersonController controller = new MovedPersonController();
+                                         controller.setContext(context);
+                                         controller.setEventBus(eventBus);
+                                         controller.setRouter(router);
+                                         controller.setId(parms[0]);
+                                         RoutingTestSupport.PersonComponent component = new RoutingTestSupport.PersonComponent();
+                                         component.setController(controller);
+                                         controller.setComponent(component);
+                                         component.render();
+                                         component.bind();
+                                         this.ids.add(controller.id);
+                                         ControllerInstance controllerInstance = new ControllerInstance();
+                                         controllerInstance.setControllerClassName(RoutingTestSupport.PersonController.class.getCanonicalName());
+                                         controllerInstance.setController(controller);
+                                         controllerInstance.setChached(false);
+                                         return controllerInstance;
+                                       });
+    }
+
+  }
+
+  static class MovedPersonController
+      extends RoutingTestSupport.PersonController {
+
+    @Override
+    public void start() {
+      super.start();
+      // person 1 moved to person 2
+      if ("1".equals(this.id)) {
+        this.router.route("/app/person/*",
+                          "2");
+      }
+    }
+
+  }
+
+}
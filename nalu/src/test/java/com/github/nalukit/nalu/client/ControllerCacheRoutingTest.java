@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client;
+
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests the routing to a controller, which stores itself in the cache.
+ */
+public class ControllerCacheRoutingTest {
+
+  /**
+   * The cache is disabled: the controller is evicted at once and stopped
+   * once the route changes.
+   */
+  @Test
+  public void testDisabledCacheStopsController() {
+    TestApplication application = new TestApplication(0);
+    RoutingTestSupport.TestPlugin plugin = new RoutingTestSupport.TestPlugin();
+    application.run(plugin);
+    RoutingTestSupport.PersonController controller = application.controllers.get(0);
+    Assert.assertFalse(controller.isCached());
+
+    application.getRouter()
+               .route("/app/person/*",
+                      "2");
+
+    Assert.assertEquals(2,
+                        application.controllers.size());
+    Assert.assertTrue(controller.calls.contains("stop"));
+  }
+
+  static class TestApplication
+      extends RoutingTestSupport.TestApplication {
+
+    /* max size of the controller cache */
+    private int maxSize;
+
+    /* controllers created by the creator */
+    private List<RoutingTestSupport.PersonController> controllers = new ArrayList<>();
+
+    TestApplication(int maxSize) {
+      super(false);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected void loadComponents() {
+      super.router.getControllerCache()
+                  .setMaxSize(this.maxSize);
+      super.runtime.getControllerFactory()
+                   .registerController(RoutingTestSupport.PersonController.class.getCanonicalName(),
+                                       parms -> {
+                                         CachingPersonController controller = new CachingPersonController();
+                                         controller.setContext(context);
+                                         controller.setEventBus(eventBus);
+                                         controller.setRouter(router);
+                                         controller.setId(parms[0]);
+                                         RoutingTestSupport.PersonComponent component = new RoutingTestSupport.PersonComponent();
+                                         component.setController(controller);
+                                         controller.setComponent(component);
+                                         component.render();
+                                         component.bind();
+                                         this.controllers.add(controller);
+                                         ControllerInstance controllerInstance = new ControllerInstance();
+                                         controllerInstance.setControllerClassName(RoutingTestSupport.PersonController.class.getCanonicalName());
+                                         controllerInstance.setController(controller);
+                                         controllerInstance.setChached(false);
+                                         return controllerInstance;
+                                       });
+    }
+
+  }
+
+  static class CachingPersonController
+      extends RoutingTestSupport.PersonController {
+
+    @Override
+    public void start() {
+      super.start();
+      this.router.storeInCache(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client;
+
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import com.github.nalukit.nalu.client.internal.application.NaluRuntime;
+import org.gwtproject.event.shared.SimpleEventBus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the routing to a controller using
+ * <code>reuseOnParameterChange = true</code>.
+ */
+public class ParameterChangeRoutingTest {
+
+  private TestApplication application;
+
+  private RoutingTestSupport.TestPlugin plugin;
+
+  @Before
+  public void before() {
+    this.plugin = new RoutingTestSupport.TestPlugin();
+    this.application = new TestApplication();
+    this.application.run(this.plugin);
+  }
+
+  /**
+   * Only the parameter of the route changes: the controller is kept, the
+   * parameter is set and onParametersChanged() is called.
+   */
+  @Test
+  public void testParameterChangeKeepsController() {
+    Assert.assertEquals(1,
+                        this.application.controllers.size());
+    RoutingTestSupport.PersonController controller = this.application.controllers.get(0);
+    Assert.assertEquals("1",
+                        controller.id);
+    Assert.assertEquals(Arrays.asList("setId",
+                                      "start",
+                                      "activate"),
+                        controller.calls);
+    Assert.assertEquals(Arrays.asList("content"),
+                        this.plugin.attached);
+    controller.calls.clear();
+    this.plugin.attached.clear();
+    this.plugin.removed.clear();
+
+    this.application.getRouter()
+                    .route("/app/person/*",
+                           "2");
+
+    Assert.assertEquals("app/person/2",
+                        this.plugin.currentRoute);
+    // no new controller, no stop and start
+    Assert.assertEquals(1,
+                        this.application.controllers.size());
+    Assert.assertEquals("2",
+                        controller.id);
+    Assert.assertEquals(Arrays.asList("setId",
+                                      "onParametersChanged"),
+                        controller.calls);
+    // the component stays attached
+    Assert.assertTrue(this.plugin.attached.isEmpty());
+    Assert.assertTrue(this.plugin.removed.isEmpty());
+  }
+
+  /**
+   * The same route with the same parameter: the controller is kept
+   * without calling it.
+   */
+  @Test
+  public void testSameParameterKeepsController() {
+    RoutingTestSupport.PersonController controller = this.application.controllers.get(0);
+    controller.calls.clear();
+    this.plugin.attached.clear();
+    this.plugin.removed.clear();
+
+    this.application.getRouter()
+                    .route("/app/person/*",
+                           "1");
+
+    Assert.assertEquals(1,
+                        this.application.controllers.size());
+    Assert.assertTrue(controller.calls.isEmpty());
+    Assert.assertTrue(this.plugin.attached.isEmpty());
+    Assert.assertTrue(this.plugin.removed.isEmpty());
+  }
+
+  static class TestApplication
+      extends RoutingTestSupport.TestApplication {
+
+    /* controllers created by the creator */
+    private List<RoutingTestSupport.PersonController> controllers = new ArrayList<>();
+
+    TestApplication() {
+      super(true);
+    }
+
+    @Override
+    protected void loadComponents() {
+      super.runtime.getControllerFactory()
+                   .registerController(RoutingTestSupport.PersonController.class.getCanonicalName(),
+                                       new PersonControllerCreator(super.router,
+                                                                   super.context,
+                                                                   super.eventBus,
+                                                                   super.runtime,
+                                                                   this.controllers));
+    }
+
+  }
+
+  /* same as the generated creator of a controller using reuseOnParameterChange = true */
+  static class PersonControllerCreator
+      extends AbstractControllerCreator<RoutingTestSupport.TestContext> {
+
+    private List<RoutingTestSupport.PersonController> controllers;
+
+    PersonControllerCreator(Router router,
+                            RoutingTestSupport.TestContext context,
+                            SimpleEventBus eventBus,
+                            NaluRuntime runtime,
+                            List<RoutingTestSupport.PersonController> controllers) {
+      super(router,
+            context,
+            eventBus,
+            runtime);
+      this.controllers = controllers;
+    }
+
+    @Override
+    public ControllerInstance create(String... parms)
+        throws RoutingInterceptionException {
+      RoutingTestSupport.PersonController controller = new RoutingTestSupport.PersonController();
+      controller.setContext(context);
+      controller.setEventBus(eventBus);
+      controller.setRouter(router);
+      RoutingTestSupport.PersonComponent component = new RoutingTestSupport.PersonComponent();
+      component.setController(controller);
+      controller.setComponent(component);
+      component.render();
+      component.bind();
+      this.setParameters(controller,
+                         parms);
+      this.controllers.add(controller);
+      ControllerInstance controllerInstance = new ControllerInstance();
+      controllerInstance.setControllerClassName(RoutingTestSupport.PersonController.class.getCanonicalName());
+      controllerInstance.setController(controller);
+      controllerInstance.setChached(false);
+      return controllerInstance;
+    }
+
+    @Override
+    public void setParameters(AbstractComponentController<?, ?, ?> controller,
+                              String... parms)
+        throws RoutingInterceptionException {
+      if (parms != null &&
+          parms.length >= 1) {
+        ((RoutingTestSupport.PersonController) controller).setId(parms[0]);
+      }
+    }
+
+  }
+
+}
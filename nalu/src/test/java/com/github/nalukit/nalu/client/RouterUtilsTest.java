@@ -1,6 +1,7 @@
 package com.github.nalukit.nalu.client;
 
 import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import com.github.nalukit.nalu.client.internal.route.RouterUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -17,6 +18,21 @@ public class RouterUtilsTest {
                                  with));
   }
 
+  @Test
+  public void testMatchUsesGivenProperty() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    Assert.assertTrue(RouterUtils.match("/app/person/:3/edit",
+                                        "/app/person/*/edit",
+                                        false,
+                                        true));
+    Assert.assertFalse(RouterUtils.match("/app/person/3/edit",
+                                         "/app/person/*/edit",
+                                         false,
+                                         true));
+  }
+
   @Test
   public void testMatch02Fail() {
     String route = "/app/person/3/edit";
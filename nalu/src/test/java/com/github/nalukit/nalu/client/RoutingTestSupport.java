@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client;
+
+import com.github.nalukit.nalu.client.application.IsApplicationLoader;
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponent;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.AbstractShell;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.component.annotation.AcceptParameter;
+import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
+import com.github.nalukit.nalu.client.internal.application.ShellInstance;
+import com.github.nalukit.nalu.client.internal.route.RouteConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfig;
+import com.github.nalukit.nalu.client.internal.route.ShellConfiguration;
+import com.github.nalukit.nalu.client.plugin.IsNaluProcessorPlugin;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixtures of the routing tests: an application with one shell ('/app')
+ * and one route ('/app/person/*'), that runs without a browser.
+ * <p>
+ * The tests register the creator of the PersonController and - if
+ * needed - filters.
+ */
+class RoutingTestSupport {
+
+  static final String START_ROUTE = "/app/person/1";
+
+  /* plugin recording the routes and the attached and removed selectors */
+  static class TestPlugin
+      implements IsNaluProcessorPlugin {
+
+    List<String> attached = new ArrayList<>();
+
+    List<String> removed = new ArrayList<>();
+
+    String currentRoute;
+
+    @Override
+    public void alert(String message) {
+      Assert.fail("alert-message: >>" + message + "<<");
+    }
+
+    @Override
+    public boolean attach(String selector,
+                          Object asElement) {
+      this.attached.add(selector);
+      return true;
+    }
+
+    @Override
+    public boolean confirm(String message) {
+      return true;
+    }
+
+    @Override
+    public String getStartRoute(boolean usingHash) {
+      return RoutingTestSupport.START_ROUTE;
+    }
+
+    @Override
+    public Map<String, String> getQueryParameters() {
+      return new HashMap<>();
+    }
+
+    @Override
+    public void register(RouteChangeHandler handler,
+                         boolean usingHash) {
+    }
+
+    @Override
+    public void remove(String selector) {
+      this.removed.add(selector);
+    }
+
+    @Override
+    public void route(String newRoute,
+                      boolean replace,
+                      boolean usingHash) {
+      this.currentRoute = newRoute;
+    }
+
+    @Override
+    public void initialize(boolean usingHash,
+                           ShellConfiguration shellConfiguration) {
+    }
+
+  }
+
+  abstract static class TestApplication
+      extends AbstractApplication<TestContext> {
+
+    /* true: the route uses reuseOnParameterChange = true */
+    private boolean reusingControllerOnParameterChange;
+
+    TestApplication(boolean reusingControllerOnParameterChange) {
+      super();
+      super.context = new TestContext();
+      this.reusingControllerOnParameterChange = reusingControllerOnParameterChange;
+    }
+
+    Router getRouter() {
+      return super.router;
+    }
+
+    @Override
+    protected void loadPlugins() {
+    }
+
+    @Override
+    protected void loadShellFactory() {
+      super.runtime.getShellFactory()
+                   .registerShell(TestShell.class.getCanonicalName(),
+                                  () -> {
+                                    TestShell shell = new TestShell();
+                                    shell.setContext(context);
+                                    shell.setEventBus(eventBus);
+                                    shell.setRouter(router);
+                                    ShellInstance shellInstance = new ShellInstance();
+                                    shellInstance.setShellClassName(TestShell.class.getCanonicalName());
+                                    shellInstance.setShell(shell);
+                                    return shellInstance;
+                                  });
+    }
+
+    @Override
+    protected void loadDebugConfiguration() {
+    }
+
+    @Override
+    protected void loadShells() {
+      super.shellConfiguration.getShells()
+                              .add(new ShellConfig("/app",
+                                                   TestShell.class.getCanonicalName()));
+    }
+
+    @Override
+    protected void loadRoutes() {
+      super.routerConfiguration.getRouters()
+                               .add(new RouteConfig("/app/person/*",
+                                                    Arrays.asList("id"),
+                                                    "content",
+                                                    PersonController.class.getCanonicalName(),
+                                                    this.reusingControllerOnParameterChange));
+    }
+
+    @Override
+    protected void loadFilters() {
+    }
+
+    @Override
+    protected void loadDefaultRoutes() {
+      this.startRoute = "/app/person";
+      this.errorRoute = "/app/person";
+    }
+
+    @Override
+    protected void loadCompositeReferences() {
+    }
+
+    @Override
+    protected void loadCompositeController() {
+    }
+
+    @Override
+    protected void loadHandlers() {
+    }
+
+    @Override
+    protected IsApplicationLoader<TestContext> getApplicationLoader() {
+      return null;
+    }
+
+    @Override
+    protected boolean isUsingHash() {
+      return true;
+    }
+
+    @Override
+    protected boolean isUsingColonForParametersInUrl() {
+      return false;
+    }
+
+  }
+
+  static class TestContext
+      implements IsContext {
+
+  }
+
+  static class TestShell
+      extends AbstractShell<TestContext> {
+
+    @Override
+    public void attachShell() {
+    }
+
+  }
+
+  /* controller recording its lifecycle methods and setters in calling order */
+  static class PersonController
+      extends AbstractComponentController<TestContext, PersonComponent, String>
+      implements PersonComponent.Controller {
+
+    String id;
+
+    List<String> calls = new ArrayList<>();
+
+    @AcceptParameter("id")
+    public void setId(String id) {
+      this.id = id;
+      this.calls.add("setId");
+    }
+
+    @Override
+    public void start() {
+      this.calls.add("start");
+    }
+
+    @Override
+    public void activate() {
+      this.calls.add("activate");
+    }
+
+    @Override
+    public void deactivate() {
+      this.calls.add("deactivate");
+    }
+
+    @Override
+    public void stop() {
+      this.calls.add("stop");
+    }
+
+    @Override
+    public void onParametersChanged() {
+      this.calls.add("onParametersChanged");
+    }
+
+  }
+
+  static class PersonComponent
+      extends AbstractComponent<PersonComponent.Controller, String> {
+
+    @Override
+    public void render() {
+      this.initElement("person");
+    }
+
+    interface Controller
+        extends IsComponent.Controller {
+
+    }
+
+  }
+
+}
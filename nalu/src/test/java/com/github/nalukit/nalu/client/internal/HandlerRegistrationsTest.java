@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HandlerRegistrationsTest {
+
+  @Test
+  public void testRemoveHandler() {
+    List<String> removed = new ArrayList<>();
+    HandlerRegistrations handlerRegistrations = new HandlerRegistrations();
+    handlerRegistrations.add(() -> removed.add("first"));
+    handlerRegistrations.add(() -> removed.add("second"));
+    handlerRegistrations.removeHandler();
+    Assert.assertEquals("[first, second]",
+                        removed.toString());
+  }
+
+  @Test
+  public void testAddAfterRemoveHandler() {
+    List<String> removed = new ArrayList<>();
+    HandlerRegistrations handlerRegistrations = new HandlerRegistrations();
+    handlerRegistrations.add(() -> removed.add("first"));
+    handlerRegistrations.removeHandler();
+    handlerRegistrations.add(() -> removed.add("second"));
+    handlerRegistrations.removeHandler();
+    Assert.assertEquals("[first, second]",
+                        removed.toString());
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractCompositeController;
+import com.github.nalukit.nalu.client.component.IsCompositeComponent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompositeCacheTest {
+
+  @Test
+  public void testTakeAndRelease() {
+    CompositeCache cache = new CompositeCache();
+    TestComposite composite = new TestComposite();
+    Assert.assertNull(cache.take(TestComposite.class.getCanonicalName()));
+    cache.release(composite);
+    Assert.assertTrue(cache.contains(composite));
+    // releasing twice does not add the composite twice
+    cache.release(composite);
+    Assert.assertEquals(1,
+                        cache.getSize());
+    Assert.assertSame(composite,
+                      cache.take(TestComposite.class.getCanonicalName()));
+    // a composite is used by one controller at a time
+    Assert.assertNull(cache.take(TestComposite.class.getCanonicalName()));
+    Assert.assertEquals(1,
+                        cache.getHits());
+    Assert.assertEquals(2,
+                        cache.getMisses());
+  }
+
+  @Test
+  public void testEvictOldestComposite() {
+    List<AbstractCompositeController<?, ?, ?>> evicted = new ArrayList<>();
+    CompositeCache cache = new CompositeCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.setMaxSizePerComposite(2);
+    TestComposite composite01 = new TestComposite();
+    composite01.setCached(true);
+    TestComposite composite02 = new TestComposite();
+    TestComposite composite03 = new TestComposite();
+    cache.release(composite01);
+    cache.release(composite02);
+    cache.release(composite03);
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertSame(composite01,
+                      evicted.get(0));
+    Assert.assertFalse(composite01.isCached());
+    Assert.assertEquals(1,
+                        cache.getEvictions());
+    // the most recently released composite is reused first
+    Assert.assertSame(composite03,
+                      cache.take(TestComposite.class.getCanonicalName()));
+  }
+
+  @Test
+  public void testNegativeMaxSizeDisablesPooling() {
+    List<AbstractCompositeController<?, ?, ?>> evicted = new ArrayList<>();
+    CompositeCache cache = new CompositeCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.release(new TestComposite());
+    cache.setMaxSizePerComposite(-1);
+    Assert.assertEquals(0,
+                        cache.getMaxSizePerComposite());
+    Assert.assertEquals(1,
+                        evicted.size());
+    // a released composite is evicted at once
+    cache.release(new TestComposite());
+    Assert.assertEquals(2,
+                        evicted.size());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    List<AbstractCompositeController<?, ?, ?>> evicted = new ArrayList<>();
+    CompositeCache cache = new CompositeCache();
+    cache.setEvictionHandler(evicted::add);
+    TestComposite composite01 = new TestComposite();
+    TestComposite composite02 = new TestComposite();
+    cache.release(composite01);
+    cache.release(composite02);
+    cache.remove(composite01);
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertFalse(cache.contains(composite01));
+    // composites not contained in the cache are ignored
+    cache.remove(composite01);
+    Assert.assertEquals(1,
+                        evicted.size());
+    cache.clear();
+    Assert.assertEquals(2,
+                        evicted.size());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  static class TestComposite
+      extends AbstractCompositeController<TestContext, TestCompositeComponent, String> {
+
+  }
+
+  static class TestContext
+      implements IsContext {
+
+  }
+
+  interface TestCompositeComponent
+      extends IsCompositeComponent<TestComposite, String> {
+
+  }
+
+}
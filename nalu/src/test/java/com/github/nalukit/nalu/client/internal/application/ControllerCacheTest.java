@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerCacheTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    ControllerCache cache = new ControllerCache();
+    TestController controller = new TestController();
+    Assert.assertNull(cache.get("controller01"));
+    cache.put("controller01",
+              controller,
+              12);
+    Assert.assertSame(controller,
+                      cache.get("controller01"));
+    Assert.assertSame(controller,
+                      cache.get("controller01"));
+    Assert.assertEquals(2,
+                        cache.getHits());
+    Assert.assertEquals(1,
+                        cache.getMisses());
+    Assert.assertEquals(24,
+                        cache.getSavedCreationTime());
+    Assert.assertEquals(1,
+                        cache.getSize());
+    cache.resetStatistics();
+    Assert.assertEquals(0,
+                        cache.getHits());
+    Assert.assertEquals(0,
+                        cache.getSavedCreationTime());
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    ControllerCache cache = new ControllerCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.setMaxSize(2);
+    TestController controller01 = new TestController();
+    TestController controller02 = new TestController();
+    cache.put("controller01",
+              controller01,
+              0);
+    cache.put("controller02",
+              controller02,
+              0);
+    // controller01 is now used more recently than controller02
+    cache.get("controller01");
+    cache.put("controller03",
+              new TestController(),
+              0);
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertSame(controller02,
+                      evicted.get(0));
+    Assert.assertEquals(1,
+                        cache.getEvictions());
+    Assert.assertEquals(2,
+                        cache.getSize());
+  }
+
+  @Test
+  public void testEvictLeastFrequentlyUsed() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    ControllerCache cache = new ControllerCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.setEvictionPolicy(ControllerCache.EvictionPolicy.LFU);
+    cache.setMaxSize(2);
+    TestController controller01 = new TestController();
+    TestController controller02 = new TestController();
+    cache.put("controller01",
+              controller01,
+              0);
+    cache.put("controller02",
+              controller02,
+              0);
+    cache.get("controller01");
+    cache.get("controller01");
+    cache.get("controller02");
+    cache.put("controller03",
+              new TestController(),
+              0);
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertSame(controller02,
+                      evicted.get(0));
+  }
+
+  @Test
+  public void testExpireTimeToLive() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    long[] now = { 1000 };
+    ControllerCache cache = new ControllerCache() {
+
+      @Override
+      long now() {
+        return now[0];
+      }
+
+    };
+    cache.setEvictionHandler(evicted::add);
+    cache.setEvictionPolicy(ControllerCache.EvictionPolicy.TTL);
+    cache.setTimeToLive(100);
+    TestController controller = new TestController();
+    cache.put("controller01",
+              controller,
+              0);
+    now[0] = 1099;
+    Assert.assertSame(controller,
+                      cache.get("controller01"));
+    now[0] = 1100;
+    Assert.assertNull(cache.get("controller01"));
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  @Test
+  public void testShrinkAndDisable() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    ControllerCache cache = new ControllerCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.put("controller01",
+              new TestController(),
+              0);
+    cache.put("controller02",
+              new TestController(),
+              0);
+    cache.setMaxSize(0);
+    Assert.assertEquals(2,
+                        evicted.size());
+    // a disabled cache evicts the controller immediately
+    cache.put("controller03",
+              new TestController(),
+              0);
+    Assert.assertEquals(3,
+                        evicted.size());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  @Test
+  public void testReplaceEvictsPreviousInstance() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    ControllerCache cache = new ControllerCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.setMaxSize(2);
+    TestController controller01 = new TestController();
+    TestController controller02 = new TestController();
+    TestController other = new TestController();
+    cache.put("other",
+              other,
+              0);
+    cache.put("controller01",
+              controller01,
+              0);
+    // storing the same instance again does not evict it
+    cache.put("controller01",
+              controller01,
+              0);
+    Assert.assertTrue(evicted.isEmpty());
+    // another instance of the same class replaces the cached one
+    cache.put("controller01",
+              controller02,
+              0);
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertSame(controller01,
+                      evicted.get(0));
+    Assert.assertEquals(1,
+                        cache.getEvictions());
+    Assert.assertEquals(2,
+                        cache.getSize());
+    Assert.assertSame(controller02,
+                      cache.get("controller01"));
+    Assert.assertSame(other,
+                      cache.get("other"));
+  }
+
+  @Test
+  public void testRemoveDoesNotEvict() {
+    List<AbstractComponentController<?, ?, ?>> evicted = new ArrayList<>();
+    ControllerCache cache = new ControllerCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.put("controller01",
+              new TestController(),
+              0);
+    cache.remove("controller01");
+    Assert.assertTrue(evicted.isEmpty());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, String> {
+
+  }
+
+  static class TestContext
+      implements IsContext {
+
+  }
+
+  interface TestComponent
+      extends IsComponent<TestController, String> {
+
+  }
+
+}
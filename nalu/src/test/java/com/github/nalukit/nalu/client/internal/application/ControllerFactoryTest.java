@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerFactoryTest {
+
+  @Test
+  public void testControllerAsyncWithoutCreator() {
+    List<ControllerInstance> created = new ArrayList<>();
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.UnknownController",
+                                 new TestCallback(created));
+    Assert.assertEquals(1,
+                        created.size());
+    Assert.assertNull(created.get(0));
+  }
+
+  @Test
+  public void testControllerAsyncLoadsOnce() {
+    AsyncCreator creator = new AsyncCreator();
+    ControllerFactory.get()
+                     .registerController("com.github.nalukit.nalu.client.internal.application.AsyncController01",
+                                         creator);
+    List<ControllerInstance> first = new ArrayList<>();
+    List<ControllerInstance> second = new ArrayList<>();
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController01",
+                                 new TestCallback(first),
+                                 "1");
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController01",
+                                 new TestCallback(second),
+                                 "1");
+    // the second request does not start a new loading
+    Assert.assertEquals(1,
+                        creator.callbacks.size());
+    Assert.assertTrue(ControllerFactory.get()
+                                       .isLoading("com.github.nalukit.nalu.client.internal.application.AsyncController01"));
+    creator.load(0);
+    // the first request gets the loaded controller ...
+    Assert.assertEquals(1,
+                        first.size());
+    Assert.assertTrue(second.isEmpty());
+    // ... the second request is not dropped, the controller is not cached, so it gets its own controller
+    Assert.assertEquals(2,
+                        creator.callbacks.size());
+    creator.load(1);
+    Assert.assertEquals(1,
+                        first.size());
+    Assert.assertEquals(1,
+                        second.size());
+    Assert.assertNotSame(first.get(0),
+                         second.get(0));
+    Assert.assertFalse(ControllerFactory.get()
+                                        .isLoading("com.github.nalukit.nalu.client.internal.application.AsyncController01"));
+  }
+
+  @Test
+  public void testControllerAsyncReusesCachedController() {
+    AsyncCreator creator = new AsyncCreator();
+    ControllerFactory.get()
+                     .registerController(CachedController.class.getCanonicalName(),
+                                         creator);
+    List<ControllerInstance> first = new ArrayList<>();
+    List<ControllerInstance> second = new ArrayList<>();
+    CachedController controller = new CachedController();
+    // the first request stores the loaded controller in the cache (f.e.: inside start)
+    ControllerFactory.get()
+                     .controller(CachedController.class.getCanonicalName(),
+                                 new TestCallback(first) {
+
+                                   @Override
+                                   public void onCreate(ControllerInstance controllerInstance) {
+                                     super.onCreate(controllerInstance);
+                                     ControllerFactory.get()
+                                                      .storeInCache(controller);
+                                   }
+
+                                 },
+                                 "1");
+    ControllerFactory.get()
+                     .controller(CachedController.class.getCanonicalName(),
+                                 new TestCallback(second),
+                                 "1");
+    creator.callbacks.get(0)
+                     .onCreate(new ControllerInstance());
+    // the waiting request gets the cached instance without a further creation
+    Assert.assertEquals(1,
+                        creator.callbacks.size());
+    Assert.assertEquals(1,
+                        second.size());
+    Assert.assertSame(controller,
+                      second.get(0)
+                            .getController());
+    Assert.assertTrue(second.get(0)
+                            .isChached());
+    ControllerFactory.get()
+                     .clearControllerCache();
+  }
+
+  @Test
+  public void testControllerOfAsyncCreatorFailsSynchronously()
+      throws RoutingInterceptionException {
+    AsyncCreator creator = new AsyncCreator();
+    ControllerFactory.get()
+                     .registerController("com.github.nalukit.nalu.client.internal.application.AsyncController04",
+                                         creator);
+    try {
+      ControllerFactory.get()
+                       .controller("com.github.nalukit.nalu.client.internal.application.AsyncController04",
+                                   "1");
+      Assert.fail("a controller loaded asynchronously can not be created synchronously");
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage()
+                         .contains("com.github.nalukit.nalu.client.internal.application.AsyncController04"));
+    }
+    Assert.assertEquals(0,
+                        creator.created);
+  }
+
+  @Test
+  public void testControllerAsyncWithOtherParameters() {
+    AsyncCreator creator = new AsyncCreator();
+    ControllerFactory.get()
+                     .registerController("com.github.nalukit.nalu.client.internal.application.AsyncController02",
+                                         creator);
+    List<ControllerInstance> first = new ArrayList<>();
+    List<ControllerInstance> second = new ArrayList<>();
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController02",
+                                 new TestCallback(first),
+                                 "1");
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController02",
+                                 new TestCallback(second),
+                                 "2");
+    creator.load(0);
+    Assert.assertEquals(1,
+                        first.size());
+    Assert.assertTrue(second.isEmpty());
+    // the second request is created with its own parameters
+    Assert.assertEquals(2,
+                        creator.callbacks.size());
+    Assert.assertEquals("2",
+                        creator.parameters.get(1)[0]);
+    creator.load(1);
+    Assert.assertEquals(1,
+                        second.size());
+  }
+
+  @Test
+  public void testControllerAsyncFailure() {
+    AsyncCreator creator = new AsyncCreator();
+    ControllerFactory.get()
+                     .registerController("com.github.nalukit.nalu.client.internal.application.AsyncController03",
+                                         creator);
+    List<Throwable> failures = new ArrayList<>();
+    IsControllerCreator.Callback callback = new TestCallback(new ArrayList<>()) {
+
+      @Override
+      public void onFailure(Throwable reason) {
+        failures.add(reason);
+      }
+
+    };
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController03",
+                                 callback,
+                                 "1");
+    ControllerFactory.get()
+                     .controller("com.github.nalukit.nalu.client.internal.application.AsyncController03",
+                                 callback,
+                                 "2");
+    creator.callbacks.get(0)
+                     .onFailure(new RuntimeException("loading failed"));
+    // every waiting request is told about the failure
+    Assert.assertEquals(2,
+                        failures.size());
+  }
+
+  static class TestCallback
+      implements IsControllerCreator.Callback {
+
+    private List<ControllerInstance> created;
+
+    TestCallback(List<ControllerInstance> created) {
+      this.created = created;
+    }
+
+    @Override
+    public void onCreate(ControllerInstance controllerInstance) {
+      this.created.add(controllerInstance);
+    }
+
+    @Override
+    public void onRoutingInterception(RoutingInterceptionException e) {
+      Assert.fail("unexpected routing interception");
+    }
+
+    @Override
+    public void onFailure(Throwable reason) {
+      Assert.fail("unexpected failure");
+    }
+
+  }
+
+  static class CachedController
+      extends AbstractComponentController<IsContext, IsComponent<?, String>, String> {
+
+  }
+
+  /* creator, that delays the creation until load is called */
+  static class AsyncCreator
+      implements IsControllerCreator {
+
+    private List<IsControllerCreator.Callback> callbacks = new ArrayList<>();
+
+    private List<String[]> parameters = new ArrayList<>();
+
+    private int created;
+
+    @Override
+    public ControllerInstance create(String... params) {
+      this.created++;
+      return new ControllerInstance();
+    }
+
+    @Override
+    public void createAsync(IsControllerCreator.Callback callback,
+                            String... params) {
+      this.callbacks.add(callback);
+      this.parameters.add(params);
+    }
+
+    @Override
+    public boolean isLoadingAsync() {
+      return true;
+    }
+
+    void load(int index) {
+      this.callbacks.get(index)
+                    .onCreate(this.create(this.parameters.get(index)));
+    }
+
+  }
+
+}
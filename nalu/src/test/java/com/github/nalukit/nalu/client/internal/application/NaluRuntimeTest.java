@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.internal.AbstractControllerCreator;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NaluRuntimeTest {
+
+  @After
+  public void tearDown() {
+    NaluRuntime.setScope(new TestScope());
+  }
+
+  @Test
+  public void testRuntimesDoNotShareState() {
+    NaluRuntime runtime01 = new NaluRuntime();
+    NaluRuntime runtime02 = new NaluRuntime();
+    runtime01.getPropertyFactory()
+             .register(true,
+                       false);
+    runtime02.getPropertyFactory()
+             .register(false,
+                       true);
+    Assert.assertTrue(runtime01.getPropertyFactory()
+                               .isUsingHash());
+    Assert.assertFalse(runtime02.getPropertyFactory()
+                                .isUsingHash());
+    Assert.assertNotSame(runtime01.getControllerFactory(),
+                         runtime02.getControllerFactory());
+    Assert.assertNotSame(runtime01.getShellFactory(),
+                         runtime02.getShellFactory());
+  }
+
+  @Test
+  public void testEnterSwitchesStaticAccessors() {
+    NaluRuntime runtime01 = new NaluRuntime();
+    NaluRuntime runtime02 = new NaluRuntime();
+    runtime01.enter();
+    Assert.assertSame(runtime01.getControllerFactory(),
+                      ControllerFactory.get());
+    Assert.assertSame(runtime01.getPropertyFactory(),
+                      PropertyFactory.get());
+    runtime02.enter();
+    Assert.assertSame(runtime02.getControllerFactory(),
+                      ControllerFactory.get());
+    Assert.assertSame(runtime02.getCompositeFactory(),
+                      CompositeFactory.get());
+  }
+
+  @Test
+  public void testCurrentCreatesRuntime() {
+    NaluRuntime runtime = NaluRuntime.current();
+    Assert.assertNotNull(runtime);
+    Assert.assertSame(runtime,
+                      NaluRuntime.current());
+  }
+
+  @Test
+  public void testThreadScope() throws InterruptedException {
+    ThreadLocal<NaluRuntime> runtimes = new ThreadLocal<>();
+    NaluRuntime.setScope(new NaluRuntime.Scope() {
+
+      @Override
+      public NaluRuntime get() {
+        return runtimes.get();
+      }
+
+      @Override
+      public void set(NaluRuntime runtime) {
+        runtimes.set(runtime);
+      }
+
+    });
+    NaluRuntime runtime = new NaluRuntime();
+    runtime.enter();
+    NaluRuntime[] runtimeOfThread = new NaluRuntime[2];
+    Thread thread = new Thread(() -> {
+      NaluRuntime otherRuntime = new NaluRuntime();
+      otherRuntime.enter();
+      runtimeOfThread[0] = otherRuntime;
+      runtimeOfThread[1] = NaluRuntime.current();
+    });
+    thread.start();
+    thread.join();
+    Assert.assertSame(runtimeOfThread[0],
+                      runtimeOfThread[1]);
+    Assert.assertNotSame(runtime,
+                         runtimeOfThread[1]);
+    Assert.assertSame(runtime,
+                      NaluRuntime.current());
+  }
+
+  @Test
+  public void testCreatorKeepsRuntimeOfApplication() {
+    NaluRuntime runtime01 = new NaluRuntime();
+    NaluRuntime runtime02 = new NaluRuntime();
+    runtime01.enter();
+    TestCreator creator = new TestCreator(runtime01);
+    // f.e.: a split point of the creator is loaded, while another application routes
+    runtime02.enter();
+    Assert.assertSame(runtime01,
+                      creator.getRuntime());
+    // the compatibility constructor uses the current runtime
+    Assert.assertSame(runtime02,
+                      new TestCreator().getRuntime());
+  }
+
+  static class TestCreator
+      extends AbstractControllerCreator<IsContext> {
+
+    TestCreator() {
+      super(null,
+            null,
+            null);
+    }
+
+    TestCreator(NaluRuntime runtime) {
+      super(null,
+            null,
+            null,
+            runtime);
+    }
+
+    @Override
+    public ControllerInstance create(String... params) {
+      return null;
+    }
+
+    NaluRuntime getRuntime() {
+      return this.runtime;
+    }
+
+  }
+
+  static class TestScope
+      implements NaluRuntime.Scope {
+
+    private NaluRuntime runtime;
+
+    @Override
+    public NaluRuntime get() {
+      return this.runtime;
+    }
+
+    @Override
+    public void set(NaluRuntime runtime) {
+      this.runtime = runtime;
+    }
+
+  }
+
+}
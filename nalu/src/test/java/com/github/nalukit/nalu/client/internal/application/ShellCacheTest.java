@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.application;
+
+import com.github.nalukit.nalu.client.component.IsShell;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShellCacheTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    ShellCache cache = new ShellCache();
+    TestShell shell = new TestShell();
+    Assert.assertNull(cache.get("shell01"));
+    cache.put("shell01",
+              shell);
+    Assert.assertSame(shell,
+                      cache.get("shell01"));
+    Assert.assertTrue(cache.contains("shell01"));
+    Assert.assertEquals(1,
+                        cache.getHits());
+    Assert.assertEquals(1,
+                        cache.getMisses());
+    Assert.assertEquals(1,
+                        cache.getSize());
+    cache.resetStatistics();
+    Assert.assertEquals(0,
+                        cache.getHits());
+    Assert.assertEquals(0,
+                        cache.getMisses());
+  }
+
+  @Test
+  public void testRemoveEvictsShell() {
+    List<IsShell> evicted = new ArrayList<>();
+    ShellCache cache = new ShellCache();
+    cache.setEvictionHandler(evicted::add);
+    TestShell shell = new TestShell();
+    cache.put("shell01",
+              shell);
+    cache.remove("shell01");
+    Assert.assertEquals(1,
+                        evicted.size());
+    Assert.assertSame(shell,
+                      evicted.get(0));
+    Assert.assertFalse(cache.contains("shell01"));
+    // unknown shells are ignored
+    cache.remove("shell01");
+    Assert.assertEquals(1,
+                        evicted.size());
+  }
+
+  @Test
+  public void testClearEvictsAllShells() {
+    List<IsShell> evicted = new ArrayList<>();
+    ShellCache cache = new ShellCache();
+    cache.setEvictionHandler(evicted::add);
+    cache.put("shell01",
+              new TestShell());
+    cache.put("shell02",
+              new TestShell());
+    cache.clear();
+    Assert.assertEquals(2,
+                        evicted.size());
+    Assert.assertEquals(0,
+                        cache.getSize());
+  }
+
+  static class TestShell
+      implements IsShell {
+
+    @Override
+    public void attachShell() {
+    }
+
+    @Override
+    public void detachShell() {
+    }
+
+    @Override
+    public void onAttachedComponent() {
+    }
+
+    @Override
+    public void removeHandlers() {
+    }
+
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.application.IsContext;
+import com.github.nalukit.nalu.client.component.AbstractComponentController;
+import com.github.nalukit.nalu.client.component.IsComponent;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ActiveControllerRegistryTest {
+
+  @Test
+  public void testPutAndGet() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    TestController controller = new TestController();
+    registry.put("content",
+                 "/app/person/*",
+                 "TestController",
+                 null,
+                 controller);
+    ActiveControllerRegistry.ActiveController activeController = registry.get("content");
+    Assert.assertNotNull(activeController);
+    Assert.assertSame(controller,
+                      activeController.getController());
+    Assert.assertEquals("content",
+                        activeController.getSelector());
+    Assert.assertEquals("/app/person/*",
+                        activeController.getRoute());
+    Assert.assertEquals(ActiveControllerRegistry.State.CREATED,
+                        activeController.getState());
+    Assert.assertNull(registry.get("navigation"));
+  }
+
+  @Test
+  public void testPutReplacesController() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    registry.put("content",
+                 "/app/person/*",
+                 "TestController",
+                 null,
+                 new TestController());
+    TestController controller = new TestController();
+    registry.put("content",
+                 "/app/search",
+                 "TestController",
+                 null,
+                 controller);
+    Assert.assertEquals(1,
+                        registry.size());
+    Assert.assertSame(controller,
+                      registry.get("content")
+                              .getController());
+  }
+
+  @Test
+  public void testSetState() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    registry.put("content",
+                 "/app/person/*",
+                 "TestController",
+                 null,
+                 new TestController());
+    registry.setState("content",
+                      ActiveControllerRegistry.State.ACTIVE);
+    Assert.assertEquals(ActiveControllerRegistry.State.ACTIVE,
+                        registry.get("content")
+                                .getState());
+    // unknown selectors are ignored
+    registry.setState("navigation",
+                      ActiveControllerRegistry.State.ACTIVE);
+    Assert.assertEquals(1,
+                        registry.size());
+  }
+
+  @Test
+  public void testRemoveBySelector() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    TestController controller = new TestController();
+    registry.put("content",
+                 "/app/person/*",
+                 "TestController",
+                 null,
+                 controller);
+    registry.put("navigation",
+                 "/app/navigation",
+                 "TestController",
+                 null,
+                 new TestController());
+    ActiveControllerRegistry.ActiveController activeController = registry.remove("content");
+    Assert.assertSame(controller,
+                      activeController.getController());
+    Assert.assertNull(registry.get("content"));
+    Assert.assertNull(registry.remove("content"));
+    Assert.assertEquals(1,
+                        registry.size());
+  }
+
+  @Test
+  public void testIsActiveFor() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    ActiveControllerRegistry.ActiveController activeController = registry.put("content",
+                                                                              "/app/person/*",
+                                                                              "TestController",
+                                                                              new String[] { "1" },
+                                                                              new TestController());
+    // only active controllers can be kept
+    Assert.assertFalse(activeController.isActiveFor("/app/person/*",
+                                                    "TestController",
+                                                    new String[] { "1" }));
+    activeController.setState(ActiveControllerRegistry.State.ACTIVE);
+    Assert.assertTrue(activeController.isActiveFor("/app/person/*",
+                                                   "TestController",
+                                                   new String[] { "1" }));
+    Assert.assertFalse(activeController.isActiveFor("/app/person/*",
+                                                    "TestController",
+                                                    new String[] { "2" }));
+    Assert.assertFalse(activeController.isActiveFor("/app/person/*",
+                                                    "OtherController",
+                                                    new String[] { "1" }));
+    Assert.assertFalse(activeController.isActiveFor("/app/search/*",
+                                                    "TestController",
+                                                    new String[] { "1" }));
+  }
+
+  @Test
+  public void testIsActiveForIgnoringParameters() {
+    ActiveControllerRegistry registry = new ActiveControllerRegistry();
+    ActiveControllerRegistry.ActiveController activeController = registry.put("content",
+                                                                              "/app/person/*",
+                                                                              "TestController",
+                                                                              new String[] { "1" },
+                                                                              new TestController());
+    Assert.assertFalse(activeController.isActiveFor("/app/person/*",
+                                                    "TestController"));
+    activeController.setState(ActiveControllerRegistry.State.ACTIVE);
+    Assert.assertTrue(activeController.isActiveFor("/app/person/*",
+                                                   "TestController"));
+    Assert.assertFalse(activeController.isActiveFor("/app/person/*",
+                                                    "OtherController"));
+    // the controller takes the new parameter values
+    activeController.setParameterValues(new String[] { "2" });
+    Assert.assertTrue(activeController.isActiveFor("/app/person/*",
+                                                   "TestController",
+                                                   new String[] { "2" }));
+  }
+
+  static class TestController
+      extends AbstractComponentController<TestContext, TestComponent, String> {
+
+  }
+
+  static class TestContext
+      implements IsContext {
+
+  }
+
+  static class TestComponent
+      implements IsComponent<TestController, String> {
+
+    @Override
+    public String asElement() {
+      return null;
+    }
+
+    @Override
+    public void onAttach() {
+    }
+
+    @Override
+    public void onDetach() {
+    }
+
+    @Override
+    public void removeHandlers() {
+    }
+
+    @Override
+    public void render() {
+    }
+
+    @Override
+    public void bind() {
+    }
+
+    @Override
+    public TestController getController() {
+      return null;
+    }
+
+    @Override
+    public void setController(TestController controller) {
+    }
+
+  }
+
+}
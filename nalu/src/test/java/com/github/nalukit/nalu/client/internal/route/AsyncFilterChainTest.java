@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.filter.IsAsyncFilter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AsyncFilterChainTest {
+
+  @Test
+  public void testProceedAfterAllFiltersDecided() {
+    AsyncFilterChain chain = new AsyncFilterChain();
+    TestFilter filter01 = new TestFilter();
+    TestFilter filter02 = new TestFilter();
+    TestHandler handler = new TestHandler();
+    chain.execute(Arrays.asList(filter01,
+                                filter02),
+                  "/app/person",
+                  new String[] { "1" },
+                  handler);
+    // both filters are started at once
+    Assert.assertNotNull(filter01.callback);
+    Assert.assertNotNull(filter02.callback);
+    filter02.callback.proceed();
+    Assert.assertEquals(0,
+                        handler.proceeded);
+    filter01.callback.proceed();
+    Assert.assertEquals(1,
+                        handler.proceeded);
+    Assert.assertTrue(handler.redirectedBy.isEmpty());
+  }
+
+  @Test
+  public void testFirstRegisteredFilterRedirects() {
+    AsyncFilterChain chain = new AsyncFilterChain();
+    TestFilter filter01 = new TestFilter();
+    TestFilter filter02 = new TestFilter();
+    TestHandler handler = new TestHandler();
+    chain.execute(Arrays.asList(filter01,
+                                filter02),
+                  "/app/person",
+                  null,
+                  handler);
+    filter02.callback.redirect();
+    Assert.assertTrue(handler.redirectedBy.isEmpty());
+    filter01.callback.redirect();
+    Assert.assertEquals(1,
+                        handler.redirectedBy.size());
+    Assert.assertSame(filter01,
+                      handler.redirectedBy.get(0));
+    Assert.assertEquals(0,
+                        handler.proceeded);
+  }
+
+  @Test
+  public void testNewExecutionCancelsCurrentExecution() {
+    AsyncFilterChain chain = new AsyncFilterChain();
+    TestFilter filter = new TestFilter();
+    TestHandler handler01 = new TestHandler();
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  null,
+                  handler01);
+    IsAsyncFilter.Callback callback01 = filter.callback;
+    TestHandler handler02 = new TestHandler();
+    chain.execute(Arrays.asList(filter),
+                  "/app/search",
+                  null,
+                  handler02);
+    Assert.assertTrue(callback01.isCancelled());
+    callback01.proceed();
+    Assert.assertEquals(0,
+                        handler01.proceeded);
+    filter.callback.proceed();
+    Assert.assertEquals(1,
+                        handler02.proceeded);
+  }
+
+  @Test
+  public void testNoFilters() {
+    AsyncFilterChain chain = new AsyncFilterChain();
+    TestHandler handler = new TestHandler();
+    chain.execute(new ArrayList<>(),
+                  "/app/person",
+                  null,
+                  handler);
+    Assert.assertEquals(1,
+                        handler.proceeded);
+  }
+
+  @Test
+  public void testPositiveDecisionIsReusedDuringWindow() {
+    TestClockChain chain = new TestClockChain();
+    chain.setDecisionCacheWindow(1000);
+    TestFilter filter = new TestFilter();
+    filter.decideImmediately = true;
+    TestHandler handler = new TestHandler();
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  new String[] { "1" },
+                  handler);
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  new String[] { "1" },
+                  handler);
+    Assert.assertEquals(1,
+                        filter.calls);
+    Assert.assertEquals(2,
+                        handler.proceeded);
+    // other parameters -> filter is called
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  new String[] { "2" },
+                  handler);
+    Assert.assertEquals(2,
+                        filter.calls);
+    // window expired -> filter is called again
+    chain.time = 1001;
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  new String[] { "1" },
+                  handler);
+    Assert.assertEquals(3,
+                        filter.calls);
+  }
+
+  @Test
+  public void testDecisionsAreNotCachedWithoutWindow() {
+    AsyncFilterChain chain = new AsyncFilterChain();
+    TestFilter filter = new TestFilter();
+    filter.decideImmediately = true;
+    TestHandler handler = new TestHandler();
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  null,
+                  handler);
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  null,
+                  handler);
+    Assert.assertEquals(2,
+                        filter.calls);
+  }
+
+  @Test
+  public void testIsAcceptedUsesCachedDecisionsOnly() {
+    TestClockChain chain = new TestClockChain();
+    chain.setDecisionCacheWindow(1000);
+    TestFilter filter = new TestFilter();
+    filter.decideImmediately = true;
+    Assert.assertFalse(chain.isAccepted(Arrays.asList(filter),
+                                        "/app/person",
+                                        new String[] { "1" }));
+    // the check does not call the filter
+    Assert.assertEquals(0,
+                        filter.calls);
+    chain.execute(Arrays.asList(filter),
+                  "/app/person",
+                  new String[] { "1" },
+                  new TestHandler());
+    Assert.assertTrue(chain.isAccepted(Arrays.asList(filter),
+                                       "/app/person",
+                                       new String[] { "1" }));
+    Assert.assertFalse(chain.isAccepted(Arrays.asList(filter,
+                                                      new TestFilter()),
+                                        "/app/person",
+                                        new String[] { "1" }));
+    Assert.assertEquals(1,
+                        filter.calls);
+  }
+
+  static class TestClockChain
+      extends AsyncFilterChain {
+
+    long time;
+
+    @Override
+    long now() {
+      return this.time;
+    }
+
+  }
+
+  static class TestFilter
+      implements IsAsyncFilter {
+
+    IsAsyncFilter.Callback callback;
+
+    boolean decideImmediately;
+
+    int calls;
+
+    @Override
+    public void filter(String route,
+                       String[] parms,
+                       Callback callback) {
+      this.calls++;
+      this.callback = callback;
+      if (this.decideImmediately) {
+        callback.proceed();
+      }
+    }
+
+    @Override
+    public String redirectTo() {
+      return "/app/login";
+    }
+
+    @Override
+    public String[] parameters() {
+      return new String[] {};
+    }
+
+  }
+
+  static class TestHandler
+      implements AsyncFilterChain.Handler {
+
+    int proceeded;
+
+    List<IsAsyncFilter> redirectedBy = new ArrayList<>();
+
+    @Override
+    public void onProceed() {
+      this.proceeded++;
+    }
+
+    @Override
+    public void onRedirect(IsAsyncFilter filter) {
+      this.redirectedBy.add(filter);
+    }
+
+  }
+
+}
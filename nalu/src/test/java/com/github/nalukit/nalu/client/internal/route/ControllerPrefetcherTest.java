@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ControllerPrefetcherTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    ControllerPrefetcher prefetcher = new ControllerPrefetcher();
+    Assert.assertFalse(prefetcher.isEnabled());
+    prefetcher.record("/app/list",
+                      "/app/search");
+    prefetcher.setMaxPrefetchedControllers(4);
+    Assert.assertTrue(prefetcher.getLikelyTargets("/app/list")
+                                .isEmpty());
+  }
+
+  @Test
+  public void testTakeWithMatchingParameters() {
+    ControllerPrefetcher prefetcher = new ControllerPrefetcher();
+    prefetcher.setMaxPrefetchedControllers(4);
+    ControllerInstance controllerInstance = this.createControllerInstance();
+    prefetcher.put("TestController",
+                   new String[] { "1" },
+                   controllerInstance);
+    Assert.assertNull(prefetcher.take("TestController",
+                                      new String[] { "2" }));
+    Assert.assertSame(controllerInstance,
+                      prefetcher.take("TestController",
+                                      new String[] { "1" }));
+    Assert.assertNull(prefetcher.take("TestController",
+                                      new String[] { "1" }));
+    Assert.assertEquals(1,
+                        prefetcher.getPrefetches());
+    Assert.assertEquals(1,
+                        prefetcher.getAdoptions());
+    Assert.assertEquals(0,
+                        prefetcher.getSize());
+  }
+
+  @Test
+  public void testDiscard() {
+    ControllerPrefetcher prefetcher = new ControllerPrefetcher();
+    prefetcher.setMaxPrefetchedControllers(1);
+    prefetcher.put("TestController01",
+                   null,
+                   this.createControllerInstance());
+    prefetcher.put("TestController02",
+                   null,
+                   this.createControllerInstance());
+    Assert.assertEquals(1,
+                        prefetcher.getDiscards());
+    Assert.assertFalse(prefetcher.contains("TestController01",
+                                           null));
+    Assert.assertTrue(prefetcher.contains("TestController02",
+                                          null));
+    // disabling discards the prefetched controllers
+    prefetcher.setMaxPrefetchedControllers(0);
+    Assert.assertEquals(2,
+                        prefetcher.getDiscards());
+    Assert.assertEquals(0,
+                        prefetcher.getSize());
+  }
+
+  @Test
+  public void testLikelyTargets() {
+    ControllerPrefetcher prefetcher = new ControllerPrefetcher();
+    prefetcher.setMaxPrefetchedControllers(4);
+    prefetcher.setNumberOfTargets(1);
+    prefetcher.record("/app/list",
+                      "/app/search");
+    prefetcher.record("/app/list",
+                      "/app/detail/1");
+    prefetcher.record("/app/list",
+                      "/app/detail/1");
+    Assert.assertEquals(1,
+                        prefetcher.getLikelyTargets("/app/list")
+                                  .size());
+    Assert.assertEquals("/app/detail/1",
+                        prefetcher.getLikelyTargets("/app/list")
+                                  .get(0));
+  }
+
+  private ControllerInstance createControllerInstance() {
+    ActiveControllerRegistryTest.TestController controller = new ActiveControllerRegistryTest.TestController();
+    controller.setComponent(new ActiveControllerRegistryTest.TestComponent());
+    ControllerInstance controllerInstance = new ControllerInstance();
+    controllerInstance.setController(controller);
+    return controllerInstance;
+  }
+
+}
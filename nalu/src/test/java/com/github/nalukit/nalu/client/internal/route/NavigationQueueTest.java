@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NavigationQueueTest {
+
+  @Test
+  public void testLatestNavigationSupersedesWaitingNavigation() {
+    NavigationQueue queue = new NavigationQueue();
+    queue.offer("app/person/1",
+                false,
+                true);
+    NavigationQueue.Navigation navigation02 = queue.offer("app/person/2",
+                                                          false,
+                                                          true);
+    Assert.assertEquals(1,
+                        queue.getNumberOfDroppedNavigations());
+    NavigationQueue.Navigation navigation = queue.poll();
+    Assert.assertSame(navigation02,
+                      navigation);
+    Assert.assertFalse(queue.hasPending());
+    Assert.assertTrue(queue.isExecuting());
+    queue.complete();
+    Assert.assertFalse(queue.isExecuting());
+    Assert.assertNull(queue.poll());
+  }
+
+  @Test
+  public void testCoalescedNavigationKeepsHistoryEntry() {
+    NavigationQueue queue = new NavigationQueue();
+    queue.offer("app/person/1",
+                false,
+                true);
+    // the dropped navigation would have added a history entry
+    NavigationQueue.Navigation navigation = queue.offer("app/login",
+                                                        true,
+                                                        true);
+    Assert.assertFalse(navigation.isReplacingState());
+    Assert.assertTrue(navigation.isUpdatingHistory());
+  }
+
+  @Test
+  public void testBrowserNavigationDoesNotUpdateHistory() {
+    NavigationQueue queue = new NavigationQueue();
+    NavigationQueue.Navigation navigation = queue.offer("app/person/1",
+                                                        false,
+                                                        false);
+    Assert.assertFalse(navigation.isUpdatingHistory());
+    Assert.assertFalse(navigation.isRedirect());
+    // a redirect of the browser navigation replaces the history entry
+    navigation = queue.offer("app/login",
+                             true,
+                             true);
+    Assert.assertTrue(navigation.isReplacingState());
+  }
+
+  @Test
+  public void testRedirectSupersedesCurrentNavigation() {
+    NavigationQueue queue = new NavigationQueue();
+    queue.offer("app/person/1",
+                false,
+                true);
+    NavigationQueue.Navigation navigation = queue.poll();
+    Assert.assertFalse(navigation.isRedirect());
+    Assert.assertFalse(queue.isSuperseded());
+    Assert.assertTrue(queue.offer("app/login",
+                                  true,
+                                  true)
+                           .isRedirect());
+    Assert.assertTrue(queue.isSuperseded());
+    Assert.assertSame(navigation,
+                      queue.getCurrent());
+    queue.complete();
+    Assert.assertEquals("app/login",
+                        queue.poll()
+                             .getHash());
+    Assert.assertFalse(queue.isSuperseded());
+  }
+
+}
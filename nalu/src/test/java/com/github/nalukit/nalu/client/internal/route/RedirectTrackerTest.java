@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class RedirectTrackerTest {
+
+  @Test
+  public void testContainsIgnoresLeadingHashAndSlash() {
+    RedirectTracker tracker = new RedirectTracker();
+    Assert.assertFalse(tracker.contains("app/person/1"));
+    tracker.add("#/app/person/1");
+    Assert.assertTrue(tracker.contains("app/person/1"));
+    Assert.assertTrue(tracker.contains("/app/person/1"));
+    Assert.assertTrue(tracker.contains("#app/person/1"));
+    Assert.assertFalse(tracker.contains("app/person/12"));
+    Assert.assertFalse(tracker.contains("app/person"));
+    Assert.assertEquals(0,
+                        tracker.getNumberOfRedirects());
+  }
+
+  @Test
+  public void testRedirectChain() {
+    RedirectTracker tracker = new RedirectTracker();
+    tracker.add("/app/person/1");
+    tracker.add("#/app/login");
+    tracker.add("app/error");
+    Assert.assertTrue(tracker.contains("/app/person/1"));
+    Assert.assertTrue(tracker.contains("/app/login"));
+    Assert.assertTrue(tracker.contains("#app/error"));
+    Assert.assertFalse(tracker.contains("app/home"));
+    Assert.assertEquals(2,
+                        tracker.getNumberOfRedirects());
+    Assert.assertEquals(Arrays.asList("app/person/1",
+                                      "app/login",
+                                      "app/error"),
+                        tracker.getChain());
+  }
+
+  @Test
+  public void testMaxRedirectDepth() {
+    RedirectTracker tracker = new RedirectTracker();
+    tracker.setMaxRedirectDepth(2);
+    tracker.add("app/a");
+    Assert.assertFalse(tracker.isMaxRedirectDepthReached());
+    tracker.add("app/b");
+    Assert.assertFalse(tracker.isMaxRedirectDepthReached());
+    tracker.add("app/c");
+    Assert.assertTrue(tracker.isMaxRedirectDepthReached());
+  }
+
+  @Test
+  public void testClear() {
+    RedirectTracker tracker = new RedirectTracker();
+    tracker.add("app/a");
+    tracker.add("app/b");
+    tracker.clear();
+    Assert.assertFalse(tracker.contains("app/a"));
+    Assert.assertFalse(tracker.contains("app/b"));
+    Assert.assertTrue(tracker.getChain()
+                             .isEmpty());
+    tracker.add("app/b");
+    Assert.assertTrue(tracker.contains("app/b"));
+    Assert.assertFalse(tracker.contains("app/a"));
+    Assert.assertEquals(0,
+                        tracker.getNumberOfRedirects());
+  }
+
+}
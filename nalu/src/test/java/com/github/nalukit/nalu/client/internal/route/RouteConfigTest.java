@@ -72,4 +72,43 @@ public class RouteConfigTest {
                         routeConfig.getRouteWithoutShell());
   }
 
+  @Test
+  public void testRouteConfigMatch01() {
+    RouteConfig routeConfig = new RouteConfig("/[loginShell|applicationShell]/testroute01",
+                                              new ArrayList<>(),
+                                              "selector",
+                                              "className");
+    Assert.assertTrue(routeConfig.match("/loginShell/testroute01"));
+    Assert.assertTrue(routeConfig.match("applicationShell/testroute01"));
+    Assert.assertFalse(routeConfig.match("/otherShell/testroute01"));
+    Assert.assertFalse(routeConfig.match("/loginShell/testroute02"));
+    Assert.assertFalse(routeConfig.match("/loginShell"));
+  }
+
+  @Test
+  public void testRouteConfigMatch02() {
+    RouteConfig routeConfig = new RouteConfig("/loginShell",
+                                              new ArrayList<>(),
+                                              "selector",
+                                              "className");
+    Assert.assertTrue(routeConfig.match("/loginShell"));
+    Assert.assertTrue(routeConfig.match("/loginShell/"));
+    Assert.assertFalse(routeConfig.match("/loginShel"));
+    Assert.assertFalse(routeConfig.match("/loginShell/testroute01"));
+  }
+
+  @Test
+  public void testRouteConfigSegments() {
+    RouteConfig routeConfig = new RouteConfig("/loginShell/person/*/edit",
+                                              new ArrayList<>(),
+                                              "selector",
+                                              "className");
+    Assert.assertEquals(4,
+                        routeConfig.getNumberOfSegments());
+    Assert.assertEquals("person",
+                        routeConfig.getSegment(1));
+    Assert.assertFalse(routeConfig.isWildcard(1));
+    Assert.assertTrue(routeConfig.isWildcard(2));
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class RouteResolutionCacheTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    RouteResolutionCache cache = new RouteResolutionCache();
+    Assert.assertNull(cache.get("app/person/1",
+                                0,
+                                0));
+    cache.put("app/person/1",
+              this.createResolution());
+    Assert.assertNotNull(cache.get("app/person/1",
+                                   0,
+                                   0));
+    Assert.assertEquals(1,
+                        cache.getHits());
+    Assert.assertEquals(1,
+                        cache.getMisses());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    RouteResolutionCache cache = new RouteResolutionCache();
+    cache.setMaxSize(2);
+    cache.put("app/person/1",
+              this.createResolution());
+    cache.put("app/person/2",
+              this.createResolution());
+    // touch the first one
+    cache.get("app/person/1",
+              0,
+              0);
+    cache.put("app/person/3",
+              this.createResolution());
+    Assert.assertEquals(2,
+                        cache.getSize());
+    Assert.assertNotNull(cache.get("app/person/1",
+                                   0,
+                                   0));
+    Assert.assertNull(cache.get("app/person/2",
+                                0,
+                                0));
+  }
+
+  @Test
+  public void testInvalidationOnConfigurationChange() {
+    RouteResolutionCache cache = new RouteResolutionCache();
+    cache.put("app/person/1",
+              this.createResolution());
+    Assert.assertNull(cache.get("app/person/1",
+                                1,
+                                0));
+    cache.put("app/person/1",
+              this.createResolution());
+    Assert.assertNull(cache.get("app/person/1",
+                                1,
+                                1));
+  }
+
+  @Test
+  public void testDisabledCache() {
+    RouteResolutionCache cache = new RouteResolutionCache();
+    cache.setMaxSize(0);
+    cache.put("app/person/1",
+              this.createResolution());
+    Assert.assertNull(cache.get("app/person/1",
+                                0,
+                                0));
+  }
+
+  private RouteResolutionCache.RouteResolution createResolution() {
+    return new RouteResolutionCache.RouteResolution(new RouteResult("/app",
+                                                                    "/app/person/*"),
+                                                    new ArrayList<>());
+  }
+
+}
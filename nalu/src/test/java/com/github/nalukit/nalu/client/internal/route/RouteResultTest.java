@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class RouteResultTest {
+
+  @Test
+  public void testParameterValues() {
+    RouteResult routeResult = new RouteResult("/app",
+                                              "/app/person/*/*",
+                                              "1",
+                                              "2");
+    Assert.assertEquals(Arrays.asList("1",
+                                      "2"),
+                        routeResult.getParameterValues());
+    Assert.assertArrayEquals(new String[] { "1",
+                                            "2" },
+                             routeResult.getParameterValuesAsArray());
+  }
+
+  @Test
+  public void testNoParameterValues() {
+    RouteResult routeResult = new RouteResult("/app",
+                                              "/app/person");
+    Assert.assertEquals(0,
+                        routeResult.getParameterValues()
+                                   .size());
+    Assert.assertEquals(0,
+                        routeResult.getParameterValuesAsArray().length);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testParameterValuesAreUnmodifiable() {
+    RouteResult routeResult = new RouteResult("/app",
+                                              "/app/person/*",
+                                              "1");
+    routeResult.getParameterValues()
+               .add("2");
+  }
+
+  @Test
+  public void testParameterValuesAsArrayIsCopy() {
+    RouteResult routeResult = new RouteResult("/app",
+                                              "/app/person/*",
+                                              "1");
+    // f.e.: a filter normalizing the parameters
+    routeResult.getParameterValuesAsArray()[0] = "2";
+    Assert.assertArrayEquals(new String[] { "1" },
+                             routeResult.getParameterValuesAsArray());
+    Assert.assertEquals("1",
+                        routeResult.parameterValues()[0]);
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RouteTemplateTest {
+
+  @Test
+  public void testGenerateWithoutParameters() {
+    RouteTemplate routeTemplate = new RouteTemplate("/app/person/list");
+    Assert.assertEquals(0,
+                        routeTemplate.getNumberOfPlaceholders());
+    Assert.assertEquals("app/person/list",
+                        routeTemplate.generate(false));
+  }
+
+  @Test
+  public void testGenerateWithParameters() {
+    RouteTemplate routeTemplate = new RouteTemplate("/app/person/*/edit/*");
+    Assert.assertEquals(2,
+                        routeTemplate.getNumberOfPlaceholders());
+    Assert.assertEquals("app/person/1/edit/2",
+                        routeTemplate.generate(false,
+                                               "1",
+                                               "2"));
+    Assert.assertEquals("app/person/:1/edit/:2",
+                        routeTemplate.generate(true,
+                                               "1",
+                                               "2"));
+  }
+
+  @Test
+  public void testGenerateWithMissingParameter() {
+    RouteTemplate routeTemplate = new RouteTemplate("/app/person/*/edit/*");
+    Assert.assertEquals("app/person/1/edit/",
+                        routeTemplate.generate(false,
+                                               "1"));
+  }
+
+  @Test
+  public void testGenerateWithAdditionalParameters() {
+    RouteTemplate routeTemplate = new RouteTemplate("/app/person/*");
+    Assert.assertEquals("app/person/1/2/null",
+                        routeTemplate.generate(false,
+                                               "1",
+                                               "2",
+                                               null));
+  }
+
+  @Test
+  public void testGenerateReplacesSlash() {
+    RouteTemplate routeTemplate = new RouteTemplate("/app/person/*");
+    Assert.assertEquals("app/person/a" + AbstractRouter.NALU_SLASH_REPLACEMENT + "b" + AbstractRouter.NALU_SLASH_REPLACEMENT,
+                        routeTemplate.generate(false,
+                                               "a/b/"));
+  }
+
+}
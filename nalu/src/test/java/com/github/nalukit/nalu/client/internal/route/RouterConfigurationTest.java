@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import com.github.nalukit.nalu.client.Nalu;
+import com.github.nalukit.nalu.client.internal.PropertyFactory;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class RouterConfigurationTest {
+
+  private RouterConfiguration routerConfiguration;
+
+  @Before
+  public void before() {
+    this.routerConfiguration = new RouterConfiguration();
+    this.add("/application/");
+    this.add("/application/search");
+    this.add("/application/person/*/edit");
+    this.add("/application/person/*/*");
+    this.add("/application/person/detail/*");
+    this.add("/*/footer");
+    this.add("/[application|login]/navigation");
+    this.add("/login/");
+  }
+
+  @Test
+  public void testFindFirst01() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/3/edit");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/edit",
+                        optional.get()
+                                .getRoute());
+  }
+
+  @Test
+  public void testFindFirst02() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    // registration order wins over the literal segment
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/detail/3");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/*",
+                        optional.get()
+                                .getRoute());
+  }
+
+  @Test
+  public void testFindFirst03() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    // missing trailing parameters
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/*",
+                        optional.get()
+                                .getRoute());
+  }
+
+  @Test
+  public void testFindFirst04() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    Assert.assertFalse(this.routerConfiguration.findFirst("application/unknown")
+                                               .isPresent());
+    Assert.assertFalse(this.routerConfiguration.findFirst("application/person/3/edit/4")
+                                               .isPresent());
+  }
+
+  @Test
+  public void testFindFirstColon() {
+    PropertyFactory.get()
+                   .register(true,
+                             true);
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/:3/edit");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/edit",
+                        optional.get()
+                                .getRoute());
+    optional = this.routerConfiguration.findFirst("application/person/detail/:3");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/detail/*",
+                        optional.get()
+                                .getRoute());
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+  }
+
+  @Test
+  public void testFindFirstUsesGivenProperty() {
+    // the property of the current runtime belongs to another application
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/:3/edit",
+                                                                        true);
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/edit",
+                        optional.get()
+                                .getRoute());
+    PropertyFactory.get()
+                   .register(true,
+                             true);
+    Assert.assertTrue(this.routerConfiguration.findFirst("application/person/3/edit",
+                                                         false)
+                                              .isPresent());
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+  }
+
+  @Test
+  public void testFindFirstSameAsLinearSearch() {
+    String[] routes = new String[] { "application/person/3/edit",
+                                     "application/person/detail/3",
+                                     "application/person/:3/:4",
+                                     "application/person",
+                                     "application/search",
+                                     "application/search/3",
+                                     "application",
+                                     "x/footer",
+                                     "*/footer",
+                                     "login/navigation",
+                                     "application//edit",
+                                     "/",
+                                     "" };
+    for (boolean colon : new boolean[] { false,
+                                         true }) {
+      PropertyFactory.get()
+                     .register(true,
+                               colon);
+      for (String route : routes) {
+        RouteConfig expected = null;
+        for (RouteConfig routeConfig : this.routerConfiguration.getRouters()) {
+          if (Nalu.match(route,
+                         routeConfig.getRoute())) {
+            expected = routeConfig;
+            break;
+          }
+        }
+        Assert.assertEquals("findFirst for route >>" + route + "<<",
+                            expected,
+                            this.routerConfiguration.findFirst(route)
+                                                    .orElse(null));
+      }
+    }
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+  }
+
+  @Test
+  public void testMatch() {
+    List<RouteConfig> result = this.routerConfiguration.match("/application/navigation");
+    Assert.assertEquals(1,
+                        result.size());
+    Assert.assertEquals("/[application|login]/navigation",
+                        result.get(0)
+                              .getRoute());
+    Assert.assertEquals(1,
+                        this.routerConfiguration.match("/login")
+                                                .size());
+    Assert.assertEquals(1,
+                        this.routerConfiguration.match("/application/person/*/edit")
+                                                .size());
+    Assert.assertEquals(0,
+                        this.routerConfiguration.match("/application/person/3/edit")
+                                                .size());
+  }
+
+  @Test
+  public void testIndexUpdatedAfterModification() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    Assert.assertFalse(this.routerConfiguration.findFirst("application/newRoute")
+                                               .isPresent());
+    this.add("/application/newRoute");
+    Assert.assertTrue(this.routerConfiguration.findFirst("application/newRoute")
+                                              .isPresent());
+    Assert.assertEquals(1,
+                        this.routerConfiguration.match("/application/newRoute")
+                                                .size());
+  }
+
+  @Test
+  public void testRouteMatcherIsUsed() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    // a matcher which always returns the search route
+    this.routerConfiguration.setRouteMatcher(this.createRouteMatcher(8,
+                                                                     1));
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/3/edit");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/search",
+                        optional.get()
+                                .getRoute());
+    this.routerConfiguration.setRouteMatcher(this.createRouteMatcher(8,
+                                                                     RouteMatcher.NO_MATCH));
+    Assert.assertFalse(this.routerConfiguration.findFirst("application/person/3/edit")
+                                               .isPresent());
+  }
+
+  @Test
+  public void testRouteMatcherIsIgnoredAfterModification() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    this.routerConfiguration.setRouteMatcher(this.createRouteMatcher(8,
+                                                                     1));
+    this.add("/application/newRoute");
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/3/edit");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/edit",
+                        optional.get()
+                                .getRoute());
+  }
+
+  @Test
+  public void testRouteMatcherIsIgnoredForOtherRoutes() {
+    PropertyFactory.get()
+                   .register(true,
+                             false);
+    // matcher was generated for less routes (f.e.: routes added by a plugin)
+    this.routerConfiguration.setRouteMatcher(this.createRouteMatcher(7,
+                                                                     1));
+    Optional<RouteConfig> optional = this.routerConfiguration.findFirst("application/person/3/edit");
+    Assert.assertTrue(optional.isPresent());
+    Assert.assertEquals("/application/person/*/edit",
+                        optional.get()
+                                .getRoute());
+  }
+
+  private RouteMatcher createRouteMatcher(int numberOfRoutes,
+                                          int index) {
+    return new RouteMatcher() {
+
+      @Override
+      public int getNumberOfRoutes() {
+        return numberOfRoutes;
+      }
+
+      @Override
+      public int findFirst(String[] partsOfRoute) {
+        return index;
+      }
+
+    };
+  }
+
+  private void add(String route) {
+    this.routerConfiguration.getRouters()
+                            .add(new RouteConfig(route,
+                                                 new ArrayList<>(),
+                                                 "selector",
+                                                 "className"));
+  }
+
+}
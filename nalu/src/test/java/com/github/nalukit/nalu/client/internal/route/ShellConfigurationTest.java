@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class ShellConfigurationTest {
+
+  @Test
+  public void testMatch() {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/application",
+                                           "ApplicationShell"));
+    Assert.assertEquals("ApplicationShell",
+                        shellConfiguration.match("/application")
+                                          .getClassName());
+    Assert.assertEquals("ApplicationShell",
+                        shellConfiguration.match("application")
+                                          .getClassName());
+    Assert.assertNull(shellConfiguration.match("/login"));
+    Assert.assertFalse(shellConfiguration.contains("/login"));
+  }
+
+  @Test
+  public void testMatchAfterAddingShells() {
+    ShellConfiguration shellConfiguration = new ShellConfiguration();
+    shellConfiguration.getShells()
+                      .add(new ShellConfig("/application",
+                                           "ApplicationShell"));
+    Assert.assertNull(shellConfiguration.match("/login"));
+    // shells contributed by a plugin
+    shellConfiguration.getShells()
+                      .addAll(Arrays.asList(new ShellConfig("/login",
+                                                            "LoginShell"),
+                                            new ShellConfig("/application",
+                                                            "OtherApplicationShell")));
+    Assert.assertEquals("LoginShell",
+                        shellConfiguration.match("/login")
+                                          .getClassName());
+    // the first registered shell wins
+    Assert.assertEquals("ApplicationShell",
+                        shellConfiguration.match("/application")
+                                          .getClassName());
+  }
+
+}
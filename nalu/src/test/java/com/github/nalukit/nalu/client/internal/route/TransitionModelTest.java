@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package com.github.nalukit.nalu.client.internal.route;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class TransitionModelTest {
+
+  @Test
+  public void testLikelyTargets() {
+    TransitionModel model = new TransitionModel();
+    model.record("/app/list",
+                 "/app/detail/1");
+    model.record("/app/list",
+                 "/app/search");
+    model.record("/app/list",
+                 "/app/search");
+    model.record("/app/list",
+                 "/app/settings");
+    model.record("/app/list",
+                 "/app/settings");
+    model.record("/app/list",
+                 "/app/settings");
+    Assert.assertEquals(Arrays.asList("/app/settings",
+                                      "/app/search"),
+                        model.getLikelyTargets("/app/list",
+                                               2));
+    Assert.assertEquals(Collections.emptyList(),
+                        model.getLikelyTargets("/app/search",
+                                               2));
+  }
+
+  @Test
+  public void testIgnoreEmptyAndSelfTransitions() {
+    TransitionModel model = new TransitionModel();
+    model.record(null,
+                 "/app/list");
+    model.record("",
+                 "/app/list");
+    model.record("/app/list",
+                 "/app/list");
+    Assert.assertEquals(0,
+                        model.size());
+  }
+
+  @Test
+  public void testMaxTargets() {
+    TransitionModel model = new TransitionModel();
+    model.record("/app/list",
+                 "/app/frequent");
+    model.record("/app/list",
+                 "/app/frequent");
+    for (int i = 0; i < TransitionModel.MAX_TARGETS + 4; i++) {
+      model.record("/app/list",
+                   "/app/detail/" + i);
+    }
+    Assert.assertEquals(TransitionModel.MAX_TARGETS,
+                        model.getLikelyTargets("/app/list",
+                                               Integer.MAX_VALUE)
+                             .size());
+    // the frequent target is never replaced
+    Assert.assertEquals("/app/frequent",
+                        model.getLikelyTargets("/app/list",
+                                               1)
+                             .get(0));
+  }
+
+  @Test
+  public void testMaxSources() {
+    TransitionModel model = new TransitionModel();
+    for (int i = 0; i < TransitionModel.DEFAULT_MAX_SOURCES + 10; i++) {
+      model.record("/app/detail/" + i,
+                   "/app/list");
+    }
+    Assert.assertEquals(TransitionModel.DEFAULT_MAX_SOURCES,
+                        model.size());
+    Assert.assertTrue(model.getLikelyTargets("/app/detail/0",
+                                             1)
+                           .isEmpty());
+  }
+
+}
@@ -20,10 +20,8 @@ import com.github.nalukit.nalu.client.application.IsApplicationLoader;
 import com.github.nalukit.nalu.client.application.annotation.Debug;
 import com.github.nalukit.nalu.client.component.AbstractComponentController;
 import com.github.nalukit.nalu.client.exception.RoutingInterceptionException;
-import com.github.nalukit.nalu.client.internal.ClientLogger;
 import com.github.nalukit.nalu.client.internal.application.AbstractApplication;
 import com.github.nalukit.nalu.client.internal.application.IsControllerCreator;
-import com.github.nalukit.nalu.client.internal.application.ControllerFactory;
 import com.github.nalukit.nalu.client.internal.application.ControllerInstance;
 import com.github.nalukit.nalu.client.internal.route.RouteConfig;
 import com.github.nalukit.nalu.simpleapplication02.client.filters.BartSimpsonFilter;
@@ -65,7 +63,7 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
 
   @Override
   public void loadDebugConfiguration() {
-    ClientLogger.get().register(true, new DefaultLogger(), Debug.LogLevel.DETAILED);
+    runtime.getClientLogger().register(true, new DefaultLogger(), Debug.LogLevel.DETAILED);
   }
 
   @Override
@@ -86,18 +84,18 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
     shell.setContext(this.context);
     super.shell = shell;
     shell.bind();
-    ClientLogger.get().logDetailed("AbstractApplicationImpl: shellCreator created", 1);
+    runtime.getClientLogger().logDetailed("AbstractApplicationImpl: shellCreator created", 1);
     // create ControllerCreator for: NavigationController
-    ControllerFactory.get().registerController("NavigationController", new IsControllerCreator() {
+    runtime.getControllerFactory().registerController("NavigationController", new IsControllerCreator() {
       @Override
       public ControllerInstance create(String... parms) throws RoutingInterceptionException {
         StringBuilder sb01 = new StringBuilder();
         ControllerInstance controllerInstance = new ControllerInstance();
         controllerInstance.setControllerClassName("NavigationController");
-        AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("NavigationController");
+        AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("NavigationController");
         if (storedController == null) {
           sb01.append("controller >>NavigationController<< --> will be created");
-          ClientLogger.get().logSimple(sb01.toString(), 1);
+          runtime.getClientLogger().logSimple(sb01.toString(), 1);
           NavigationController controller = new NavigationController();
           controllerInstance.setController(controller);
           controllerInstance.setChached(false);
@@ -107,28 +105,28 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
           controller.setCached(false);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           INavigationComponent component = new NavigationComponent();
           component.setController(controller);
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controller.setComponent(component);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.render();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.bind();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
-          ClientLogger.get().logSimple("controller >>NavigationComponent<< created for route >>/<<", 1);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logSimple("controller >>NavigationComponent<< created for route >>/<<", 1);
         } else {
           sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controllerInstance.setController(storedController);
           controllerInstance.setChached(true);
         }
@@ -136,16 +134,16 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
       }
     });
     // create ControllerCreator for: DetailController
-    ControllerFactory.get().registerController("DetailController", new IsControllerCreator() {
+    runtime.getControllerFactory().registerController("DetailController", new IsControllerCreator() {
       @Override
       public ControllerInstance create(String... parms) throws RoutingInterceptionException {
         StringBuilder sb01 = new StringBuilder();
         ControllerInstance controllerInstance = new ControllerInstance();
         controllerInstance.setControllerClassName("com.github.nalukit.nalu.simpleapplication.client.ui.detail.DetailController");
-        AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("DetailController");
+        AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("DetailController");
         if (storedController == null) {
           sb01.append("controller >>DetailController<< --> will be created");
-          ClientLogger.get().logSimple(sb01.toString(), 1);
+          runtime.getClientLogger().logSimple(sb01.toString(), 1);
           DetailController controller = new DetailController();
           controllerInstance.setController(controller);
           controllerInstance.setChached(false);
@@ -155,36 +153,36 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
           controller.setCached(false);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           IDetailComponent component = new DetailComponent();
           component.setController(controller);
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controller.setComponent(component);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.render();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.bind();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
-          ClientLogger.get().logSimple("controller >>DetailComponent<< created for route >>/detail<<", 1);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logSimple("controller >>DetailComponent<< created for route >>/detail<<", 1);
           if (parms != null) {
             if (parms.length >= 1) {
               sb01 = new StringBuilder();
               sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setId<< to set value >>").append(parms[0]).append("<<");
-              ClientLogger.get().logDetailed(sb01.toString(), 2);
+              runtime.getClientLogger().logDetailed(sb01.toString(), 2);
               controller.setId(parms[0]);
             }
           }
         } else {
           sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controllerInstance.setController(storedController);
           controllerInstance.setChached(true);
         }
@@ -192,16 +190,16 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
       }
     });
     // create ControllerCreator for: ListController
-    ControllerFactory.get().registerController("ListController", new IsControllerCreator() {
+    runtime.getControllerFactory().registerController("ListController", new IsControllerCreator() {
       @Override
       public ControllerInstance create(String... parms) throws RoutingInterceptionException {
         StringBuilder sb01 = new StringBuilder();
         ControllerInstance controllerInstance = new ControllerInstance();
         controllerInstance.setControllerClassName("com.github.nalukit.nalu.simpleapplication.client.ui.list.ListController");
-        AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("ListController");
+        AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("ListController");
         if (storedController == null) {
           sb01.append("controller >>ListController<< --> will be created");
-          ClientLogger.get().logSimple(sb01.toString(), 1);
+          runtime.getClientLogger().logSimple(sb01.toString(), 1);
           ListController controller = new ListController();
           controllerInstance.setController(controller);
           controllerInstance.setChached(false);
@@ -211,42 +209,42 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
           controller.setCached(false);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           IListComponent component = new ListComponent();
           component.setController(controller);
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controller.setComponent(component);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.render();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.bind();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
-          ClientLogger.get().logSimple("controller >>ListComponent<< created for route >>/list<<", 1);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logSimple("controller >>ListComponent<< created for route >>/list<<", 1);
           if (parms != null) {
             if (parms.length >= 1) {
               sb01 = new StringBuilder();
               sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setName<< to set value >>").append(parms[0]).append("<<");
-              ClientLogger.get().logDetailed(sb01.toString(), 2);
+              runtime.getClientLogger().logDetailed(sb01.toString(), 2);
               controller.setName(parms[0]);
             }
             if (parms.length >= 2) {
               sb01 = new StringBuilder();
               sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setCity<< to set value >>").append(parms[1]).append("<<");
-              ClientLogger.get().logDetailed(sb01.toString(), 2);
+              runtime.getClientLogger().logDetailed(sb01.toString(), 2);
               controller.setCity(parms[1]);
             }
           }
         } else {
           sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controllerInstance.setController(storedController);
           controllerInstance.setChached(true);
         }
@@ -254,16 +252,16 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
       }
     });
     // create ControllerCreator for: FooterController
-    ControllerFactory.get().registerController("FooterController", new IsControllerCreator() {
+    runtime.getControllerFactory().registerController("FooterController", new IsControllerCreator() {
       @Override
       public ControllerInstance create(String... parms) throws RoutingInterceptionException {
         StringBuilder sb01 = new StringBuilder();
         ControllerInstance controllerInstance = new ControllerInstance();
         controllerInstance.setControllerClassName("FooterController");
-        AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("FooterController");
+        AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("FooterController");
         if (storedController == null) {
           sb01.append("controller >>FooterController<< --> will be created");
-          ClientLogger.get().logSimple(sb01.toString(), 1);
+          runtime.getClientLogger().logSimple(sb01.toString(), 1);
           FooterController controller = new FooterController();
           controllerInstance.setController(controller);
           controllerInstance.setChached(false);
@@ -273,28 +271,28 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
           controller.setCached(false);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           IFooterComponent component = new FooterComponent();
           component.setController(controller);
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controller.setComponent(component);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.render();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.bind();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
-          ClientLogger.get().logSimple("controller >>FooterComponent<< created for route >>/<<", 1);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logSimple("controller >>FooterComponent<< created for route >>/<<", 1);
         } else {
           sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controllerInstance.setController(storedController);
           controllerInstance.setChached(true);
         }
@@ -302,16 +300,16 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
       }
     });
     // create ControllerCreator for: SearchController
-    ControllerFactory.get().registerController("SearchController", new IsControllerCreator() {
+    runtime.getControllerFactory().registerController("SearchController", new IsControllerCreator() {
       @Override
       public ControllerInstance create(String... parms) throws RoutingInterceptionException {
         StringBuilder sb01 = new StringBuilder();
         ControllerInstance controllerInstance = new ControllerInstance();
         controllerInstance.setControllerClassName("com.github.nalukit.nalu.simpleapplication.client.ui.search.SearchController");
-        AbstractComponentController<?, ?, ?> storedController = ControllerFactory.get().getControllerFormStore("SearchController");
+        AbstractComponentController<?, ?, ?> storedController = runtime.getControllerFactory().getControllerFormStore("SearchController");
         if (storedController == null) {
           sb01.append("controller >>SearchController<< --> will be created");
-          ClientLogger.get().logSimple(sb01.toString(), 1);
+          runtime.getClientLogger().logSimple(sb01.toString(), 1);
           SearchController controller = new SearchController();
           controllerInstance.setController(controller);
           controllerInstance.setChached(false);
@@ -321,42 +319,42 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
           controller.setCached(false);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> created and data injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           ISearchComponent component = new SearchComponent();
           component.setController(controller);
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> created and controller instance injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controller.setComponent(component);
           sb01 = new StringBuilder();
           sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> instance of >>").append(component.getClass().getCanonicalName()).append("<< injected");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.render();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> rendered");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           component.bind();
           sb01 = new StringBuilder();
           sb01.append("component >>").append(component.getClass().getCanonicalName()).append("<< --> bound");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
-          ClientLogger.get().logSimple("controller >>SearchComponent<< created for route >>/search<<", 1);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logSimple("controller >>SearchComponent<< created for route >>/search<<", 1);
           if (parms != null) {
             if (parms.length >= 1) {
               sb01 = new StringBuilder();
               sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setSearchName<< to set value >>").append(parms[0]).append("<<");
-              ClientLogger.get().logDetailed(sb01.toString(), 2);
+              runtime.getClientLogger().logDetailed(sb01.toString(), 2);
               controller.setSearchName(parms[0]);
             }
             if (parms.length >= 2) {
               sb01 = new StringBuilder();
               sb01.append("controller >>").append(controller.getClass().getCanonicalName()).append("<< --> using method >>setSearchCity<< to set value >>").append(parms[1]).append("<<");
-              ClientLogger.get().logDetailed(sb01.toString(), 2);
+              runtime.getClientLogger().logDetailed(sb01.toString(), 2);
               controller.setSearchCity(parms[1]);
             }
           }
         } else {
           sb01.append("controller >>").append(storedController.getClass().getCanonicalName()).append("<< --> found in cache -> REUSE!");
-          ClientLogger.get().logDetailed(sb01.toString(), 2);
+          runtime.getClientLogger().logDetailed(sb01.toString(), 2);
           controllerInstance.setController(storedController);
           controllerInstance.setChached(true);
         }
@@ -379,7 +377,7 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
     BartSimpsonFilter com_github_nalukit_example_nalu_simpleapplication_client_filters_BartSimpsonFilter = new BartSimpsonFilter();
     com_github_nalukit_example_nalu_simpleapplication_client_filters_BartSimpsonFilter.setContext(super.context);
     super.routerConfiguration.getFilters().add(com_github_nalukit_example_nalu_simpleapplication_client_filters_BartSimpsonFilter);
-    ClientLogger.get().logDetailed("AbstractApplication: filter >> com_github_nalukit_example_nalu_simpleapplication_client_filters_BartSimpsonFilter << created", 0);
+    runtime.getClientLogger().logDetailed("AbstractApplication: filter >> com_github_nalukit_example_nalu_simpleapplication_client_filters_BartSimpsonFilter << created", 0);
   }
 
   @Override
@@ -390,7 +388,7 @@ public final class NaluSimpleApplicationImpl extends AbstractApplication<NaluSim
     com_github_nalukit_example_nalu_simpleapplication_client_handler_SimpleApplicationHandler01.setEventBus(super.eventBus);
     com_github_nalukit_example_nalu_simpleapplication_client_handler_SimpleApplicationHandler01.setRouter(super.router);
     com_github_nalukit_example_nalu_simpleapplication_client_handler_SimpleApplicationHandler01.bind();
-    ClientLogger.get().logDetailed("AbstractController: handler >>SimpleApplicationHandler01<< created", 0);
+    runtime.getClientLogger().logDetailed("AbstractController: handler >>SimpleApplicationHandler01<< created", 0);
   }
 
   @Override
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventBusMetricsTest {
+
+  @Test
+  public void testMetricsDisabledByDefault() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    Assert.assertNull(eventBus.getMetrics());
+    Assert.assertNull(eventBus.getMetricsSnapshot());
+  }
+
+  @Test
+  public void testFiresAndHandlerTime() {
+    // every call of the clock advances the time by 5
+    long[] time = new long[1];
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setMetrics(new EventBusMetrics(() -> time[0] += 5));
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> time[0] += 10);
+    eventBus.addHandlerToSource(SimpleEventBusTest.TestEvent.TYPE,
+                                "source",
+                                e -> {
+                                });
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    eventBus.fireEventFromSource(new SimpleEventBusTest.TestEvent(),
+                                 "source");
+    EventBusMetrics.TypeSnapshot snapshot = eventBus.getMetricsSnapshot()
+                                                    .get(SimpleEventBusTest.TestEvent.TYPE);
+    Assert.assertEquals(2,
+                        snapshot.getFires());
+    Assert.assertEquals(3,
+                        snapshot.getHandlerCalls());
+    Assert.assertEquals(15 + 5 + 15,
+                        snapshot.getTotalHandlerTime());
+    Assert.assertEquals(15,
+                        snapshot.getMaxHandlerTime());
+    Assert.assertEquals(2,
+                        snapshot.getHandlerCount());
+    Assert.assertEquals(1,
+                        snapshot.getHandlerCount("source"));
+    Assert.assertEquals(1,
+                        snapshot.getHandlerCount(null));
+  }
+
+  @Test
+  public void testUmbrellaExceptions() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setMetrics(new EventBusMetrics());
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> {
+                          throw new IllegalStateException();
+                        });
+    try {
+      eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+      Assert.fail();
+    } catch (UmbrellaException e) {
+      // expected
+    }
+    Assert.assertEquals(1,
+                        eventBus.getMetricsSnapshot()
+                                .get(SimpleEventBusTest.TestEvent.TYPE)
+                                .getUmbrellaExceptions());
+  }
+
+  @Test
+  public void testReset() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setMetrics(new EventBusMetrics());
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> {
+                        });
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    eventBus.getMetrics()
+            .reset();
+    EventBusMetrics.TypeSnapshot snapshot = eventBus.getMetricsSnapshot()
+                                                    .get(SimpleEventBusTest.TestEvent.TYPE);
+    Assert.assertEquals(0,
+                        snapshot.getFires());
+    // handlers are counted, even if there are no metrics
+    Assert.assertEquals(1,
+                        snapshot.getHandlerCount());
+  }
+
+}
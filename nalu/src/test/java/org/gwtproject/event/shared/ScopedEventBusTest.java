@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScopedEventBusTest {
+
+  @Test
+  public void testSuspendAndResume() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    ScopedEventBus scopedEventBus = new ScopedEventBus(eventBus);
+    List<String> calls = new ArrayList<>();
+    scopedEventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                              e -> calls.add("scoped"));
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> calls.add("global"));
+    scopedEventBus.suspend();
+    Assert.assertTrue(scopedEventBus.isSuspended());
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    Assert.assertEquals("[global]",
+                        calls.toString());
+    scopedEventBus.resume();
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    Assert.assertEquals("[global, scoped, global]",
+                        calls.toString());
+  }
+
+  @Test
+  public void testRemoveHandlers() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    ScopedEventBus scopedEventBus = new ScopedEventBus(eventBus);
+    List<String> calls = new ArrayList<>();
+    scopedEventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                              e -> calls.add("scoped"));
+    scopedEventBus.addHandlerToSource(SimpleEventBusTest.TestEvent.TYPE,
+                                      "source",
+                                      e -> calls.add("scopedSource"));
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> calls.add("global"));
+    scopedEventBus.removeHandlers();
+    eventBus.fireEventFromSource(new SimpleEventBusTest.TestEvent(),
+                                 "source");
+    Assert.assertEquals("[global]",
+                        calls.toString());
+  }
+
+  @Test
+  public void testAddAfterRemoveHandlers() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    ScopedEventBus scopedEventBus = new ScopedEventBus(eventBus);
+    List<String> calls = new ArrayList<>();
+    scopedEventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                              e -> calls.add("old"));
+    scopedEventBus.removeHandlers();
+    scopedEventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                              e -> calls.add("new"));
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    Assert.assertEquals("[new]",
+                        calls.toString());
+  }
+
+  @Test
+  public void testHandlerRegistrationOfScopedHandler() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    ScopedEventBus scopedEventBus = new ScopedEventBus(eventBus);
+    List<String> calls = new ArrayList<>();
+    HandlerRegistration registration = scopedEventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                                                                 e -> calls.add("scoped"));
+    registration.removeHandler();
+    eventBus.fireEvent(new SimpleEventBusTest.TestEvent());
+    Assert.assertTrue(calls.isEmpty());
+  }
+
+  @Test
+  public void testRemovedHandlersArePrunedByTheScheduler() {
+    List<Runnable> commands = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setScheduler(commands::add);
+    eventBus.setMetrics(new EventBusMetrics(() -> 0));
+    eventBus.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> {
+                        });
+    ScopedEventBus first = new ScopedEventBus(eventBus);
+    ScopedEventBus second = new ScopedEventBus(eventBus);
+    for (int i = 0; i < 10; i++) {
+      first.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                       e -> {
+                       });
+      second.addHandler(SimpleEventBusTest.TestEvent.TYPE,
+                        e -> {
+                        });
+    }
+    first.removeHandlers();
+    second.removeHandlers();
+    // both scopes share one pruning command
+    Assert.assertEquals(1,
+                        commands.size());
+    commands.remove(0)
+            .run();
+    Assert.assertEquals(1,
+                        eventBus.getMetricsSnapshot()
+                                .get(SimpleEventBusTest.TestEvent.TYPE)
+                                .getHandlerCount());
+  }
+
+  @Test
+  public void testRemoveHandlersOfEmptyScope() {
+    List<Runnable> commands = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setScheduler(commands::add);
+    new ScopedEventBus(eventBus).removeHandlers();
+    Assert.assertTrue(commands.isEmpty());
+  }
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package org.gwtproject.event.shared;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimpleEventBusTest {
+
+  @Test
+  public void testFireEvent() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add("global"));
+    eventBus.addHandlerToSource(TestEvent.TYPE,
+                                "source",
+                                e -> calls.add("source"));
+    eventBus.fireEvent(new TestEvent());
+    Assert.assertEquals(1,
+                        calls.size());
+    calls.clear();
+    // handlers of the source are called before the global handlers
+    eventBus.fireEventFromSource(new TestEvent(),
+                                 "source");
+    Assert.assertEquals("source",
+                        calls.get(0));
+    Assert.assertEquals("global",
+                        calls.get(1));
+    calls.clear();
+    eventBus.fireEventFromSource(new TestEvent(),
+                                 "otherSource");
+    Assert.assertEquals(1,
+                        calls.size());
+  }
+
+  @Test
+  public void testRemoveHandler() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    HandlerRegistration registration = eventBus.addHandlerToSource(TestEvent.TYPE,
+                                                                   "source",
+                                                                   e -> calls.add("source"));
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add("global"));
+    registration.removeHandler();
+    // removing twice is ignored
+    registration.removeHandler();
+    eventBus.fireEventFromSource(new TestEvent(),
+                                 "source");
+    Assert.assertEquals(1,
+                        calls.size());
+    Assert.assertEquals("global",
+                        calls.get(0));
+  }
+
+  @Test
+  public void testChangesDuringDispatch() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    HandlerRegistration[] registration = new HandlerRegistration[1];
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> {
+                          calls.add("first");
+                          registration[0].removeHandler();
+                          eventBus.addHandler(TestEvent.TYPE,
+                                              e2 -> calls.add("added"));
+                        });
+    registration[0] = eventBus.addHandler(TestEvent.TYPE,
+                                          e -> calls.add("second"));
+    // the dispatch uses the handlers present at its start
+    eventBus.fireEvent(new TestEvent());
+    Assert.assertEquals(2,
+                        calls.size());
+    Assert.assertEquals("second",
+                        calls.get(1));
+    calls.clear();
+    eventBus.fireEvent(new TestEvent());
+    Assert.assertEquals(2,
+                        calls.size());
+    Assert.assertEquals("added",
+                        calls.get(1));
+  }
+
+  @Test
+  public void testExceptionsAreCollected() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> {
+                          throw new IllegalStateException("first");
+                        });
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add("second"));
+    try {
+      eventBus.fireEvent(new TestEvent());
+      Assert.fail();
+    } catch (UmbrellaException e) {
+      Assert.assertEquals(1,
+                          e.getCauses()
+                           .size());
+    }
+    Assert.assertEquals(1,
+                        calls.size());
+  }
+
+  @Test
+  public void testFireDeferred() {
+    List<Runnable> commands = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setScheduler(commands::add);
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add(e.getValue()));
+    eventBus.fireDeferred(new TestEvent("1"));
+    eventBus.fireDeferred(new TestEvent("2"));
+    Assert.assertTrue(calls.isEmpty());
+    // one delivery for all events of the task
+    Assert.assertEquals(1,
+                        commands.size());
+    commands.get(0)
+            .run();
+    Assert.assertEquals(2,
+                        calls.size());
+    Assert.assertEquals("1",
+                        calls.get(0));
+    Assert.assertEquals("2",
+                        calls.get(1));
+  }
+
+  @Test
+  public void testFireCoalesced() {
+    List<Runnable> commands = new ArrayList<>();
+    SimpleEventBus eventBus = new SimpleEventBus();
+    eventBus.setScheduler(commands::add);
+    List<String> calls = new ArrayList<>();
+    List<Integer> batchSizes = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add(e.getValue()));
+    eventBus.<TestEvent>addBatchHandler(TestEvent.TYPE,
+                                        events -> batchSizes.add(events.size()));
+    eventBus.fireCoalesced(new TestEvent("1"));
+    eventBus.fireCoalesced(new TestEvent("2"));
+    eventBus.fireCoalesced(new TestEvent("3"),
+                           "key");
+    commands.get(0)
+            .run();
+    // the handler receives the last event of every group ...
+    Assert.assertEquals(2,
+                        calls.size());
+    Assert.assertEquals("2",
+                        calls.get(0));
+    Assert.assertEquals("3",
+                        calls.get(1));
+    // ... the batch handler all events of the group
+    Assert.assertEquals(Integer.valueOf(2),
+                        batchSizes.get(0));
+    Assert.assertEquals(Integer.valueOf(1),
+                        batchSizes.get(1));
+  }
+
+  @Test
+  public void testFireCoalescedWithoutScheduler() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> calls = new ArrayList<>();
+    eventBus.addHandler(TestEvent.TYPE,
+                        e -> calls.add(e.getValue()));
+    eventBus.fireCoalesced(new TestEvent("1"));
+    Assert.assertEquals(1,
+                        calls.size());
+  }
+
+  @Test
+  public void testBatchHandlerReceivesSynchronousEvents() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<Integer> batchSizes = new ArrayList<>();
+    HandlerRegistration registration = eventBus.<TestEvent>addBatchHandler(TestEvent.TYPE,
+                                                                           events -> batchSizes.add(events.size()));
+    eventBus.fireEvent(new TestEvent());
+    registration.removeHandler();
+    eventBus.fireEvent(new TestEvent());
+    Assert.assertEquals(1,
+                        batchSizes.size());
+    Assert.assertEquals(Integer.valueOf(1),
+                        batchSizes.get(0));
+  }
+
+  @Test
+  public void testBatchHandlerReceivesReusedReadOnlyList() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<List<TestEvent>> batches = new ArrayList<>();
+    eventBus.<TestEvent>addBatchHandler(TestEvent.TYPE,
+                                        events -> {
+                                          batches.add(events);
+                                          try {
+                                            events.add(new TestEvent());
+                                            Assert.fail("the list of events is not read-only");
+                                          } catch (UnsupportedOperationException e) {
+                                            // expected
+                                          }
+                                        });
+    eventBus.fireEvent(new TestEvent("1"));
+    eventBus.fireEvent(new TestEvent("2"));
+    // the list is not allocated per dispatch
+    Assert.assertSame(batches.get(0),
+                      batches.get(1));
+  }
+
+  @Test
+  public void testNestedBatchDispatchKeepsOuterList() {
+    SimpleEventBus eventBus = new SimpleEventBus();
+    List<String> values = new ArrayList<>();
+    eventBus.<TestEvent>addBatchHandler(TestEvent.TYPE,
+                                        events -> {
+                                          if ("1".equals(events.get(0)
+                                                               .getValue())) {
+                                            eventBus.fireEvent(new TestEvent("2"));
+                                          }
+                                          values.add(events.get(0)
+                                                           .getValue());
+                                        });
+    eventBus.fireEvent(new TestEvent("1"));
+    Assert.assertEquals(2,
+                        values.size());
+    Assert.assertEquals("2",
+                        values.get(0));
+    Assert.assertEquals("1",
+                        values.get(1));
+  }
+
+  interface TestHandler {
+
+    void onTest(TestEvent event);
+
+  }
+
+  static class TestEvent
+      extends Event<TestHandler> {
+
+    static final Type<TestHandler> TYPE = new Type<>();
+
+    private String value;
+
+    TestEvent() {
+    }
+
+    TestEvent(String value) {
+      this.value = value;
+    }
+
+    String getValue() {
+      return value;
+    }
+
+    @Override
+    public Type<TestHandler> getAssociatedType() {
+      return TYPE;
+    }
+
+    @Override
+    protected void dispatch(TestHandler handler) {
+      handler.onTest(this);
+    }
+
+  }
+
+}